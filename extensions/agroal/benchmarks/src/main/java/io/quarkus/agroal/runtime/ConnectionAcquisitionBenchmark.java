@@ -0,0 +1,112 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.cache.ConnectionCache;
+import io.agroal.api.configuration.supplier.AgroalConnectionFactoryConfigurationSupplier;
+import io.agroal.api.configuration.supplier.AgroalConnectionPoolConfigurationSupplier;
+import io.agroal.api.configuration.supplier.AgroalDataSourceConfigurationSupplier;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Measures a batch of JDBC-heavy requests, each of which acquires a connection from the pool, runs a query and returns
+ * the connection, against an in-memory H2 database.
+ * <p>
+ * With {@code platform}, the requests run on a fixed pool of Netty threads, like Vert.x worker threads, and use the
+ * thread local cache. With {@code virtual}, every request runs on a new virtual thread and the thread local cache never
+ * hits, as with {@code virtual-thread-connection-cache=none}. With {@code virtual-striped}, the requests run on virtual
+ * threads and use the {@link QuarkusVirtualThreadConnectionCache}.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar ConnectionAcquisitionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConnectionAcquisitionBenchmark {
+
+    private static final int POOL_SIZE = 16;
+    private static final int REQUESTS = 64;
+
+    @Param({ "platform", "virtual", "virtual-striped" })
+    public String threads;
+
+    private AgroalDataSource dataSource;
+    private ExecutorService executor;
+    private List<Callable<Integer>> requests;
+
+    @Setup
+    public void setup() {
+        ConnectionCache connectionCache = new QuarkusNettyConnectionCache();
+        if (threads.equals("virtual-striped")) {
+            connectionCache = new QuarkusVirtualThreadConnectionCache(connectionCache);
+        }
+        AgroalDataSourceConfigurationSupplier configuration = new AgroalDataSourceConfigurationSupplier();
+        AgroalConnectionPoolConfigurationSupplier poolConfiguration = configuration.connectionPoolConfiguration();
+        poolConfiguration.initialSize(POOL_SIZE);
+        poolConfiguration.maxSize(POOL_SIZE);
+        poolConfiguration.connectionCache(connectionCache);
+        AgroalConnectionFactoryConfigurationSupplier connectionFactoryConfiguration = poolConfiguration
+                .connectionFactoryConfiguration();
+        connectionFactoryConfiguration.jdbcUrl("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        connectionFactoryConfiguration.connectionProviderClass(org.h2.Driver.class);
+        dataSource = new io.agroal.pool.DataSource(configuration.get());
+        executor = threads.equals("platform")
+                ? Executors.newFixedThreadPool(POOL_SIZE, new DefaultThreadFactory("benchmark"))
+                : Executors.newVirtualThreadPerTaskExecutor();
+        requests = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            requests.add(this::request);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int requests() throws Exception {
+        int result = 0;
+        for (Future<Integer> future : executor.invokeAll(requests)) {
+            result += future.get();
+        }
+        return result;
+    }
+
+    private Integer request() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
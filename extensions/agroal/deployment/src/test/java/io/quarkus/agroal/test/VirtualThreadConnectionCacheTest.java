@@ -0,0 +1,131 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+import io.quarkus.test.QuarkusExtensionTest;
+
+class VirtualThreadConnectionCacheTest {
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withConfigurationResource("base.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.virtual-thread-connection-cache", "striped");
+
+    ConnectionCache cache;
+
+    @BeforeEach
+    void init() {
+        cache = defaultDataSource.getConfiguration().connectionPoolConfiguration().connectionCache();
+        assertEquals("QuarkusVirtualThreadConnectionCache", cache.getClass().getSimpleName());
+    }
+
+    @AfterEach
+    void reset() {
+        // Do not leave the test acquirables to the pool
+        cache.reset();
+    }
+
+    @Test
+    void testConnectionIsCachedOnVirtualThread() throws Exception {
+        TestAcquirable acquirable = new TestAcquirable();
+        onVirtualThread(() -> {
+            assertNull(cache.get());
+            cache.put(acquirable);
+            assertSame(acquirable, cache.get());
+            assertTrue(acquirable.isAcquired());
+            // An acquired connection is not handed out twice
+            assertNull(cache.get());
+            return null;
+        });
+    }
+
+    @Test
+    void testConnectionIsSharedBetweenVirtualThreads() throws Exception {
+        // Every slot is filled so that the slots probed by any virtual thread hold a connection
+        List<TestAcquirable> acquirables = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                TestAcquirable acquirable = new TestAcquirable();
+                acquirables.add(acquirable);
+                futures.add(executor.submit(() -> cache.put(acquirable)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        Acquirable acquired = onVirtualThread(cache::get);
+        assertNotNull(acquired);
+        assertTrue(acquirables.contains(acquired));
+        assertTrue(acquired.isAcquired());
+    }
+
+    @Test
+    void testPlatformThreadUsesDelegate() throws Exception {
+        TestAcquirable acquirable = new TestAcquirable();
+        // The delegate does not cache on threads whose lifecycle is not controlled by Quarkus
+        cache.put(acquirable);
+        assertNull(cache.get());
+        assertNull(onVirtualThread(cache::get));
+        assertFalse(acquirable.isAcquired());
+    }
+
+    @Test
+    void testResetReleasesConnections() throws Exception {
+        TestAcquirable acquirable = new TestAcquirable();
+        onVirtualThread(() -> {
+            cache.put(acquirable);
+            cache.reset();
+            assertNull(cache.get());
+            return null;
+        });
+        assertFalse(acquirable.isAcquired());
+    }
+
+    private static <T> T onVirtualThread(Callable<T> task) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return executor.submit(task).get();
+        }
+    }
+
+    static class TestAcquirable implements Acquirable {
+
+        private final AtomicBoolean acquired = new AtomicBoolean();
+
+        @Override
+        public boolean acquire() {
+            return acquired.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isAcquired() {
+            return acquired.get();
+        }
+    }
+}
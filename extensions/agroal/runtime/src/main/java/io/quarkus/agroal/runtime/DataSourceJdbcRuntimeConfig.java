@@ -114,6 +114,15 @@ public interface DataSourceJdbcRuntimeConfig {
     @WithDefault("false")
     boolean flushOnClose();
 
+    /**
+     * The connection cache used when a connection is acquired on a virtual thread.
+     * <p>
+     * Connections are cached per thread on platform threads. A virtual thread usually runs a single task, so by default
+     * every connection acquired on a virtual thread is looked up in the pool.
+     */
+    @WithDefault("none")
+    VirtualThreadConnectionCache virtualThreadConnectionCache();
+
     /**
      * When enabled, Agroal will be able to produce a warning when a connection is returned
      * to the pool without the application having closed all open statements.
@@ -220,4 +229,15 @@ public interface DataSourceJdbcRuntimeConfig {
      * database request on the connection, making it the more portable option.
      */
     Optional<Duration> networkTimeout();
+
+    enum VirtualThreadConnectionCache {
+        /**
+         * Connections acquired on virtual threads are not cached.
+         */
+        NONE,
+        /**
+         * Connections returned on virtual threads are cached in a small array of slots shared by all virtual threads.
+         */
+        STRIPED
+    }
 }
@@ -20,6 +20,7 @@
 
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.cache.ConnectionCache;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
 import io.agroal.api.configuration.AgroalDataSourceConfiguration;
@@ -213,12 +214,18 @@ public AgroalDataSource createDataSource(String dataSourceName, boolean otelEnab
         //we use a custom cache for two reasons:
         //fast thread local cache should be faster
         //and it prevents a thread local leak
+        ConnectionCache connectionCache;
         try {
             Class.forName("io.netty.util.concurrent.FastThreadLocal", true, Thread.currentThread().getContextClassLoader());
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusNettyConnectionCache());
+            connectionCache = new QuarkusNettyConnectionCache();
         } catch (ClassNotFoundException e) {
-            dataSourceConfiguration.connectionPoolConfiguration().connectionCache(new QuarkusSimpleConnectionCache());
+            connectionCache = new QuarkusSimpleConnectionCache();
         }
+        if (dataSourceJdbcRuntimeConfig
+                .virtualThreadConnectionCache() == DataSourceJdbcRuntimeConfig.VirtualThreadConnectionCache.STRIPED) {
+            connectionCache = new QuarkusVirtualThreadConnectionCache(connectionCache);
+        }
+        dataSourceConfiguration.connectionPoolConfiguration().connectionCache(connectionCache);
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
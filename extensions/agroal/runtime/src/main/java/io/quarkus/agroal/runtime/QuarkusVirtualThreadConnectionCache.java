@@ -0,0 +1,74 @@
+package io.quarkus.agroal.runtime;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.agroal.api.cache.Acquirable;
+import io.agroal.api.cache.ConnectionCache;
+
+/**
+ * Connection cache that also caches connections for virtual threads.
+ * <p>
+ * A virtual thread usually runs a single task, so a thread local cache never hits. Instead, the connections returned
+ * on virtual threads are stored in a small array of slots. A virtual thread looks up the slots derived from its thread
+ * id and takes the first connection it can acquire. Any connection can be stored in any slot, the slots merely avoid
+ * that all virtual threads contend on the same one. Platform threads use the delegate cache.
+ */
+class QuarkusVirtualThreadConnectionCache implements ConnectionCache {
+
+    // the number of slots probed by a virtual thread
+    private static final int PROBES = 4;
+
+    final ConnectionCache delegate;
+    final AtomicReferenceArray<Acquirable> slots;
+    private final int mask;
+
+    QuarkusVirtualThreadConnectionCache(ConnectionCache delegate) {
+        this.delegate = delegate;
+        // a power of two so that the slot is computed with a mask
+        int size = Integer.highestOneBit(Math.max(PROBES, Runtime.getRuntime().availableProcessors()) * 2);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Acquirable get() {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            return delegate.get();
+        }
+        int index = index(thread);
+        for (int i = 0; i < PROBES; i++) {
+            Acquirable acquirable = slots.get((index + i) & mask);
+            if (acquirable != null && acquirable.acquire()) {
+                return acquirable;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(Acquirable acquirable) {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            delegate.put(acquirable);
+            return;
+        }
+        slots.lazySet(index(thread), acquirable);
+    }
+
+    @Override
+    public void reset() {
+        delegate.reset();
+        // unlike thread locals, the slots can actually release the connections
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private int index(Thread thread) {
+        long id = thread.threadId();
+        // virtual thread ids are sequential, spread them over the slots
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,218 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+public class BulkLoadAndRefreshTest {
+
+    private static final String BULK_CACHE = "bulk-cache";
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String DEFAULT_BULK_CACHE = "default-bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write", "0.2S");
+
+    @CacheName(BULK_CACHE)
+    Cache bulkCache;
+
+    @CacheName(REFRESH_CACHE)
+    Cache refreshCache;
+
+    @CacheName(DEFAULT_BULK_CACHE)
+    Cache defaultBulkCache;
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testGetAll() {
+        List<Set<Integer>> loaderInvocations = new CopyOnWriteArrayList<>();
+
+        Map<Integer, String> values = bulkCache.<Integer, String> getAll(Set.of(1, 2, 3), keys -> {
+            loaderInvocations.add(Set.copyOf(keys));
+            return load(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of(1, "value-1", 2, "value-2", 3, "value-3"), values);
+        assertEquals(List.of(Set.of(1, 2, 3)), loaderInvocations);
+
+        // Only the missing keys are loaded, with a single invocation
+        values = bulkCache.<Integer, String> getAll(Set.of(2, 3, 4, 5), keys -> {
+            loaderInvocations.add(Set.copyOf(keys));
+            return load(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of(2, "value-2", 3, "value-3", 4, "value-4", 5, "value-5"), values);
+        assertEquals(List.of(Set.of(1, 2, 3), Set.of(4, 5)), loaderInvocations);
+
+        // The bulk loaded values are visible to the single-key API
+        assertEquals("value-4", bulkCache.get(4, k -> "unexpected").await().indefinitely());
+
+        // Keys without a loaded value are not cached
+        values = bulkCache.<Integer, String> getAll(Set.of(1, 6), keys -> Map.of()).await().indefinitely();
+        assertEquals(Map.of(1, "value-1"), values);
+        assertFalse(bulkCache.as(CaffeineCacheImpl.class).keySet().contains(6));
+    }
+
+    @Test
+    public void testDefaultGetAll() {
+        // uses the default implementation of getAll()
+        Cache cache = new DelegatingCache(defaultBulkCache);
+        List<Set<Integer>> loaderInvocations = new CopyOnWriteArrayList<>();
+
+        Map<Integer, String> values = cache.<Integer, String> getAll(Set.of(1, 2), keys -> {
+            loaderInvocations.add(Set.copyOf(keys));
+            return load(keys);
+        }).await().indefinitely();
+        assertEquals(Map.of(1, "value-1", 2, "value-2"), values);
+        assertEquals(2, loaderInvocations.size());
+
+        // Keys without a loaded value are not cached and absent from the result
+        values = cache.<Integer, String> getAll(Set.of(1, 3), keys -> Map.of()).await().indefinitely();
+        assertEquals(Map.of(1, "value-1"), values);
+        assertFalse(defaultBulkCache.as(CaffeineCacheImpl.class).keySet().contains(3));
+        assertEquals("value-3", cache.get(3, k -> "value-3").await().indefinitely());
+    }
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        assertEquals(Duration.ofMillis(200), refreshCache.as(CaffeineCacheImpl.class).getCacheInfo().refreshAfterWrite);
+
+        AtomicInteger loads = new AtomicInteger();
+        String first = refreshCache.get("key", k -> "value-" + loads.incrementAndGet()).await().indefinitely();
+        assertEquals("value-1", first);
+
+        Thread.sleep(300L);
+
+        // The stale value is returned while the refresh happens in the background
+        String stale = refreshCache.get("key", k -> "value-" + loads.incrementAndGet()).await().indefinitely();
+        assertEquals("value-1", stale);
+
+        long deadline = System.currentTimeMillis() + 5000L;
+        String refreshed = stale;
+        while (refreshed.equals(stale) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+            refreshed = refreshCache.get("key", k -> "unexpected").await().indefinitely();
+        }
+        assertEquals("value-2", refreshed);
+        assertTrue(loads.get() >= 2);
+    }
+
+    @Test
+    public void testCacheResultIsNotRefreshed() throws InterruptedException {
+        assertEquals("value-1", cachedService.load("cache-result-key"));
+
+        Thread.sleep(300L);
+
+        // The current value is returned and the entry is removed instead of being refreshed in the background
+        assertEquals("value-1", cachedService.load("cache-result-key"));
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (refreshCache.as(CaffeineCacheImpl.class).keySet().contains("cache-result-key")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+        }
+        assertEquals(1, cachedService.threads().size());
+
+        // The next invocation computes a new value
+        assertEquals("value-2", cachedService.load("cache-result-key"));
+        // The method is only invoked by the callers, never by the cache
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), cachedService.threads());
+    }
+
+    private static Map<Integer, String> load(Set<Integer> keys) {
+        Map<Integer, String> result = new HashMap<>();
+        for (Integer key : keys) {
+            result.put(key, "value-" + key);
+        }
+        return result;
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public String load(String key) {
+            threads.add(Thread.currentThread());
+            return "value-" + threads.size();
+        }
+
+        public List<Thread> threads() {
+            return threads;
+        }
+    }
+
+    static class DelegatingCache implements Cache {
+
+        private final Cache delegate;
+
+        DelegatingCache(Cache delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getDefaultKey() {
+            return delegate.getDefaultKey();
+        }
+
+        @Override
+        public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+            return delegate.get(key, valueLoader);
+        }
+
+        @Override
+        public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+            return delegate.getAsync(key, valueLoader);
+        }
+
+        @Override
+        public Uni<Void> invalidate(Object key) {
+            return delegate.invalidate(key);
+        }
+
+        @Override
+        public Uni<Void> invalidateAll() {
+            return delegate.invalidateAll();
+        }
+
+        @Override
+        public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+            return delegate.invalidateIf(predicate);
+        }
+
+        @Override
+        public <T extends Cache> T as(Class<T> type) {
+            return delegate.as(type);
+        }
+    }
+}
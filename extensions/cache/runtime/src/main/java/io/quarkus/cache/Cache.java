@@ -1,9 +1,14 @@
 package io.quarkus.cache;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -58,6 +63,47 @@ public interface Cache {
     @CheckReturnValue
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values of
+     * the keys which are not already cached from {@code bulkLoader} if necessary. The bulk loader is invoked at most once per
+     * call with the set of missing keys and should return a mapping for each of them. Keys for which the bulk loader does not
+     * return a mapping are not cached and are absent from the emitted map.
+     * <p>
+     * The default implementation does not support bulk loading: it obtains each cache value separately with
+     * {@link #get(Object, Function)} and invokes {@code bulkLoader} once per missing key. The built-in cache implementations
+     * override this method.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param bulkLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values mapped by their keys
+     * @throws NullPointerException if {@code keys} or one of the keys is {@code null}
+     * @throws CacheException if an exception is thrown during a cache value computation
+     */
+    @CheckReturnValue
+    default <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Multi.createFrom().iterable(keys)
+                .onItem().transformToUniAndConcatenate(new Function<K, Uni<Map.Entry<K, V>>>() {
+                    @Override
+                    public Uni<Map.Entry<K, V>> apply(K key) {
+                        return Cache.this.get(key, new Function<K, V>() {
+                            @Override
+                            public V apply(K k) {
+                                Map<K, V> values = bulkLoader.apply(Set.of(k));
+                                if (!values.containsKey(k)) {
+                                    // nothing is cached for the key, and the key is skipped below
+                                    throw NoBulkValueException.INSTANCE;
+                                }
+                                return values.get(k);
+                            }
+                        }).<Map.Entry<K, V>> map(value -> new SimpleImmutableEntry<>(key, value))
+                                .onFailure(NoBulkValueException::isCause).recoverWithNull();
+                    }
+                })
+                .collect().in(LinkedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()));
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
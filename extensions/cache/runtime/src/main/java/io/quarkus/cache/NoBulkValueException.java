@@ -0,0 +1,26 @@
+package io.quarkus.cache;
+
+/**
+ * Thrown from the value loader of {@link Cache#getAll(java.util.Set, java.util.function.Function)} when the bulk loader
+ * does not return a value for a key, so that nothing is cached for the key.
+ */
+final class NoBulkValueException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    static final NoBulkValueException INSTANCE = new NoBulkValueException();
+
+    private NoBulkValueException() {
+        super(null, null, false, false);
+    }
+
+    static boolean isCause(Throwable throwable) {
+        while (throwable != null) {
+            if (throwable == INSTANCE) {
+                return true;
+            }
+            throwable = throwable.getCause();
+        }
+        return false;
+    }
+}
@@ -75,6 +75,21 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be eligible for an asynchronous refresh once a fixed duration has elapsed after
+             * the entry's creation, or the most recent replacement of its value. The refresh is triggered by the first read of
+             * the entry after that duration and reuses the function that loaded the current value. Until the refresh completes,
+             * the current value is returned. If the refresh fails, the current value is kept.
+             * <p>
+             * Entries computed by methods annotated with {@link io.quarkus.cache.CacheResult} are not refreshed in the
+             * background, since the method invocation that computed them has already completed. Such an entry is removed
+             * instead, and the next invocation of the method computes a new value.
+             * <p>
+             * The refresh duration should be shorter than the {@code expire-after-write} duration, so that frequently read
+             * entries are reloaded in the background before they expire.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
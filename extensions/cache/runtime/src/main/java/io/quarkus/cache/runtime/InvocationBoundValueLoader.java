@@ -0,0 +1,15 @@
+package io.quarkus.cache.runtime;
+
+import java.util.function.Function;
+
+/**
+ * A value loader that depends on the method invocation that passed it to the cache, e.g. because it proceeds with an
+ * intercepted invocation. A cache must not retain such a loader once the value is computed, in particular to reload the
+ * value in the background, since the invocation may have completed in the meantime.
+ *
+ * @param <K> cache key type
+ * @param <V> value type
+ */
+public interface InvocationBoundValueLoader<K, V> extends Function<K, V> {
+
+}
@@ -1,12 +1,16 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -14,15 +18,19 @@
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.InvocationBoundValueLoader;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
@@ -44,6 +52,12 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    /*
+     * The functions used to reload the cache values when refresh-after-write is enabled, null otherwise.
+     * The cache values are computed by the functions passed to the get methods, so the last function used for a given key
+     * is kept until the entry is removed from the cache. An InvocationBoundValueLoader is never kept.
+     */
+    private final Map<Object, Reloader> reloaders;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -60,6 +74,18 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            builder.refreshAfterWrite(cacheInfo.refreshAfterWrite);
+            reloaders = new ConcurrentHashMap<>();
+            builder.evictionListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    reloaders.remove(key);
+                }
+            });
+        } else {
+            reloaders = null;
+        }
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -74,7 +100,11 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
-        cache = builder.buildAsync();
+        if (reloaders != null) {
+            cache = builder.buildAsync(new ReloadingCacheLoader());
+        } else {
+            cache = builder.buildAsync();
+        }
     }
 
     @Override
@@ -115,6 +145,8 @@ public Uni<? extends V> apply(io.smallrye.mutiny.Context mutinyContext) {
                             @SuppressWarnings("unchecked")
                             public CompletableFuture<Object> apply(Object key) {
                                 recorder.onValueAbsent();
+                                registerReloader(key, valueLoader instanceof InvocationBoundValueLoader ? null
+                                        : new AsyncReloader<>(valueLoader));
                                 return valueLoader.apply((K) key)
                                         .map(TO_CACHE_VALUE)
                                         .subscribeAsCompletionStage(mutinyContext);
@@ -170,6 +202,19 @@ public void handle(Void ignored) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Objects.requireNonNull(keys);
+        return Uni.createFrom().completionStage(
+                // The Supplier guarantees that the bulk loading is delayed until subscription time.
+                new Supplier<CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> get() {
+                        return getAllFromCaffeine(keys, bulkLoader);
+                    }
+                });
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -214,6 +259,8 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
+                registerReloader(key, valueLoader instanceof InvocationBoundValueLoader ? null
+                        : new SyncReloader<>(valueLoader));
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
@@ -227,6 +274,64 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         }
     }
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}, obtaining the missing values
+     * from {@code bulkLoader} with a single invocation. The bulk loading is done synchronously on the calling thread.
+     * Hits, misses and load times are recorded by Caffeine itself.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Reloader reloader = reloaders != null ? new BulkReloader<>(bulkLoader) : null;
+        CompletableFuture<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                new BiFunction<Set<? extends Object>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                    @Override
+                    public CompletableFuture<Map<Object, Object>> apply(Set<? extends Object> missingKeys, Executor executor) {
+                        Map<K, V> values = bulkLoader.apply((Set<K>) missingKeys);
+                        Map<Object, Object> newCacheValues = new HashMap<>(values.size());
+                        for (Map.Entry<K, V> entry : values.entrySet()) {
+                            newCacheValues.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+                            if (reloader != null) {
+                                registerReloader(entry.getKey(), reloader);
+                            }
+                        }
+                        return CompletableFuture.completedFuture(newCacheValues);
+                    }
+                });
+        return cacheValues.thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<Object, Object> values) {
+                Map<K, V> result = new HashMap<>(values.size());
+                for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                    Object value = entry.getValue();
+                    if (value instanceof CaffeineComputationThrowable) {
+                        // A concurrent single-key computation of this entry failed
+                        Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else {
+                            throw new CacheException(cause);
+                        }
+                    }
+                    result.put((K) entry.getKey(), cast(NullValueConverter.fromCacheValue(value)));
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * @param reloader the function used to reload the value, or {@code null} if the value must not be reloaded
+     */
+    private void registerReloader(Object key, Reloader reloader) {
+        if (reloaders != null) {
+            if (reloader != null) {
+                reloaders.put(key, reloader);
+            } else {
+                reloaders.remove(key);
+            }
+        }
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -252,6 +357,9 @@ public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().item(new Supplier<>() {
             @Override
             public Void get() {
+                if (reloaders != null) {
+                    reloaders.remove(key);
+                }
                 cache.synchronous().invalidate(key);
                 return null;
             }
@@ -263,6 +371,9 @@ public Uni<Void> invalidateAll() {
         return Uni.createFrom().item(new Supplier<>() {
             @Override
             public Void get() {
+                if (reloaders != null) {
+                    reloaders.clear();
+                }
                 cache.synchronous().invalidateAll();
                 return null;
             }
@@ -274,6 +385,9 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().item(new Supplier<>() {
             @Override
             public Void get() {
+                if (reloaders != null) {
+                    reloaders.keySet().removeIf(predicate);
+                }
                 cache.asMap().keySet().removeIf(predicate);
                 return null;
             }
@@ -351,6 +465,106 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    /**
+     * Reloads a cache value in the background when refresh-after-write is enabled.
+     */
+    private interface Reloader {
+
+        CompletableFuture<Object> reload(Object key, Executor executor);
+
+    }
+
+    private static class SyncReloader<K, V> implements Reloader {
+
+        private final Function<K, V> valueLoader;
+
+        SyncReloader(Function<K, V> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Object> reload(Object key, Executor executor) {
+            return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                @Override
+                public Object get() {
+                    return NullValueConverter.toCacheValue(valueLoader.apply((K) key));
+                }
+            }, executor);
+        }
+
+    }
+
+    private static class AsyncReloader<K, V> implements Reloader {
+
+        private final Function<K, Uni<V>> valueLoader;
+
+        AsyncReloader(Function<K, Uni<V>> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Object> reload(Object key, Executor executor) {
+            return valueLoader.apply((K) key)
+                    .map(TO_CACHE_VALUE)
+                    .subscribeAsCompletionStage();
+        }
+
+    }
+
+    private static class BulkReloader<K, V> implements Reloader {
+
+        private final Function<Set<K>, Map<K, V>> bulkLoader;
+
+        BulkReloader(Function<Set<K>, Map<K, V>> bulkLoader) {
+            this.bulkLoader = bulkLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Object> reload(Object key, Executor executor) {
+            return CompletableFuture.supplyAsync(new Supplier<Object>() {
+                @Override
+                public Object get() {
+                    Map<K, V> values = bulkLoader.apply(Set.of((K) key));
+                    if (!values.containsKey(key)) {
+                        throw new CacheException("The bulk loader did not return a value for the refreshed key");
+                    }
+                    return NullValueConverter.toCacheValue(values.get(key));
+                }
+            }, executor);
+        }
+
+    }
+
+    /**
+     * The values are always computed by the functions passed to the get methods. This loader is only used by Caffeine to
+     * refresh the entries in the background.
+     * <p>
+     * An entry without a reloader, e.g. an entry computed by an {@link InvocationBoundValueLoader} or stored with
+     * {@link #put(Object, CompletableFuture)}, is removed instead of being refreshed. Keeping the current value would reset
+     * its write time, i.e. the entry would never expire.
+     */
+    private class ReloadingCacheLoader implements AsyncCacheLoader<Object, Object> {
+
+        @Override
+        public CompletableFuture<?> asyncLoad(Object key, Executor executor) {
+            return CompletableFuture.failedFuture(new UnsupportedOperationException());
+        }
+
+        @Override
+        public CompletableFuture<?> asyncReload(Object key, Object oldValue, Executor executor) {
+            Reloader reloader = reloaders.get(key);
+            if (reloader == null || oldValue instanceof CaffeineComputationThrowable) {
+                // Remove the entry, the next read computes a new value
+                return CompletableFuture.completedFuture(null);
+            }
+            return reloader.reload(key, executor);
+        }
+
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
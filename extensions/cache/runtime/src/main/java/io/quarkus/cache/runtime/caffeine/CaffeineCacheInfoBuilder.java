@@ -48,6 +48,12 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
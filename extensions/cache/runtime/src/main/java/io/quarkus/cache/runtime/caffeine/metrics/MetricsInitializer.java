@@ -1,5 +1,7 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
 public interface MetricsInitializer {
@@ -7,4 +9,10 @@ public interface MetricsInitializer {
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    /**
+     * Records the hits and misses of one tier of a multi-level cache, e.g. the local near cache kept in front of a remote
+     * cache.
+     */
+    void recordTierMetrics(String cacheName, String tier, LongSupplier hits, LongSupplier misses);
 }
@@ -1,9 +1,12 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
@@ -26,4 +29,17 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordTierMetrics(String cacheName, String tier, LongSupplier hits, LongSupplier misses) {
+        LOGGER.tracef("Initializing Micrometer metrics for tier [%s] of cache [%s]", tier, cacheName);
+        FunctionCounter.builder("cache.tier.gets", hits, LongSupplier::getAsLong)
+                .tags("cache", cacheName, "tier", tier, "result", "hit")
+                .description("The number of times a cache tier returned a cached value")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.tier.gets", misses, LongSupplier::getAsLong)
+                .tags("cache", cacheName, "tier", tier, "result", "miss")
+                .description("The number of times a cache tier did not contain the requested value")
+                .register(Metrics.globalRegistry);
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.function.LongSupplier;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
@@ -22,4 +24,10 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordTierMetrics(String cacheName, String tier, LongSupplier hits, LongSupplier misses) {
+        LOGGER.tracef("Initializing no-op metrics for tier [%s] of cache [%s]", tier, cacheName);
+        // Do nothing more.
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -35,6 +37,16 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
         return valueLoader.apply(key);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                return bulkLoader.apply(keys);
+            }
+        });
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().voidItem();
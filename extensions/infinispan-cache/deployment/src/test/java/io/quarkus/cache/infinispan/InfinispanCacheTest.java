@@ -4,9 +4,13 @@
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -285,6 +289,33 @@ public void testGetAsyncWithParallelCalls() throws Exception {
         assertThat(valueObtainedByThread2).isEqualTo("thread1");
     }
 
+    @Test
+    public void testGetAll() {
+        Cache cache = getCache();
+        String cached = generateId();
+        String loaded = generateId();
+        String missing = generateId();
+        assertThat(awaitUni(cache.get(cached, key -> "cached"))).isEqualTo("cached");
+
+        List<Set<String>> invocations = new CopyOnWriteArrayList<>();
+        Map<String, String> values = awaitUni(cache.<String, String> getAll(Set.of(cached, loaded, missing), keys -> {
+            invocations.add(Set.copyOf(keys));
+            return Map.of(loaded, "loaded");
+        }));
+
+        assertThat(values).containsOnly(Map.entry(cached, "cached"), Map.entry(loaded, "loaded"));
+        assertThat(invocations).containsExactly(Set.of(loaded, missing));
+        assertThat(remoteCache.get(loaded)).isEqualTo("loaded");
+        assertThat(remoteCache.containsKey(missing)).isFalse();
+
+        values = awaitUni(cache.<String, String> getAll(Set.of(cached, loaded), keys -> {
+            invocations.add(Set.copyOf(keys));
+            return Map.of();
+        }));
+        assertThat(values).containsOnly(Map.entry(cached, "cached"), Map.entry(loaded, "loaded"));
+        assertThat(invocations).hasSize(1);
+    }
+
     @Test
     public void testInvalidate() {
         Cache cache = getCache();
@@ -1,8 +1,11 @@
 package io.quarkus.cache.infinispan.runtime;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -187,6 +190,79 @@ public void handle(Void ignored) {
         }).emitOn(executor);
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Context context = Vertx.currentContext();
+        Executor executor = duplicateContextExecutor(context);
+
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, Object>>>() {
+            @Override
+            public CompletionStage<Map<K, Object>> get() {
+                return remoteCache.getAllAsync(keys);
+            }
+        })
+                .emitOn(executor)
+                .flatMap(cached -> {
+                    Map<K, V> result = new HashMap<>(keys.size());
+                    Set<K> missingKeys = new HashSet<>();
+                    for (K key : keys) {
+                        Object value = cached.get(key);
+                        if (value != null) {
+                            result.put(key, decodeNull(value));
+                        } else {
+                            missingKeys.add(key);
+                        }
+                    }
+                    if (missingKeys.isEmpty()) {
+                        return Uni.createFrom().item(result);
+                    }
+
+                    Uni<Map<K, V>> loaded;
+                    if (context != null) {
+                        loaded = Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+                            @Override
+                            public CompletionStage<Map<K, V>> get() {
+                                return context.executeBlocking(new Callable<Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> call() throws Exception {
+                                        return bulkLoader.apply(missingKeys);
+                                    }
+                                }, false).toCompletionStage();
+                            }
+                        }).emitOn(executor);
+                    } else {
+                        loaded = Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                            @Override
+                            public Map<K, V> get() {
+                                return bulkLoader.apply(missingKeys);
+                            }
+                        });
+                    }
+
+                    // Unlike get(), concurrent bulk loads of the same keys are not deduplicated
+                    // and the loaded values overwrite any value stored in the meantime
+                    return loaded.flatMap(values -> {
+                        Map<Object, Object> newValues = new HashMap<>(values.size());
+                        for (Map.Entry<K, V> entry : values.entrySet()) {
+                            newValues.put(entry.getKey(), encodeNull(entry.getValue()));
+                        }
+                        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Void>>() {
+                            @Override
+                            public CompletionStage<Void> get() {
+                                return remoteCache.putAllAsync(newValues,
+                                        lifespan, TimeUnit.MILLISECONDS,
+                                        maxIdle, TimeUnit.MILLISECONDS);
+                            }
+                        })
+                                .emitOn(executor)
+                                .map(ignored -> {
+                                    result.putAll(values);
+                                    return result;
+                                });
+                    });
+                });
+    }
+
     private static Executor duplicateContextExecutor(Context context) {
         Executor executor = new Executor() {
             @Override
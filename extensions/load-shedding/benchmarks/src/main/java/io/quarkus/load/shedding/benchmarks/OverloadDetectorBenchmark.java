@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Measures the bookkeeping of a request by the {@link OverloadDetector} in the {@code synchronized} and {@code striped}
+ * update modes, when many threads finish requests concurrently.
+ * <p>
+ * The same request is measured with 1, 8 and 64 threads to show how the modes behave as the contention grows.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar OverloadDetectorBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "synchronized", "striped" })
+    public String updateMode;
+
+    @Param({ "vegas", "aimd" })
+    public String algorithm;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        LoadSheddingRuntimeConfig config = new SmallRyeConfigBuilder()
+                .addDiscoveredConverters()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withDefaultValue("quarkus.load-shedding.update-mode", updateMode)
+                .withDefaultValue("quarkus.load-shedding.algorithm", algorithm)
+                .build()
+                .getConfigMapping(LoadSheddingRuntimeConfig.class);
+        detector = new OverloadDetector(config);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads1() {
+        return request();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean threads8() {
+        return request();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean threads64() {
+        return request();
+    }
+
+    private boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        // a response time of 1-2 ms
+        detector.requestEnd(1_000 + (Thread.currentThread().threadId() & 1023));
+        return overloaded;
+    }
+}
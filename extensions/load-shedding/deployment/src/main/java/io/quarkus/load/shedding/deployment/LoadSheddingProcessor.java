@@ -2,15 +2,27 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.load.shedding.runtime.GrpcLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.LoadSheddingMetricsRecorder;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
+import io.quarkus.load.shedding.runtime.MessagingLoadShedding;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.load.shedding.runtime.WebSocketLoadShedding;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
@@ -31,4 +43,32 @@ AdditionalBeanBuildItem beans() {
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
+
+    @BuildStep
+    AdditionalBeanBuildItem entrypointBeans(Capabilities capabilities) {
+        List<String> beans = new ArrayList<>();
+        if (capabilities.isPresent(Capability.GRPC)) {
+            beans.add(GrpcLoadShedding.class.getName());
+        }
+        if (capabilities.isPresent(Capability.WEBSOCKETS_NEXT)) {
+            beans.add(WebSocketLoadShedding.class.getName());
+        }
+        if (capabilities.isPresent(Capability.MESSAGING)) {
+            beans.add(MessagingLoadShedding.class.getName());
+        }
+
+        // these beans are only looked up dynamically by the respective extensions
+        return AdditionalBeanBuildItem.builder().addBeanClasses(beans).setUnremovable().build();
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void metrics(LoadSheddingMetricsRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        // the consumer is only invoked if a metrics extension is present
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
 }
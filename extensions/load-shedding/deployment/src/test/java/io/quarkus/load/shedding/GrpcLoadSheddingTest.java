@@ -0,0 +1,94 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import grpc.health.v1.HealthGrpc;
+import grpc.health.v1.HealthOuterClass.HealthCheckRequest;
+import grpc.health.v1.HealthOuterClass.HealthCheckResponse;
+import grpc.health.v1.HealthOuterClass.HealthCheckResponse.ServingStatus;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.common.annotation.Blocking;
+
+public class GrpcLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyHealthService.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.grpc.clients.health.host", "localhost")
+            .overrideConfigKey("quarkus.grpc.clients.health.test-port", "8081");
+
+    @GrpcClient("health")
+    HealthGrpc.HealthBlockingStub health;
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void callIsCountedOnce() {
+        // with a limit of 1, a call that is also counted by the HTTP load shedding would be rejected
+        HealthCheckResponse response = health.check(HealthCheckRequest.newBuilder().build());
+        assertThat(response.getStatus()).isEqualTo(ServingStatus.SERVING);
+        assertThat(MyHealthService.inFlight.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void callIsRejected() throws InterruptedException {
+        Thread inFlight = new Thread(() -> health.check(HealthCheckRequest.newBuilder().setService("block").build()));
+        inFlight.start();
+        try {
+            assertThat(MyHealthService.blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> health.check(HealthCheckRequest.newBuilder().build()))
+                    .isInstanceOfSatisfying(StatusRuntimeException.class, e -> assertThat(e.getStatus().getCode())
+                            .isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+            assertThat(detector.rejectedRequests()).isGreaterThanOrEqualTo(1);
+        } finally {
+            MyHealthService.release.countDown();
+            inFlight.join();
+        }
+    }
+
+    @GrpcService
+    public static class MyHealthService extends HealthGrpc.HealthImplBase {
+        static final AtomicInteger inFlight = new AtomicInteger();
+        static final CountDownLatch blocked = new CountDownLatch(1);
+        static final CountDownLatch release = new CountDownLatch(1);
+
+        @Inject
+        OverloadDetector detector;
+
+        @Override
+        @Blocking
+        public void check(HealthCheckRequest request, StreamObserver<HealthCheckResponse> responseObserver) {
+            inFlight.set(detector.currentRequests());
+            if ("block".equals(request.getService())) {
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            responseObserver.onNext(HealthCheckResponse.newBuilder().setStatus(ServingStatus.SERVING).build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class LoadSheddingMetricsTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "aimd")
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "2")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false");
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void testLimitMetric() throws InterruptedException {
+        Gauge limit = registry.get("load.shedding.limit").tag("algorithm", "aimd").gauge();
+        assertThat(limit.value()).isEqualTo(2.0);
+
+        // a single request exercises half of the limit, so AIMD increases the limit by 1
+        when().get("/").then().statusCode(200);
+        // the request is finished once the response is written, which may happen after the client received it
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (detector.currentLimit() == 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(detector.currentLimit()).isEqualTo(3);
+        assertThat(limit.value()).isEqualTo(3.0);
+        assertThat(registry.get("load.shedding.in.flight").gauge().value()).isEqualTo(0.0);
+        assertThat(registry.get("load.shedding.rejected").functionCounter().count()).isEqualTo(0.0);
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() {
+            return "Hello, world!";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.reactive.messaging.Incoming;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.spi.Connector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.connector.InboundConnector;
+
+public class MessagingLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyConnector.class, MyConsumer.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.messaging.enabled", "true")
+            .overrideConfigKey("mp.messaging.incoming.in.connector", "load-shedding-test");
+
+    @Inject
+    MyConsumer consumer;
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (MyConnector.nacked.size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // the first message is in flight until it is acknowledged, the others are rejected
+        assertThat(consumer.received()).extracting(Message::getPayload).containsExactly("a");
+        assertThat(MyConnector.nacked).containsOnlyKeys("b", "c");
+        assertThat(MyConnector.nacked.values()).allMatch(LoadSheddingException.class::isInstance);
+        assertThat(detector.currentRequests()).isEqualTo(1);
+
+        consumer.received().get(0).ack().toCompletableFuture().join();
+        assertThat(detector.currentRequests()).isZero();
+    }
+
+    @ApplicationScoped
+    @Connector("load-shedding-test")
+    public static class MyConnector implements InboundConnector {
+        static final Map<String, Throwable> nacked = new ConcurrentHashMap<>();
+
+        @Override
+        public Flow.Publisher<? extends Message<?>> getPublisher(Config config) {
+            return Multi.createFrom().items("a", "b", "c")
+                    .map(payload -> Message.of(payload).withNack(reason -> {
+                        nacked.put(payload, reason);
+                        return CompletableFuture.completedFuture(null);
+                    }));
+        }
+    }
+
+    @ApplicationScoped
+    public static class MyConsumer {
+        private final List<Message<String>> received = new CopyOnWriteArrayList<>();
+
+        @Incoming("in")
+        public CompletionStage<Void> consume(Message<String> message) {
+            // not acknowledged, so that the message stays in flight
+            received.add(message);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<Message<String>> received() {
+            return received;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.UpgradeRejectedException;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.ext.web.Router;
+
+public class WebSocketLoadSheddingTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(Echo.class, PlainWebSocketRoute.class, BlockingResource.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "1")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @TestHTTPResource("echo")
+    URI echoUri;
+
+    @TestHTTPResource("plain")
+    URI plainUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void upgradeIsNotCountedAsHttpRequest() throws Exception {
+        assertUpgradeIsNotCounted(echoUri);
+    }
+
+    @Test
+    public void upgradeIsRejected() throws Exception {
+        assertUpgradeIsRejected(echoUri);
+    }
+
+    @Test
+    public void plainRouteUpgradeIsNotCountedAsHttpRequest() throws Exception {
+        assertUpgradeIsNotCounted(plainUri);
+    }
+
+    @Test
+    public void plainRouteUpgradeIsRejected() throws Exception {
+        // the route is not a WebSockets Next endpoint, so the upgrade is shed by the HTTP load shedding
+        assertUpgradeIsRejected(plainUri);
+    }
+
+    private void assertUpgradeIsNotCounted(URI uri) throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            // with a limit of 1, an upgrade that is also counted as an in-flight request would be rejected
+            var webSocket = client.connect(uri.getPort(), uri.getHost(), uri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThat(detector.currentRequests()).isZero();
+            webSocket.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        } finally {
+            client.close();
+        }
+    }
+
+    private void assertUpgradeIsRejected(URI uri) throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingResource.blocked = blocked;
+        BlockingResource.release = release;
+        Thread inFlight = new Thread(() -> when().get("/block").then().statusCode(200));
+        inFlight.start();
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> client.connect(uri.getPort(), uri.getHost(), uri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOfSatisfying(UpgradeRejectedException.class,
+                            e -> assertThat(e.getStatus()).isEqualTo(503));
+        } finally {
+            release.countDown();
+            inFlight.join();
+            client.close();
+        }
+    }
+
+    @WebSocket(path = "/echo")
+    public static class Echo {
+        @OnTextMessage
+        public String onMessage(String message) {
+            return message;
+        }
+    }
+
+    @Singleton
+    public static class PlainWebSocketRoute {
+        void init(@Observes Router router) {
+            router.route("/plain").handler(ctx -> ctx.request().toWebSocket().onSuccess(ws -> ws.handler(ws::write)));
+        }
+    }
+
+    @Path("/block")
+    public static class BlockingResource {
+        static volatile CountDownLatch blocked;
+        static volatile CountDownLatch release;
+
+        @GET
+        public String block() throws InterruptedException {
+            blocked.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return "done";
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Signals that a unit of work was rejected because the application is overloaded.
+ * Used for example to negatively acknowledge incoming messages that were shed.
+ */
+public class LoadSheddingException extends RuntimeException {
+    public LoadSheddingException(String message) {
+        super(message, null, false, false);
+    }
+}
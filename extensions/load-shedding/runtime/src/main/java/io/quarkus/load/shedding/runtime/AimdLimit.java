@@ -0,0 +1,35 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on additive increase and multiplicative decrease, as implemented by the {@code AIMDLimit}
+ * of <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is increased by 1 when requests finish in time while the limit is being exercised,
+ * and multiplied by the backoff ratio when requests take longer than the configured timeout.
+ * This is a simple algorithm that favors throughput over latency.
+ */
+final class AimdLimit implements LimitAlgorithm {
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutInMicros;
+
+    AimdLimit(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Aimd aimd = config.aimd();
+        maxLimit = config.maxLimit();
+        backoffRatio = aimd.backoffRatio();
+        timeoutInMicros = aimd.timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests, long samples) {
+        long newLimit;
+        if (requestTime > timeoutInMicros) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * currentRequests >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return currentLimit;
+        }
+        return Math.max(1, Math.min(maxLimit, newLimit));
+    }
+}
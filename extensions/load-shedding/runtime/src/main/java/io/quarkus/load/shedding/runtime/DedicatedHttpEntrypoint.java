@@ -0,0 +1,15 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * An entrypoint that is served by the HTTP server, but sheds load itself. {@link HttpLoadShedding} skips
+ * the requests handled by such entrypoints, so that they are not evaluated and counted twice.
+ */
+public interface DedicatedHttpEntrypoint {
+    /**
+     * @param ctx the routing context of the HTTP router the load shedding handler is registered on
+     * @return whether the request is handled, and load shedding is applied, by this entrypoint
+     */
+    boolean handles(RoutingContext ctx);
+}
@@ -0,0 +1,72 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * A limit algorithm based on the gradient between the response time of the latest sample and a long-term
+ * exponential moving average of response times, as implemented by the {@code Gradient2Limit} of
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is decreased when the latest response time grows beyond the long-term average
+ * (multiplied by a tolerance), and increased by a fixed queue size otherwise. Limit changes are smoothed,
+ * so a single slow sample only decreases the limit slightly. In the {@code striped} update mode, the latest
+ * sample is the average response time of a merged window. Compared to Vegas,
+ * this algorithm doesn't need to observe the lowest response time and so it adapts better
+ * to services whose response times drift over time.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int queueSize;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRequestTime;
+    private int warmupCount;
+
+    Gradient2Limit(LoadSheddingRuntimeConfig config) {
+        LoadSheddingRuntimeConfig.Gradient2 gradient2 = config.gradient2();
+        maxLimit = config.maxLimit();
+        smoothing = gradient2.smoothing();
+        rttTolerance = gradient2.rttTolerance();
+        queueSize = gradient2.queueSize();
+        longWindowFactor = 2.0 / (gradient2.longWindow() + 1);
+        estimatedLimit = config.initialLimit();
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests, long samples) {
+        if (requestTime <= 0) {
+            return currentLimit;
+        }
+
+        if (warmupCount < WARMUP_SAMPLES) {
+            warmupCount++;
+            longRequestTime += (requestTime - longRequestTime) / warmupCount;
+        } else {
+            longRequestTime = longRequestTime * (1.0 - longWindowFactor) + requestTime * longWindowFactor;
+        }
+
+        // the latest sample, not averaged
+        double shortRequestTime = requestTime;
+
+        // if the long-term average is substantially larger than the short-term one,
+        // the long-term average is likely still recovering from a previous spike
+        if (longRequestTime / shortRequestTime > 2) {
+            longRequestTime *= 0.95;
+        }
+
+        // app-limited, the limit is not really exercised
+        if (2L * currentRequests < estimatedLimit) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        estimatedLimit = newLimit;
+        return (long) newLimit;
+    }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.enterprise.inject.spi.Prioritized;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.quarkus.grpc.GlobalInterceptor;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Sheds incoming gRPC calls when overloaded. Rejected calls are closed with {@link Status#RESOURCE_EXHAUSTED}.
+ * The {@link ServerCall} is passed to {@link io.quarkus.load.shedding.RequestPrioritizer}s and
+ * {@link io.quarkus.load.shedding.RequestClassifier}s.
+ * <p>
+ * gRPC calls served by the HTTP server are skipped by {@link HttpLoadShedding}.
+ */
+@Singleton
+@GlobalInterceptor
+public class GrpcLoadShedding implements ServerInterceptor, Prioritized, DedicatedHttpEntrypoint {
+    private static final String GRPC_CONTENT_TYPE = "application/grpc";
+    private static final ServerCall.Listener<?> NOOP_LISTENER = new ServerCall.Listener<>() {
+    };
+
+    private final OverloadDetector detector;
+    private final PriorityLoadShedding priority;
+    private final boolean enabled;
+
+    @Inject
+    GrpcLoadShedding(OverloadDetector detector, PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+        this.detector = detector;
+        this.priority = priority;
+        this.enabled = config.enabled();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        if (!enabled) {
+            return next.startCall(call, headers);
+        }
+
+        if (detector.isOverloaded() && priority.shedLoad(call)) {
+            detector.requestRejected();
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription("Service overloaded"), new Metadata());
+            return (ServerCall.Listener<ReqT>) NOOP_LISTENER;
+        }
+
+        detector.requestBegin();
+        long start = System.nanoTime();
+        AtomicBoolean ended = new AtomicBoolean();
+        Runnable end = () -> {
+            if (ended.compareAndSet(false, true)) {
+                detector.requestEnd((System.nanoTime() - start) / 1_000);
+            }
+        };
+
+        ServerCall<ReqT, RespT> trackedCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                try {
+                    super.close(status, trailers);
+                } finally {
+                    end.run();
+                }
+            }
+        };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(trackedCall, headers);
+        } catch (RuntimeException e) {
+            end.run();
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    end.run();
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean handles(RoutingContext ctx) {
+        String contentType = ctx.request().getHeader(HttpHeaders.CONTENT_TYPE);
+        return contentType != null
+                && contentType.regionMatches(true, 0, GRPC_CONTENT_TYPE, 0, GRPC_CONTENT_TYPE.length());
+    }
+
+    @Override
+    public int getPriority() {
+        // called right after the gRPC duplicated context interceptor, before the request context is activated
+        return Integer.MAX_VALUE - 10;
+    }
+}
@@ -1,18 +1,28 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.List;
+
 import jakarta.annotation.Priority;
 import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.arc.All;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
+    @Inject
+    @All
+    List<DedicatedHttpEntrypoint> dedicatedEntrypoints;
+
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
             PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
 
@@ -20,8 +30,15 @@ public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDete
             return;
         }
 
+        DedicatedHttpEntrypoint[] dedicated = dedicatedEntrypoints.toArray(new DedicatedHttpEntrypoint[0]);
         router.route().order(-1_000_000_000).handler(ctx -> {
+            if (dedicated.length > 0 && isDedicated(dedicated, ctx)) {
+                ctx.next();
+                return;
+            }
+
             if (detector.isOverloaded() && priority.shedLoad(ctx)) {
+                detector.requestRejected();
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -32,6 +49,9 @@ public void handle(Void ignored) {
                     }
                 });
                 response.end();
+            } else if (isWebSocketUpgrade(ctx)) {
+                // an established connection is not tracked as an in-flight request
+                ctx.next();
             } else {
                 detector.requestBegin();
                 long start = System.nanoTime();
@@ -46,4 +66,17 @@ public void handle(AsyncResult<Void> ignored) {
             }
         });
     }
+
+    static boolean isWebSocketUpgrade(RoutingContext ctx) {
+        return ctx.request().headers().contains(HttpHeaders.UPGRADE, HttpHeaders.WEBSOCKET, true);
+    }
+
+    private static boolean isDedicated(DedicatedHttpEntrypoint[] dedicated, RoutingContext ctx) {
+        for (DedicatedHttpEntrypoint entrypoint : dedicated) {
+            if (entrypoint.handles(ctx)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,28 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that adjusts the limit of concurrent requests based on samples of finished requests.
+ * <p>
+ * Implementations are stateful and are not thread-safe; the {@link OverloadDetector} guarantees
+ * that {@link #update(long, long, int, long)} is only called by a single thread at a time.
+ */
+interface LimitAlgorithm {
+    /**
+     * Computes a new limit of concurrent requests.
+     *
+     * @param currentLimit the current limit
+     * @param requestTime the response time of the finished request(s), in microseconds
+     * @param currentRequests the number of concurrent requests at the time the request(s) finished
+     * @param samples the number of finished requests this sample represents, at least 1
+     * @return the new limit, which may be equal to {@code currentLimit}
+     */
+    long update(long currentLimit, long requestTime, int currentRequests, long samples);
+
+    static LimitAlgorithm create(LoadSheddingRuntimeConfig config) {
+        return switch (config.algorithm()) {
+            case VEGAS -> new VegasLimit(config);
+            case GRADIENT2 -> new Gradient2Limit(config);
+            case AIMD -> new AimdLimit(config);
+        };
+    }
+}
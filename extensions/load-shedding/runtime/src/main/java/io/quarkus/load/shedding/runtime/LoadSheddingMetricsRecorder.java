@@ -0,0 +1,47 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingMetricsRecorder {
+    private final RuntimeValue<LoadSheddingRuntimeConfig> runtimeConfig;
+
+    public LoadSheddingMetricsRecorder(RuntimeValue<LoadSheddingRuntimeConfig> runtimeConfig) {
+        this.runtimeConfig = runtimeConfig;
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                LoadSheddingRuntimeConfig config = runtimeConfig.getValue();
+                if (!config.enabled()) {
+                    return;
+                }
+
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+                String algorithm = config.algorithm().name().toLowerCase(Locale.ROOT);
+
+                metricsFactory.builder("load.shedding.limit")
+                        .description("Current limit of concurrent requests, as computed by the overload detector.")
+                        .tag("algorithm", algorithm)
+                        .buildGauge(detector::currentLimit);
+                metricsFactory.builder("load.shedding.in.flight")
+                        .description("Current number of concurrent requests.")
+                        .tag("algorithm", algorithm)
+                        .buildGauge(detector::currentRequests);
+                metricsFactory.builder("load.shedding.rejected")
+                        .description("Number of requests rejected due to overload.")
+                        .tag("algorithm", algorithm)
+                        .buildCounter(detector::rejectedRequests);
+            }
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -11,7 +13,8 @@
 public interface LoadSheddingRuntimeConfig {
     /**
      * Whether load shedding should be enabled.
-     * Currently, this only applies to incoming HTTP requests.
+     * This applies to incoming HTTP requests, gRPC calls and WebSocket upgrades.
+     * Shedding of messages received by Reactive Messaging connectors must be enabled separately.
      */
     @WithDefault("true")
     boolean enabled();
@@ -22,20 +25,29 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The algorithm used to adjust the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
+     * Only used when {@code algorithm} is {@code vegas}.
      */
     @WithDefault("3")
     int alphaFactor();
 
     /**
      * The {@code beta} factor of the Vegas overload detection algorithm.
+     * Only used when {@code algorithm} is {@code vegas}.
      */
     @WithDefault("6")
     int betaFactor();
 
     /**
      * The probe factor of the Vegas overload detection algorithm.
+     * Only used when {@code algorithm} is {@code vegas}.
      */
     @WithDefault("30.0")
     double probeFactor();
@@ -46,11 +58,85 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * How response times of finished requests are fed into the overload detection algorithm.
+     * <p>
+     * In the {@code synchronized} mode, each finished request updates the limit of concurrent requests
+     * under a lock. This is the most precise mode, but the lock may become contended on machines
+     * with a high number of CPU cores.
+     * <p>
+     * In the {@code striped} mode, finished requests are recorded into per-thread striped sampling windows
+     * without locking. The windows are periodically merged and the limit is updated once per merge,
+     * using the average response time and the maximum number of concurrent requests observed.
+     */
+    @WithDefault("synchronized")
+    UpdateMode updateMode();
+
+    /**
+     * The number of samples a single stripe collects before all stripes are merged
+     * and the limit of concurrent requests is updated.
+     * Only used when {@code update-mode} is {@code striped}.
+     */
+    @WithDefault("32")
+    int stripedWindowSize();
+
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Configuration of load shedding for Reactive Messaging.
+     */
+    Messaging messaging();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, which estimates the queue size from the lowest observed response time.
+         */
+        VEGAS,
+        /**
+         * Compares a short-term and a long-term average of response times; suitable for latency-sensitive services.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease on timeouts; suitable for throughput-oriented services.
+         */
+        AIMD,
+    }
+
+    enum UpdateMode {
+        /**
+         * Each finished request updates the limit under a lock.
+         */
+        SYNCHRONIZED,
+        /**
+         * Finished requests are recorded into striped sampling windows that are merged periodically.
+         */
+        STRIPED,
+    }
+
+    @ConfigGroup
+    interface Messaging {
+        /**
+         * Whether messages received from Reactive Messaging connectors should be shed when overloaded.
+         * Shed messages are negatively acknowledged with {@link io.quarkus.load.shedding.LoadSheddingException}
+         * and the failure strategy of the connector applies.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +145,50 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor applied to limit changes, between 0.0 and 1.0.
+         * Lower values make the limit change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The tolerance of the ratio between the long-term and short-term response time.
+         * For example, {@code 2.0} means that the short-term response time may be up to twice
+         * the long-term response time before the limit is decreased.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of samples over which the long-term exponential moving average of response times is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests by which the limit grows when response times are stable.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request takes longer than the timeout,
+         * between 0.5 and 1.0.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The response time above which a request is considered timed out and the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
 }
@@ -0,0 +1,73 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.load.shedding.LoadSheddingException;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.PublisherDecorator;
+
+/**
+ * Sheds messages received from connectors when overloaded. Rejected messages are negatively acknowledged
+ * with a {@link LoadSheddingException}, so that the connector's failure strategy applies. Accepted messages
+ * are tracked as in-flight requests until they are acknowledged or negatively acknowledged.
+ * The {@link Message} is passed to {@link io.quarkus.load.shedding.RequestPrioritizer}s and
+ * {@link io.quarkus.load.shedding.RequestClassifier}s.
+ */
+@Singleton
+public class MessagingLoadShedding implements PublisherDecorator {
+    private final OverloadDetector detector;
+    private final PriorityLoadShedding priority;
+    private final boolean enabled;
+
+    @Inject
+    MessagingLoadShedding(OverloadDetector detector, PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+        this.detector = detector;
+        this.priority = priority;
+        this.enabled = config.enabled() && config.messaging().enabled();
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, List<String> channelName,
+            boolean isConnector) {
+        if (!enabled || !isConnector) {
+            return publisher;
+        }
+
+        return publisher.filter(message -> {
+            if (detector.isOverloaded() && priority.shedLoad(message)) {
+                detector.requestRejected();
+                message.nack(new LoadSheddingException("Message rejected, service overloaded"));
+                return false;
+            }
+            return true;
+        }).map(this::track);
+    }
+
+    private Message<?> track(Message<?> message) {
+        detector.requestBegin();
+        long start = System.nanoTime();
+        AtomicBoolean ended = new AtomicBoolean();
+        Runnable end = () -> {
+            if (ended.compareAndSet(false, true)) {
+                detector.requestEnd((System.nanoTime() - start) / 1_000);
+            }
+        };
+
+        Message<?> withAck = message.withAckWithMetadata(metadata -> message.ack(metadata)
+                .whenComplete((ignored, error) -> end.run()));
+        return withAck.withNackWithMetadata((reason, metadata) -> withAck.nack(reason, metadata)
+                .whenComplete((ignored, error) -> end.run()));
+    }
+
+    @Override
+    public int getPriority() {
+        // before the request context is activated for connector messages
+        return 50;
+    }
+}
@@ -1,46 +1,37 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
+ * An overload detector that maintains a limit of concurrent requests using a configurable {@link LimitAlgorithm}.
+ * By default, the limit is computed using TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * Depending on {@link LoadSheddingRuntimeConfig#updateMode()}, the limit is either updated
+ * for each finished request under a lock, or once per merged window of {@link StripedSamples}.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+    private final LimitAlgorithm algorithm;
 
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    // `null` in the synchronized mode
+    private final StripedSamples stripedSamples;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
-
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
+        algorithm = LimitAlgorithm.create(config);
         currentLimit = config.initialLimit();
-        resetProbeJitter();
+        stripedSamples = config.updateMode() == LoadSheddingRuntimeConfig.UpdateMode.STRIPED
+                ? new StripedSamples(config.stripedWindowSize())
+                : null;
     }
 
     public boolean isOverloaded() {
@@ -54,56 +45,43 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
-    }
-
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        StripedSamples stripedSamples = this.stripedSamples;
+        if (stripedSamples == null) {
+            synchronized (this) {
+                currentLimit = algorithm.update(currentLimit, timeInMicros, current, 1);
+            }
+        } else if (stripedSamples.record(timeInMicros, current) && stripedSamples.tryMerge()) {
+            try {
+                currentLimit = algorithm.update(currentLimit, stripedSamples.mergedAverageTime,
+                        stripedSamples.mergedMaxRequests, stripedSamples.mergedCount);
+            } finally {
+                stripedSamples.mergeDone();
+            }
         }
+    }
 
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
+    public void requestRejected() {
+        rejectedRequests.increment();
+    }
 
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
-        }
+    /**
+     * @return the current limit of concurrent requests
+     */
+    public long currentLimit() {
+        return currentLimit;
+    }
 
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    /**
+     * @return the current number of concurrent (in-flight) requests
+     */
+    public int currentRequests() {
+        return currentRequests.get();
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    /**
+     * @return the total number of requests rejected so far
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
     }
 }
@@ -0,0 +1,99 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free sampling windows of finished requests, striped by thread to avoid contention.
+ * Samples are recorded into one of the stripes and once a stripe fills its window,
+ * the recording thread may merge all stripes into a single aggregated sample.
+ * At most one thread merges at a time; other threads never wait for the merge.
+ */
+final class StripedSamples {
+    private final Stripe[] stripes;
+    private final int mask;
+    private final int windowSize;
+
+    private final AtomicBoolean merging = new AtomicBoolean();
+
+    // result of the last merge, only accessed by the merging thread
+    long mergedCount;
+    long mergedAverageTime;
+    int mergedMaxRequests;
+
+    StripedSamples(int windowSize) {
+        int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+        this.windowSize = Math.max(1, windowSize);
+    }
+
+    /**
+     * Records a sample and returns whether the window of the stripe is full,
+     * in which case the caller should attempt to {@linkplain #tryMerge() merge}.
+     */
+    boolean record(long requestTime, int currentRequests) {
+        Stripe stripe = stripes[stripeIndex()];
+        stripe.totalTime.addAndGet(requestTime);
+        long prevMax;
+        while ((prevMax = stripe.maxRequests.get()) < currentRequests) {
+            if (stripe.maxRequests.compareAndSet(prevMax, currentRequests)) {
+                break;
+            }
+        }
+        return stripe.count.incrementAndGet() >= windowSize;
+    }
+
+    /**
+     * Merges all stripes into the {@code merged*} fields, unless another thread is already merging.
+     * When this method returns {@code true}, the caller must call {@link #mergeDone()} after it has
+     * processed the merged sample.
+     */
+    boolean tryMerge() {
+        if (merging.get() || !merging.compareAndSet(false, true)) {
+            return false;
+        }
+
+        long count = 0;
+        long totalTime = 0;
+        long maxRequests = 0;
+        for (Stripe stripe : stripes) {
+            long stripeCount = stripe.count.getAndSet(0);
+            if (stripeCount == 0) {
+                continue;
+            }
+            count += stripeCount;
+            totalTime += stripe.totalTime.getAndSet(0);
+            maxRequests = Math.max(maxRequests, stripe.maxRequests.getAndSet(0));
+        }
+
+        if (count == 0) {
+            merging.set(false);
+            return false;
+        }
+
+        mergedCount = count;
+        mergedAverageTime = totalTime / count;
+        mergedMaxRequests = (int) maxRequests;
+        return true;
+    }
+
+    void mergeDone() {
+        merging.set(false);
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Stripe {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalTime = new AtomicLong();
+        final AtomicLong maxRequests = new AtomicLong();
+    }
+}
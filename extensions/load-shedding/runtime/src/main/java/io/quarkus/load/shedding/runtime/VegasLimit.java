@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A limit algorithm based on TCP Vegas, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ */
+final class VegasLimit implements LimitAlgorithm {
+    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
+
+    static {
+        LOG10_PLUS_1_TABLE[0] = 1;
+        for (int i = 1; i < 1_000; i++) {
+            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
+        }
+    }
+
+    private final int maxLimit;
+    private final int alphaFactor;
+    private final int betaFactor;
+    private final double probeFactor;
+
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    VegasLimit(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        alphaFactor = config.alphaFactor();
+        betaFactor = config.betaFactor();
+        probeFactor = config.probeFactor();
+        resetProbeJitter();
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests, long samples) {
+        probeCount += samples;
+        if (probeFactor * probeJitter * currentLimit <= probeCount) {
+            resetProbeJitter();
+            probeCount = 0.0;
+            lowestRequestTime = requestTime;
+            return currentLimit;
+        }
+
+        if (requestTime < lowestRequestTime) {
+            lowestRequestTime = requestTime;
+            return currentLimit;
+        }
+
+        if (2L * currentRequests < currentLimit) {
+            return currentLimit;
+        }
+
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1;
+        if (currentLimit >= 0 && currentLimit < 1_000) {
+            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        } else {
+            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        }
+        int alpha = alphaFactor * currentLimitLog10Plus1;
+        int beta = betaFactor * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return currentLimit;
+        }
+
+        return Math.max(1, Math.min(maxLimit, newLimit));
+    }
+
+    private void resetProbeJitter() {
+        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+}
@@ -0,0 +1,78 @@
+package io.quarkus.load.shedding.runtime;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.websockets.next.HttpUpgradeCheck;
+import io.quarkus.websockets.next.runtime.WebSocketServerRecorder.ServerEndpointsContext;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Rejects WebSocket upgrades with {@code 503 Service Unavailable} when overloaded.
+ * The {@link HttpUpgradeCheck.HttpUpgradeContext} is passed to {@link io.quarkus.load.shedding.RequestPrioritizer}s
+ * and {@link io.quarkus.load.shedding.RequestClassifier}s.
+ * <p>
+ * Established connections are not tracked as in-flight requests; only the upgrade itself may be rejected.
+ * Upgrade requests to WebSockets Next endpoints are therefore skipped by {@link HttpLoadShedding}. Upgrades to other
+ * routes are shed by {@link HttpLoadShedding}.
+ */
+@Singleton
+public class WebSocketLoadShedding implements HttpUpgradeCheck, DedicatedHttpEntrypoint {
+    private static final Uni<CheckResult> REJECT = CheckResult.rejectUpgrade(
+            HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+
+    private final OverloadDetector detector;
+    private final PriorityLoadShedding priority;
+    // the context is a runtime-init synthetic bean, so it is only resolved when the first request arrives
+    private final Instance<ServerEndpointsContext> endpointsInstance;
+    private final boolean enabled;
+    private volatile ServerEndpointsContext endpoints;
+
+    @Inject
+    WebSocketLoadShedding(OverloadDetector detector, PriorityLoadShedding priority,
+            Instance<ServerEndpointsContext> endpointsInstance, LoadSheddingRuntimeConfig config) {
+        this.detector = detector;
+        this.priority = priority;
+        this.endpointsInstance = endpointsInstance;
+        this.enabled = config.enabled();
+    }
+
+    @Override
+    public Uni<CheckResult> perform(HttpUpgradeContext context) {
+        if (enabled && detector.isOverloaded() && priority.shedLoad(context)) {
+            detector.requestRejected();
+            return REJECT;
+        }
+        return CheckResult.permitUpgrade();
+    }
+
+    @Override
+    public boolean handles(RoutingContext ctx) {
+        if (!HttpLoadShedding.isWebSocketUpgrade(ctx)) {
+            return false;
+        }
+        ServerEndpointsContext endpoints = this.endpoints;
+        if (endpoints == null) {
+            endpoints = endpointsInstance.get();
+            this.endpoints = endpoints;
+        }
+        return endpoints.isEndpointPath(relativePath(ctx.normalizedPath(), ctx.mountPoint()));
+    }
+
+    // the routes of the endpoints are relative to the HTTP root path the router is mounted on
+    static String relativePath(String path, String mountPoint) {
+        if (mountPoint == null) {
+            return path;
+        }
+        int length = mountPoint.endsWith("/") ? mountPoint.length() - 1 : mountPoint.length();
+        if (length == 0 || !path.startsWith(mountPoint.substring(0, length))) {
+            return path;
+        }
+        String relative = path.substring(length);
+        return relative.isEmpty() ? "/" : relative;
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.load.shedding.runtime;
+
+import static io.quarkus.load.shedding.runtime.OverloadDetectorTest.config;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class AimdLimitTest {
+
+    private final LimitAlgorithm aimd = LimitAlgorithm.create(config(
+            "quarkus.load-shedding.algorithm", "aimd",
+            "quarkus.load-shedding.max-limit", "102",
+            "quarkus.load-shedding.aimd.timeout", "1s",
+            "quarkus.load-shedding.aimd.backoff-ratio", "0.5"));
+
+    @Test
+    public void testAdditiveIncrease() {
+        assertThat(aimd).isInstanceOf(AimdLimit.class);
+        assertThat(aimd.update(100, 1_000, 50, 1)).isEqualTo(101);
+        assertThat(aimd.update(101, 1_000, 100, 1)).isEqualTo(102);
+        // capped by the max limit
+        assertThat(aimd.update(102, 1_000, 100, 1)).isEqualTo(102);
+    }
+
+    @Test
+    public void testNoIncreaseWhenLimitIsNotExercised() {
+        assertThat(aimd.update(100, 1_000, 49, 1)).isEqualTo(100);
+    }
+
+    @Test
+    public void testMultiplicativeDecreaseOnTimeout() {
+        assertThat(aimd.update(100, 1_000_001, 100, 1)).isEqualTo(50);
+        // the limit is decreased even if it is not exercised
+        assertThat(aimd.update(50, 2_000_000, 1, 1)).isEqualTo(25);
+        assertThat(aimd.update(1, 2_000_000, 1, 1)).isEqualTo(1);
+    }
+}
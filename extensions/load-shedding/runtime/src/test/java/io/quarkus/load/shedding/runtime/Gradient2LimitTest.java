@@ -0,0 +1,68 @@
+package io.quarkus.load.shedding.runtime;
+
+import static io.quarkus.load.shedding.runtime.OverloadDetectorTest.config;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class Gradient2LimitTest {
+
+    @Test
+    public void testLimitGrowsWhileResponseTimesAreStable() {
+        LimitAlgorithm gradient2 = gradient2();
+        assertThat(gradient2).isInstanceOf(Gradient2Limit.class);
+        long limit = 100;
+        for (int i = 0; i < 20; i++) {
+            long newLimit = gradient2.update(limit, 1_000, 100, 1);
+            assertThat(newLimit).isGreaterThanOrEqualTo(limit);
+            limit = newLimit;
+        }
+        assertThat(limit).isGreaterThan(110);
+    }
+
+    @Test
+    public void testLimitDecreasesOnLatencySpike() {
+        LimitAlgorithm gradient2 = gradient2();
+        long limit = 100;
+        for (int i = 0; i < 20; i++) {
+            limit = gradient2.update(limit, 1_000, 200, 1);
+        }
+        long stable = limit;
+
+        // the response time grows tenfold, the gradient drops to its minimum of 0.5
+        limit = gradient2.update(limit, 10_000, 200, 1);
+        assertThat(limit).isLessThan(stable);
+        for (int i = 0; i < 10; i++) {
+            long newLimit = gradient2.update(limit, 10_000, 200, 1);
+            assertThat(newLimit).isLessThan(limit);
+            limit = newLimit;
+        }
+        // each smoothed step decreases the limit by about 10 %
+        assertThat(limit).isLessThan(stable / 2);
+    }
+
+    @Test
+    public void testResponseTimesWithinToleranceDoNotDecreaseTheLimit() {
+        LimitAlgorithm gradient2 = gradient2();
+        long limit = 100;
+        for (int i = 0; i < 20; i++) {
+            limit = gradient2.update(limit, 1_000, 200, 1);
+        }
+        // 1.4x the long-term average is within the default tolerance of 1.5x
+        assertThat(gradient2.update(limit, 1_400, 200, 1)).isGreaterThanOrEqualTo(limit);
+    }
+
+    @Test
+    public void testAppLimited() {
+        LimitAlgorithm gradient2 = gradient2();
+        // less than half of the limit is used
+        assertThat(gradient2.update(100, 1_000, 49, 1)).isEqualTo(100);
+        assertThat(gradient2.update(100, 100_000, 49, 1)).isEqualTo(100);
+    }
+
+    private static LimitAlgorithm gradient2() {
+        return LimitAlgorithm.create(config(
+                "quarkus.load-shedding.algorithm", "gradient2",
+                "quarkus.load-shedding.initial-limit", "100"));
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class OverloadDetectorTest {
+
+    static LoadSheddingRuntimeConfig config(String... keyValues) {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .addDiscoveredConverters()
+                .withMapping(LoadSheddingRuntimeConfig.class);
+        for (int i = 0; i < keyValues.length; i += 2) {
+            builder.withDefaultValue(keyValues[i], keyValues[i + 1]);
+        }
+        return builder.build().getConfigMapping(LoadSheddingRuntimeConfig.class);
+    }
+
+    @Test
+    public void testSynchronizedModeUpdatesLimitForEachRequest() {
+        OverloadDetector detector = new OverloadDetector(config(
+                "quarkus.load-shedding.algorithm", "aimd",
+                "quarkus.load-shedding.initial-limit", "10"));
+        for (int i = 0; i < 10; i++) {
+            detector.requestBegin();
+        }
+        assertThat(detector.isOverloaded()).isTrue();
+
+        for (int i = 0; i < 4; i++) {
+            detector.requestEnd(1_000);
+        }
+        assertThat(detector.currentLimit()).isEqualTo(14);
+        assertThat(detector.isOverloaded()).isFalse();
+    }
+
+    @Test
+    public void testStripedModeUpdatesLimitOncePerWindow() {
+        OverloadDetector detector = new OverloadDetector(config(
+                "quarkus.load-shedding.algorithm", "aimd",
+                "quarkus.load-shedding.initial-limit", "10",
+                "quarkus.load-shedding.update-mode", "striped",
+                "quarkus.load-shedding.striped-window-size", "4"));
+        for (int i = 0; i < 10; i++) {
+            detector.requestBegin();
+        }
+
+        // all requests finish on the same thread and so they are recorded into the same stripe
+        for (int i = 0; i < 3; i++) {
+            detector.requestEnd(1_000);
+        }
+        assertThat(detector.currentLimit()).isEqualTo(10);
+
+        // the window is full, the merged sample of 4 requests updates the limit once
+        detector.requestEnd(1_000);
+        assertThat(detector.currentLimit()).isEqualTo(11);
+        assertThat(detector.currentRequests()).isEqualTo(6);
+    }
+}
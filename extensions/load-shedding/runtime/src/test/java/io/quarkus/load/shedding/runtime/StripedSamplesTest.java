@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedSamplesTest {
+
+    @Test
+    public void testMergeAggregatesAllStripes() throws InterruptedException {
+        int threads = 8;
+        int samplesPerThread = 1_000;
+        // the window is never full, so that the samples are only merged below
+        StripedSamples samples = new StripedSamples(Integer.MAX_VALUE);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> recorders = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int maxRequests = i + 1;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int j = 0; j < samplesPerThread; j++) {
+                    samples.record(10 * maxRequests, maxRequests);
+                }
+            });
+            thread.start();
+            recorders.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : recorders) {
+            thread.join();
+        }
+
+        assertThat(samples.tryMerge()).isTrue();
+        assertThat(samples.mergedCount).isEqualTo((long) threads * samplesPerThread);
+        // (10 + 20 + ... + 80) / 8
+        assertThat(samples.mergedAverageTime).isEqualTo(45);
+        assertThat(samples.mergedMaxRequests).isEqualTo(threads);
+        samples.mergeDone();
+
+        // the stripes were reset by the merge
+        assertThat(samples.tryMerge()).isFalse();
+    }
+
+    @Test
+    public void testRecordReportsFullWindow() {
+        StripedSamples samples = new StripedSamples(3);
+        assertThat(samples.record(100, 1)).isFalse();
+        assertThat(samples.record(200, 2)).isFalse();
+        assertThat(samples.record(300, 1)).isTrue();
+
+        assertThat(samples.tryMerge()).isTrue();
+        assertThat(samples.mergedCount).isEqualTo(3);
+        assertThat(samples.mergedAverageTime).isEqualTo(200);
+        assertThat(samples.mergedMaxRequests).isEqualTo(2);
+        samples.mergeDone();
+    }
+
+    @Test
+    public void testOnlyOneThreadMerges() {
+        StripedSamples samples = new StripedSamples(1);
+        samples.record(100, 1);
+        assertThat(samples.tryMerge()).isTrue();
+
+        // a sample recorded during a merge is merged later
+        samples.record(300, 1);
+        assertThat(samples.tryMerge()).isFalse();
+
+        samples.mergeDone();
+        assertThat(samples.tryMerge()).isTrue();
+        assertThat(samples.mergedCount).isEqualTo(1);
+        assertThat(samples.mergedAverageTime).isEqualTo(300);
+        samples.mergeDone();
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Measures the work the HTTP server metrics do to record the {@code http.server.requests} timer at the end of a request,
+ * for requests spread over a number of templated routes.
+ * <p>
+ * With {@code off}, the metrics are disabled and nothing is recorded. With {@code provider}, the tags are built and the
+ * timer is looked up in the registry for every request, as {@link VertxHttpServerMetrics} does when
+ * {@code HttpServerMetricsTagsContributor} beans are present. With {@code cached}, the timer is returned by
+ * {@link HttpServerRequestTimers}.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar HttpServerRequestTimersBenchmark -prof gc} to compare the allocation
+ * per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HttpServerRequestTimersBenchmark {
+
+    private static final String NAME = "http.server.requests";
+    private static final int ROUTES = 16;
+
+    @Param({ "off", "provider", "cached" })
+    public String metrics;
+
+    private MeterProvider<Timer> requestsTimer;
+    private HttpServerRequestTimers cachedRequestsTimers;
+    private String[] paths;
+    private String[] initialPaths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        requestsTimer = Timer.builder(NAME).withRegistry(registry);
+        cachedRequestsTimers = new HttpServerRequestTimers(registry, NAME, requestsTimer, 100);
+        paths = new String[ROUTES];
+        initialPaths = new String[ROUTES];
+        for (int i = 0; i < ROUTES; i++) {
+            paths[i] = "/resource" + i + "/{id}";
+            initialPaths[i] = "/resource" + i + "/" + i;
+        }
+    }
+
+    @Benchmark
+    public Timer responseEnd() {
+        int route = next++ & (ROUTES - 1);
+        Timer timer;
+        switch (metrics) {
+            case "provider":
+                timer = requestsTimer.withTags(HttpServerRequestTimers.tags(HttpMethod.GET, paths[route],
+                        initialPaths[route], 200, false));
+                break;
+            case "cached":
+                timer = cachedRequestsTimers.get(HttpMethod.GET, paths[route], initialPaths[route], 200, false);
+                break;
+            default:
+                return null;
+        }
+        timer.record(1_000, TimeUnit.NANOSECONDS);
+        return timer;
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.micrometer.deployment.binder;
+
+import java.util.function.BooleanSupplier;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.micrometer.runtime.MicrometerRecorder;
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+
+/**
+ * Records the execution time of programmatically scheduled jobs; {@code @Scheduled} methods are timed with {@code @Timed}.
+ */
+public class SchedulerBinderProcessor {
+
+    static final String JOB_INSTRUMENTER = "io.quarkus.scheduler.spi.JobInstrumenter";
+    static final String METRICS_BEAN_CLASS = "io.quarkus.micrometer.runtime.binder.scheduler.MicrometerJobInstrumenter";
+
+    static final Class<?> JOB_INSTRUMENTER_CLASS = MicrometerRecorder.getClassForName(JOB_INSTRUMENTER);
+
+    static class SchedulerMetricsSupportEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return JOB_INSTRUMENTER_CLASS != null && mConfig.isEnabled(mConfig.binder().scheduler());
+        }
+    }
+
+    @BuildStep(onlyIf = SchedulerMetricsSupportEnabled.class)
+    AdditionalBeanBuildItem addJobInstrumenter() {
+        return AdditionalBeanBuildItem.unremovableOf(METRICS_BEAN_CLASS);
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.quarkus.micrometer.deployment.export;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class PrometheusScrapeCacheTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setFlatClassPath(true)
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.otel.enabled", "false")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.scrape-cache-ttl", "1h")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .withEmptyApplication();
+
+    @Inject
+    PrometheusMeterRegistry promRegistry;
+
+    @Test
+    public void renderedExpositionIsReused() {
+        Counter counter = promRegistry.counter("test.cached");
+        counter.increment();
+
+        given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("test_cached_total 1.0"));
+
+        counter.increment();
+        // The exposition rendered by the previous scrape is returned
+        given()
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("test_cached_total 1.0"));
+
+        // The exposition of the other content type is cached separately
+        given()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .body(containsString("test_cached_total 2.0"));
+    }
+}
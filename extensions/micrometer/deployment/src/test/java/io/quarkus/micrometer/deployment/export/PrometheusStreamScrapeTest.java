@@ -0,0 +1,60 @@
+package io.quarkus.micrometer.deployment.export;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrometheusStreamScrapeTest {
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .setFlatClassPath(true)
+            .withConfigurationResource("test-logging.properties")
+            .overrideConfigKey("quarkus.otel.enabled", "false")
+            .overrideConfigKey("quarkus.micrometer.binder-enabled-default", "false")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.enabled", "true")
+            .overrideConfigKey("quarkus.micrometer.export.prometheus.stream-scrape", "true")
+            .overrideConfigKey("quarkus.micrometer.registry-enabled-default", "false")
+            .overrideConfigKey("quarkus.redis.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.http.enable-compression", "true")
+            .withEmptyApplication();
+
+    @Inject
+    PrometheusMeterRegistry promRegistry;
+
+    @Test
+    public void metricsEndpointStreamed() {
+        // The exposition spans several chunks
+        for (int i = 0; i < 2000; i++) {
+            promRegistry.counter("test.streamed", "index", Integer.toString(i)).increment();
+        }
+
+        given()
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("transfer-encoding", is("chunked"))
+                .body(containsString("test_streamed_total{index=\"0\"} 1.0"),
+                        containsString("test_streamed_total{index=\"1999\"} 1.0"),
+                        containsString("# EOF"));
+
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig()
+                        .contentDecoders(DecoderConfig.ContentDecoder.GZIP)))
+                .accept("text/plain")
+                .get("/q/metrics")
+                .then()
+                .statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(containsString("test_streamed_total{index=\"1999\"} 1.0"));
+    }
+}
@@ -147,7 +147,12 @@ public static String address(URI uri) {
         return port > 0 ? host + ":" + port : host;
     }
 
-    private static boolean isTemplatedPath(String pathInfo, String initialPath) {
+    /**
+     * @param pathInfo request path
+     * @param initialPath initial path before request pattern matching took place
+     * @return {@code true} if the path info was matched to a template
+     */
+    public static boolean isTemplatedPath(String pathInfo, String initialPath) {
         // only include the path info if it has been matched to a template (initialPath != pathInfo) to avoid a metrics explosion with lots of entries
         // /not-there/ must have the same behaviour as /not-there
         return initialPath != null && !(Objects.equals(initialPath, pathInfo) ||
@@ -0,0 +1,68 @@
+package io.quarkus.micrometer.runtime.binder.scheduler;
+
+import java.util.concurrent.CompletionStage;
+
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.scheduler.spi.JobInstrumenter;
+
+/**
+ * Records the execution of scheduled jobs that are not declared with a {@code @Scheduled} method, i.e. jobs scheduled
+ * programmatically.
+ * <p>
+ * {@code @Scheduled} methods are timed by the {@code @Timed} interceptor bindings added by the scheduler extension.
+ * This instrumenter records the same {@code scheduled.methods} timer and {@code scheduled.methods.running} long task
+ * timer, with the same tags: the {@code class} tag is the {@link #SCHEDULER_CLASS} and the {@code method} tag is the
+ * identity of the job.
+ */
+@Singleton
+public class MicrometerJobInstrumenter implements JobInstrumenter {
+
+    static final String TIMER_NAME = "scheduled.methods";
+    static final String LONG_TASK_TIMER_NAME = "scheduled.methods.running";
+    static final String SCHEDULER_CLASS = "io.quarkus.scheduler.Scheduler";
+
+    final MeterRegistry registry = Metrics.globalRegistry;
+
+    @Override
+    public Kind kind() {
+        return Kind.METRICS;
+    }
+
+    @Override
+    public CompletionStage<Void> instrument(JobInstrumentationContext context) {
+        Tags tags = Tags.of("class", SCHEDULER_CLASS, "method", context.getSpanName());
+        LongTaskTimer.Sample running = LongTaskTimer.builder(LONG_TASK_TIMER_NAME)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry)
+                .start();
+        Timer.Sample sample = Timer.start(registry);
+        return context.executeJob()
+                .whenComplete((result, throwable) -> {
+                    running.stop();
+                    sample.stop(Timer.builder(TIMER_NAME)
+                            .tags(tags)
+                            .tag("exception", exceptionTag(throwable))
+                            .publishPercentileHistogram()
+                            .register(registry));
+                });
+    }
+
+    // Same as MicrometerRecorder#getExceptionTag(Throwable), the job may fail with a CompletionException
+    private static String exceptionTag(Throwable throwable) {
+        if (throwable == null) {
+            return "none";
+        }
+        if (throwable.getCause() == null) {
+            return throwable.getClass().getSimpleName();
+        }
+        return throwable.getCause().getClass().getSimpleName();
+    }
+
+}
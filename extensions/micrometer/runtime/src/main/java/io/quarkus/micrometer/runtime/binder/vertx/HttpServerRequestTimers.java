@@ -0,0 +1,203 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import io.quarkus.micrometer.runtime.binder.HttpCommonTags;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Cache of the request timers of the HTTP server.
+ * <p>
+ * Resolving a timer through a {@link MeterProvider} builds the tags and looks up the meter in the registry for every
+ * request. This cache resolves the timer once per (path, method, status) and then returns it from an array indexed by
+ * the method and the status code.
+ * <p>
+ * The number of cached paths is limited by the maximum number of URI tags. The paths that were not matched to a template
+ * are keyed by the value of their uri tag, e.g. the unmatched paths of 404 responses share a single entry. Once the limit
+ * is reached, or for methods and status codes that are not cached, {@link #get} returns {@code null} and the caller must
+ * resolve the timer itself. The cache is cleared when a request timer is removed from the registry.
+ */
+final class HttpServerRequestTimers {
+
+    static final HttpMethod[] METHODS = { HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE,
+            HttpMethod.PATCH, HttpMethod.HEAD, HttpMethod.OPTIONS };
+
+    // index 0 is used for a reset request, 1 - 500 for the status codes 100 - 599
+    static final int RESET = -1;
+    private static final int MIN_STATUS = 100;
+    private static final int MAX_STATUS = 599;
+    private static final int STATUS_SLOTS = MAX_STATUS - MIN_STATUS + 2;
+    private static final String URI_UNKNOWN = "UNKNOWN";
+
+    private static final Function<String, PathTimers> NEW_PATH_TIMERS = new Function<>() {
+        @Override
+        public PathTimers apply(String path) {
+            return new PathTimers();
+        }
+    };
+
+    private final MeterProvider<Timer> requestsTimer;
+    private final int maxPaths;
+    private volatile Paths paths;
+
+    HttpServerRequestTimers(MeterRegistry registry, String name, MeterProvider<Timer> requestsTimer, int maxPaths) {
+        this.requestsTimer = requestsTimer;
+        this.maxPaths = maxPaths;
+        this.paths = new Paths(false);
+        registry.config().onMeterRemoved(new Consumer<Meter>() {
+            @Override
+            public void accept(Meter meter) {
+                if (meter.getId().getName().equals(name)) {
+                    clear();
+                }
+            }
+        });
+    }
+
+    /**
+     * @param method the request method
+     * @param path the normalized path
+     * @param initialPath the initial path before request pattern matching took place
+     * @param status the status code of the response, or {@link #RESET} if the request was reset
+     * @param suppress4xxErrors whether the path of a 4xx response that was not matched to a template is suppressed
+     * @return the timer, or {@code null} if the timer is not cached
+     */
+    Timer get(HttpMethod method, String path, String initialPath, int status, boolean suppress4xxErrors) {
+        int methodIndex = methodIndex(method);
+        int statusIndex = statusIndex(status);
+        if (methodIndex < 0 || statusIndex < 0) {
+            return null;
+        }
+        Paths paths = this.paths;
+        if (paths.suppress4xxErrors != suppress4xxErrors) {
+            // the configuration was changed in dev mode
+            paths = new Paths(suppress4xxErrors);
+            this.paths = paths;
+        }
+        ConcurrentMap<String, PathTimers> map;
+        String key;
+        if (HttpCommonTags.isTemplatedPath(path, initialPath)) {
+            map = paths.templated;
+            key = path;
+        } else {
+            map = paths.other;
+            key = untemplatedUri(path, status, suppress4xxErrors);
+        }
+        PathTimers pathTimers = map.get(key);
+        if (pathTimers == null) {
+            if (paths.templated.size() + paths.other.size() >= maxPaths) {
+                return null;
+            }
+            pathTimers = map.computeIfAbsent(key, NEW_PATH_TIMERS);
+        }
+        AtomicReferenceArray<Timer> timers = pathTimers.methods.get(methodIndex);
+        if (timers == null) {
+            timers = new AtomicReferenceArray<>(STATUS_SLOTS);
+            if (!pathTimers.methods.compareAndSet(methodIndex, null, timers)) {
+                timers = pathTimers.methods.get(methodIndex);
+            }
+        }
+        Timer timer = timers.get(statusIndex);
+        if (timer == null) {
+            // Resolving the same timer concurrently is harmless, the registry returns the same instance
+            timer = requestsTimer.withTags(tags(method, path, initialPath, status, suppress4xxErrors));
+            timers.set(statusIndex, timer);
+        }
+        return timer;
+    }
+
+    void clear() {
+        paths = new Paths(paths.suppress4xxErrors);
+    }
+
+    static Tags tags(HttpMethod method, String path, String initialPath, int status, boolean suppress4xxErrors) {
+        if (status == RESET) {
+            return Tags.of(
+                    VertxMetricsTags.method(method),
+                    HttpCommonTags.uri(path, initialPath, 0, false),
+                    Outcome.CLIENT_ERROR.asTag(),
+                    HttpCommonTags.STATUS_RESET);
+        }
+        return Tags.of(
+                VertxMetricsTags.method(method),
+                HttpCommonTags.uri(path, initialPath, status, suppress4xxErrors),
+                HttpCommonTags.outcome(status),
+                HttpCommonTags.status(status));
+    }
+
+    /**
+     * The paths that were not matched to a template are keyed by the value of their uri tag. For example, all unmatched
+     * paths of 404 responses share the {@code NOT_FOUND} entry and do not take the place of the paths that are not cached
+     * yet.
+     *
+     * @see HttpCommonTags#uri(String, String, int, boolean)
+     */
+    private static String untemplatedUri(String path, int status, boolean suppress4xxErrors) {
+        if (path == null) {
+            return URI_UNKNOWN;
+        }
+        if (status < 300 || path.isEmpty() || "/".equals(path)) {
+            // RESET is tagged with the path
+            return path;
+        }
+        if (status < 400) {
+            return HttpCommonTags.URI_REDIRECTION.getValue();
+        }
+        if (status == 404) {
+            return HttpCommonTags.URI_NOT_FOUND.getValue();
+        }
+        return suppress4xxErrors ? URI_UNKNOWN : path;
+    }
+
+    private static int methodIndex(HttpMethod method) {
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i] == method) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int statusIndex(int status) {
+        if (status == RESET) {
+            return 0;
+        }
+        if (status < MIN_STATUS || status > MAX_STATUS) {
+            return -1;
+        }
+        return status - MIN_STATUS + 1;
+    }
+
+    private static final class Paths {
+
+        private final boolean suppress4xxErrors;
+        // the uri tag of a path that was matched to a template may differ for 3xx and 4xx responses
+        private final ConcurrentMap<String, PathTimers> templated;
+        private final ConcurrentMap<String, PathTimers> other;
+
+        Paths(boolean suppress4xxErrors) {
+            this.suppress4xxErrors = suppress4xxErrors;
+            this.templated = new ConcurrentHashMap<>();
+            this.other = new ConcurrentHashMap<>();
+        }
+    }
+
+    private static final class PathTimers {
+
+        private final AtomicReferenceArray<AtomicReferenceArray<Timer>> methods;
+
+        PathTimers() {
+            this.methods = new AtomicReferenceArray<>(METHODS.length);
+        }
+    }
+}
@@ -14,7 +14,6 @@
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.binder.http.Outcome;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.micrometer.runtime.HttpServerMetricsTagsContributor;
@@ -50,6 +49,8 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final LongAdder activeRequests;
 
     final MeterProvider<Timer> requestsTimer;
+    // null if tags contributors are registered as the tags may then differ for every request
+    final HttpServerRequestTimers cachedRequestsTimers;
     final MeterProvider<LongTaskTimer> websocketConnectionTimer;
     final MeterProvider<Counter> pushCounter;
 
@@ -76,6 +77,10 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
         requestsTimer = Timer.builder(config.getHttpServerRequestsName())
                 .description("HTTP server request processing time")
                 .withRegistry(registry);
+        cachedRequestsTimers = httpServerMetricsTagsContributors.isEmpty()
+                ? new HttpServerRequestTimers(registry, config.getHttpServerRequestsName(), requestsTimer,
+                        config.getServerMaxUriTags())
+                : null;
 
         websocketConnectionTimer = LongTaskTimer.builder(config.getHttpServerWebSocketConnectionsName())
                 .description("Server web socket connection time")
@@ -206,23 +211,30 @@ public void requestReset(HttpRequestMetric requestMetric) {
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-
-            Tags originalTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.request().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), 0, false),
-                    Outcome.CLIENT_ERROR.asTag(),
-                    HttpCommonTags.STATUS_RESET);
-            Tags effectiveTags = effectiveTags(requestMetric, Optional.empty(), originalTags);
-
+            Timer timer = requestsTimer(requestMetric, Optional.empty(), requestMetric.request().method(), path,
+                    HttpServerRequestTimers.RESET, false);
             io.vertx.core.Context ctx = requestMetric.request() != null ? requestMetric.request().context() : null;
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(effectiveTags),
+                    timer,
                     ctx);
         }
         requestMetric.requestEnded();
     }
 
+    private Timer requestsTimer(HttpRequestMetric requestMetric, Optional<HttpResponse> httpResponse, HttpMethod method,
+            String path, int status, boolean suppress4xxErrors) {
+        if (cachedRequestsTimers != null) {
+            Timer timer = cachedRequestsTimers.get(method, path, requestMetric.getInitialPath(), status, suppress4xxErrors);
+            if (timer != null) {
+                return timer;
+            }
+        }
+        Tags originalTags = HttpServerRequestTimers.tags(method, path, requestMetric.getInitialPath(), status,
+                suppress4xxErrors);
+        return requestsTimer.withTags(effectiveTags(requestMetric, httpResponse, originalTags));
+    }
+
     private Tags effectiveTags(HttpRequestMetric requestMetric, Optional<HttpResponse> httpResponse, Tags originalTags) {
         if (!httpServerMetricsTagsContributors.isEmpty()) {
             HttpServerMetricsTagsContributor.Context context = new DefaultContext(
@@ -257,17 +269,12 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
                 config.getServerIgnorePatterns());
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
-            Tags originalTags = Tags.of(
-                    VertxMetricsTags.method(requestMetric.httpRequest().method()),
-                    HttpCommonTags.uri(path, requestMetric.getInitialPath(), response.statusCode(),
-                            config.isServerSuppress4xxErrors()),
-                    VertxMetricsTags.outcome(response),
-                    HttpCommonTags.status(response.statusCode()));
-            Tags effectiveTags = effectiveTags(requestMetric, Optional.of(response), originalTags);
+            Timer timer = requestsTimer(requestMetric, Optional.of(response), requestMetric.httpRequest().method(), path,
+                    response.statusCode(), config.isServerSuppress4xxErrors());
             io.vertx.core.Context ctx = requestMetric.request() != null ? requestMetric.request().context() : null;
             openTelemetryContextUnwrapper.executeInContext(
                     sample::stop,
-                    requestsTimer.withTags(effectiveTags),
+                    timer,
                     ctx);
         }
         requestMetric.requestEnded();
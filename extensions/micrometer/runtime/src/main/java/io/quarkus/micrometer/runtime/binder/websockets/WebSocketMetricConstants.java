@@ -63,6 +63,21 @@ private WebSocketMetricConstants() {
      */
     public static final String CLIENT_BYTES = "quarkus.websockets.client.bytes";
 
+    /**
+     * Time to write a broadcast message to all the connections of a server endpoint.
+     */
+    public static final String SERVER_BROADCAST = "quarkus.websockets.server.broadcast";
+
+    /**
+     * Number of bytes of the outbound messages queued for slow clients of a server endpoint.
+     */
+    public static final String SERVER_OUTBOUND_QUEUED_BYTES = "quarkus.websockets.server.outbound.queued.bytes";
+
+    /**
+     * Number of outbound messages dropped because the outbound queue of a slow client of a server endpoint overflowed.
+     */
+    public static final String SERVER_OUTBOUND_DROPPED = "quarkus.websockets.server.outbound.dropped";
+
     /**
      * {@link Direction} tag key.
      */
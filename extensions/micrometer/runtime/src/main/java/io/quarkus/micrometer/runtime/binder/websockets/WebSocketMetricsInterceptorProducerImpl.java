@@ -4,11 +4,18 @@
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.INBOUND;
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.OUTBOUND;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import jakarta.enterprise.context.Dependent;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.websockets.next.runtime.spi.telemetry.WebSocketMetricsInterceptorProducer;
 
 @Dependent
@@ -47,8 +54,17 @@ public WebSocketMetricsInterceptor createServerMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.SERVER_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening server connection failed.")
                 .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Timer> broadcastTimer = Timer
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST)
+                .description("Time to write a broadcast message to all the connections of a server endpoint.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> droppedCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_OUTBOUND_DROPPED)
+                .description("Number of outbound messages dropped because the outbound queue of a slow client overflowed.")
+                .withRegistry(meterRegistry);
+        final QueuedBytesGauges queuedBytesGauges = new QueuedBytesGauges(meterRegistry);
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, serverErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, broadcastTimer, droppedCounter, queuedBytesGauges);
     }
 
     @Override
@@ -77,8 +93,9 @@ public WebSocketMetricsInterceptor createClientMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.CLIENT_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening client connection failed.")
                 .withRegistry(meterRegistry);
+        // client connections do not broadcast and do not queue outbound messages
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, clientErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, null, null, null);
     }
 
     private static final class WebSocketMetricsInterceptorImpl implements WebSocketMetricsInterceptor {
@@ -89,17 +106,24 @@ private static final class WebSocketMetricsInterceptorImpl implements WebSocketM
         private final Meter.MeterProvider<Counter> errorsCounter;
         private final Meter.MeterProvider<Counter> connectionOpenCounter;
         private final Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter;
+        private final Meter.MeterProvider<Timer> broadcastTimer;
+        private final Meter.MeterProvider<Counter> droppedCounter;
+        private final QueuedBytesGauges queuedBytesGauges;
 
         private WebSocketMetricsInterceptorImpl(Meter.MeterProvider<Counter> messagesCounter,
                 Meter.MeterProvider<Counter> bytesCounter, Meter.MeterProvider<Counter> closedConnectionCounter,
                 Meter.MeterProvider<Counter> errorsCounter, Meter.MeterProvider<Counter> connectionOpenCounter,
-                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter) {
+                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter, Meter.MeterProvider<Timer> broadcastTimer,
+                Meter.MeterProvider<Counter> droppedCounter, QueuedBytesGauges queuedBytesGauges) {
             this.messagesCounter = messagesCounter;
             this.bytesCounter = bytesCounter;
             this.closedConnectionCounter = closedConnectionCounter;
             this.errorsCounter = errorsCounter;
             this.connectionOpenCounter = connectionOpenCounter;
             this.connectionOnOpenErrorsCounter = connectionOnOpenErrorsCounter;
+            this.broadcastTimer = broadcastTimer;
+            this.droppedCounter = droppedCounter;
+            this.queuedBytesGauges = queuedBytesGauges;
         }
 
         @Override
@@ -113,6 +137,30 @@ public void onMessageSent(byte[] data, String route) {
             bytesCounter.withTags(URI_TAG_KEY, route, DIRECTION_TAG_KEY, OUTBOUND.toString()).increment(data.length);
         }
 
+        @Override
+        public void onBroadcast(byte[] data, int connections, long durationNanos, String route) {
+            messagesCounter.withTags(URI_TAG_KEY, route, DIRECTION_TAG_KEY, OUTBOUND.toString()).increment(connections);
+            bytesCounter.withTags(URI_TAG_KEY, route, DIRECTION_TAG_KEY, OUTBOUND.toString())
+                    .increment((double) data.length * connections);
+            if (broadcastTimer != null) {
+                broadcastTimer.withTag(URI_TAG_KEY, route).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onQueuedBytesChanged(long bytesDelta, String route) {
+            if (queuedBytesGauges != null) {
+                queuedBytesGauges.get(route).addAndGet(bytesDelta);
+            }
+        }
+
+        @Override
+        public void onMessagesDropped(int count, String route) {
+            if (droppedCounter != null) {
+                droppedCounter.withTag(URI_TAG_KEY, route).increment(count);
+            }
+        }
+
         @Override
         public void onMessageReceived(byte[] data, String route) {
             messagesCounter.withTags(URI_TAG_KEY, route, DIRECTION_TAG_KEY, INBOUND.toString()).increment();
@@ -134,4 +182,26 @@ public void onConnectionClosed(String route) {
             closedConnectionCounter.withTag(URI_TAG_KEY, route).increment();
         }
     }
+
+    /**
+     * The gauges of the queued outbound bytes, one per route.
+     */
+    private static final class QueuedBytesGauges {
+
+        private final MeterRegistry meterRegistry;
+        private final ConcurrentMap<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+        private QueuedBytesGauges(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        AtomicLong get(String route) {
+            AtomicLong gauge = gauges.get(route);
+            if (gauge == null) {
+                gauge = gauges.computeIfAbsent(route, r -> meterRegistry.gauge(
+                        WebSocketMetricConstants.SERVER_OUTBOUND_QUEUED_BYTES, Tags.of(URI_TAG_KEY, r), new AtomicLong()));
+            }
+            return gauge;
+        }
+    }
 }
@@ -173,6 +173,8 @@ interface BinderConfig {
 
         RedisConfigGroup redis();
 
+        SchedulerConfigGroup scheduler();
+
         StorkConfigGroup stork();
 
         GrpcServerConfigGroup grpcServer();
@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -44,4 +45,21 @@ public interface PrometheusConfigGroup extends MicrometerConfig.CapabilityEnable
      */
     @WithDefault("true")
     boolean defaultRegistry();
+
+    /**
+     * If set to {@code true}, the exposition is written to the response of the prometheus metrics endpoint in chunks
+     * while it is rendered, instead of being rendered into a single {@code String} first.
+     * <p>
+     * Streaming reduces the memory allocated by a scrape of a registry with many time series.
+     */
+    @WithDefault("false")
+    boolean streamScrape();
+
+    /**
+     * The time the rendered exposition is reused by subsequent scrapes of the prometheus metrics endpoint.
+     * <p>
+     * This is useful when several Prometheus servers scrape the same application. If not set, the exposition is rendered
+     * for every scrape.
+     */
+    Optional<Duration> scrapeCacheTtl();
 }
@@ -0,0 +1,19 @@
+package io.quarkus.micrometer.runtime.config;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+@ConfigGroup
+public interface SchedulerConfigGroup extends MicrometerConfig.CapabilityEnabled {
+    /**
+     * Scheduled job metrics support.
+     * <p>
+     * Support for scheduled job metrics will be enabled if Micrometer support is enabled,
+     * a Quarkus scheduler extension is on the classpath, {@code quarkus.scheduler.metrics.enabled} is true
+     * and either this value is true, or this value is unset and
+     * {@code quarkus.micrometer.binder-enabled-default} is true.
+     */
+    @Override
+    Optional<Boolean> enabled();
+}
@@ -4,6 +4,8 @@
 
 import java.util.function.Consumer;
 
+import io.quarkus.micrometer.runtime.config.MicrometerConfig;
+import io.quarkus.micrometer.runtime.config.PrometheusConfigGroup;
 import io.quarkus.micrometer.runtime.export.handlers.PrometheusHandler;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
@@ -18,15 +20,19 @@ public class PrometheusRecorder {
     PrometheusHandler handler;
 
     private final VertxHttpBuildTimeConfig vertxHttpBuildTimeConfig;
+    private final MicrometerConfig micrometerConfig;
 
-    public PrometheusRecorder(VertxHttpBuildTimeConfig vertxHttpBuildTimeConfig) {
+    public PrometheusRecorder(VertxHttpBuildTimeConfig vertxHttpBuildTimeConfig, MicrometerConfig micrometerConfig) {
         this.vertxHttpBuildTimeConfig = vertxHttpBuildTimeConfig;
+        this.micrometerConfig = micrometerConfig;
     }
 
     public Handler<RoutingContext> getHandler() {
         if (handler == null) {
+            PrometheusConfigGroup prometheusConfig = micrometerConfig.export().prometheus();
             handler = new PrometheusHandler(vertxHttpBuildTimeConfig.enableCompression(),
-                    vertxHttpBuildTimeConfig.compressMediaTypes());
+                    vertxHttpBuildTimeConfig.compressMediaTypes(), prometheusConfig.streamScrape(),
+                    prometheusConfig.scrapeCacheTtl());
         }
 
         return handler;
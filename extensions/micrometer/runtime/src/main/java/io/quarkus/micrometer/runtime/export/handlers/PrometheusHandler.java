@@ -1,9 +1,14 @@
 package io.quarkus.micrometer.runtime.export.handlers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.enterprise.inject.Default;
 import jakarta.enterprise.inject.Instance;
@@ -26,16 +31,27 @@ public class PrometheusHandler implements Handler<RoutingContext> {
     public static final String CONTENT_TYPE_OPENMETRICS_100 = "application/openmetrics-text; version=1.0.0; charset=utf-8";
 
     private static final Logger log = Logger.getLogger(PrometheusHandler.class);
+    private static final int CHUNK_SIZE = 32 * 1024;
+
     private final boolean enableCompression;
     private final Set<String> compressMediaTypes;
+    private final boolean streamScrape;
+    private final long scrapeCacheTtlNanos;
+
+    // the rendered exposition of each content type, only used if the cache is enabled
+    private volatile CachedScrape cached004;
+    private volatile CachedScrape cachedOpenMetrics;
 
     private PrometheusMeterRegistry registry;
 
     private boolean setup = false;
 
-    public PrometheusHandler(boolean enableCompression, Optional<List<String>> compressMediaTypes) {
+    public PrometheusHandler(boolean enableCompression, Optional<List<String>> compressMediaTypes, boolean streamScrape,
+            Optional<Duration> scrapeCacheTtl) {
         this.enableCompression = enableCompression;
         this.compressMediaTypes = determineCompressMediaTypes(compressMediaTypes);
+        this.streamScrape = streamScrape;
+        this.scrapeCacheTtlNanos = scrapeCacheTtl.map(Duration::toNanos).orElse(0L);
     }
 
     private Set<String> determineCompressMediaTypes(Optional<List<String>> maybeCompressMediaTypes) {
@@ -95,8 +111,143 @@ private String chooseContentType(String acceptHeader) {
     }
 
     private void doHandle(HttpServerResponse response, String acceptHeader) {
-        response.putHeader("Content-Type", acceptHeader)
-                .end(Buffer.buffer(registry.scrape(acceptHeader)));
+        if (scrapeCacheTtlNanos > 0) {
+            response.putHeader("Content-Type", acceptHeader)
+                    .end(cachedScrape(acceptHeader));
+        } else if (streamScrape) {
+            streamScrape(response, acceptHeader);
+        } else {
+            response.putHeader("Content-Type", acceptHeader)
+                    .end(Buffer.buffer(registry.scrape(acceptHeader)));
+        }
+    }
+
+    private Buffer cachedScrape(String contentType) {
+        boolean openMetrics = CONTENT_TYPE_OPENMETRICS_100.equals(contentType);
+        CachedScrape cached = openMetrics ? cachedOpenMetrics : cached004;
+        long now = System.nanoTime();
+        if (cached != null && now - cached.renderedAt < scrapeCacheTtlNanos) {
+            return cached.exposition;
+        }
+        synchronized (this) {
+            // Scrapers that arrive while the exposition is rendered reuse it
+            cached = openMetrics ? cachedOpenMetrics : cached004;
+            now = System.nanoTime();
+            if (cached != null && now - cached.renderedAt < scrapeCacheTtlNanos) {
+                return cached.exposition;
+            }
+            // Render directly into the buffer instead of rendering a String first
+            Buffer exposition = Buffer.buffer(cached != null ? cached.exposition.length() : CHUNK_SIZE);
+            try {
+                registry.scrape(new OutputStream() {
+                    @Override
+                    public void write(int b) {
+                        exposition.appendByte((byte) b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) {
+                        exposition.appendBytes(b, off, len);
+                    }
+                }, contentType);
+            } catch (IOException e) {
+                // Not thrown when writing to a buffer
+                throw new IllegalStateException(e);
+            }
+            cached = new CachedScrape(exposition, now);
+            if (openMetrics) {
+                cachedOpenMetrics = cached;
+            } else {
+                cached004 = cached;
+            }
+            return exposition;
+        }
+    }
+
+    private void streamScrape(HttpServerResponse response, String contentType) {
+        response.putHeader("Content-Type", contentType)
+                .setChunked(true);
+        ChunkedOutputStream out = new ChunkedOutputStream(response);
+        try {
+            registry.scrape(out, contentType);
+            out.close();
+        } catch (IOException e) {
+            log.debugf(e, "Unable to stream the Prometheus exposition");
+            if (!response.closed()) {
+                response.reset();
+            }
+        }
+    }
+
+    private record CachedScrape(Buffer exposition, long renderedAt) {
+    }
+
+    /**
+     * Writes the exposition to the response in chunks. The handler runs on a worker thread and waits for the response to
+     * be drained if the write queue is full, so that at most a few chunks of the exposition are held in memory.
+     */
+    private static final class ChunkedOutputStream extends OutputStream {
+
+        private final HttpServerResponse response;
+        private Buffer chunk;
+
+        ChunkedOutputStream(HttpServerResponse response) {
+            this.response = response;
+            this.chunk = Buffer.buffer(CHUNK_SIZE);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            chunk.appendByte((byte) b);
+            if (chunk.length() >= CHUNK_SIZE) {
+                writeChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            chunk.appendBytes(b, off, len);
+            if (chunk.length() >= CHUNK_SIZE) {
+                writeChunk();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (response.closed()) {
+                throw new IOException("Connection closed");
+            }
+            response.end(chunk);
+        }
+
+        private void writeChunk() throws IOException {
+            if (response.closed()) {
+                throw new IOException("Connection closed");
+            }
+            // The response takes ownership of the written buffer
+            response.write(chunk);
+            chunk = Buffer.buffer(CHUNK_SIZE);
+            if (response.writeQueueFull()) {
+                CountDownLatch drained = new CountDownLatch(1);
+                response.drainHandler(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        drained.countDown();
+                    }
+                });
+                try {
+                    // Check the state periodically, the connection may be closed while waiting
+                    while (response.writeQueueFull() && !response.closed()) {
+                        if (drained.await(1, TimeUnit.SECONDS)) {
+                            break;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        }
     }
 
     private void setup() {
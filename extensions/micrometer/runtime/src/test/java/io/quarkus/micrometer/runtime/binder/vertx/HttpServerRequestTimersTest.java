@@ -0,0 +1,99 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+
+public class HttpServerRequestTimersTest {
+
+    SimpleMeterRegistry registry;
+    HttpServerRequestTimers timers;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        timers = new HttpServerRequestTimers(registry, "http.server.requests",
+                Timer.builder("http.server.requests").withRegistry(registry), 2);
+    }
+
+    @Test
+    public void testTimerIsCached() {
+        Timer timer = timers.get(HttpMethod.GET, "/item/{id}", "/item/1", 200, false);
+        Assertions.assertSame(timer, timers.get(HttpMethod.GET, "/item/{id}", "/item/2", 200, false));
+        Assertions.assertEquals("/item/{id}", timer.getId().getTag("uri"));
+        Assertions.assertEquals("GET", timer.getId().getTag("method"));
+        Assertions.assertEquals("SUCCESS", timer.getId().getTag("outcome"));
+        Assertions.assertEquals("200", timer.getId().getTag("status"));
+
+        Timer post = timers.get(HttpMethod.POST, "/item/{id}", "/item/1", 201, false);
+        Assertions.assertNotSame(timer, post);
+        Assertions.assertEquals("201", post.getId().getTag("status"));
+    }
+
+    @Test
+    public void testUriTagOfPathWithoutTemplate() {
+        Timer templated = timers.get(HttpMethod.GET, "/item/{id}", "/item/1", 404, false);
+        Assertions.assertEquals("/item/{id}", templated.getId().getTag("uri"));
+        Timer notFound = timers.get(HttpMethod.GET, "/other", "/other", 404, false);
+        Assertions.assertEquals("NOT_FOUND", notFound.getId().getTag("uri"));
+    }
+
+    @Test
+    public void testUnmatchedPathsShareEntry() {
+        Timer notFound = timers.get(HttpMethod.GET, "/x1", "/x1", 404, false);
+        for (int i = 2; i < 10; i++) {
+            Assertions.assertSame(notFound, timers.get(HttpMethod.GET, "/x" + i, "/x" + i, 404, false));
+        }
+        // The unmatched paths take a single entry so that other paths are still cached
+        Assertions.assertNotNull(timers.get(HttpMethod.GET, "/a", "/a", 200, false));
+        Assertions.assertNull(timers.get(HttpMethod.GET, "/b", "/b", 200, false));
+
+        timers.clear();
+        Timer redirect = timers.get(HttpMethod.GET, "/y1", "/y1", 302, false);
+        Assertions.assertEquals("REDIRECTION", redirect.getId().getTag("uri"));
+        Assertions.assertSame(redirect, timers.get(HttpMethod.GET, "/y2", "/y2", 302, false));
+        Assertions.assertNotNull(timers.get(HttpMethod.GET, "/a", "/a", 200, false));
+    }
+
+    @Test
+    public void testUnmatchedPathsOfSuppressedErrors() {
+        Timer unknown = timers.get(HttpMethod.GET, "/a", "/a", 401, true);
+        Assertions.assertEquals("UNKNOWN", unknown.getId().getTag("uri"));
+        Assertions.assertSame(unknown, timers.get(HttpMethod.GET, "/b", "/b", 401, true));
+        Timer legacy = timers.get(HttpMethod.GET, "/a", "/a", 401, false);
+        Assertions.assertEquals("/a", legacy.getId().getTag("uri"));
+    }
+
+    @Test
+    public void testResetRequest() {
+        Timer timer = timers.get(HttpMethod.GET, "/item/{id}", "/item/1", HttpServerRequestTimers.RESET, false);
+        Assertions.assertEquals("RESET", timer.getId().getTag("status"));
+        Assertions.assertEquals("CLIENT_ERROR", timer.getId().getTag("outcome"));
+    }
+
+    @Test
+    public void testTimersThatAreNotCached() {
+        Assertions.assertNull(timers.get(HttpMethod.TRACE, "/item/{id}", "/item/1", 200, false));
+        Assertions.assertNull(timers.get(HttpMethod.GET, "/item/{id}", "/item/1", 600, false));
+
+        Assertions.assertNotNull(timers.get(HttpMethod.GET, "/a", "/a", 200, false));
+        Assertions.assertNotNull(timers.get(HttpMethod.GET, "/b", "/b", 200, false));
+        // The maximum number of paths is reached
+        Assertions.assertNull(timers.get(HttpMethod.GET, "/c", "/c", 200, false));
+        Assertions.assertNotNull(timers.get(HttpMethod.GET, "/a", "/a", 500, false));
+    }
+
+    @Test
+    public void testCacheIsClearedWhenTimerIsRemoved() {
+        Timer timer = timers.get(HttpMethod.GET, "/a", "/a", 200, false);
+        registry.clear();
+        Timer registered = timers.get(HttpMethod.GET, "/a", "/a", 200, false);
+        Assertions.assertNotSame(timer, registered);
+        Assertions.assertSame(registered, registry.get("http.server.requests").tag("uri", "/a").timer());
+    }
+
+}
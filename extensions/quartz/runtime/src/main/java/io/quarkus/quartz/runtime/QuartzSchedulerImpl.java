@@ -166,10 +166,9 @@ public QuartzSchedulerImpl(SchedulerContext context, QuartzSupport quartzSupport
                                     .collect(Collectors.joining(", ")));
         }
 
-        JobInstrumenter instrumenter = null;
-        if (schedulerConfig.tracingEnabled() && jobInstrumenter.isResolvable()) {
-            instrumenter = jobInstrumenter.get();
-        }
+        JobInstrumenter instrumenter = initInstrumenter(schedulerConfig.tracingEnabled(), schedulerConfig.metricsEnabled());
+        // @Scheduled methods are timed by the metrics extension
+        JobInstrumenter scheduledMethodInstrumenter = initInstrumenter(schedulerConfig.tracingEnabled(), false);
 
         if (!schedulerRuntimeConfig.enabled()) {
             LOGGER.info("Quartz scheduler is disabled by config property and will not be started");
@@ -226,9 +225,10 @@ public org.quartz.Trigger apply(TriggerKey triggerKey) {
                                 invoker,
                                 events,
                                 scheduled.concurrentExecution(),
-                                initSkipPredicate(scheduled.skipExecutionIf()), instrumenter, vertx,
+                                initSkipPredicate(scheduled.skipExecutionIf()), scheduledMethodInstrumenter, vertx,
                                 invoker.isBlocking() && runtimeConfig.runBlockingScheduledMethodOnQuartzThread(),
-                                SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                                SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                                schedulerConfig.virtualThreadsMaxConcurrentExecutions(identity));
 
                         String descriptionValue = SchedulerUtils.lookUpPropertyValue(scheduled.description());
                         String description = descriptionValue.isEmpty() ? null : descriptionValue;
@@ -1025,13 +1025,11 @@ public boolean isBlocking() {
             return null;
         }
 
-        JobInstrumenter instrumenter = null;
-        if (schedulerConfig.tracingEnabled() && jobInstrumenter.isResolvable()) {
-            instrumenter = jobInstrumenter.get();
-        }
+        JobInstrumenter instrumenter = initInstrumenter(schedulerConfig.tracingEnabled(), schedulerConfig.metricsEnabled());
         invoker = initInvoker(invoker, events, scheduled.concurrentExecution(), skipPredicate, instrumenter,
                 vertx, task != null && runtimeConfig.runBlockingScheduledMethodOnQuartzThread(),
-                SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                schedulerConfig.virtualThreadsMaxConcurrentExecutions(scheduled.identity()));
         QuartzTrigger quartzTrigger = new QuartzTrigger(trigger.getKey(),
                 new Function<>() {
                     @Override
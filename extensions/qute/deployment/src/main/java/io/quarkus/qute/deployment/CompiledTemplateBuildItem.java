@@ -0,0 +1,21 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import io.quarkus.qute.CompiledTemplate;
+
+/**
+ * Represents a generated {@link CompiledTemplate}.
+ */
+public final class CompiledTemplateBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public CompiledTemplateBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -0,0 +1,847 @@
+package io.quarkus.qute.deployment;
+
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.classDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.fieldDescOf;
+import static org.jboss.jandex.gizmo2.Jandex2Gizmo.methodDescOf;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.gizmo2.ClassOutput;
+import io.quarkus.gizmo2.Const;
+import io.quarkus.gizmo2.Expr;
+import io.quarkus.gizmo2.Gizmo;
+import io.quarkus.gizmo2.LocalVar;
+import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.creator.BlockCreator;
+import io.quarkus.gizmo2.creator.ClassCreator;
+import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.qute.Booleans;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.CompiledTemplate.RenderContext;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.IfSectionHelper;
+import io.quarkus.qute.LoopSectionHelper;
+import io.quarkus.qute.Parameter;
+import io.quarkus.qute.SectionBlock;
+import io.quarkus.qute.SectionHelperFactory;
+import io.quarkus.qute.SectionNode;
+import io.quarkus.qute.SetSectionHelper;
+import io.quarkus.qute.TemplateNode;
+import io.quarkus.qute.deployment.QuteProcessor.JavaMemberLookupConfig;
+import io.quarkus.qute.deployment.QuteProcessor.MatchResult;
+import io.quarkus.qute.deployment.TemplatesAnalysisBuildItem.TemplateAnalysis;
+import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.runtime.util.HashUtil;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Generates a {@link CompiledTemplate} for a type-safe template.
+ * <p>
+ * The static text, the expressions that consist of properties of a template parameter or a local variable, such as
+ * {@code item.name}, and the {@code #for}, {@code #if} and {@code #let} sections that contain such nodes only are
+ * rendered directly. All other nodes are rendered by the interpreter.
+ */
+final class CompiledTemplateGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledTemplateGenerator.class);
+
+    static final String SUFFIX = "_CompiledTemplate";
+
+    private static final MethodDesc GET_DATA = MethodDesc.of(RenderContext.class, "getData", Object.class, String.class);
+    private static final MethodDesc APPEND_TEXT = MethodDesc.of(RenderContext.class, "appendText", void.class, int.class);
+    private static final MethodDesc APPEND_VALUE = MethodDesc.of(RenderContext.class, "appendValue", void.class, int.class,
+            Object.class);
+    private static final MethodDesc RENDER_NODE = MethodDesc.of(RenderContext.class, "renderNode", void.class, int.class);
+    private static final MethodDesc RENDER_SECTION = MethodDesc.of(RenderContext.class, "renderSection", void.class,
+            int.class, String[].class, Object[].class);
+    private static final MethodDesc EVALUATE = MethodDesc.of(RenderContext.class, "evaluate", Object.class, int.class,
+            String.class, int.class, Object.class);
+    private static final MethodDesc PUSH_LOCAL = MethodDesc.of(RenderContext.class, "pushLocal", void.class, String.class,
+            Object.class);
+    private static final MethodDesc POP_LOCAL = MethodDesc.of(RenderContext.class, "popLocal", void.class);
+    private static final MethodDesc IS_FALSY = MethodDesc.of(Booleans.class, "isFalsy", boolean.class, Object.class);
+    private static final MethodDesc ITERATOR = MethodDesc.of(Iterable.class, "iterator", Iterator.class);
+    private static final MethodDesc HAS_NEXT = MethodDesc.of(Iterator.class, "hasNext", boolean.class);
+    private static final MethodDesc NEXT = MethodDesc.of(Iterator.class, "next", Object.class);
+
+    private static final String ELSE = "else";
+    private static final String IF = "if";
+
+    private final Gizmo gizmo;
+    private final IndexView index;
+    private final JavaMemberLookupConfig lookupConfig;
+    private final AssignabilityCheck assignabilityCheck;
+    private final List<TemplateExtensionMethodBuildItem> extensionMethods;
+
+    CompiledTemplateGenerator(ClassOutput classOutput, IndexView index, JavaMemberLookupConfig lookupConfig,
+            List<TemplateExtensionMethodBuildItem> extensionMethods) {
+        this.gizmo = Gizmo.create(classOutput);
+        this.index = index;
+        this.lookupConfig = lookupConfig;
+        this.assignabilityCheck = new AssignabilityCheck(index);
+        this.extensionMethods = extensionMethods;
+    }
+
+    /**
+     *
+     * @param analysis
+     * @param checkedTemplate
+     * @param matches the results of the validation of the expressions, may be {@code null}
+     * @return the name of the generated class or {@code null} if no node can be compiled
+     */
+    String generate(TemplateAnalysis analysis, CheckedTemplateBuildItem checkedTemplate,
+            TemplateExpressionMatchesBuildItem matches) {
+        List<TemplateNode> nodes = CompiledTemplate.nodes(analysis.getNodes());
+        Map<TemplateNode, Integer> nodeIds = new IdentityHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeIds.put(nodes.get(i), i);
+        }
+        Compiler compiler = new Compiler(checkedTemplate, matches, nodeIds);
+        List<Step> steps = new ArrayList<>();
+        int compiledNodes = 0;
+        for (TemplateNode node : analysis.getNodes()) {
+            Step step = compiler.compile(node, Map.of());
+            if (step == null) {
+                step = new Interpreted(nodeIds.get(node));
+            } else if (!(step instanceof Text) && !(step instanceof Skip)) {
+                compiledNodes++;
+            }
+            steps.add(step);
+        }
+        if (compiledNodes == 0) {
+            return null;
+        }
+
+        String baseName = checkedTemplate.isRecord() ? checkedTemplate.recordClass.name().toString()
+                : checkedTemplate.method.declaringClass().name().toString();
+        String generatedClassName = baseName + SUFFIX + "_" + HashUtil.sha1(analysis.path);
+        String signature = CompiledTemplate.signature(analysis.getNodes());
+
+        gizmo.class_(generatedClassName, cc -> {
+            cc.implements_(CompiledTemplate.class);
+            cc.defaultConstructor();
+
+            cc.method("getTemplateId", mc -> {
+                mc.returning(String.class);
+                mc.body(bc -> bc.return_(Const.of(analysis.path)));
+            });
+
+            cc.method("getSignature", mc -> {
+                mc.returning(String.class);
+                mc.body(bc -> bc.return_(Const.of(signature)));
+            });
+
+            Generator generator = new Generator(cc, steps);
+            List<MethodDesc> sectionMethods = new ArrayList<>();
+            for (Step step : steps) {
+                // Each top-level section is rendered by a separate method in order to keep the methods small
+                sectionMethods.add(step instanceof Loop || step instanceof If || step instanceof Let
+                        ? generator.sectionMethod(step)
+                        : null);
+            }
+
+            cc.method("render", mc -> {
+                ParamVar context = mc.parameter("context", RenderContext.class);
+                mc.body(bc -> {
+                    for (int i = 0; i < steps.size(); i++) {
+                        MethodDesc sectionMethod = sectionMethods.get(i);
+                        if (sectionMethod != null) {
+                            bc.invokeStatic(sectionMethod, context);
+                        } else {
+                            generator.generate(bc, context, steps.get(i), Map.of());
+                        }
+                    }
+                    bc.return_();
+                });
+            });
+        });
+        LOGGER.debugf("Compiled template generated for %s: %s top-level nodes rendered directly", analysis.path,
+                compiledNodes);
+        return generatedClassName;
+    }
+
+    /**
+     * Decides which nodes can be compiled.
+     */
+    private final class Compiler {
+
+        private final CheckedTemplateBuildItem checkedTemplate;
+        private final TemplateExpressionMatchesBuildItem matches;
+        private final Map<TemplateNode, Integer> nodeIds;
+        // The iteration metadata prefixes of the enclosing loops
+        private final List<String> metadataPrefixes = new ArrayList<>();
+
+        Compiler(CheckedTemplateBuildItem checkedTemplate, TemplateExpressionMatchesBuildItem matches,
+                Map<TemplateNode, Integer> nodeIds) {
+            this.checkedTemplate = checkedTemplate;
+            this.matches = matches;
+            this.nodeIds = nodeIds;
+        }
+
+        /**
+         *
+         * @param node
+         * @param locals the types of the local variables declared by the enclosing sections
+         * @return the step or {@code null} if the node must be interpreted
+         */
+        Step compile(TemplateNode node, Map<String, Type> locals) {
+            int nodeId = nodeIds.get(node);
+            return switch (node.kind()) {
+                case TEXT -> new Text(nodeId);
+                case PARAM_DECLARATION -> new Skip();
+                case EXPRESSION -> {
+                    Operand operand = compileOperand(node.asExpression().getExpressions().get(0), nodeId, locals);
+                    yield operand != null ? new Value(nodeId, operand) : null;
+                }
+                case SECTION -> compileSection(node.asSection(), nodeId, locals);
+            };
+        }
+
+        private List<Step> compileBlock(SectionBlock block, Map<String, Type> locals) {
+            List<Step> steps = new ArrayList<>(block.nodes.size());
+            for (TemplateNode node : block.nodes) {
+                // All nodes of a compiled section must be compiled so that the interpreter is never needed in the section
+                Step step = compile(node, locals);
+                if (step == null) {
+                    return null;
+                }
+                steps.add(step);
+            }
+            return steps;
+        }
+
+        private Step compileSection(SectionNode section, int nodeId, Map<String, Type> locals) {
+            if (section.getHelper() instanceof LoopSectionHelper loop) {
+                return compileLoop(section, loop, nodeId, locals);
+            } else if (section.getHelper() instanceof IfSectionHelper) {
+                return compileIf(section, nodeId, locals);
+            } else if (section.getHelper() instanceof SetSectionHelper) {
+                return compileLet(section, nodeId, locals);
+            }
+            return null;
+        }
+
+        private Step compileLoop(SectionNode section, LoopSectionHelper loop, int nodeId, Map<String, Type> locals) {
+            if (loop.getMetadataPrefix() == null || matches == null) {
+                // Iteration metadata without a prefix may hide any data value
+                return null;
+            }
+            SectionBlock main = section.getBlocks().get(0);
+            SectionBlock elseBlock = null;
+            for (SectionBlock block : section.getBlocks()) {
+                if (block != main) {
+                    if (!ELSE.equals(block.label) || elseBlock != null) {
+                        return null;
+                    }
+                    elseBlock = block;
+                }
+            }
+            Expression iterable = main.expressions.get("iterable");
+            if (iterable == null) {
+                return null;
+            }
+            Operand operand = compileOperand(iterable, nodeId, locals);
+            if (operand == null || operand.clazz == null || !isPlainClass(operand.clazz)
+                    || !assignabilityCheck.isAssignableFrom(Names.ITERABLE, operand.clazz.name())
+                    || assignabilityCheck.isAssignableFrom(Names.MAP, operand.clazz.name())) {
+                return null;
+            }
+            MatchResult match = matches.getMatch(iterable.getGeneratedId());
+            String alias = main.parameters.get("alias");
+            if (alias == null || alias.equals(Parameter.EMPTY)) {
+                alias = "it";
+            }
+            Map<String, Type> bodyLocals = new HashMap<>(locals);
+            // The element type is unknown if the validation of the iterable was skipped
+            bodyLocals.put(alias, match != null && !match.isEmpty() ? match.type() : null);
+            metadataPrefixes.add(loop.getMetadataPrefix());
+            List<Step> body = compileBlock(main, bodyLocals);
+            metadataPrefixes.remove(metadataPrefixes.size() - 1);
+            if (body == null) {
+                return null;
+            }
+            List<Step> elseBody = null;
+            if (elseBlock != null) {
+                elseBody = compileBlock(elseBlock, locals);
+                if (elseBody == null) {
+                    return null;
+                }
+            }
+            return new Loop(nodeId, operand, alias, body, elseBody);
+        }
+
+        private Step compileIf(SectionNode section, int nodeId, Map<String, Type> locals) {
+            List<Branch> branches = new ArrayList<>();
+            for (SectionBlock block : section.getBlocks()) {
+                List<String> params = new ArrayList<>(block.parameters.values());
+                Operand condition = null;
+                if (SectionHelperFactory.MAIN_BLOCK_NAME.equals(block.label)) {
+                    if (params.size() != 1) {
+                        return null;
+                    }
+                } else if (ELSE.equals(block.label)) {
+                    if (params.isEmpty()) {
+                        // else without operands
+                        if (!branches.isEmpty() && branches.get(branches.size() - 1).condition == null) {
+                            return null;
+                        }
+                    } else if (params.size() != 2 || !IF.equals(params.get(0))) {
+                        return null;
+                    } else {
+                        params = params.subList(1, 2);
+                    }
+                } else {
+                    return null;
+                }
+                if (!params.isEmpty()) {
+                    // A single operand without an operator, e.g. {#if item.active}
+                    Expression expression = block.expressions.get(params.get(0));
+                    if (expression == null) {
+                        return null;
+                    }
+                    condition = compileOperand(expression, nodeId, locals);
+                    if (condition == null || !isSectionOperand(condition)) {
+                        return null;
+                    }
+                }
+                List<Step> body = compileBlock(block, locals);
+                if (body == null) {
+                    return null;
+                }
+                branches.add(new Branch(condition, body));
+            }
+            return new If(nodeId, branches);
+        }
+
+        private Step compileLet(SectionNode section, int nodeId, Map<String, Type> locals) {
+            if (section.getBlocks().size() != 1) {
+                return null;
+            }
+            SectionBlock main = section.getBlocks().get(0);
+            List<Binding> bindings = new ArrayList<>();
+            Map<String, Type> bodyLocals = new HashMap<>(locals);
+            for (String key : main.parameters.keySet()) {
+                Expression expression = main.expressions.get(key);
+                if (key.endsWith("?") || expression == null) {
+                    // Default values are not supported
+                    return null;
+                }
+                Operand value;
+                if (expression.isLiteral()) {
+                    Object literal = expression.getLiteral();
+                    if (!(literal instanceof String || literal instanceof Boolean || literal instanceof Integer
+                            || literal instanceof Long || literal instanceof Double)) {
+                        return null;
+                    }
+                    value = new Operand(expression, nodeId, null, false, List.of(), literal,
+                            ClassType.create(DotName.createSimple(literal.getClass().getName())), null);
+                } else {
+                    value = compileOperand(expression, nodeId, locals);
+                    if (value == null || !isSectionOperand(value)) {
+                        return null;
+                    }
+                }
+                bindings.add(new Binding(key, value));
+                bodyLocals.put(key, value.type);
+            }
+            List<Step> body = compileBlock(main, bodyLocals);
+            if (body == null) {
+                return null;
+            }
+            return new Let(nodeId, bindings, body);
+        }
+
+        /**
+         *
+         * @param expression
+         * @param nodeId the id of the node that declares the expression
+         * @param locals
+         * @return the operand or {@code null} if the expression cannot be evaluated directly
+         */
+        private Operand compileOperand(Expression expression, int nodeId, Map<String, Type> locals) {
+            if (expression.isLiteral() || expression.hasNamespace()) {
+                return null;
+            }
+            List<Part> parts = expression.getParts();
+            Part first = parts.get(0);
+            if (first.isVirtualMethod()) {
+                return null;
+            }
+            String name = first.getName();
+            for (String prefix : metadataPrefixes) {
+                if (name.startsWith(prefix)) {
+                    // Iteration metadata, e.g. item_index
+                    return null;
+                }
+            }
+            boolean local = locals.containsKey(name);
+            Type type;
+            if (local) {
+                type = locals.get(name);
+            } else {
+                String parameterType = checkedTemplate.bindings.get(name);
+                if (parameterType == null) {
+                    return null;
+                }
+                int typeParamsStart = parameterType.indexOf('<');
+                ClassInfo parameterClass = index.getClassByName(typeParamsStart == -1 ? parameterType
+                        : parameterType.substring(0, typeParamsStart));
+                type = parameterClass != null ? ClassType.create(parameterClass.name()) : null;
+            }
+            ClassInfo clazz = classOf(type);
+
+            List<AnnotationTarget> members = new ArrayList<>();
+            for (int i = 1; i < parts.size(); i++) {
+                Part part = parts.get(i);
+                if (clazz == null || part.isVirtualMethod() || !isPlainClass(clazz)
+                        || hasExtensionMethod(part.getName(), clazz)) {
+                    // The interpreter waits for asynchronous values
+                    return null;
+                }
+                AnnotationTarget member = QuteProcessor.findProperty(part.getName(), clazz, lookupConfig);
+                if (member == null || !isAccessible(member)) {
+                    return null;
+                }
+                members.add(member);
+                type = member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().returnType()
+                        : member.asField().type();
+                clazz = classOf(type);
+            }
+            return new Operand(expression, nodeId, name, local, members, null, type, clazz);
+        }
+
+        /**
+         * The value of a section operand is used directly, therefore it must not be asynchronous.
+         */
+        private boolean isSectionOperand(Operand operand) {
+            if (operand.type == null) {
+                return false;
+            }
+            if (operand.type.kind() == Type.Kind.PRIMITIVE) {
+                return true;
+            }
+            return operand.clazz != null && !operand.clazz.name().equals(DotNames.OBJECT) && isPlainClass(operand.clazz);
+        }
+
+        private ClassInfo classOf(Type type) {
+            if (type != null && (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE)) {
+                return index.getClassByName(type.name());
+            }
+            return null;
+        }
+
+    }
+
+    /**
+     * Generates the bytecode of the compiled nodes.
+     */
+    private final class Generator {
+
+        private final ClassCreator cc;
+        private final Map<Operand, MethodDesc> valueMethods = new IdentityHashMap<>();
+        private final MethodDesc isAsync;
+
+        Generator(ClassCreator cc, List<Step> steps) {
+            this.cc = cc;
+            // The helper methods are generated first
+            List<Operand> operands = new ArrayList<>();
+            collectOperands(steps, operands);
+            for (Operand operand : operands) {
+                if (operand.literal == null && (!operand.local || !operand.members.isEmpty())) {
+                    valueMethods.put(operand, generateValueMethod(operand, valueMethods.size()));
+                }
+            }
+            this.isAsync = generateIsAsync();
+        }
+
+        private void collectOperands(List<Step> steps, List<Operand> operands) {
+            for (Step step : steps) {
+                if (step instanceof Value value) {
+                    operands.add(value.operand());
+                } else if (step instanceof Loop loop) {
+                    operands.add(loop.iterable());
+                    collectOperands(loop.body(), operands);
+                    if (loop.elseBody() != null) {
+                        collectOperands(loop.elseBody(), operands);
+                    }
+                } else if (step instanceof If ifStep) {
+                    for (Branch branch : ifStep.branches()) {
+                        if (branch.condition() != null) {
+                            operands.add(branch.condition());
+                        }
+                        collectOperands(branch.body(), operands);
+                    }
+                } else if (step instanceof Let let) {
+                    for (Binding binding : let.bindings()) {
+                        operands.add(binding.value());
+                    }
+                    collectOperands(let.body(), operands);
+                }
+            }
+        }
+
+        MethodDesc sectionMethod(Step step) {
+            // private static void node5(RenderContext context)
+            return cc.staticMethod("node" + step.nodeId(), mc -> {
+                mc.private_();
+                ParamVar context = mc.parameter("context", RenderContext.class);
+                mc.body(bc -> {
+                    generate(bc, context, step, Map.of());
+                    bc.return_();
+                });
+            });
+        }
+
+        void generate(BlockCreator bc, Expr context, Step step, Map<String, Expr> locals) {
+            if (step instanceof Text text) {
+                bc.invokeInterface(APPEND_TEXT, context, Const.of(text.nodeId()));
+            } else if (step instanceof Interpreted interpreted) {
+                bc.invokeInterface(RENDER_NODE, context, Const.of(interpreted.nodeId()));
+            } else if (step instanceof Value value) {
+                bc.invokeInterface(APPEND_VALUE, context, Const.of(value.nodeId()),
+                        operandValue(bc, context, value.operand(), locals));
+            } else if (step instanceof Loop loop) {
+                generateLoop(bc, context, loop, locals);
+            } else if (step instanceof If ifStep) {
+                generateBranches(bc, context, ifStep, 0, List.of(), locals);
+            } else if (step instanceof Let let) {
+                generateLet(bc, context, let, locals);
+            }
+        }
+
+        private void generateAll(BlockCreator bc, Expr context, List<Step> steps, Map<String, Expr> locals) {
+            for (Step step : steps) {
+                generate(bc, context, step, locals);
+            }
+        }
+
+        private void generateLoop(BlockCreator bc, Expr context, Loop loop, Map<String, Expr> locals) {
+            LocalVar iterable = bc.localVar("iterable" + loop.nodeId(), operandValue(bc, context, loop.iterable(), locals));
+            List<Evaluated> evaluated = List.of(new Evaluated(loop.iterable(), iterable));
+            // A null value is a no-op
+            ifSync(bc, context, iterable, loop.nodeId(), evaluated, sync -> sync.ifNotNull(iterable,
+                    notNull -> notNull.ifElse(notNull.instanceOf(iterable, Iterable.class),
+                            isIterable -> generateIteration(isIterable, context, loop, iterable, locals),
+                            // Not an iterable - the interpreter fails with a descriptive error
+                            notIterable -> renderSection(notIterable, context, loop.nodeId(), evaluated))));
+        }
+
+        private void generateIteration(BlockCreator bc, Expr context, Loop loop, Expr iterable, Map<String, Expr> locals) {
+            LocalVar iterator = bc.localVar("iterator" + loop.nodeId(),
+                    bc.invokeInterface(ITERATOR, bc.cast(iterable, Iterable.class)));
+            LocalVar empty = bc.localVar("empty" + loop.nodeId(), Const.of(true));
+            bc.while_(cond -> cond.yield(cond.invokeInterface(HAS_NEXT, iterator)), body -> {
+                body.set(empty, Const.of(false));
+                LocalVar element = body.localVar("element" + loop.nodeId(), body.invokeInterface(NEXT, iterator));
+                body.invokeInterface(PUSH_LOCAL, context, Const.of(loop.alias()), element);
+                Map<String, Expr> bodyLocals = new HashMap<>(locals);
+                bodyLocals.put(loop.alias(), element);
+                generateAll(body, context, loop.body(), bodyLocals);
+                body.invokeInterface(POP_LOCAL, context);
+            });
+            if (loop.elseBody() != null) {
+                bc.if_(empty, isEmpty -> generateAll(isEmpty, context, loop.elseBody(), locals));
+            }
+        }
+
+        /**
+         *
+         * @param evaluated the conditions of the previous branches
+         */
+        private void generateBranches(BlockCreator bc, Expr context, If ifStep, int idx, List<Evaluated> evaluated,
+                Map<String, Expr> locals) {
+            if (idx == ifStep.branches().size()) {
+                return;
+            }
+            Branch branch = ifStep.branches().get(idx);
+            if (branch.condition() == null) {
+                generateAll(bc, context, branch.body(), locals);
+                return;
+            }
+            LocalVar condition = bc.localVar("condition" + ifStep.nodeId() + "_" + idx,
+                    operandValue(bc, context, branch.condition(), locals));
+            List<Evaluated> conditions = new ArrayList<>(evaluated);
+            conditions.add(new Evaluated(branch.condition(), condition));
+            ifSync(bc, context, condition, ifStep.nodeId(), conditions,
+                    sync -> sync.ifElse(sync.invokeStatic(IS_FALSY, condition),
+                            falsy -> generateBranches(falsy, context, ifStep, idx + 1, conditions, locals),
+                            truthy -> generateAll(truthy, context, branch.body(), locals)));
+        }
+
+        private void generateLet(BlockCreator bc, Expr context, Let let, Map<String, Expr> locals) {
+            Map<String, Expr> bodyLocals = new HashMap<>(locals);
+            List<LocalVar> values = new ArrayList<>();
+            List<Evaluated> evaluated = new ArrayList<>();
+            LocalVar async = bc.localVar("async" + let.nodeId(), Const.of(false));
+            for (Binding binding : let.bindings()) {
+                LocalVar value = bc.localVar("let" + let.nodeId() + "_" + values.size(),
+                        operandValue(bc, context, binding.value(), locals));
+                if (binding.value().literal == null) {
+                    bc.if_(bc.invokeStatic(isAsync, value), isValueAsync -> isValueAsync.set(async, Const.of(true)));
+                    evaluated.add(new Evaluated(binding.value(), value));
+                }
+                values.add(value);
+                bodyLocals.put(binding.name(), value);
+            }
+            bc.ifElse(async, asyncBlock -> renderSection(asyncBlock, context, let.nodeId(), evaluated), sync -> {
+                for (int i = 0; i < values.size(); i++) {
+                    sync.invokeInterface(PUSH_LOCAL, context, Const.of(let.bindings().get(i).name()), values.get(i));
+                }
+                generateAll(sync, context, let.body(), bodyLocals);
+                for (int i = 0; i < values.size(); i++) {
+                    sync.invokeInterface(POP_LOCAL, context);
+                }
+            });
+        }
+
+        /**
+         * A section operand is only asynchronous if the remaining parts of the expression were evaluated by the
+         * interpreter. In this case the whole section is rendered by the interpreter.
+         *
+         * @param evaluated the operands of the section evaluated so far, including the given value
+         */
+        private void ifSync(BlockCreator bc, Expr context, Expr value, int sectionNodeId, List<Evaluated> evaluated,
+                Consumer<BlockCreator> sync) {
+            bc.ifElse(bc.invokeStatic(isAsync, value),
+                    async -> renderSection(async, context, sectionNodeId, evaluated), sync);
+        }
+
+        /**
+         * The interpreter renders the section with the values of the operands that were already evaluated, so that no
+         * operand is evaluated twice.
+         */
+        private void renderSection(BlockCreator bc, Expr context, int sectionNodeId, List<Evaluated> evaluated) {
+            bc.invokeInterface(RENDER_SECTION, context, Const.of(sectionNodeId),
+                    bc.newArray(String.class, evaluated, e -> Const.of(e.operand().expression.toOriginalString())),
+                    bc.newArray(Object.class, evaluated, Evaluated::value));
+        }
+
+        private Expr operandValue(BlockCreator bc, Expr context, Operand operand, Map<String, Expr> locals) {
+            if (operand.literal != null) {
+                if (operand.literal instanceof String str) {
+                    return Const.of(str);
+                } else if (operand.literal instanceof Boolean bool) {
+                    return bc.box(Const.of(bool));
+                } else if (operand.literal instanceof Integer integer) {
+                    return bc.box(Const.of(integer));
+                } else if (operand.literal instanceof Long longValue) {
+                    return bc.box(Const.of(longValue));
+                } else {
+                    return bc.box(Const.of((Double) operand.literal));
+                }
+            }
+            Expr base = operand.local ? locals.get(operand.root)
+                    : bc.invokeInterface(GET_DATA, context, Const.of(operand.root));
+            if (operand.local && operand.members.isEmpty()) {
+                return base;
+            }
+            return bc.invokeStatic(valueMethods.get(operand), base, context);
+        }
+
+        private MethodDesc generateValueMethod(Operand operand, int idx) {
+            // private static Object value5_1(Object base, RenderContext context)
+            return cc.staticMethod("value" + operand.nodeId + "_" + idx, mc -> {
+                mc.private_();
+                mc.returning(Object.class);
+                ParamVar base = mc.parameter("base", Object.class);
+                ParamVar context = mc.parameter("context", RenderContext.class);
+                mc.body(bc -> {
+                    if (!operand.local) {
+                        // The data value is missing - the interpreter evaluates the whole expression
+                        bc.if_(bc.isNull(base), isNull -> isNull.return_(evaluate(isNull, context, operand, 0, base)));
+                    }
+                    readMember(bc, context, base, operand, 0);
+                });
+            });
+        }
+
+        private void readMember(BlockCreator bc, Expr context, Expr current, Operand operand, int idx) {
+            if (idx == operand.members.size()) {
+                bc.return_(current);
+                return;
+            }
+            AnnotationTarget member = operand.members.get(idx);
+            ClassInfo declaringClass = member.kind() == AnnotationTarget.Kind.METHOD ? member.asMethod().declaringClass()
+                    : member.asField().declaringClass();
+            bc.ifInstanceOf(current, classDescOf(declaringClass), (matched, casted) -> {
+                Expr value;
+                Type type;
+                if (member.kind() == AnnotationTarget.Kind.METHOD) {
+                    MethodInfo method = member.asMethod();
+                    value = declaringClass.isInterface() ? matched.invokeInterface(methodDescOf(method), casted)
+                            : matched.invokeVirtual(methodDescOf(method), casted);
+                    type = method.returnType();
+                } else {
+                    FieldInfo field = member.asField();
+                    value = matched.get(casted.field(fieldDescOf(field)));
+                    type = field.type();
+                }
+                if (type.kind() == Type.Kind.PRIMITIVE) {
+                    value = matched.box(value);
+                }
+                readMember(matched, context, matched.localVar("v" + idx, value), operand, idx + 1);
+            });
+            // Usually a null value - the interpreter resolves the remaining parts, the previous parts are not evaluated again
+            bc.return_(evaluate(bc, context, operand, idx == 0 && !operand.local ? 0 : idx + 1, current));
+        }
+
+        private Expr evaluate(BlockCreator bc, Expr context, Operand operand, int partIndex, Expr base) {
+            return bc.invokeInterface(EVALUATE, context, Const.of(operand.nodeId),
+                    Const.of(operand.expression.toOriginalString()), Const.of(partIndex), base);
+        }
+
+        private MethodDesc generateIsAsync() {
+            // private static boolean isAsync(Object value)
+            return cc.staticMethod("isAsync", mc -> {
+                mc.private_();
+                mc.returning(boolean.class);
+                ParamVar value = mc.parameter("value", Object.class);
+                mc.body(bc -> {
+                    bc.if_(bc.instanceOf(value, CompletionStage.class), isStage -> isStage.return_(Const.of(true)));
+                    bc.return_(bc.instanceOf(value, Uni.class));
+                });
+            });
+        }
+
+    }
+
+    private boolean isPlainClass(ClassInfo clazz) {
+        return !assignabilityCheck.isAssignableFrom(Names.COMPLETION_STAGE, clazz.name())
+                && !assignabilityCheck.isAssignableFrom(Names.UNI, clazz.name());
+    }
+
+    private boolean hasExtensionMethod(String name, ClassInfo clazz) {
+        Type type = ClassType.create(clazz.name());
+        for (TemplateExtensionMethodBuildItem extensionMethod : extensionMethods) {
+            if (!extensionMethod.hasNamespace() && extensionMethod.matchesName(name)
+                    && assignabilityCheck.isAssignableFrom(extensionMethod.getMatchType(), type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(AnnotationTarget member) {
+        ClassInfo clazz;
+        if (member.kind() == AnnotationTarget.Kind.METHOD) {
+            MethodInfo method = member.asMethod();
+            if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.parametersCount() > 0) {
+                return false;
+            }
+            clazz = method.declaringClass();
+        } else if (member.kind() == AnnotationTarget.Kind.FIELD) {
+            FieldInfo field = member.asField();
+            if (!Modifier.isPublic(field.flags()) || Modifier.isStatic(field.flags())) {
+                return false;
+            }
+            clazz = field.declaringClass();
+        } else {
+            return false;
+        }
+        // The generated class must be able to access the declaring class
+        while (clazz != null) {
+            if (!Modifier.isPublic(clazz.flags())) {
+                return false;
+            }
+            DotName enclosing = clazz.enclosingClass();
+            clazz = enclosing != null ? index.getClassByName(enclosing) : null;
+        }
+        return true;
+    }
+
+    /**
+     * An expression evaluated directly. The root is either a template parameter or a local variable, a literal has no
+     * root.
+     */
+    static final class Operand {
+
+        final Expression expression;
+        final int nodeId;
+        final String root;
+        final boolean local;
+        final List<AnnotationTarget> members;
+        final Object literal;
+        // The static type of the value, may be null
+        final Type type;
+        final ClassInfo clazz;
+
+        Operand(Expression expression, int nodeId, String root, boolean local, List<AnnotationTarget> members,
+                Object literal, Type type, ClassInfo clazz) {
+            this.expression = expression;
+            this.nodeId = nodeId;
+            this.root = root;
+            this.local = local;
+            this.members = members;
+            this.literal = literal;
+            this.type = type;
+            this.clazz = clazz;
+        }
+
+    }
+
+    sealed interface Step {
+
+        int nodeId();
+
+    }
+
+    record Text(int nodeId) implements Step {
+    }
+
+    record Interpreted(int nodeId) implements Step {
+    }
+
+    record Skip() implements Step {
+
+        @Override
+        public int nodeId() {
+            return -1;
+        }
+
+    }
+
+    record Value(int nodeId, Operand operand) implements Step {
+    }
+
+    record Loop(int nodeId, Operand iterable, String alias, List<Step> body, List<Step> elseBody) implements Step {
+    }
+
+    record If(int nodeId, List<Branch> branches) implements Step {
+    }
+
+    record Branch(Operand condition, List<Step> body) {
+    }
+
+    record Let(int nodeId, List<Binding> bindings, List<Step> body) implements Step {
+    }
+
+    record Binding(String name, Operand value) {
+    }
+
+    /**
+     * An operand of a section and the local variable that holds its value.
+     */
+    record Evaluated(Operand operand, Expr value) {
+    }
+
+}
@@ -2777,16 +2777,70 @@ private String findDefaultVariant(QuteConfig config, List<String> variants) {
         return null;
     }
 
+    @BuildStep
+    void generateCompiledTemplates(QuteConfig config,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<GeneratedServiceProviderBuildItem> generatedServiceProviders,
+            BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<CheckedTemplateBuildItem> checkedTemplates,
+            List<TemplateExtensionMethodBuildItem> templateExtensionMethods,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            List<TemplateExpressionMatchesBuildItem> expressionMatches,
+            BuildProducer<CompiledTemplateBuildItem> compiledTemplates,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileTemplates() || !incorrectExpressions.isEmpty()) {
+            // Skip generation if a validation error occurs
+            return;
+        }
+
+        IndexView index = beanArchiveIndex.getIndex();
+        ClassOutput classOutput = new GeneratedClassGizmo2Adaptor(generatedClasses, generatedResources,
+                generatedServiceProviders, new Function<String, String>() {
+                    @Override
+                    public String apply(String name) {
+                        int idx = name.lastIndexOf(CompiledTemplateGenerator.SUFFIX);
+                        return idx != -1 ? name.substring(0, idx) : name;
+                    }
+                });
+        CompiledTemplateGenerator generator = new CompiledTemplateGenerator(classOutput, index,
+                new FixedJavaMemberLookupConfig(index, initDefaultMembersFilter(), false), templateExtensionMethods);
+
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            CheckedTemplateBuildItem checkedTemplate = findCheckedTemplate(config, analysis, checkedTemplates);
+            if (checkedTemplate == null) {
+                continue;
+            }
+            TemplateExpressionMatchesBuildItem matches = null;
+            for (TemplateExpressionMatchesBuildItem m : expressionMatches) {
+                if (m.templateGeneratedId.equals(analysis.generatedId)) {
+                    matches = m;
+                    break;
+                }
+            }
+            String className = generator.generate(analysis, checkedTemplate, matches);
+            if (className != null) {
+                compiledTemplates.produce(new CompiledTemplateBuildItem(className));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).build());
+            }
+        }
+    }
+
     @BuildStep
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledTemplateBuildItem> compiledTemplates) {
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledTemplates.stream()
+                        .map(CompiledTemplateBuildItem::getClassName).collect(Collectors.toList()));
     }
 
     @BuildStep
@@ -3269,7 +3323,7 @@ private static TemplateExtensionMethodBuildItem findTemplateExtensionMethod(Info
         return null;
     }
 
-    private static AnnotationTarget findProperty(String name, ClassInfo clazz, JavaMemberLookupConfig config) {
+    static AnnotationTarget findProperty(String name, ClassInfo clazz, JavaMemberLookupConfig config) {
         // Attempts to find a property with the specified name
         // i.e. a public non-static non-synthetic field with the given name or a public non-static non-synthetic method with no params and the given name
         Set<DotName> interfaceNames = config.declaredMembersOnly() ? null : new HashSet<>();
@@ -0,0 +1,212 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CheckedTemplate;
+import io.quarkus.qute.CompiledTemplate;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineConfiguration;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class CompiledTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Templates.class, Item.class, OtherItem.class, Product.class, Owner.class,
+                            CountingResolver.class, OwnerResolver.class)
+                    .addAsResource(new StringAsset("<h1>{item.name}{suffix}</h1>"
+                            + "{#if item.primitiveId > 5}<p>{item.primitiveId}</p>{/if}"
+                            + "{#for other in item.otherItems}{other.id}{/for}"),
+                            "templates/CompiledTemplateTest/item.html")
+                    .addAsResource(new StringAsset("{#for product in products}"
+                            + "{#if product.active}{product.name}{#else}-{/if}"
+                            + "{#let name=product.name}[{name}]{/let}"
+                            + "{#else}empty{/for}"),
+                            "templates/CompiledTemplateTest/products.html")
+                    .addAsResource(new StringAsset("{product.name}:{label}:{product.name}"),
+                            "templates/CompiledTemplateTest/label.html")
+                    .addAsResource(new StringAsset("{#if product.owner.active}yes{#else}no{/if}"),
+                            "templates/CompiledTemplateTest/owner.html"))
+            .overrideConfigKey("quarkus.qute.compile-templates", "true");
+
+    @Inject
+    Engine engine;
+
+    @Test
+    public void testCompiledTemplate() throws Exception {
+        assertEquals("<h1>Foo &lt;3!</h1><p>9</p>1",
+                Templates.item(new Item("Foo <3", new OtherItem()), "!").render());
+
+        Class<?> compiled = Thread.currentThread().getContextClassLoader()
+                .loadClass(Templates.class.getName() + "_CompiledTemplate_"
+                        + HashUtil.sha1("CompiledTemplateTest/item.html"));
+        CompiledTemplate compiledTemplate = assertInstanceOf(CompiledTemplate.class,
+                compiled.getDeclaredConstructor().newInstance());
+        assertEquals("CompiledTemplateTest/item.html", compiledTemplate.getTemplateId());
+    }
+
+    @Test
+    public void testCompiledSections() {
+        List<Product> products = List.of(new Product("a", true), new Product("b", false));
+        CountingResolver.APPLIES_TO.set(0);
+        assertEquals("a[a]-[b]", Templates.products(products).render());
+        assertEquals("empty", Templates.products(List.of()).render());
+        assertEquals("a[a]-[b]",
+                String.join("", Templates.products(products).createMulti().collect().asList().await().indefinitely()));
+        StringBuilder builder = new StringBuilder();
+        Templates.products(products).consume(builder::append).toCompletableFuture().join();
+        assertEquals("a[a]-[b]", builder.toString());
+        // No property of a product was resolved by the interpreter
+        assertEquals(0, CountingResolver.APPLIES_TO.get());
+
+        // The interpreter consults the resolver
+        assertEquals("a", engine.parse("{product.name}").data("product", products.get(0)).render());
+        assertTrue(CountingResolver.APPLIES_TO.get() > 0);
+    }
+
+    @Test
+    public void testAsyncValueIsAwaited() throws Exception {
+        Product product = new Product("a", true);
+        // The value of an Object parameter is a CompletionStage at runtime
+        CompletableFuture<String> label = new CompletableFuture<>();
+        CompletableFuture<String> result = Templates.label(product, label).renderAsync().toCompletableFuture();
+        assertFalse(result.isDone());
+        label.complete("ok");
+        assertEquals("a:ok:a", result.get(5, TimeUnit.SECONDS));
+        // The nodes that precede the asynchronous value are not evaluated again
+        assertEquals(2, product.nameCalls.get());
+    }
+
+    @Test
+    public void testAsyncSectionOperandIsNotEvaluatedAgain() throws Exception {
+        Product product = new Product("a", true);
+        // The owner is null and the interpreter resolves the remaining part asynchronously
+        CompletableFuture<String> result = Templates.owner(product).renderAsync().toCompletableFuture();
+        assertFalse(result.isDone());
+        OwnerResolver.ACTIVE.complete(true);
+        assertEquals("yes", result.get(5, TimeUnit.SECONDS));
+        // The interpreter renders the section with the value that was already evaluated
+        assertEquals(1, product.ownerCalls.get());
+    }
+
+    @CheckedTemplate
+    public static class Templates {
+
+        static native TemplateInstance item(Item item, String suffix);
+
+        static native TemplateInstance products(List<Product> products);
+
+        static native TemplateInstance label(Product product, Object label);
+
+        static native TemplateInstance owner(Product product);
+
+    }
+
+    public static class Product {
+
+        final AtomicInteger nameCalls = new AtomicInteger();
+        final AtomicInteger ownerCalls = new AtomicInteger();
+
+        private final String name;
+        private final boolean active;
+
+        public Product(String name, boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+
+        public String getName() {
+            nameCalls.incrementAndGet();
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public Owner getOwner() {
+            ownerCalls.incrementAndGet();
+            return null;
+        }
+
+    }
+
+    public static class Owner {
+
+        public boolean isActive() {
+            return true;
+        }
+
+    }
+
+    // Counts the properties of a product resolved by the interpreter
+    @EngineConfiguration
+    public static class CountingResolver implements ValueResolver {
+
+        static final AtomicInteger APPLIES_TO = new AtomicInteger();
+
+        @Override
+        public int getPriority() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            if (context.getBase() instanceof Product) {
+                APPLIES_TO.incrementAndGet();
+            }
+            return false;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            return Results.notFound(context);
+        }
+
+    }
+
+    // Resolves the property of a missing owner asynchronously
+    @EngineConfiguration
+    public static class OwnerResolver implements ValueResolver {
+
+        static final CompletableFuture<Object> ACTIVE = new CompletableFuture<>();
+
+        @Override
+        public int getPriority() {
+            return Integer.MAX_VALUE - 1;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() == null && context.getName().equals("active");
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            return ACTIVE;
+        }
+
+    }
+
+}
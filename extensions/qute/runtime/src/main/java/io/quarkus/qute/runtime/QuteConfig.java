@@ -109,6 +109,19 @@ public interface QuteConfig {
     @WithDefault("false")
     boolean altExprSyntax();
 
+    /**
+     * If set to `true` then a Java class is generated for each type-safe template, i.e. a template backed by a
+     * `@CheckedTemplate` method or a template record.
+     * The generated class renders the static text and the type-safe expressions, such as `{item.name}`, with direct method
+     * calls.
+     * The `{#for}`, `{#if}` and `{#let}` sections that only contain such nodes are compiled as well.
+     * Other sections and expressions that cannot be type-checked are still rendered by the interpreter.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean compileTemplates();
+
     /**
      * Development mode configuration.
      */
@@ -386,6 +386,11 @@ public Multi<String> createMulti() {
                 return templateInstance().createMulti();
             }
 
+            @Override
+            public Multi<byte[]> createUtf8Multi(int chunkSize) {
+                return templateInstance().createUtf8Multi(chunkSize);
+            }
+
             @Override
             public Uni<String> createUni() {
                 return templateInstance().createUni();
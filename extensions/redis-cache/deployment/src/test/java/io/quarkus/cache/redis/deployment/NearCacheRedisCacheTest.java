@@ -0,0 +1,69 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.Duration;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.TwoLevelRedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class NearCacheRedisCacheTest {
+
+    private static final String KEY = "near";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.near-cache.enabled", "true");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testNearCache() {
+        TwoLevelRedisCacheImpl twoLevelCache = cache.as(TwoLevelRedisCacheImpl.class);
+
+        // The near cache is used once the invalidation channel is subscribed
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            simpleCachedService.cachedMethod(KEY);
+            assertEquals(1, twoLevelCache.getNearCacheSize());
+        });
+        String value = simpleCachedService.cachedMethod(KEY);
+
+        // A value changed in Redis is not seen until the near cache entry is invalidated
+        redisDataSource.value(String.class).set("cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY, "changed");
+        assertEquals(value, simpleCachedService.cachedMethod(KEY));
+
+        // Invalidation published by another application instance
+        redisDataSource.pubsub(String.class).publish(
+                "cache:" + SimpleCachedService.CACHE_NAME + ":near-cache-invalidation",
+                "other-instance cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY);
+        await().atMost(Duration.ofSeconds(10)).until(() -> twoLevelCache.getNearCacheSize() == 0);
+        assertEquals("changed", simpleCachedService.cachedMethod(KEY));
+
+        // Local invalidation
+        simpleCachedService.invalidate(KEY);
+        assertEquals(0, twoLevelCache.getNearCacheSize());
+        String newValue = simpleCachedService.cachedMethod(KEY);
+        assertNotEquals(value, newValue);
+        assertThat(TestUtil.allRedisKeys(redisDataSource))
+                .contains("cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY);
+    }
+}
@@ -9,10 +9,12 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -105,6 +107,117 @@ public void testPutInTheCache() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testGetAllAndPutAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.putAll(Map.of("a", "cached-a", "b", "cached-b")).await().indefinitely();
+
+        List<Set<String>> invocations = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(Set.of("a", "b", "c", "d"), keys -> {
+            invocations.add(Set.copyOf(keys));
+            return Map.of("c", "loaded-c", "d", "loaded-d");
+        }).await().indefinitely();
+
+        assertThat(values).containsOnly(Map.entry("a", "cached-a"), Map.entry("b", "cached-b"),
+                Map.entry("c", "loaded-c"), Map.entry("d", "loaded-d"));
+        assertThat(invocations).containsExactly(Set.of("c", "d"));
+        assertThatTheKeyDoesExist("cache:bulk:c");
+        assertThatTheKeyDoesExist("cache:bulk:d");
+
+        values = cache.<String, String> getAll(Set.of("a", "c"), keys -> {
+            invocations.add(Set.copyOf(keys));
+            return Map.of();
+        }).await().indefinitely();
+        assertThat(values).containsOnly(Map.entry("a", "cached-a"), Map.entry("c", "loaded-c"));
+        assertThat(invocations).hasSize(1);
+    }
+
+    @Test
+    public void testStampedeProtection() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "stampede";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.stampedeProtection = true;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        List<Uni<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(cache.getAsync("key", k -> Uni.createFrom().item(() -> "value-" + loads.incrementAndGet())
+                    .onItem().delayIt().by(Duration.ofMillis(200))));
+        }
+
+        var values = Uni.combine().all().unis(responses).with(list -> list).await().indefinitely();
+        assertThat(values).hasSize(20).allMatch("value-1"::equals);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThatTheKeyDoesExist("cache:stampede:key");
+        // The lock has been released
+        assertThatTheKeyDoesNotExist("cache:stampede:lock:{cache:stampede:key}");
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "swr";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.staleWhileRevalidate = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get("key", k -> "value-" + loads.incrementAndGet()).await().indefinitely())
+                .isEqualTo("value-1");
+        assertThatTheKeyDoesExist("cache:swr:fresh:{cache:swr:key}");
+
+        await().pollDelay(Duration.ofMillis(100)).atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThatTheKeyDoesNotExist("cache:swr:fresh:{cache:swr:key}"));
+
+        // The stale value is served while it is recomputed in the background
+        assertThat(cache.get("key", k -> "value-" + loads.incrementAndGet()).await().indefinitely())
+                .isEqualTo("value-1");
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(
+                () -> assertThat(cache.get("key", k -> "unexpected").await().indefinitely()).isEqualTo("value-2"));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidateWithStaleWhileRevalidate() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "swr-invalidate";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.staleWhileRevalidate = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get("a", k -> "a-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("a-1");
+        assertThat(cache.get("b", k -> "b-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("b-2");
+        assertThatTheKeyDoesExist("cache:swr-invalidate:fresh:{cache:swr-invalidate:a}");
+
+        cache.invalidate("a").await().indefinitely();
+        assertThatTheKeyDoesNotExist("cache:swr-invalidate:a");
+        assertThatTheKeyDoesNotExist("cache:swr-invalidate:fresh:{cache:swr-invalidate:a}");
+        assertThatTheKeyDoesExist("cache:swr-invalidate:fresh:{cache:swr-invalidate:b}");
+
+        // The invalidated value is recomputed, and is fresh again
+        assertThat(cache.get("a", k -> "a-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("a-3");
+        assertThatTheKeyDoesExist("cache:swr-invalidate:fresh:{cache:swr-invalidate:a}");
+
+        cache.invalidateAll().await().indefinitely();
+        assertThatTheKeyDoesNotExist("cache:swr-invalidate:a");
+        assertThatTheKeyDoesNotExist("cache:swr-invalidate:b");
+        assertThatTheKeyDoesNotExist("cache:swr-invalidate:fresh:{cache:swr-invalidate:a}");
+        assertThatTheKeyDoesNotExist("cache:swr-invalidate:fresh:{cache:swr-invalidate:b}");
+
+        assertThat(cache.get("b", k -> "b-" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("b-4");
+    }
+
     @Test
     public void testExhaustConnectionPool() {
         String redisUrl = ConfigProvider.getConfig().getValue("quarkus.redis.hosts", String.class);
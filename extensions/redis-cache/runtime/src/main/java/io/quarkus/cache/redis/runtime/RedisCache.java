@@ -1,5 +1,7 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +78,37 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    @Override
+    <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Allows retrieving multiple values from the Redis cache with a single {@code MGET} command.
+     * The values which are not cached are computed with a single invocation of {@code bulkLoader} and stored with
+     * pipelined {@code SET} commands.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param bulkLoader the bulk loader called with the keys which have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values mapped by their keys.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Allows retrieving multiple values from the Redis cache with a single {@code MGET} command.
+     * The values which are not cached are computed with a single invocation of {@code bulkLoader} and stored with
+     * pipelined {@code SET} commands.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param bulkLoader the bulk loader called with the keys which have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values mapped by their keys.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> bulkLoader);
+
     /**
      * Put a value in the cache.
      *
@@ -98,6 +131,16 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<Void> put(K key, Supplier<V> supplier);
 
+    /**
+     * Put multiple values in the cache, using pipelined {@code SET} commands.
+     *
+     * @param entries the keys and values
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return a Uni emitting {@code null} when the operation completes
+     */
+    <K, V> Uni<Void> putAll(Map<K, V> entries);
+
     /**
      * Returns {@link Uni} that completes with a value present in the cache under the given {@code key}.
      * If there is no value in the cache under the key, the {@code Uni} completes with the given {@code defaultValue}.
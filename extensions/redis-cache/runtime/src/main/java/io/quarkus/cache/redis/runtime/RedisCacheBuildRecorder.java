@@ -10,6 +10,9 @@
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.cache.runtime.caffeine.metrics.NoOpMetricsInitializer;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -49,6 +52,7 @@ public CacheManager get() {
                         } else {
                             // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
                             Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+                            MetricsInitializer metricsInitializer = null;
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
@@ -58,7 +62,17 @@ public CacheManager get() {
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName());
-                                caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.nearCacheEnabled) {
+                                    if (metricsInitializer == null) {
+                                        metricsInitializer = context.metrics() == Context.Metrics.MICROMETER
+                                                ? new MicrometerMetricsInitializer()
+                                                : new NoOpMetricsInitializer();
+                                    }
+                                    caches.put(cacheInfo.name,
+                                            new TwoLevelRedisCacheImpl(cache, cacheInfo, metricsInitializer));
+                                } else {
+                                    caches.put(cacheInfo.name, cache);
+                                }
                             }
                             return new CacheManagerImpl(caches);
                         }
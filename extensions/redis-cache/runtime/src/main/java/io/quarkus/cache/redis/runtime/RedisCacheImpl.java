@@ -4,10 +4,15 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -57,6 +62,15 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // null unless both stale-while-revalidate and expire-after-write are configured
+    private final Duration staleWhileRevalidate;
+
+    private static final String FRESH_KEY_MARKER = "fresh:";
+    private static final String LOCK_KEY_MARKER = "lock:";
+    private static final String[] AUXILIARY_KEY_MARKERS = { FRESH_KEY_MARKER, LOCK_KEY_MARKER };
+    // Deletes the lock only if it is still held by the caller
+    private static final String UNLOCK_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +102,14 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.staleWhileRevalidate.isPresent() && cacheInfo.expireAfterWrite.isEmpty()) {
+            log.warnf("The stale-while-revalidate duration of cache %s is ignored because expire-after-write is not set",
+                    getName());
+            this.staleWhileRevalidate = null;
+        } else {
+            this.staleWhileRevalidate = cacheInfo.staleWhileRevalidate.orElse(null);
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -114,6 +136,17 @@ private <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Returns the Redis key under which the value of the given cache key is stored.
+     */
+    String encodeActualKey(Object key) {
+        return computeActualKey(encodeKey(key));
+    }
+
+    Redis redis() {
+        return redis;
+    }
+
     private <K, V> Uni<V> computeValue(K key, Function<K, V> valueLoader, boolean isWorkerThread) {
         if (isWorkerThread) {
             return Uni.createFrom().item(new Supplier<V>() {
@@ -160,6 +193,14 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // else => return val
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        if (isCoordinated()) {
+            return getCoordinated(encodedKey, type, new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return computeValue(key, valueLoader, isWorkerThread);
+                }
+            }, isWorkerThread);
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -239,6 +280,14 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        if (isCoordinated()) {
+            return getCoordinated(encodedKey, type, new Supplier<Uni<V>>() {
+                @Override
+                public Uni<V> get() {
+                    return valueLoader.apply(key);
+                }
+            }, false);
+        }
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
@@ -282,6 +331,103 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, (Type) clazz, bulkLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, type.getType(), bulkLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Type type, Function<Set<K>, Map<K, V>> bulkLoader) {
+        // vals = deserialize(MGET K1 K2 ...)
+        // missing = keys without a value
+        // if missing is not empty => SET Kn computation.apply(missing).get(Kn) pipelined
+        // Optimistic locking is not used for bulk operations: a concurrent writer may overwrite a loaded value.
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(new HashMap<>());
+        }
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<byte[]> encodedKeys = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            encodedKeys.add(marshaller.encode(computeActualKey(encodeKey(Objects.requireNonNull(key)))));
+        }
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                return RedisCacheImpl.this.<V> doGetAll(connection, encodedKeys, type)
+                        .chain(cachedValues -> {
+                            Map<K, V> result = new HashMap<>(orderedKeys.size());
+                            Set<K> missingKeys = new HashSet<>();
+                            for (int i = 0; i < orderedKeys.size(); i++) {
+                                V cached = cachedValues.get(i);
+                                if (cached != null) {
+                                    result.put(orderedKeys.get(i), cached);
+                                } else {
+                                    missingKeys.add(orderedKeys.get(i));
+                                }
+                            }
+                            if (missingKeys.isEmpty()) {
+                                return Uni.createFrom().item(result);
+                            }
+                            return computeValues(missingKeys, bulkLoader, isWorkerThread)
+                                    .call(values -> {
+                                        Uni<Void> stored = setAll(connection, values);
+                                        if (isWorkerThread) {
+                                            return stored.runSubscriptionOn(
+                                                    MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+                                        }
+                                        return stored;
+                                    })
+                                    .map(values -> {
+                                        result.putAll(values);
+                                        return result;
+                                    });
+                        });
+            }
+        })
+                .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+                    log.warn("Unable to connect to Redis, recomputing cached values", e);
+                    return computeValues(keys, bulkLoader, isWorkerThread);
+                });
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return bulkLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        } else {
+            return Uni.createFrom().item(bulkLoader.apply(keys));
+        }
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(RedisConnection connection) {
+                return setAll(connection, entries);
+            }
+        });
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -363,7 +509,11 @@ public Uni<V> apply(RedisConnection redisConnection) {
     @Override
     public Uni<Void> invalidate(Object key) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+        Request del = Request.cmd(Command.DEL).arg(encodedKey);
+        if (isCoordinated()) {
+            del.arg(auxiliaryKey(FRESH_KEY_MARKER, encodedKey)).arg(auxiliaryKey(LOCK_KEY_MARKER, encodedKey));
+        }
+        return redis.send(del)
                 .replaceWithVoid();
     }
 
@@ -385,7 +535,9 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 var req = Request.cmd(Command.DEL);
                 boolean hasAtLeastOneMatch = false;
                 for (String key : setOfKeys) {
-                    Object userKey = computeUserKey(key);
+                    // an auxiliary key is removed together with the key it belongs to
+                    String actualKey = actualKeyOfAuxiliaryKey(key);
+                    Object userKey = computeUserKey(actualKey != null ? actualKey : key);
                     if (predicate.test(userKey)) {
                         hasAtLeastOneMatch = true;
                         req.arg(marshaller.encode(key));
@@ -449,7 +601,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -501,12 +653,261 @@ public X apply(Response r) {
         }
     }
 
+    private <X> Uni<List<X>> doGetAll(RedisConnection connection, List<byte[]> encodedKeys, Type clazz) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // MGET does not reset the expiration, so the GETEX commands are pipelined instead
+            Duration duration = cacheInfo.expireAfterAccess.get();
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(duration.toSeconds()));
+            }
+            return connection.batch(requests)
+                    .map(new Function<List<Response>, List<X>>() {
+                        @Override
+                        public List<X> apply(List<Response> responses) {
+                            List<X> values = new ArrayList<>(responses.size());
+                            for (Response r : responses) {
+                                values.add(marshaller.decode(clazz, r));
+                            }
+                            return values;
+                        }
+                    });
+        } else {
+            Request request = Request.cmd(Command.MGET);
+            for (byte[] encodedKey : encodedKeys) {
+                request.arg(encodedKey);
+            }
+            return connection.send(request)
+                    .map(new Function<Response, List<X>>() {
+                        @Override
+                        public List<X> apply(Response r) {
+                            List<X> values = new ArrayList<>(r.size());
+                            for (int i = 0; i < r.size(); i++) {
+                                values.add(marshaller.decode(clazz, r.get(i)));
+                            }
+                            return values;
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Whether the missing and expired values are computed in coordination with the other application instances.
+     */
+    private boolean isCoordinated() {
+        return cacheInfo.stampedeProtection || staleWhileRevalidate != null;
+    }
+
+    private <V> Uni<V> getCoordinated(byte[] encodedKey, Type type, Supplier<Uni<V>> loader, boolean isWorkerThread) {
+        // With stale-while-revalidate:
+        // val, fresh = deserialize(GET K), EXISTS fresh:K
+        // if val != null && !fresh => revalidate in the background and return val
+        // With stampede protection, on a miss:
+        // if SET lock:K token NX PX timeout => val = computation.apply(K), SET K val, DEL lock:K
+        // else => wait and GET K until val != null or the lock is released or expired
+        // Optimistic locking is not used: the lock coordinates the writers.
+        return withConnection(new Function<RedisConnection, Uni<CachedValue<V>>>() {
+            @Override
+            public Uni<CachedValue<V>> apply(RedisConnection connection) {
+                return doGetWithFreshness(connection, encodedKey, type);
+            }
+        }).chain(cached -> {
+            if (cached.value == null) {
+                long deadline = System.nanoTime() + cacheInfo.stampedeProtectionLockTimeout.toNanos();
+                return loadAndStore(encodedKey, type, loader, isWorkerThread, deadline);
+            }
+            if (!cached.fresh) {
+                revalidate(encodedKey, loader, isWorkerThread);
+            }
+            return Uni.createFrom().item(cached.value);
+        }).onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
+            log.warn("Unable to connect to Redis, recomputing cached value", e);
+            return loader.get();
+        });
+    }
+
+    private <V> Uni<CachedValue<V>> doGetWithFreshness(RedisConnection connection, byte[] encodedKey, Type type) {
+        if (staleWhileRevalidate == null) {
+            return this.<V> doGet(connection, encodedKey, type, marshaller)
+                    .map(value -> new CachedValue<>(value, true));
+        }
+        Request get;
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            get = Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(cacheInfo.expireAfterAccess.get().toSeconds());
+        } else {
+            get = Request.cmd(Command.GET).arg(encodedKey);
+        }
+        return connection.batch(List.of(get, Request.cmd(Command.EXISTS).arg(auxiliaryKey(FRESH_KEY_MARKER, encodedKey))))
+                .map(responses -> {
+                    V value = marshaller.decode(type, responses.get(0));
+                    return new CachedValue<>(value, responses.get(1).toInteger() > 0);
+                });
+    }
+
+    private <V> Uni<V> loadAndStore(byte[] encodedKey, Type type, Supplier<Uni<V>> loader, boolean isWorkerThread,
+            long deadline) {
+        if (!cacheInfo.stampedeProtection) {
+            return computeAndStore(encodedKey, loader, isWorkerThread);
+        }
+        byte[] lockKey = auxiliaryKey(LOCK_KEY_MARKER, encodedKey);
+        String token = UUID.randomUUID().toString();
+        return redis.send(Request.cmd(Command.SET).arg(lockKey).arg(token).arg("NX")
+                .arg("PX").arg(cacheInfo.stampedeProtectionLockTimeout.toMillis()))
+                .chain(locked -> {
+                    if (locked != null) {
+                        return computeAndStore(encodedKey, loader, isWorkerThread)
+                                .onTermination().call(() -> unlock(lockKey, token));
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        // The lock holder did not store the value in time
+                        return computeAndStore(encodedKey, loader, isWorkerThread);
+                    }
+                    return Uni.createFrom().voidItem()
+                            .onItem().delayIt().by(cacheInfo.stampedeProtectionWaitInterval)
+                            .chain(() -> redis.send(Request.cmd(Command.GET).arg(encodedKey)))
+                            .chain(response -> {
+                                V value = marshaller.decode(type, response);
+                                if (value != null) {
+                                    return Uni.createFrom().item(value);
+                                }
+                                // Either still computing or the lock holder failed, try to acquire the lock again
+                                return loadAndStore(encodedKey, type, loader, isWorkerThread, deadline);
+                            });
+                });
+    }
+
+    private <V> Uni<V> computeAndStore(byte[] encodedKey, Supplier<Uni<V>> loader, boolean isWorkerThread) {
+        return loader.get().call(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                if (value == null) {
+                    throw new IllegalArgumentException("Cannot cache `null` value");
+                }
+                Uni<Void> result = withConnection(new Function<RedisConnection, Uni<Void>>() {
+                    @Override
+                    public Uni<Void> apply(RedisConnection connection) {
+                        return set(connection, encodedKey, marshaller.encode(value));
+                    }
+                });
+                if (isWorkerThread) {
+                    return result.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * Recomputes a stale value in the background, unless another caller is already doing so.
+     */
+    private <V> void revalidate(byte[] encodedKey, Supplier<Uni<V>> loader, boolean isWorkerThread) {
+        byte[] lockKey = auxiliaryKey(LOCK_KEY_MARKER, encodedKey);
+        String token = UUID.randomUUID().toString();
+        redis.send(Request.cmd(Command.SET).arg(lockKey).arg(token).arg("NX")
+                .arg("PX").arg(cacheInfo.stampedeProtectionLockTimeout.toMillis()))
+                .chain(locked -> {
+                    if (locked == null) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    return computeAndStore(encodedKey, loader, isWorkerThread)
+                            .onTermination().call(() -> unlock(lockKey, token))
+                            .replaceWithVoid();
+                })
+                .subscribe().with(ignored -> {
+                }, failure -> log.warnf(failure, "Unable to revalidate a stale value of cache %s", getName()));
+    }
+
+    private Uni<Void> unlock(byte[] lockKey, String token) {
+        return redis.send(Request.cmd(Command.EVAL).arg(UNLOCK_SCRIPT).arg(1).arg(lockKey).arg(token))
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(failure -> {
+                    // The lock expires anyway
+                    log.debugf(failure, "Unable to release a stampede protection lock of cache %s", getName());
+                    return null;
+                });
+    }
+
+    private byte[] auxiliaryKey(String marker, byte[] encodedKey) {
+        return marshaller.encode(auxiliaryKey(marker, new String(encodedKey, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the key of the freshness marker or of the stampede protection lock of a cache key. The auxiliary key is
+     * under the key prefix of the cache, so that it is removed on invalidation, and contains the hash tag of the cache key,
+     * or the cache key as a hash tag, so that both are in the same hash slot on Redis Cluster.
+     */
+    String auxiliaryKey(String marker, String actualKey) {
+        return getKeyPrefix() + ":" + marker + (hasHashTag(actualKey) ? actualKey : "{" + actualKey + "}");
+    }
+
+    /**
+     * @return the cache key an auxiliary key belongs to, or {@code null} if the key is not an auxiliary key
+     */
+    String actualKeyOfAuxiliaryKey(String key) {
+        for (String marker : AUXILIARY_KEY_MARKERS) {
+            String markerPrefix = getKeyPrefix() + ":" + marker;
+            if (!key.startsWith(markerPrefix)) {
+                continue;
+            }
+            String actualKey = key.substring(markerPrefix.length());
+            if (actualKey.length() > 2 && actualKey.charAt(0) == '{' && actualKey.charAt(actualKey.length() - 1) == '}') {
+                String unwrapped = actualKey.substring(1, actualKey.length() - 1);
+                if (key.equals(auxiliaryKey(marker, unwrapped))) {
+                    return unwrapped;
+                }
+            }
+            if (key.equals(auxiliaryKey(marker, actualKey))) {
+                return actualKey;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasHashTag(String key) {
+        int start = key.indexOf('{');
+        return start >= 0 && key.indexOf('}', start + 1) > start + 1;
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        if (staleWhileRevalidate != null) {
+            return connection.batch(List.of(setRequest(key, value), freshRequest(key))).replaceWithVoid();
+        }
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private <K, V> Uni<Void> setAll(RedisConnection connection, Map<K, V> entries) {
+        if (entries.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Cannot cache `null` value");
+            }
+            byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(entry.getKey())));
+            requests.add(setRequest(encodedKey, marshaller.encode(entry.getValue())));
+            if (staleWhileRevalidate != null) {
+                requests.add(freshRequest(encodedKey));
+            }
+        }
+        return connection.batch(requests).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
-        if (cacheInfo.expireAfterWrite.isPresent()) {
+        if (staleWhileRevalidate != null) {
+            // The value is kept while it may be served stale, its freshness is tracked by a separate key
+            request = request.arg("EX")
+                    .arg(cacheInfo.expireAfterWrite.get().plus(staleWhileRevalidate).toSeconds());
+        } else if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
+    }
+
+    private Request freshRequest(byte[] key) {
+        return Request.cmd(Command.SET).arg(auxiliaryKey(FRESH_KEY_MARKER, key)).arg(1)
+                .arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
@@ -526,6 +927,16 @@ private Uni<Void> abort(RedisConnection connection) {
                 .replaceWithVoid();
     }
 
+    private static class CachedValue<V> {
+        private final V value;
+        private final boolean fresh;
+
+        CachedValue(V value, boolean fresh) {
+            this.value = value;
+            this.fresh = fresh;
+        }
+    }
+
     private static class StaticSupplier<V> implements Supplier<V> {
         private final V cached;
 
@@ -51,4 +51,39 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * The additional duration during which an expired entry is served while being recomputed
+     */
+    public Optional<Duration> staleWhileRevalidate = Optional.empty();
+
+    /**
+     * Whether a missing value is computed by a single caller across all the application instances
+     */
+    public boolean stampedeProtection = false;
+
+    /**
+     * The maximum duration the stampede protection lock is held
+     */
+    public Duration stampedeProtectionLockTimeout = Duration.ofSeconds(10);
+
+    /**
+     * The interval at which the callers waiting for the stampede protection lock check for the value
+     */
+    public Duration stampedeProtectionWaitInterval = Duration.ofMillis(50);
+
+    /**
+     * Whether a local near cache is kept in front of Redis
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the near cache
+     */
+    public long nearCacheMaximumSize = 10_000L;
+
+    /**
+     * The duration after which a near cache entry is removed
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -67,6 +67,48 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = namedRuntimeConfig.staleWhileRevalidate();
+                } else if (defaultRuntimeConfig.staleWhileRevalidate().isPresent()) {
+                    cacheInfo.staleWhileRevalidate = defaultRuntimeConfig.staleWhileRevalidate();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.stampedeProtection().enabled().isPresent()) {
+                    cacheInfo.stampedeProtection = namedRuntimeConfig.stampedeProtection().enabled().get();
+                } else if (defaultRuntimeConfig.stampedeProtection().enabled().isPresent()) {
+                    cacheInfo.stampedeProtection = defaultRuntimeConfig.stampedeProtection().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.stampedeProtection().lockTimeout().isPresent()) {
+                    cacheInfo.stampedeProtectionLockTimeout = namedRuntimeConfig.stampedeProtection().lockTimeout().get();
+                } else if (defaultRuntimeConfig.stampedeProtection().lockTimeout().isPresent()) {
+                    cacheInfo.stampedeProtectionLockTimeout = defaultRuntimeConfig.stampedeProtection().lockTimeout().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.stampedeProtection().waitInterval().isPresent()) {
+                    cacheInfo.stampedeProtectionWaitInterval = namedRuntimeConfig.stampedeProtection().waitInterval().get();
+                } else if (defaultRuntimeConfig.stampedeProtection().waitInterval().isPresent()) {
+                    cacheInfo.stampedeProtectionWaitInterval = defaultRuntimeConfig.stampedeProtection().waitInterval().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCache().enabled().get();
+                } else if (defaultRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCache().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCache().maximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCache().maximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCache().expireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCache().expireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
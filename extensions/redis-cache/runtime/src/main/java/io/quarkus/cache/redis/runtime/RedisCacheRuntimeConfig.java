@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,70 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * If set, an entry whose {@code expire-after-write} duration has elapsed is still served, for at most this additional
+     * duration, while its value is recomputed in the background. Only one application instance recomputes a given entry at a
+     * time. Requires {@code expire-after-write} to be set.
+     */
+    Optional<Duration> staleWhileRevalidate();
+
+    /**
+     * Configuration of the protection against cache stampedes.
+     */
+    StampedeProtectionConfig stampedeProtection();
+
+    /**
+     * Configuration of the local near cache kept in front of Redis.
+     */
+    NearCacheConfig nearCache();
+
+    @ConfigGroup
+    interface NearCacheConfig {
+
+        /**
+         * Whether a bounded in-memory cache is kept in front of Redis. The values read from or written to Redis are kept
+         * locally, so that subsequent reads of the same keys do not need a network round-trip nor a deserialization.
+         * The local copies are invalidated across all the application instances through a Redis pub/sub channel.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The maximum number of entries of the near cache.
+         * Default is {@code 10000}.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * The duration after which a local entry is removed, regardless of the invalidation messages.
+         * If not set, the {@code expire-after-write} duration of the Redis cache is used, or 30 seconds if it is not set
+         * either.
+         */
+        Optional<Duration> expireAfterWrite();
+    }
+
+    @ConfigGroup
+    interface StampedeProtectionConfig {
+
+        /**
+         * Whether a missing value is computed by a single caller across all the application instances. The caller computing
+         * the value holds a short-lived Redis lock, while the other callers wait for the value to be stored in Redis.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The maximum duration the lock is held. If the value is not stored in the meantime, the waiting callers compute
+         * it themselves.
+         * Default is {@code 10s}.
+         */
+        Optional<Duration> lockTimeout();
+
+        /**
+         * The interval at which the waiting callers check whether the value has been stored.
+         * Default is {@code 50ms}.
+         */
+        Optional<Duration> waitInterval();
+    }
 }
@@ -0,0 +1,498 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * This class is an internal Quarkus cache implementation keeping a bounded local Caffeine cache (the near cache) in front of
+ * a {@link RedisCacheImpl}. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * The near cache entries are invalidated across all the application instances through a Redis pub/sub channel: every write
+ * or invalidation publishes the Redis key of the modified entry. The near cache is bypassed while the channel is not
+ * subscribed, and cleared whenever the subscription is (re-)established, because invalidation messages may have been
+ * missed.
+ */
+public class TwoLevelRedisCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(TwoLevelRedisCacheImpl.class);
+
+    static final String INVALIDATE_ALL = "*";
+    static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofSeconds(30);
+
+    private static final long INITIAL_SUBSCRIBE_DELAY = Duration.ofMillis(100).toNanos();
+    private static final long MAX_SUBSCRIBE_DELAY = Duration.ofSeconds(5).toNanos();
+
+    private final RedisCacheImpl delegate;
+    private final Cache<String, Object> nearCache;
+    private final String channel;
+    // identifies the messages published by this instance
+    private final String origin = UUID.randomUUID().toString();
+
+    // incremented on every local invalidation, guards against caching a value read before a concurrent invalidation
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final AtomicReference<RedisConnection> subscriber = new AtomicReference<>();
+    private final AtomicBoolean subscribing = new AtomicBoolean();
+    private volatile boolean subscribed;
+    private volatile long nextSubscribeAttempt = System.nanoTime();
+    private volatile long subscribeDelay = INITIAL_SUBSCRIBE_DELAY;
+
+    private final LongAdder nearHits = new LongAdder();
+    private final LongAdder nearMisses = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public TwoLevelRedisCacheImpl(RedisCacheImpl delegate, RedisCacheInfo cacheInfo, MetricsInitializer metricsInitializer) {
+        this.delegate = delegate;
+        Duration expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite
+                .or(() -> cacheInfo.expireAfterWrite)
+                .orElse(DEFAULT_EXPIRE_AFTER_WRITE);
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(cacheInfo.nearCacheMaximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.channel = delegate.getKeyPrefix() + ":near-cache-invalidation";
+        if (metricsInitializer.metricsEnabled()) {
+            metricsInitializer.recordTierMetrics(getName(), "near", nearHits::sum, nearMisses::sum);
+            metricsInitializer.recordTierMetrics(getName(), "redis", redisHits::sum, redisMisses::sum);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return delegate.getDefaultKey();
+    }
+
+    @Override
+    @Deprecated
+    public Class<?> getDefaultValueType() {
+        return delegate.getDefaultValueType();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return get(key, valueLoader, loader -> delegate.get(key, loader));
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return get(key, valueLoader, loader -> delegate.get(key, clazz, loader));
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return get(key, valueLoader, loader -> delegate.get(key, type, loader));
+    }
+
+    private <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Function<Function<K, V>, Uni<V>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                String nearKey = delegate.encodeActualKey(key);
+                V cached = getFromNearCache(nearKey);
+                if (cached != null) {
+                    return Uni.createFrom().item(cached);
+                }
+                long version = invalidations.get();
+                AtomicBoolean loaded = new AtomicBoolean();
+                return remote.apply(new Function<K, V>() {
+                    @Override
+                    public V apply(K k) {
+                        loaded.set(true);
+                        return valueLoader.apply(k);
+                    }
+                }).call(value -> onRemoteValue(nearKey, value, version, loaded.get()));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, loader -> delegate.getAsync(key, loader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, loader -> delegate.getAsync(key, clazz, loader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, loader -> delegate.getAsync(key, type, loader));
+    }
+
+    private <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Function<Function<K, Uni<V>>, Uni<V>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                String nearKey = delegate.encodeActualKey(key);
+                V cached = getFromNearCache(nearKey);
+                if (cached != null) {
+                    return Uni.createFrom().item(cached);
+                }
+                long version = invalidations.get();
+                AtomicBoolean loaded = new AtomicBoolean();
+                return remote.apply(new Function<K, Uni<V>>() {
+                    @Override
+                    public Uni<V> apply(K k) {
+                        loaded.set(true);
+                        return valueLoader.apply(k);
+                    }
+                }).call(value -> onRemoteValue(nearKey, value, version, loaded.get()));
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, bulkLoader, (missing, loader) -> delegate.getAll(missing, loader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, bulkLoader, (missing, loader) -> delegate.getAll(missing, clazz, loader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> bulkLoader) {
+        return getAll(keys, bulkLoader, (missing, loader) -> delegate.getAll(missing, type, loader));
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> bulkLoader,
+            BiFunction<Set<K>, Function<Set<K>, Map<K, V>>, Uni<Map<K, V>>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                Map<K, V> result = new HashMap<>(keys.size());
+                Map<K, String> missing = new HashMap<>();
+                for (K key : keys) {
+                    String nearKey = delegate.encodeActualKey(key);
+                    V cached = getFromNearCache(nearKey);
+                    if (cached != null) {
+                        result.put(key, cached);
+                    } else {
+                        missing.put(key, nearKey);
+                    }
+                }
+                if (missing.isEmpty()) {
+                    return Uni.createFrom().item(result);
+                }
+                long version = invalidations.get();
+                Set<K> loadedKeys = new HashSet<>();
+                return remote.apply(new HashSet<>(missing.keySet()), new Function<Set<K>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Set<K> missingKeys) {
+                        Map<K, V> values = bulkLoader.apply(missingKeys);
+                        loadedKeys.addAll(values.keySet());
+                        return values;
+                    }
+                }).call(values -> {
+                    List<String> written = new ArrayList<>(loadedKeys.size());
+                    for (Map.Entry<K, V> entry : values.entrySet()) {
+                        String nearKey = missing.get(entry.getKey());
+                        if (nearKey == null) {
+                            continue;
+                        }
+                        if (loadedKeys.contains(entry.getKey())) {
+                            redisMisses.increment();
+                            written.add(nearKey);
+                        } else {
+                            redisHits.increment();
+                        }
+                        putInNearCache(nearKey, entry.getValue(), version);
+                    }
+                    result.putAll(values);
+                    return publish(written);
+                }).replaceWith(result);
+            }
+        });
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        String nearKey = delegate.encodeActualKey(key);
+        return delegate.put(key, value)
+                .call(() -> publish(List.of(nearKey)))
+                .invoke(() -> putInNearCache(nearKey, value, invalidateLocally(nearKey)));
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return put(key, supplier.get());
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        Map<String, V> nearEntries = new HashMap<>(entries.size());
+        for (Map.Entry<K, V> entry : entries.entrySet()) {
+            nearEntries.put(delegate.encodeActualKey(entry.getKey()), entry.getValue());
+        }
+        return delegate.putAll(entries)
+                .call(() -> publish(nearEntries.keySet()))
+                .invoke(() -> {
+                    for (Map.Entry<String, V> entry : nearEntries.entrySet()) {
+                        putInNearCache(entry.getKey(), entry.getValue(), invalidateLocally(entry.getKey()));
+                    }
+                });
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return getOrNull(key, () -> delegate.getOrNull(key)).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getOrNull(key, () -> delegate.getOrNull(key, clazz)).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getOrNull(key, () -> delegate.getOrNull(key, type)).onItem().ifNull().continueWith(defaultValue);
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return getOrNull(key, () -> delegate.getOrNull(key));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return getOrNull(key, () -> delegate.getOrNull(key, clazz));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return getOrNull(key, () -> delegate.getOrNull(key, type));
+    }
+
+    private <K, V> Uni<V> getOrNull(K key, Supplier<Uni<V>> remote) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                String nearKey = delegate.encodeActualKey(key);
+                V cached = getFromNearCache(nearKey);
+                if (cached != null) {
+                    return Uni.createFrom().item(cached);
+                }
+                long version = invalidations.get();
+                return remote.get().invoke(value -> {
+                    if (value != null) {
+                        redisHits.increment();
+                        putInNearCache(nearKey, value, version);
+                    } else {
+                        redisMisses.increment();
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        String nearKey = delegate.encodeActualKey(key);
+        return delegate.invalidate(key)
+                .invoke(() -> invalidateLocally(nearKey))
+                .call(() -> publish(List.of(nearKey)));
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return delegate.invalidateAll()
+                .invoke(this::invalidateAllLocally)
+                .call(() -> publish(List.of(INVALIDATE_ALL)));
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return delegate.invalidateIf(predicate)
+                .invoke(() -> {
+                    invalidations.incrementAndGet();
+                    nearCache.asMap().keySet().removeIf(nearKey -> predicate.test(delegate.computeUserKey(nearKey)));
+                })
+                // The other instances cannot evaluate the predicate, so their near caches are cleared
+                .call(() -> publish(List.of(INVALIDATE_ALL)));
+    }
+
+    // visible for tests
+    public long getNearCacheSize() {
+        return nearCache.estimatedSize();
+    }
+
+    private <V> Uni<Void> onRemoteValue(String nearKey, V value, long version, boolean loaded) {
+        if (loaded) {
+            redisMisses.increment();
+            putInNearCache(nearKey, value, version);
+            // The value was written to Redis, other instances may hold an outdated copy
+            return publish(List.of(nearKey));
+        }
+        redisHits.increment();
+        putInNearCache(nearKey, value, version);
+        return Uni.createFrom().voidItem();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V getFromNearCache(String nearKey) {
+        if (!isSubscribed()) {
+            nearMisses.increment();
+            return null;
+        }
+        Object value = nearCache.getIfPresent(nearKey);
+        if (value == null) {
+            nearMisses.increment();
+            return null;
+        }
+        nearHits.increment();
+        return (V) value;
+    }
+
+    private void putInNearCache(String nearKey, Object value, long version) {
+        if (value == null || !subscribed || invalidations.get() != version) {
+            return;
+        }
+        nearCache.put(nearKey, value);
+        if (invalidations.get() != version) {
+            // An invalidation raced with the put
+            nearCache.invalidate(nearKey);
+        }
+    }
+
+    private long invalidateLocally(String nearKey) {
+        long version = invalidations.incrementAndGet();
+        nearCache.invalidate(nearKey);
+        return version;
+    }
+
+    private void invalidateAllLocally() {
+        invalidations.incrementAndGet();
+        nearCache.invalidateAll();
+    }
+
+    private Uni<Void> publish(Collection<String> nearKeys) {
+        if (nearKeys.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<Request> requests = new ArrayList<>(nearKeys.size());
+        for (String nearKey : nearKeys) {
+            requests.add(Request.cmd(Command.PUBLISH).arg(channel).arg(origin + " " + nearKey));
+        }
+        return delegate.redis().batch(requests)
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(failure -> {
+                    // The other instances will see the change once their near cache entries expire
+                    log.warnf(failure, "Unable to publish near cache invalidations for cache %s", getName());
+                    return null;
+                });
+    }
+
+    /**
+     * Returns whether the invalidation channel is subscribed, and starts the subscription if it is not.
+     */
+    private boolean isSubscribed() {
+        if (subscribed) {
+            return true;
+        }
+        if (System.nanoTime() - nextSubscribeAttempt >= 0 && subscribing.compareAndSet(false, true)) {
+            subscribe();
+        }
+        return false;
+    }
+
+    private void subscribe() {
+        delegate.redis().connect()
+                .chain(connection -> {
+                    connection.handler(this::onMessage);
+                    connection.exceptionHandler(failure -> onDisconnect(connection, failure));
+                    connection.endHandler(() -> onDisconnect(connection, null));
+                    return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel))
+                            .onFailure().call(connection::close)
+                            .replaceWith(connection);
+                })
+                .subscribe().with(connection -> {
+                    subscriber.set(connection);
+                    subscribeDelay = INITIAL_SUBSCRIBE_DELAY;
+                    // Invalidations may have been published while not subscribed
+                    invalidateAllLocally();
+                    subscribed = true;
+                    subscribing.set(false);
+                    log.debugf("Subscribed to the near cache invalidation channel of cache %s", getName());
+                }, failure -> {
+                    log.debugf(failure, "Unable to subscribe to the near cache invalidation channel of cache %s", getName());
+                    retryLater();
+                });
+    }
+
+    private void onDisconnect(RedisConnection connection, Throwable failure) {
+        if (subscriber.compareAndSet(connection, null)) {
+            subscribed = false;
+            invalidateAllLocally();
+            log.debugf(failure, "Near cache invalidation channel of cache %s disconnected, the near cache is bypassed",
+                    getName());
+            retryLater();
+        }
+    }
+
+    private void retryLater() {
+        long delay = subscribeDelay;
+        nextSubscribeAttempt = System.nanoTime() + delay;
+        subscribeDelay = Math.min(delay * 2, MAX_SUBSCRIBE_DELAY);
+        subscribing.set(false);
+    }
+
+    private void onMessage(Response message) {
+        // Pub/sub messages are ["message", channel, payload] arrays, or push messages with RESP3
+        if ((message.type() != ResponseType.MULTI && message.type() != ResponseType.PUSH)
+                || message.size() != 3
+                || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        String payload = message.get(2).toString();
+        int separator = payload.indexOf(' ');
+        if (separator < 0 || (separator == origin.length() && payload.startsWith(origin))) {
+            // Malformed or published by this instance, the near cache is already up-to-date
+            return;
+        }
+        String nearKey = payload.substring(separator + 1);
+        if (INVALIDATE_ALL.equals(nearKey)) {
+            invalidateAllLocally();
+        } else {
+            invalidateLocally(nearKey);
+        }
+    }
+}
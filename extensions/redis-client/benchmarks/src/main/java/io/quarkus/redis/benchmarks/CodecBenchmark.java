@@ -0,0 +1,113 @@
+package io.quarkus.redis.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.redis.datasource.codecs.Codec;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.datasource.codecs.JacksonCodec;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Compares the byte array based and the buffer based paths of the Redis codecs.
+ * <p>
+ * The {@code *Bytes} benchmarks encode to a byte array that is then copied into the request buffer, and decode from a
+ * copy of the response buffer. The {@code *Buffer} benchmarks use {@link Codec#encodeToBuffer(Object)} and
+ * {@link Codec#decode(Buffer)}, as the data source does. Run with
+ * {@code java -jar target/benchmark.jar CodecBenchmark -prof gc} to also compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecBenchmark {
+
+    @Param({ "json", "jackson" })
+    public String codec;
+
+    @Param({ "1", "1000" })
+    public int lines;
+
+    private Codec theCodec;
+    private Order order;
+    private Buffer encoded;
+
+    @Setup
+    public void setup() {
+        theCodec = codec.equals("json") ? new Codecs.JsonCodec(Order.class)
+                : new JacksonCodec(Order.class, new ObjectMapper());
+        List<Line> orderLines = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            orderLines.add(new Line("product-" + i, i % 10 + 1, 9.99 * i));
+        }
+        order = new Order("order-42", "customer-7", orderLines);
+        encoded = theCodec.encodeToBuffer(order);
+    }
+
+    @Benchmark
+    public Buffer encodeBytes() {
+        return Buffer.buffer(theCodec.encode(order));
+    }
+
+    @Benchmark
+    public Buffer encodeBuffer() {
+        return theCodec.encodeToBuffer(order);
+    }
+
+    @Benchmark
+    public Object decodeBytes() {
+        return theCodec.decode(encoded.getBytes());
+    }
+
+    @Benchmark
+    public Object decodeBuffer() {
+        return theCodec.decode(encoded);
+    }
+
+    public static class Order {
+        public String id;
+        public String customer;
+        public List<Line> lines;
+
+        public Order() {
+        }
+
+        Order(String id, String customer, List<Line> lines) {
+            this.id = id;
+            this.customer = customer;
+            this.lines = lines;
+        }
+    }
+
+    public static class Line {
+        public String product;
+        public int quantity;
+        public double price;
+
+        public Line() {
+        }
+
+        Line(String product, int quantity, double price) {
+            this.product = product;
+            this.quantity = quantity;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.redis.deployment.client.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.datasource.codecs.JacksonCodec;
+import io.quarkus.redis.datasource.hash.HashCommands;
+import io.quarkus.redis.deployment.client.RedisTestResource;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.QuarkusTestResource;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+@QuarkusTestResource(RedisTestResource.class)
+public class JacksonCodecTest {
+
+    static final JsonMapper MAPPER = JsonMapper.builder()
+            .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .build();
+
+    @RegisterExtension
+    static final QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(Payload.class, PayloadCodec.class))
+            .overrideConfigKey("quarkus.redis.hosts", "${quarkus.redis.tr}");
+
+    @Inject
+    RedisDataSource ds;
+
+    @Test
+    void testJacksonCodec() {
+        assertThat(Codecs.getDefaultCodecFor(Payload.class)).isInstanceOf(PayloadCodec.class);
+
+        String key = UUID.randomUUID().toString();
+        Payload payload = new Payload("order-1", List.of("a", "b", "c"), Map.of("priority", 3));
+
+        HashCommands<String, String, Payload> hash = ds.hash(Payload.class);
+        hash.hset(key, "first", payload);
+        assertThat(hash.hget(key, "first")).isEqualTo(payload);
+
+        // The value is written with the mapper of the codec
+        byte[] raw = ds.hash(byte[].class).hget(key, "first");
+        assertThat(raw).isEqualTo(MAPPER.writeValueAsBytes(payload));
+        assertThat(new String(raw)).contains("\"order_id\"");
+
+        String valueKey = UUID.randomUUID().toString();
+        ds.value(Payload.class).set(valueKey, payload);
+        assertThat(ds.value(Payload.class).get(valueKey)).isEqualTo(payload);
+    }
+
+    public record Payload(String orderId, List<String> items, Map<String, Integer> attributes) {
+    }
+
+    @ApplicationScoped
+    public static class PayloadCodec extends JacksonCodec {
+
+        public PayloadCodec() {
+            super(Payload.class, MAPPER);
+        }
+    }
+}
@@ -144,6 +144,27 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Obtains a {@link ReactiveTransactionalRedisDataSource} that enqueues commands in a <em>pipeline</em> and
+     * passes it to the given {@code pipeline} block. Once the {@code Uni} returned by {@code pipeline} produces an item,
+     * the enqueued commands are sent to the Redis server in a single batch, saving a round-trip per command.
+     * Unlike {@link #withTransaction(Function)}, the commands are not executed atomically and commands from other
+     * clients may be interleaved.
+     * <p>
+     * The commands can be issued from any command group. The results of the commands can be obtained from the
+     * returned {@link TransactionResult}, in the order the commands have been enqueued. If one of the commands fails,
+     * the returned {@code Uni} completes with the failure.
+     * <p>
+     * The user can discard the pipeline using the {@link ReactiveTransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent and the produced {@link TransactionResult} is empty.
+     * If the {@code pipeline} block completes with a failure, no command is sent and the resulting {@code Uni}
+     * completes with the same failure.
+     *
+     * @param pipeline the function receiving the pipelined Redis data source. The enqueued commands are only sent
+     *        when this block completes with an item.
+     */
+    Uni<TransactionResult> withPipeline(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> pipeline);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
@@ -140,6 +140,26 @@ public interface RedisDataSource {
     <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSource, I> preTx,
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys);
 
+    /**
+     * Obtains a {@link TransactionalRedisDataSource} that enqueues commands in a <em>pipeline</em> and passes it
+     * to the given {@code pipeline} block. Once the block completes, the enqueued commands are sent to the Redis
+     * server in a single batch, saving a round-trip per command. Unlike {@link #withTransaction(Consumer)},
+     * the commands are not executed atomically and commands from other clients may be interleaved.
+     * <p>
+     * The commands can be issued from any command group. The results of the commands can be obtained from the
+     * returned {@link TransactionResult}, in the order the commands have been enqueued. If one of the commands fails,
+     * this method throws the failure.
+     * <p>
+     * The user can discard the pipeline using the {@link TransactionalRedisDataSource#discard()} method.
+     * In this case, no command is sent and the produced {@link TransactionResult} is empty.
+     * If the {@code pipeline} block throws an exception, no command is sent and the exception is rethrown.
+     *
+     * @param pipeline the consumer receiving the pipelined Redis data source. The enqueued commands are only sent
+     *        when this block completes.
+     * @return the result of the commands
+     */
+    TransactionResult withPipeline(Consumer<TransactionalRedisDataSource> pipeline);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
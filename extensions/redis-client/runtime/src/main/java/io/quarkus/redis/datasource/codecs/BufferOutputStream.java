@@ -0,0 +1,36 @@
+package io.quarkus.redis.datasource.codecs;
+
+import java.io.OutputStream;
+
+import io.vertx.core.buffer.Buffer;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * An {@link OutputStream} appending to a {@link Buffer}, used to serialize values without an intermediate byte array.
+ */
+final class BufferOutputStream extends OutputStream {
+
+    private static final int INITIAL_SIZE = 256;
+
+    private final Buffer buffer;
+
+    private BufferOutputStream(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    static Buffer write(ObjectMapper mapper, Object item) {
+        Buffer buffer = Buffer.buffer(INITIAL_SIZE);
+        mapper.writeValue(new BufferOutputStream(buffer), item);
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        buffer.appendByte((byte) b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        buffer.appendBytes(b, off, len);
+    }
+}
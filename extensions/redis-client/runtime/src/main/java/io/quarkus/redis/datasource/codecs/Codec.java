@@ -2,6 +2,8 @@
 
 import java.lang.reflect.Type;
 
+import io.vertx.core.buffer.Buffer;
+
 /**
  * Redis codec interface.
  * <p>
@@ -29,6 +31,37 @@ public interface Codec {
      */
     byte[] encode(Object item);
 
+    /**
+     * Encodes the given object into a {@link Buffer}.
+     * The type of the given object matches the type used to call the {@link #canHandle(Type)} method.
+     * <p>
+     * By default, this method wraps the result of {@link #encode(Object)}. Codecs able to write the encoded
+     * content directly into a buffer should override this method to avoid the intermediate byte array.
+     *
+     * @param item the item
+     * @return the encoded content
+     */
+    default Buffer encodeToBuffer(Object item) {
+        byte[] encoded = encode(item);
+        if (encoded == null) {
+            return null;
+        }
+        return Buffer.buffer(encoded);
+    }
+
+    /**
+     * Decodes the given buffer to an object.
+     * The codec must return an instance of the type used to call the {@link #canHandle(Type)} method.
+     * <p>
+     * By default, this method calls {@link #decode(byte[])} with the content of the buffer.
+     *
+     * @param item the buffer
+     * @return the object
+     */
+    default Object decode(Buffer item) {
+        return decode(item.getBytes());
+    }
+
     /**
      * Decodes the given bytes to an object.
      * The codec must return an instance of the type used to call the {@link #canHandle(Type)} method.
@@ -72,6 +72,12 @@ public byte[] encode(Object item) {
             return Json.encodeToBuffer(item).getBytes();
         }
 
+        @Override
+        public Buffer encodeToBuffer(Object item) {
+            // The same encoding as encode(Object), without copying the bytes
+            return Json.encodeToBuffer(item);
+        }
+
         @Override
         public Object decode(byte[] payload) {
             try {
@@ -84,6 +90,15 @@ public Object decode(byte[] payload) {
                 throw new RuntimeException(e);
             }
         }
+
+        @Override
+        public Object decode(Buffer payload) {
+            if (clazz != null) {
+                // Deserialized directly from the buffer
+                return Json.decodeValue(payload, clazz);
+            }
+            return decode(payload.getBytes());
+        }
     }
 
     public static class StringCodec implements Codec {
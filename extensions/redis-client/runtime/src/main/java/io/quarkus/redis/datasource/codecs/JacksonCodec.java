@@ -0,0 +1,65 @@
+package io.quarkus.redis.datasource.codecs;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+
+import io.vertx.core.buffer.Buffer;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * A {@link Codec} serializing the values of a given type with a Jackson {@link ObjectMapper}.
+ * <p>
+ * Unlike the default JSON codec, the mapper can use a binary format, such as Smile or CBOR,
+ * which produces smaller payloads and is faster to parse for large values.
+ * The values are serialized directly into the {@link Buffer} sent to Redis.
+ * <p>
+ * To use it, expose a subclass as an application scoped bean:
+ *
+ * <pre>
+ * &#64;ApplicationScoped
+ * public class OrderCodec extends JacksonCodec {
+ *     public OrderCodec() {
+ *         super(Order.class, new SmileMapper());
+ *     }
+ * }
+ * </pre>
+ */
+public class JacksonCodec implements Codec {
+
+    private final Type type;
+    private final ObjectMapper mapper;
+    private final JavaType javaType;
+
+    /**
+     * Creates a codec handling the given type.
+     *
+     * @param type the type handled by this codec, must not be {@code null}
+     * @param mapper the mapper used to serialize and deserialize the values, must not be {@code null}
+     */
+    public JacksonCodec(Type type, ObjectMapper mapper) {
+        this.type = Objects.requireNonNull(type);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.javaType = mapper.constructType(type);
+    }
+
+    @Override
+    public boolean canHandle(Type clazz) {
+        return type.equals(clazz);
+    }
+
+    @Override
+    public byte[] encode(Object item) {
+        return mapper.writeValueAsBytes(item);
+    }
+
+    @Override
+    public Buffer encodeToBuffer(Object item) {
+        return BufferOutputStream.write(mapper, item);
+    }
+
+    @Override
+    public Object decode(byte[] item) {
+        return mapper.readValue(item, javaType);
+    }
+}
@@ -130,7 +130,8 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    boolean autoBatching = runtimeConfig.getValue().clients().get(name).autoBatching();
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, autoBatching);
                 });
             }
         };
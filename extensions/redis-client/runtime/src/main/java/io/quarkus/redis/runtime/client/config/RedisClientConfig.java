@@ -225,6 +225,17 @@ public interface RedisClientConfig {
     @ConfigDocDefault("disabled")
     Optional<RedisClusterTransactions> clusterTransactions();
 
+    /**
+     * Whether the commands executed by the Redis data sources are coalesced when they are issued from the same
+     * event loop iteration. The coalesced commands are written to a single pooled connection without waiting
+     * for the previous responses, which reduces the number of round-trips and of acquired connections
+     * when many commands are issued concurrently, for example when fanning out reads.
+     * <p>
+     * Commands issued from a worker thread or a virtual thread are not coalesced.
+     */
+    @WithDefault("false")
+    boolean autoBatching();
+
     /**
      * TCP config.
      */
@@ -293,6 +304,7 @@ default String toDebugString() {
                 ", protocolNegotiation=" + protocolNegotiation() +
                 ", preferredProtocolVersion=" + preferredProtocolVersion() +
                 ", hashSlotCacheTtl=" + hashSlotCacheTtl() +
+                ", autoBatching=" + autoBatching() +
                 ", tcp=" + tcp() +
                 ", tls=" + tls() +
                 ", clientName=" + clientName() +
@@ -107,7 +107,7 @@ Uni<Response> _hmset(K key, Map<F, V> map) {
         cmd.put(marshaller.encode(key));
         for (Map.Entry<F, V> entry : map.entrySet()) {
             cmd.put(marshaller.encode(entry.getKey()));
-            cmd.putNullable(marshaller.encode(entry.getValue()));
+            cmd.putNullable(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -135,7 +135,7 @@ Uni<Response> _hset(K key, F field, V value) {
         return execute(RedisCommand.of(Command.HSET)
                 .put(marshaller.encode(key))
                 .put(marshaller.encode(field))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _hset(K key, Map<F, V> map) {
@@ -149,7 +149,7 @@ Uni<Response> _hset(K key, Map<F, V> map) {
         for (Map.Entry<F, V> entry : map.entrySet()) {
             cmd
                     .put(marshaller.encode(entry.getKey()))
-                    .put(marshaller.encode(entry.getValue()));
+                    .put(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -160,7 +160,7 @@ Uni<Response> _hsetnx(K key, F field, V value) {
         return execute(RedisCommand.of(Command.HSETNX)
                 .put(marshaller.encode(key))
                 .put(marshaller.encode(field))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _hstrlen(K key, F field) {
@@ -58,7 +58,7 @@ Uni<Response> _xadd(K key, XAddArgs args, Map<F, V> payload) {
                 .putArgs(args);
         for (Map.Entry<F, V> entry : payload.entrySet()) {
             cmd.put(marshaller.encode(entry.getKey()));
-            cmd.putNullable(marshaller.encode(entry.getValue()));
+            cmd.putNullable(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -27,7 +27,7 @@ Uni<Response> _set(K key, V value) {
         nonNull(value, "value");
         RedisCommand cmd = RedisCommand.of(Command.SET)
                 .put(marshaller.encode(key))
-                .put(marshaller.encode(value));
+                .put(marshaller.encodeToBuffer(value));
         return execute(cmd);
     }
 
@@ -37,7 +37,7 @@ Uni<Response> _set(K key, V value, io.quarkus.redis.datasource.string.SetArgs se
         nonNull(setArgs, "setArgs");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(setArgs);
         return execute(cmd);
     }
@@ -48,7 +48,7 @@ Uni<Response> _set(K key, V value, io.quarkus.redis.datasource.value.SetArgs set
         nonNull(setArgs, "setArgs");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(setArgs);
         return execute(cmd);
     }
@@ -58,7 +58,7 @@ Uni<Response> _setGet(K key, V value) {
         nonNull(value, "value");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(new io.quarkus.redis.datasource.string.SetArgs().get());
         return execute(cmd);
     }
@@ -73,7 +73,7 @@ Uni<Response> _setGet(K key, V value, io.quarkus.redis.datasource.string.SetArgs
         nonNull(setArgs, "setArgs");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(setArgs.get());
         return execute(cmd);
     }
@@ -84,7 +84,7 @@ Uni<Response> _setGet(K key, V value, io.quarkus.redis.datasource.value.SetArgs
         nonNull(setArgs, "setArgs");
         RedisCommand cmd = RedisCommand.of(Command.SET);
         cmd.put(marshaller.encode(key));
-        cmd.put(marshaller.encode(value));
+        cmd.put(marshaller.encodeToBuffer(value));
         cmd.putArgs(setArgs.get());
         return execute(cmd);
     }
@@ -96,7 +96,7 @@ Uni<Response> _setex(K key, long seconds, V value) {
         return execute(RedisCommand.of(Command.SETEX)
                 .put(marshaller.encode(key))
                 .put(seconds)
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _psetex(K key, long milliseconds, V value) {
@@ -106,7 +106,7 @@ Uni<Response> _psetex(K key, long milliseconds, V value) {
         return execute(RedisCommand.of(Command.PSETEX)
                 .put(marshaller.encode(key))
                 .put(milliseconds)
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _setnx(K key, V value) {
@@ -114,7 +114,7 @@ Uni<Response> _setnx(K key, V value) {
         nonNull(value, "value");
         return execute(RedisCommand.of(Command.SETNX)
                 .put(marshaller.encode(key))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _setrange(K key, long offset, V value) {
@@ -124,7 +124,7 @@ Uni<Response> _setrange(K key, long offset, V value) {
         return execute(RedisCommand.of(Command.SETRANGE)
                 .put(marshaller.encode(key))
                 .put(offset)
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _strlen(K key) {
@@ -190,7 +190,7 @@ Uni<Response> _getset(K key, V value) {
         nonNull(value, "value");
         return execute(RedisCommand.of(Command.GETSET)
                 .put(marshaller.encode(key))
-                .put(marshaller.encode(value)));
+                .put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _incr(K key) {
@@ -214,7 +214,7 @@ Uni<Response> _incrbyfloat(K key, double amount) {
     Uni<Response> _append(K key, V value) {
         nonNull(key, "key");
         return execute(RedisCommand.of(Command.APPEND)
-                .put(marshaller.encode(key)).put(marshaller.encode(value)));
+                .put(marshaller.encode(key)).put(marshaller.encodeToBuffer(value)));
     }
 
     Uni<Response> _mget(K... keys) {
@@ -232,7 +232,7 @@ Uni<Response> _mset(Map<K, V> map) {
         notNullOrEmpty(map, "map");
         RedisCommand cmd = RedisCommand.of(Command.MSET);
         for (Map.Entry<K, V> entry : map.entrySet()) {
-            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encode(entry.getValue()));
+            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -241,7 +241,7 @@ Uni<Response> _msetnx(Map<K, V> map) {
         notNullOrEmpty(map, "map");
         RedisCommand cmd = RedisCommand.of(Command.MSETNX);
         for (Map.Entry<K, V> entry : map.entrySet()) {
-            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encode(entry.getValue()));
+            cmd.put(marshaller.encode(entry.getKey())).put(marshaller.encodeToBuffer(entry.getValue()));
         }
         return execute(cmd);
     }
@@ -99,6 +99,16 @@ public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource>
         }
     }
 
+    @Override
+    public TransactionResult withPipeline(Consumer<TransactionalRedisDataSource> pipeline) {
+        nonNull(pipeline, "pipeline");
+        ReactiveRedisDataSourceImpl pipelined = reactive.pipelined();
+        TransactionHolder th = new TransactionHolder();
+        pipeline.accept(new BlockingTransactionalRedisDataSourceImpl(
+                new ReactiveTransactionalRedisDataSourceImpl(pipelined, th), timeout));
+        return reactive.executePipeline(pipelined, th).await().atMost(timeout);
+    }
+
     @Override
     public TransactionResult withTransaction(Consumer<TransactionalRedisDataSource> tx, String... watchedKeys) {
         nonNull(tx, "tx");
@@ -0,0 +1,107 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+
+/**
+ * Coalesces the commands sent from an event loop during the same event loop iteration.
+ * The first command schedules a flush on the event loop, and the commands sent until the flush
+ * are written to a single pooled connection without waiting for the responses, instead of each command
+ * acquiring its own connection.
+ * <p>
+ * Commands sent from other threads are sent right away, as are commands that block the connection, which would delay
+ * the responses of all the commands written after them, and commands that change the state of the connection.
+ */
+final class CommandBatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(CommandBatcher.class);
+
+    private static final Set<Command> NOT_BATCHED = Set.of(
+            // blocking commands
+            Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH, Command.BLMOVE, Command.BLMPOP,
+            Command.BZPOPMIN, Command.BZPOPMAX, Command.BZMPOP, Command.WAIT,
+            // the arguments of a request are not accessible, so the BLOCK option cannot be detected
+            Command.XREAD, Command.XREADGROUP,
+            // commands that change the state of the connection
+            Command.SELECT, Command.CLIENT, Command.AUTH, Command.HELLO, Command.RESET,
+            Command.SUBSCRIBE, Command.PSUBSCRIBE, Command.SSUBSCRIBE,
+            Command.UNSUBSCRIBE, Command.PUNSUBSCRIBE, Command.SUNSUBSCRIBE,
+            Command.MULTI, Command.EXEC, Command.DISCARD, Command.WATCH, Command.UNWATCH,
+            Command.MONITOR, Command.QUIT);
+
+    private final Redis redis;
+
+    // Event loop threads only ever access their own batch
+    private final ThreadLocal<Batch> current = new ThreadLocal<>();
+
+    CommandBatcher(Redis redis) {
+        this.redis = redis;
+    }
+
+    Uni<Response> send(Request request) {
+        return Uni.createFrom().emitter(emitter -> {
+            Context context = io.vertx.core.Vertx.currentContext();
+            if (context == null || !Context.isOnEventLoopThread() || NOT_BATCHED.contains(request.command())) {
+                redis.send(request).subscribe().with(emitter::complete, emitter::fail);
+                return;
+            }
+            Batch batch = current.get();
+            if (batch == null) {
+                batch = new Batch();
+                current.set(batch);
+                context.runOnContext(ignored -> flush());
+            }
+            batch.requests.add(request);
+            batch.emitters.add(emitter);
+        });
+    }
+
+    private void flush() {
+        Batch batch = current.get();
+        current.remove();
+        if (batch == null) {
+            return;
+        }
+        if (batch.requests.size() == 1) {
+            redis.send(batch.requests.get(0)).subscribe().with(batch.emitters.get(0)::complete, batch.emitters.get(0)::fail);
+            return;
+        }
+        redis.connect().subscribe().with(connection -> send(connection, batch), failure -> {
+            for (UniEmitter<? super Response> emitter : batch.emitters) {
+                emitter.fail(failure);
+            }
+        });
+    }
+
+    private void send(RedisConnection connection, Batch batch) {
+        List<Uni<Response>> responses = new ArrayList<>(batch.requests.size());
+        for (int i = 0; i < batch.requests.size(); i++) {
+            UniEmitter<? super Response> emitter = batch.emitters.get(i);
+            responses.add(connection.send(batch.requests.get(i))
+                    .invoke(emitter::complete)
+                    .onFailure().invoke(emitter::fail)
+                    .onFailure().recoverWithNull());
+        }
+        Uni.join().all(responses).andFailFast()
+                .onTermination().call(connection::close)
+                .subscribe().with(ignored -> {
+                }, failure -> LOGGER.debugf(failure, "Unable to release the connection of a batch of Redis commands"));
+    }
+
+    private static final class Batch {
+        final List<Request> requests = new ArrayList<>();
+        final List<UniEmitter<? super Response>> emitters = new ArrayList<>();
+    }
+}
@@ -18,6 +18,7 @@
 
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.redis.client.Response;
 import io.vertx.redis.client.ResponseType;
 import tools.jackson.core.type.TypeReference;
@@ -57,6 +58,20 @@ public byte[] encode(Object o) {
         return codec.encode(o);
     }
 
+    /**
+     * Encodes the given object into a buffer. Prefer this method over {@link #encode(Object)} for values that may be
+     * large, as codecs can write the encoded content directly into the buffer.
+     */
+    public Buffer encodeToBuffer(Object o) {
+        if (o instanceof String) {
+            return Buffer.buffer((String) o);
+        }
+        if (o == null) {
+            return null;
+        }
+        return codec(o.getClass()).encodeToBuffer(o);
+    }
+
     @SafeVarargs
     public final <T> List<byte[]> encode(T... objects) {
         nonNull(objects, "objects");
@@ -77,6 +92,7 @@ Codec codec(Type clazz) {
         return codec;
     }
 
+    @SuppressWarnings("unchecked")
     public final <T> T decode(Type clazz, Response r) {
         if (r == null) {
             return null;
@@ -84,6 +100,10 @@ public final <T> T decode(Type clazz, Response r) {
         if (r.type() == ResponseType.SIMPLE) {
             return decode(clazz, r.toString().getBytes());
         }
+        if (r.type() == ResponseType.BULK) {
+            // Let the codec read the response buffer directly
+            return (T) codec(clazz).decode(r.toBuffer());
+        }
         return decode(clazz, r.toBytes());
     }
 
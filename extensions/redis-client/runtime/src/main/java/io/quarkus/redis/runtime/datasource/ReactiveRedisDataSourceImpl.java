@@ -5,6 +5,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -42,21 +43,42 @@
 import io.vertx.redis.client.Command;
 import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.types.SimpleStringType;
 import tools.jackson.core.type.TypeReference;
 
 public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, RedisCommandExecutor {
 
+    private static final Response QUEUED = SimpleStringType.create("QUEUED");
+
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    // Not null if the commands are enqueued in a pipeline
+    private final List<Request> pipeline;
+    // Not null if auto-batching is enabled
+    private final CommandBatcher batcher;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, false);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, boolean autoBatching) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = null;
+        this.batcher = autoBatching ? new CommandBatcher(redis) : null;
+    }
+
+    private ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, List<Request> pipeline) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = null;
+        this.pipeline = pipeline;
+        this.batcher = null;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -66,16 +88,59 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
+        this.batcher = null;
     }
 
     @Override
     public Uni<Response> execute(Request request) {
+        if (pipeline != null) {
+            // Enqueued right away so that the order matches the order of the transaction holder mappers
+            if (request.command() != Command.DISCARD) {
+                pipeline.add(request);
+            }
+            return Uni.createFrom().item(QUEUED);
+        }
         if (connection != null) {
             return connection.send(request);
         }
+        if (batcher != null) {
+            return batcher.send(request);
+        }
         return redis.send(request);
     }
 
+    @Override
+    public Uni<TransactionResult> withPipeline(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> pipeline) {
+        nonNull(pipeline, "pipeline");
+        return Uni.createFrom().deferred(() -> {
+            ReactiveRedisDataSourceImpl pipelined = pipelined();
+            TransactionHolder th = new TransactionHolder();
+            return pipeline.apply(new ReactiveTransactionalRedisDataSourceImpl(pipelined, th))
+                    .chain(x -> executePipeline(pipelined, th));
+        });
+    }
+
+    ReactiveRedisDataSourceImpl pipelined() {
+        return new ReactiveRedisDataSourceImpl(vertx, redis, new ArrayList<>());
+    }
+
+    Uni<TransactionResult> executePipeline(ReactiveRedisDataSourceImpl pipelined, TransactionHolder th) {
+        if (th.discarded()) {
+            return Uni.createFrom().item(TransactionResultImpl.DISCARDED);
+        }
+        if (pipelined.pipeline.isEmpty()) {
+            return Uni.createFrom().item(th.toResult(List.of()));
+        }
+        Uni<List<Response>> responses;
+        if (connection != null) {
+            responses = connection.batch(pipelined.pipeline);
+        } else {
+            responses = redis.batch(pipelined.pipeline);
+        }
+        return responses.map(th::toResult);
+    }
+
     @Override
     public Uni<TransactionResult> withTransaction(Function<ReactiveTransactionalRedisDataSource, Uni<Void>> tx) {
         nonNull(tx, "tx");
@@ -35,7 +35,9 @@ public RedisCommand put(Object x) {
         } else if (x instanceof Boolean) {
             this.request.arg((boolean) x);
         } else if (x instanceof byte[]) {
-            this.request.arg(Buffer.buffer((byte[]) x));
+            this.request.arg((byte[]) x);
+        } else if (x instanceof Buffer) {
+            this.request.arg((Buffer) x);
         } else if (x instanceof RedisCommandExtraArguments) {
             putArgs((RedisCommandExtraArguments) x);
         } else if (x instanceof List) {
@@ -90,4 +92,12 @@ public void putNullable(byte[] encoded) {
         }
     }
 
+    public void putNullable(Buffer encoded) {
+        if (encoded != null) {
+            this.request.arg(encoded);
+        } else {
+            this.request.arg("null");
+        }
+    }
+
 }
@@ -34,6 +34,15 @@ public TransactionResult toResult(Response response) {
         return new TransactionResultImpl(discarded, hasErrors, results);
     }
 
+    public TransactionResult toResult(List<Response> responses) {
+        List<Object> results = new ArrayList<>(mappers.size());
+        for (int i = 0; i < mappers.size(); i++) {
+            // `null` is a valid result, errors fail the whole batch
+            results.add(mappers.get(i).apply(responses.get(i)));
+        }
+        return new TransactionResultImpl(discarded, false, results);
+    }
+
     public <I> OptimisticLockingTransactionResult<I> toOptimisticLockingResult(I input, Response response) {
         boolean hasErrors = false;
         List<Object> results = new ArrayList<>();
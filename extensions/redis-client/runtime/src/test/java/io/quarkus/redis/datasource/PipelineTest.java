@@ -0,0 +1,147 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.list.KeyValue;
+import io.quarkus.redis.datasource.transactions.TransactionResult;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+
+public class PipelineTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(60));
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    public void pipelineBlocking() {
+        blocking.value(String.class).set("existing", "hello");
+
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+            pipeline.value(String.class).set(key, "bonjour");
+            pipeline.value(String.class).get("existing");
+            pipeline.hash(String.class).hset("hash", "field", "value");
+            pipeline.key().exists(key);
+            pipeline.value(Long.class).incr("counter");
+        });
+        assertThat(result.size()).isEqualTo(5);
+        assertThat(result.discarded()).isFalse();
+        assertThat(result.hasErrors()).isFalse();
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((String) result.get(1)).isEqualTo("hello");
+        assertThat((boolean) result.get(2)).isTrue();
+        assertThat((boolean) result.get(3)).isTrue();
+        assertThat((long) result.get(4)).isEqualTo(1L);
+        assertThat(blocking.value(String.class).get(key)).isEqualTo("bonjour");
+    }
+
+    @Test
+    public void pipelineReactive() {
+        TransactionResult result = reactive.withPipeline(pipeline -> Uni.combine().all().unis(
+                pipeline.value(String.class).set(key, "hello"),
+                pipeline.value(Long.class).incr("counter"),
+                pipeline.value(Long.class).incrby("counter", 10),
+                pipeline.value(String.class).get(key)).discardItems())
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(result.size()).isEqualTo(4);
+        assertThat(result.<Void> get(0)).isNull();
+        assertThat((long) result.get(1)).isEqualTo(1L);
+        assertThat((long) result.get(2)).isEqualTo(11L);
+        assertThat((String) result.get(3)).isEqualTo("hello");
+    }
+
+    @Test
+    public void pipelineDiscarded() {
+        TransactionResult result = blocking.withPipeline(pipeline -> {
+            pipeline.value(String.class).set(key, "hello");
+            pipeline.discard();
+        });
+        assertThat(result.discarded()).isTrue();
+        assertThat(result.size()).isZero();
+        assertThat(blocking.key().exists(key)).isFalse();
+
+        assertThatThrownBy(() -> blocking.withPipeline(pipeline -> {
+            pipeline.value(String.class).set(key, "hello");
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(blocking.key().exists(key)).isFalse();
+    }
+
+    @Test
+    public void autoBatching() throws Exception {
+        ReactiveRedisDataSource batching = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+        CompletableFuture<List<Long>> future = new CompletableFuture<>();
+        // Commands issued from the same event loop iteration are coalesced
+        vertx.getOrCreateContext().runOnContext(() -> {
+            List<Uni<Long>> increments = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                increments.add(batching.value(Long.class).incr(key));
+            }
+            Uni.join().all(increments).andFailFast()
+                    .subscribe().with(future::complete, future::completeExceptionally);
+        });
+        assertThat(future.get(10, TimeUnit.SECONDS)).hasSize(100).doesNotHaveDuplicates();
+        assertThat(blocking.value(Long.class).get(key)).isEqualTo(100L);
+
+        // A failing command does not affect the other commands of the batch
+        CompletableFuture<Long> failed = new CompletableFuture<>();
+        CompletableFuture<Long> succeeded = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(() -> {
+            batching.value(String.class).set("text", "hello")
+                    .chain(() -> {
+                        batching.value(Long.class).incr("text")
+                                .subscribe().with(failed::complete, failed::completeExceptionally);
+                        return batching.value(Long.class).incr(key);
+                    })
+                    .subscribe().with(succeeded::complete, succeeded::completeExceptionally);
+        });
+        assertThat(succeeded.get(10, TimeUnit.SECONDS)).isEqualTo(101L);
+        assertThat(failed).failsWithin(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void autoBatchingWithBlockingCommand() throws Exception {
+        ReactiveRedisDataSource batching = new ReactiveRedisDataSourceImpl(vertx, redis, api, true);
+        CompletableFuture<KeyValue<String, String>> popped = new CompletableFuture<>();
+        CompletableFuture<List<Long>> incremented = new CompletableFuture<>();
+        vertx.getOrCreateContext().runOnContext(() -> {
+            batching.list(String.class).blpop(Duration.ofSeconds(10), "queue")
+                    .subscribe().with(popped::complete, popped::completeExceptionally);
+            List<Uni<Long>> increments = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                increments.add(batching.value(Long.class).incr(key));
+            }
+            Uni.join().all(increments).andFailFast()
+                    .subscribe().with(incremented::complete, incremented::completeExceptionally);
+        });
+
+        // The commands issued after BLPOP are not stuck behind it
+        assertThat(incremented.get(5, TimeUnit.SECONDS)).hasSize(10).doesNotHaveDuplicates();
+        assertThat(popped).isNotDone();
+
+        blocking.list(String.class).rpush("queue", "item");
+        assertThat(popped.get(5, TimeUnit.SECONDS)).isEqualTo(KeyValue.of("queue", "item"));
+    }
+}
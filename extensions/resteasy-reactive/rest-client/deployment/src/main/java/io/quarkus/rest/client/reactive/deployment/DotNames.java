@@ -17,6 +17,7 @@
 import org.jboss.jandex.DotName;
 import org.jboss.resteasy.reactive.client.SseEventFilter;
 
+import io.quarkus.rest.client.reactive.Batched;
 import io.quarkus.rest.client.reactive.ClientBasicAuth;
 import io.quarkus.rest.client.reactive.ClientExceptionMapper;
 import io.quarkus.rest.client.reactive.ClientFormParam;
@@ -44,6 +45,8 @@ public class DotNames {
 
     public static final DotName CLIENT_BASIC_AUTH = DotName.createSimple(ClientBasicAuth.class.getName());
 
+    public static final DotName BATCHED = DotName.createSimple(Batched.class.getName());
+
     public static final DotName RESPONSE_EXCEPTION_MAPPER = DotName.createSimple(ResponseExceptionMapper.class.getName());
 
     static final DotName METHOD = DotName.createSimple(Method.class.getName());
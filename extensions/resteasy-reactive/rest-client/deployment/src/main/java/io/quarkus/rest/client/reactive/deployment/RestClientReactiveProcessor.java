@@ -1,5 +1,6 @@
 package io.quarkus.rest.client.reactive.deployment;
 
+import static io.quarkus.rest.client.reactive.deployment.DotNames.BATCHED;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_EXCEPTION_MAPPER;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_FORM_PARAM;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_FORM_PARAMS;
@@ -37,6 +38,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -54,6 +56,7 @@
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -110,8 +113,10 @@
 import io.quarkus.jaxrs.client.reactive.deployment.RestClientDefaultProducesBuildItem;
 import io.quarkus.jaxrs.client.reactive.deployment.RestClientDisableRemovalTrailingSlashBuildItem;
 import io.quarkus.jaxrs.client.reactive.deployment.RestClientDisableSmartDefaultProduces;
+import io.quarkus.rest.client.reactive.Batched;
 import io.quarkus.rest.client.reactive.CertificateUpdateEventListener;
 import io.quarkus.rest.client.reactive.runtime.AnnotationRegisteredProviders;
+import io.quarkus.rest.client.reactive.runtime.BatchedInterceptor;
 import io.quarkus.rest.client.reactive.runtime.RestClientReactiveCDIWrapperBase;
 import io.quarkus.rest.client.reactive.runtime.RestClientReactiveConfig;
 import io.quarkus.rest.client.reactive.runtime.RestClientRecorder;
@@ -231,6 +236,49 @@ void setupAdditionalBeans(BuildProducer<AdditionalBeanBuildItem> additionalBeans
         additionalBeans.produce(new AdditionalBeanBuildItem(CertificateUpdateEventListener.class));
     }
 
+    @BuildStep
+    void setupBatchedMethods(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        Collection<AnnotationInstance> instances = combinedIndex.getIndex().getAnnotations(BATCHED);
+        if (instances.isEmpty()) {
+            return;
+        }
+        Set<String> wrapperClassNames = new TreeSet<>();
+        for (AnnotationInstance instance : instances) {
+            MethodInfo method = instance.target().asMethod();
+            ClassInfo jaxrsInterface = method.declaringClass();
+            if (!jaxrsInterface.isInterface()) {
+                throw new RestClientDefinitionException(
+                        "@Batched may only be used on REST Client interface methods. Offending method is '" + method
+                                + "' of class '" + jaxrsInterface.name() + "'");
+            }
+            if (method.parametersCount() != 1 || !method.returnType().name().equals(ResteasyReactiveDotNames.UNI)) {
+                throw new RestClientDefinitionException(
+                        "Methods annotated with @Batched must have a single parameter and return Uni. Offending method is '"
+                                + method + "' of interface '" + jaxrsInterface.name() + "'");
+            }
+            String bulkMethodName = instance.value().asString();
+            MethodInfo bulkMethod = jaxrsInterface.method(bulkMethodName,
+                    ClassType.create(ResteasyReactiveDotNames.LIST));
+            if (bulkMethod == null || !bulkMethod.returnType().name().equals(ResteasyReactiveDotNames.UNI)) {
+                throw new RestClientDefinitionException("The bulk method '" + bulkMethodName
+                        + "' of a @Batched method must be declared by the same interface, accept a List of keys and return Uni."
+                        + " Offending method is '" + method + "' of interface '" + jaxrsInterface.name() + "'");
+            }
+            wrapperClassNames.add(jaxrsInterface.name().toString() + CDI_WRAPPER_SUFFIX);
+        }
+        additionalBeans.produce(AdditionalBeanBuildItem.builder()
+                .addBeanClasses(Batched.class, BatchedInterceptor.class)
+                .setUnremovable()
+                .build());
+        // the bulk methods are invoked reflectively on the generated CDI wrappers
+        reflectiveClasses.produce(ReflectiveClassBuildItem.builder(wrapperClassNames.toArray(new String[0]))
+                .methods()
+                .reason(getClass().getName())
+                .build());
+    }
+
     @BuildStep
     UnremovableBeanBuildItem unremovableBeans() {
         return UnremovableBeanBuildItem.beanTypes(RestClientsConfig.class, ClientLogger.class);
@@ -0,0 +1,147 @@
+package io.quarkus.rest.client.reactive;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.resteasy.reactive.RestQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.mutiny.Uni;
+
+public class BatchedTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Resource.class, ProductResource.class, Client.class))
+            .overrideRuntimeConfigKey("quarkus.rest-client.products.url",
+                    "http://localhost:${quarkus.http.test-port:8081}");
+
+    @BeforeEach
+    void reset() {
+        ProductResource.SINGLE_CALLS.clear();
+        ProductResource.BULK_CALLS.clear();
+    }
+
+    @Test
+    void testCallsOfTheSameRequestAreBatched() {
+        when().get("test/a,b,c")
+                .then()
+                .statusCode(200)
+                .body(is("product-a,product-b,product-c"));
+        assertThat(ProductResource.SINGLE_CALLS).isEmpty();
+        assertThat(ProductResource.BULK_CALLS).containsExactly(List.of("a", "b", "c"));
+    }
+
+    @Test
+    void testKeysAreDeduplicated() {
+        when().get("test/a,b,a")
+                .then()
+                .statusCode(200)
+                .body(is("product-a,product-b,product-a"));
+        assertThat(ProductResource.BULK_CALLS).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void testMaxSize() {
+        when().get("test/limited/a,b,c,d,e")
+                .then()
+                .statusCode(200)
+                .body(is("product-a,product-b,product-c,product-d,product-e"));
+        assertThat(ProductResource.BULK_CALLS).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    }
+
+    @Test
+    void testCallsOfDifferentRequestsAreNotBatched() {
+        when().get("test/a").then().statusCode(200).body(is("product-a"));
+        when().get("test/b").then().statusCode(200).body(is("product-b"));
+        assertThat(ProductResource.BULK_CALLS).containsExactly(List.of("a"), List.of("b"));
+    }
+
+    @Path("test")
+    public static class Resource {
+
+        private final Client client;
+
+        public Resource(@RestClient Client client) {
+            this.client = client;
+        }
+
+        @GET
+        @Path("{ids}")
+        public Uni<String> get(@PathParam("ids") String ids) {
+            return join(ids.split(","), false);
+        }
+
+        @GET
+        @Path("limited/{ids}")
+        public Uni<String> getLimited(@PathParam("ids") String ids) {
+            return join(ids.split(","), true);
+        }
+
+        private Uni<String> join(String[] ids, boolean limited) {
+            List<Uni<String>> products = new ArrayList<>();
+            for (String id : ids) {
+                products.add(limited ? client.getLimited(id) : client.get(id));
+            }
+            return Uni.join().all(products).andFailFast().map(list -> String.join(",", list));
+        }
+    }
+
+    @Path("products")
+    public static class ProductResource {
+
+        static final List<String> SINGLE_CALLS = new CopyOnWriteArrayList<>();
+        static final List<List<String>> BULK_CALLS = new CopyOnWriteArrayList<>();
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") String id) {
+            SINGLE_CALLS.add(id);
+            return "product-" + id;
+        }
+
+        @GET
+        public Map<String, String> getAll(@RestQuery List<String> id) {
+            BULK_CALLS.add(id);
+            Map<String, String> result = new LinkedHashMap<>();
+            for (String i : id) {
+                result.put(i, "product-" + i);
+            }
+            return result;
+        }
+    }
+
+    @Path("products")
+    @RegisterRestClient(configKey = "products")
+    public interface Client {
+
+        @GET
+        @Path("{id}")
+        @Batched("getAll")
+        Uni<String> get(@PathParam("id") String id);
+
+        @GET
+        @Path("{id}")
+        @Batched(value = "getAll", maxSize = 2)
+        Uni<String> getLimited(@PathParam("id") String id);
+
+        @GET
+        Uni<Map<String, String>> getAll(@RestQuery List<String> id);
+    }
+}
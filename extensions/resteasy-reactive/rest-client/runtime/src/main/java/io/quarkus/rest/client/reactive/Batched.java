@@ -0,0 +1,58 @@
+package io.quarkus.rest.client.reactive;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Batches the calls of a REST Client method that loads a single item by key.
+ * <p>
+ * The keys of the calls that are subscribed on the same Vert.x duplicated context, i.e. within the same request, before
+ * the context gets back to the event loop are collected and a single call of the bulk method is made instead. The bulk
+ * method must be declared by the same interface, accept a {@code List} of keys and return either a {@code Uni<Map>}
+ * with the items by key or a {@code Uni<List>} with the items in the order of the keys.
+ * <p>
+ * An example client could look like the following:
+ *
+ * <pre>
+ * {@code
+ * &#64;RegisterRestClient(configKey = "products")
+ * public interface ProductsClient {
+ *
+ *     &#64;GET
+ *     &#64;Path("/{id}")
+ *     &#64;Batched("getAll")
+ *     Uni<Product> get(String id);
+ *
+ *     &#64;GET
+ *     Uni<Map<String, Product>> getAll(&#64;RestQuery List<String> id);
+ * }
+ * }
+ * </pre>
+ *
+ * Outside of a duplicated context the bulk method is called for every key.
+ */
+@InterceptorBinding
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Batched {
+
+    /**
+     * The name of the bulk method.
+     */
+    @Nonbinding
+    String value();
+
+    /**
+     * The maximum number of keys in a single bulk call. A bulk call is made as soon as the limit is reached. There is no
+     * limit if the value is not positive.
+     */
+    @Nonbinding
+    int maxSize() default 0;
+}
@@ -0,0 +1,190 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.rest.client.reactive.Batched;
+import io.smallrye.common.vertx.ContextLocals;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Collects the keys of the {@link Batched} method calls that are subscribed on the same duplicated context and makes a
+ * single bulk call once the context gets back to the event loop.
+ */
+@Batched("") // The attributes are @Nonbinding
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_AFTER)
+public class BatchedInterceptor {
+
+    private static final String BATCHES = BatchedInterceptor.class.getName() + ".batches";
+
+    private final ConcurrentMap<Method, Method> bulkMethods = new ConcurrentHashMap<>();
+
+    @AroundInvoke
+    Object batch(InvocationContext context) {
+        Batched batched = context.getInterceptorBinding(Batched.class);
+        Method bulkMethod = bulkMethods.computeIfAbsent(context.getMethod(),
+                method -> findBulkMethod(method, batched.value()));
+        Object target = context.getTarget();
+        Object key = context.getParameters()[0];
+        return Uni.createFrom().emitter(emitter -> {
+            Context vertxContext = Vertx.currentContext();
+            if (vertxContext == null || !VertxContext.isDuplicatedContext(vertxContext)) {
+                Batch batch = new Batch(bulkMethod, target, 0);
+                batch.add(key, emitter);
+                batch.dispatch();
+                return;
+            }
+            ConcurrentMap<BatchKey, Batch> batches = batches();
+            BatchKey batchKey = new BatchKey(bulkMethod, target);
+            while (true) {
+                Batch batch = batches.get(batchKey);
+                if (batch == null) {
+                    batch = new Batch(bulkMethod, target, batched.maxSize());
+                    Batch existing = batches.putIfAbsent(batchKey, batch);
+                    if (existing != null) {
+                        batch = existing;
+                    } else {
+                        Batch scheduled = batch;
+                        vertxContext.runOnContext(ignored -> {
+                            batches.remove(batchKey, scheduled);
+                            scheduled.dispatch();
+                        });
+                    }
+                }
+                if (batch.add(key, emitter)) {
+                    if (batch.isFull()) {
+                        batches.remove(batchKey, batch);
+                        batch.dispatch();
+                    }
+                    return;
+                }
+                // the batch has already been dispatched
+                batches.remove(batchKey, batch);
+            }
+        });
+    }
+
+    private static ConcurrentMap<BatchKey, Batch> batches() {
+        Optional<ConcurrentMap<BatchKey, Batch>> batches = ContextLocals.get(BATCHES);
+        if (batches.isPresent()) {
+            return batches.get();
+        }
+        ConcurrentMap<BatchKey, Batch> created = new ConcurrentHashMap<>();
+        ContextLocals.put(BATCHES, created);
+        return created;
+    }
+
+    static Method findBulkMethod(Method method, String name) {
+        try {
+            return method.getDeclaringClass().getMethod(name, List.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Bulk method '" + name + "(List)' declared by @Batched on " + method
+                    + " does not exist", e);
+        }
+    }
+
+    private record BatchKey(Method bulkMethod, Object target) {
+    }
+
+    static final class Batch {
+
+        private final Method bulkMethod;
+        private final Object target;
+        private final Map<Object, List<UniEmitter<Object>>> emitters = new LinkedHashMap<>();
+        private final int maxSize;
+        private boolean dispatched;
+
+        Batch(Method bulkMethod, Object target, int maxSize) {
+            this.bulkMethod = bulkMethod;
+            this.target = target;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * @return {@code false} if the batch has already been dispatched
+         */
+        @SuppressWarnings("unchecked")
+        synchronized boolean add(Object key, UniEmitter<?> emitter) {
+            if (dispatched) {
+                return false;
+            }
+            emitters.computeIfAbsent(key, k -> new ArrayList<>(1)).add((UniEmitter<Object>) emitter);
+            return true;
+        }
+
+        synchronized boolean isFull() {
+            return maxSize > 0 && emitters.size() >= maxSize;
+        }
+
+        void dispatch() {
+            List<Object> keys;
+            List<List<UniEmitter<Object>>> keyEmitters;
+            synchronized (this) {
+                if (dispatched) {
+                    return;
+                }
+                dispatched = true;
+                keys = new ArrayList<>(emitters.keySet());
+                keyEmitters = new ArrayList<>(emitters.values());
+            }
+            Uni<?> result;
+            try {
+                result = (Uni<?>) bulkMethod.invoke(target, keys);
+            } catch (InvocationTargetException e) {
+                fail(keyEmitters, e.getCause());
+                return;
+            } catch (Throwable e) {
+                fail(keyEmitters, e);
+                return;
+            }
+            result.subscribe().with(items -> complete(keys, keyEmitters, items), failure -> fail(keyEmitters, failure));
+        }
+
+        private void complete(List<Object> keys, List<List<UniEmitter<Object>>> keyEmitters, Object items) {
+            if (items instanceof Map<?, ?> map) {
+                for (int i = 0; i < keys.size(); i++) {
+                    Object item = map.get(keys.get(i));
+                    for (UniEmitter<Object> emitter : keyEmitters.get(i)) {
+                        emitter.complete(item);
+                    }
+                }
+            } else if (items instanceof List<?> list && list.size() == keys.size()) {
+                for (int i = 0; i < keys.size(); i++) {
+                    Object item = list.get(i);
+                    for (UniEmitter<Object> emitter : keyEmitters.get(i)) {
+                        emitter.complete(item);
+                    }
+                }
+            } else {
+                fail(keyEmitters, new IllegalStateException("Bulk method " + bulkMethod + " returned "
+                        + (items == null ? null : items.getClass().getName()) + " for " + keys.size()
+                        + " keys, a Map or a List of the same size was expected"));
+            }
+        }
+
+        private static void fail(List<List<UniEmitter<Object>>> keyEmitters, Throwable failure) {
+            for (List<UniEmitter<Object>> emitters : keyEmitters) {
+                for (UniEmitter<Object> emitter : emitters) {
+                    emitter.fail(failure);
+                }
+            }
+        }
+    }
+}
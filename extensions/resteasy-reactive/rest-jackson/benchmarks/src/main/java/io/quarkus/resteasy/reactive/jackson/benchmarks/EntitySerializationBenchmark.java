@@ -0,0 +1,134 @@
+package io.quarkus.resteasy.reactive.jackson.benchmarks;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares the ways the server Jackson writers can produce a JSON response body.
+ * <ul>
+ * <li>{@code stream}: the entity is written through the response output stream, which copies the bytes into chunks of
+ * the default output buffer size ({@code quarkus.rest.output-buffer-size}) that are passed to Vert.x one by one.</li>
+ * <li>{@code pooled}: the entity is written into a single pooled buffer with the default initial capacity.</li>
+ * <li>{@code pooled-estimated}: the entity is written into a single pooled buffer whose initial capacity is the size
+ * estimate of the resource method, as {@code PooledBufferJsonWriter} does once the estimate has converged.</li>
+ * </ul>
+ * The buffers are released at the end of each operation, the network write itself is not measured. Run with
+ * {@code java -jar target/benchmark.jar EntitySerializationBenchmark -prof gc} to also compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EntitySerializationBenchmark {
+
+    private static final int OUTPUT_BUFFER_SIZE = 8191;
+    private static final int DEFAULT_CAPACITY = 512;
+    private static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+
+    @Param({ "1", "100", "10000" })
+    public int entries;
+
+    @Param({ "stream", "pooled", "pooled-estimated" })
+    public String mode;
+
+    private ObjectWriter writer;
+    private List<Entry> entity;
+    private int estimate;
+
+    @Setup
+    public void setup() {
+        writer = JsonMapper.builder().build().writerFor(List.class);
+        entity = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            entity.add(new Entry("entry-" + i, i, "lorem ipsum dolor sit amet, consectetur adipiscing elit"));
+        }
+        int size = writer.writeValueAsBytes(entity).length;
+        estimate = Math.min(size + (size >> 2), MAX_INITIAL_CAPACITY);
+    }
+
+    @Benchmark
+    public int serialize() {
+        if (mode.equals("stream")) {
+            ChunkingOutputStream out = new ChunkingOutputStream();
+            writer.writeValue(out, entity);
+            return out.written;
+        }
+        ByteBuf buffer = VertxByteBufAllocator.POOLED_ALLOCATOR
+                .directBuffer(mode.equals("pooled") ? DEFAULT_CAPACITY : estimate);
+        try {
+            writer.writeValue(new ByteBufOutputStream(buffer), entity);
+            return buffer.readableBytes();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Copies the bytes into pooled chunks of {@link #OUTPUT_BUFFER_SIZE}, a full chunk is released as if it was written
+     * to the connection.
+     */
+    static final class ChunkingOutputStream extends OutputStream {
+
+        private ByteBuf chunk;
+        int written;
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (chunk == null) {
+                    chunk = VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(OUTPUT_BUFFER_SIZE);
+                }
+                int n = Math.min(len, chunk.writableBytes());
+                chunk.writeBytes(b, off, n);
+                off += n;
+                len -= n;
+                if (!chunk.isWritable()) {
+                    flushChunk();
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (chunk != null) {
+                flushChunk();
+            }
+        }
+
+        private void flushChunk() {
+            written += chunk.readableBytes();
+            chunk.release();
+            chunk = null;
+        }
+    }
+
+    public record Entry(String name, int index, String description) {
+    }
+}
@@ -344,24 +344,29 @@ private void registerTypeToBeGenerated(Type type) {
         registerTypeToBeGenerated(type.name().toString());
     }
 
-    private void registerTypeToBeGenerated(String typeName) {
+    protected void registerTypeToBeGenerated(String typeName) {
         ClassInfo classInfo = jandexIndex.getClassByName(typeName);
         if (classInfo == null || !isRuntimeAccessible(classInfo, typeName)) {
             return;
         }
-        if (vetoedClass(classInfo, typeName)) {
-            if (classInfo.isSealed()) {
-                for (DotName subClassName : classInfo.permittedSubclasses()) {
-                    registerTypeToBeGenerated(subClassName.toString());
-                }
-            }
-            return;
-        }
-        if (shouldGenerateCodeFor(classInfo)) {
+        registerSubTypesToBeGenerated(classInfo);
+        if (!vetoedClass(classInfo, typeName) && shouldGenerateCodeFor(classInfo)) {
             toBeGenerated.add(classInfo);
         }
     }
 
+    /**
+     * Registers the subtypes of the given class that may be used at runtime in place of it. By default, only the permitted
+     * subclasses of a sealed class or interface that cannot be instantiated are registered.
+     */
+    protected void registerSubTypesToBeGenerated(ClassInfo classInfo) {
+        if (classInfo.isSealed() && vetoedClass(classInfo, classInfo.name().toString())) {
+            for (DotName subClassName : classInfo.permittedSubclasses()) {
+                registerTypeToBeGenerated(subClassName.toString());
+            }
+        }
+    }
+
     private static boolean isRuntimeAccessible(ClassInfo classInfo, String className) {
         return Modifier.isPublic(classInfo.flags()) || isApplicationClass(className);
     }
@@ -379,23 +384,6 @@ protected static boolean isClassFormatShapeArray(ClassInfo classInfo) {
         return shape != null && "ARRAY".equals(shape.asEnum());
     }
 
-    private static final DotName JSON_TYPE_INFO = DotName.createSimple(JsonTypeInfo.class);
-
-    protected boolean hasJsonTypeInfoInTypeChain(Type type) {
-        ClassInfo classInfo = jandexIndex.getClassByName(type.name());
-        if (classInfo != null && classInfo.hasDeclaredAnnotation(JSON_TYPE_INFO)) {
-            return true;
-        }
-        if (type instanceof ParameterizedType pType) {
-            for (Type arg : pType.arguments()) {
-                if (hasJsonTypeInfoInTypeChain(arg)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     protected static String anyGetterBackingFieldName(MethodInfo anyGetterMethod) {
         String methodName = anyGetterMethod.name();
         if (methodName.startsWith("get") && methodName.length() > 3) {
@@ -20,7 +20,11 @@
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
@@ -30,7 +34,10 @@
 import org.jboss.jandex.VoidType;
 
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
@@ -153,8 +160,11 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * Also note that this works only if the Java class to be deserialized has an empty constructor, is a record, or declares a
+ * public constructor annotated with {@code @JsonCreator} binding the json properties to its parameters, while the
+ * generation of this deserializer is skipped in all other cases. When the class is polymorphic, i.e. it is annotated with
+ * {@code @JsonTypeInfo}, Jackson still resolves the concrete type from the type id, and then the deserializers are
+ * generated for its subtypes declared with {@code @JsonSubTypes} or permitted by a sealed hierarchy.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -220,6 +230,8 @@
  */
 public class JacksonDeserializerFactory extends JacksonCodeGenerator {
 
+    private final Set<DotName> visitedSubTypes = new HashSet<>();
+
     public JacksonDeserializerFactory(BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             IndexView jandexIndex) {
         super(generatedClassBuildItemBuildProducer, jandexIndex);
@@ -333,7 +345,7 @@ private ResultHandle createDeserializedObject(DeserializationData deserData) {
                     deserData.methodCreator.getMethodParam(1), fieldSpecs, deserData.typeParametersIndex, fieldValue);
             if (paramValue == null) {
                 // the value of this parameter cannot be deserialized in a reflection-free way (e.g. its
-                // type is polymorphic), so give up generating the deserializer for the whole class
+                // type variable cannot be resolved), so give up generating the deserializer for the whole class
                 return null;
             }
             params[i++] = paramValue;
@@ -854,10 +866,6 @@ private ResultHandle readValueFromJson(ClassCreator classCreator, BytecodeCreato
             return readValueForPrimitiveFields(bytecode, fieldType, valueNode);
         }
 
-        if (hasJsonTypeInfoInTypeChain(fieldType)) {
-            return null;
-        }
-
         FieldKind fieldKind = registerTypeToBeGenerated(fieldType, fieldTypeName);
         ResultHandle typeHandle = switch (fieldKind) {
             case TYPE_VARIABLE -> readTypeVariable(classCreator, bytecode, fieldType.asTypeVariable(), typeParametersIndex);
@@ -1018,6 +1026,14 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
     @Override
     protected Optional<MethodInfo> findConstructor(ClassInfo classInfo) {
         Optional<MethodInfo> ctorOpt = super.findConstructor(classInfo);
+        if (ctorOpt.isPresent()) {
+            AnnotationInstance jsonCreator = ctorOpt.get().annotation(JSON_CREATOR);
+            if (jsonCreator != null && jsonCreator.target().kind() == AnnotationTarget.Kind.METHOD
+                    && !isPropertiesCreator(ctorOpt.get(), jsonCreator)) {
+                // delegating creators are not supported
+                return Optional.empty();
+            }
+        }
         if (ctorOpt.isPresent() && ctorOpt.get().parametersCount() == 0 && !classInfo.isRecord()) {
             Set<String> unsettableFields = findUnsettableFields(classInfo);
             if (!unsettableFields.isEmpty()) {
@@ -1061,11 +1077,74 @@ private Set<String> findUnsettableFields(ClassInfo classInfo) {
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        return super.shouldGenerateCodeFor(classInfo)
+                && (classInfo.hasNoArgsConstructor() || classInfo.isRecord() || findPropertiesCreator(classInfo) != null);
+    }
+
+    @Override
+    public Collection<String> create(Collection<ClassInfo> classInfos) {
+        // a request body can be declared with a polymorphic type, so make sure its subtypes are generated too
+        for (ClassInfo classInfo : classInfos) {
+            registerSubTypesToBeGenerated(classInfo);
+        }
+        return super.create(classInfos);
+    }
+
+    /**
+     * Jackson resolves the concrete type of a polymorphic value from its type id, and then delegates to the deserializer of
+     * that type, so the subtypes declared with {@code @JsonSubTypes} need a generated deserializer as well.
+     */
+    @Override
+    protected void registerSubTypesToBeGenerated(ClassInfo classInfo) {
+        if (!visitedSubTypes.add(classInfo.name())) {
+            return;
+        }
+        super.registerSubTypesToBeGenerated(classInfo);
+        AnnotationInstance jsonSubTypes = classInfo.declaredAnnotation(JSON_SUB_TYPES);
+        if (jsonSubTypes != null && jsonSubTypes.value() != null) {
+            for (AnnotationInstance subType : jsonSubTypes.value().asNestedArray()) {
+                registerTypeToBeGenerated(subType.value().asClass().name().toString());
+            }
+        }
+    }
+
+    /**
+     * @return the public constructor annotated with {@code @JsonCreator} that binds the JSON properties to its parameters,
+     *         or {@code null} if there is no such constructor, e.g. because it is a delegating creator
+     */
+    private static MethodInfo findPropertiesCreator(ClassInfo classInfo) {
+        for (MethodInfo ctor : classInfo.constructors()) {
+            AnnotationInstance jsonCreator = ctor.annotation(JSON_CREATOR);
+            if (jsonCreator == null || jsonCreator.target().kind() != AnnotationTarget.Kind.METHOD
+                    || !Modifier.isPublic(ctor.flags())) {
+                continue;
+            }
+            return isPropertiesCreator(ctor, jsonCreator) ? ctor : null;
+        }
+        return null;
+    }
+
+    private static boolean isPropertiesCreator(MethodInfo ctor, AnnotationInstance jsonCreator) {
+        AnnotationValue mode = jsonCreator.value("mode");
+        if (mode != null) {
+            if (mode.asEnum().equals(JsonCreator.Mode.PROPERTIES.name())) {
+                return true;
+            }
+            if (!mode.asEnum().equals(JsonCreator.Mode.DEFAULT.name())) {
+                return false;
+            }
+        }
+        // a single argument creator is considered delegating unless its parameter is bound to a property explicitly
+        return ctor.parametersCount() > 1
+                || (ctor.parametersCount() == 1 && ctor.parameters().get(0).hasDeclaredAnnotation(JSON_PROPERTY));
     }
 
     private static final String TRANSLATABLE_FIELD_NAMES = "TRANSLATABLE_FIELD_NAMES";
 
+    private static final DotName JSON_CREATOR = DotName.createSimple(JsonCreator.class);
+    private static final DotName JSON_PROPERTY = DotName.createSimple(JsonProperty.class);
+    private static final DotName JSON_SUB_TYPES = DotName.createSimple(JsonSubTypes.class);
+
     private record DeserializationData(ClassInfo classInfo, MethodInfo constructor, ClassCreator classCreator,
             MethodCreator methodCreator,
             ResultHandle jsonNode, Map<String, Integer> typeParametersIndex, Set<String> constructorFields,
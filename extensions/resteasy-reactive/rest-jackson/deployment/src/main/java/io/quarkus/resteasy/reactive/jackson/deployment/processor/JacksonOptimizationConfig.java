@@ -20,6 +20,14 @@ public interface JacksonOptimizationConfig {
     @WithDefault("true")
     boolean enableReflectionFreeSerializers();
 
+    /**
+     * Enable build time generation of reflection-free Jackson deserializers for the request bodies of the REST endpoints,
+     * including records, classes with a {@code @JsonCreator} constructor and polymorphic types.
+     * This only applies when the generation of reflection-free serializers is enabled.
+     */
+    @WithDefault("true")
+    boolean enableReflectionFreeDeserializers();
+
     class IsReflectionFreeSerializersEnabled implements BooleanSupplier {
         JacksonOptimizationConfig config;
 
@@ -20,9 +20,6 @@
 import java.util.function.Supplier;
 
 import jakarta.inject.Singleton;
-import jakarta.ws.rs.PATCH;
-import jakarta.ws.rs.POST;
-import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.RuntimeType;
 import jakarta.ws.rs.core.Cookie;
@@ -38,6 +35,8 @@
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.model.MethodParameter;
+import org.jboss.resteasy.reactive.common.model.ParameterType;
 import org.jboss.resteasy.reactive.common.model.ResourceMethod;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.server.util.MethodId;
@@ -398,7 +397,7 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
             List<ResponseTypeUnwrapperBuildItem> responseTypeUnwrappers,
-            ResteasyReactiveServerJacksonRecorder recorder,
+            ResteasyReactiveServerJacksonRecorder recorder, JacksonOptimizationConfig jacksonOptimizationConfig,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
 
         IndexView indexView = jaxRsIndex.getIndexView();
@@ -418,11 +417,15 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
                 serializedClasses.put(effectiveReturnClassInfo.name().toString(), effectiveReturnClassInfo);
             }
 
-            if (methodInfo.hasAnnotation(POST.class) || methodInfo.hasAnnotation(PUT.class)
-                    || methodInfo.hasAnnotation(PATCH.class)) {
-                for (Type paramType : methodInfo.parameterTypes()) {
-                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(paramType, indexView, additionalUnwrapTypes);
-                    if (effectiveParamClassInfo != null) {
+            if (jacksonOptimizationConfig.enableReflectionFreeDeserializers()) {
+                MethodParameter[] parameters = entry.getResourceMethod().getParameters();
+                for (int i = 0; i < parameters.length && i < methodInfo.parametersCount(); i++) {
+                    if (parameters[i].parameterType != ParameterType.BODY) {
+                        continue;
+                    }
+                    ClassInfo effectiveParamClassInfo = getEffectiveClassInfo(methodInfo.parameterType(i), indexView,
+                            additionalUnwrapTypes);
+                    if (effectiveParamClassInfo != null && !effectiveParamClassInfo.isEnum()) {
                         deserializedClasses.put(effectiveParamClassInfo.name().toString(), effectiveParamClassInfo);
                     }
                 }
@@ -550,6 +553,9 @@ private static ClassInfo getEffectiveClassInfo(Type type, IndexView indexView, S
 
     private static Type getEffectiveType(Type type, Set<DotName> additionalUnwrapTypes) {
         Type effectiveReturnType = type;
+        if (effectiveReturnType.kind() == Type.Kind.ARRAY) {
+            effectiveReturnType = effectiveReturnType.asArrayType().elementType();
+        }
         if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
                 effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
                 effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
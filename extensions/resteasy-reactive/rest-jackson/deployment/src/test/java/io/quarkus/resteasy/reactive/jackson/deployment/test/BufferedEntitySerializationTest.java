@@ -0,0 +1,119 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.common.mapper.TypeRef;
+import io.restassured.response.Response;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class BufferedEntitySerializationTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(TestResource.class, Entry.class);
+                }
+            });
+
+    @Test
+    public void testSmallEntities() {
+        for (int i = 0; i < 20; i++) {
+            assertEntries("/buffered/blocking", 1 + i);
+            assertEntries("/buffered/non-blocking", 1 + i);
+        }
+    }
+
+    @Test
+    public void testLargeEntities() {
+        // ~1 MB of JSON
+        for (int i = 0; i < 5; i++) {
+            assertEntries("/buffered/blocking", 10_000);
+            assertEntries("/buffered/non-blocking", 10_000);
+        }
+        // the size estimate must not break smaller entities afterwards
+        assertEntries("/buffered/blocking", 2);
+    }
+
+    @Test
+    public void testEntitiesLargerThanBufferLimit() {
+        // ~6 MB of JSON, more than the pooled buffer may hold
+        for (int i = 0; i < 2; i++) {
+            Response response = given()
+                    .accept("application/json")
+                    .queryParam("count", 60_000)
+                    .get("/buffered/huge");
+            response.then().statusCode(200).contentType("application/json");
+            List<Entry> entries = response.as(new TypeRef<>() {
+            });
+            assertThat(entries).hasSize(60_000);
+            assertThat(entries.get(59_999).name()).isEqualTo("entry-59999");
+            // written through the output stream
+            assertThat(response.header("Content-Length")).isNull();
+        }
+    }
+
+    private static void assertEntries(String path, int count) {
+        Response response = given()
+                .accept("application/json")
+                .queryParam("count", count)
+                .get(path);
+        response.then().statusCode(200).contentType("application/json");
+        List<Entry> entries = response.as(new TypeRef<>() {
+        });
+        assertThat(entries).hasSize(count);
+        assertThat(entries.get(count - 1).name()).isEqualTo("entry-" + (count - 1));
+        assertThat(response.header("Content-Length")).isEqualTo(String.valueOf(response.asByteArray().length));
+    }
+
+    @Path("/buffered")
+    public static class TestResource {
+
+        @GET
+        @Path("/blocking")
+        public List<Entry> blocking(@QueryParam("count") int count) {
+            return entries(count);
+        }
+
+        @NonBlocking
+        @GET
+        @Path("/non-blocking")
+        public List<Entry> nonBlocking(@QueryParam("count") int count) {
+            return entries(count);
+        }
+
+        @GET
+        @Path("/huge")
+        public List<Entry> huge(@QueryParam("count") int count) {
+            return entries(count);
+        }
+
+        private static List<Entry> entries(int count) {
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                entries.add(new Entry("entry-" + i, i, "lorem ipsum dolor sit amet, consectetur adipiscing elit"));
+            }
+            return entries;
+        }
+    }
+
+    public record Entry(String name, int index, String description) {
+    }
+}
@@ -0,0 +1,154 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeDeserializerTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(Order.class, Money.class, Shape.class, Circle.class, Square.class,
+                    Line.class, TestResource.class));
+
+    @Test
+    void testGeneratedDeserializers() {
+        assertThat(List.of(Order.class, Money.class, Circle.class, Square.class, Line.class))
+                .allMatch(ReflectionFreeDeserializerTest::hasGeneratedDeserializer);
+    }
+
+    @Test
+    void testRecord() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"id\":\"order-1\",\"quantity\":3,\"lines\":[{\"product\":\"cheese\",\"price\":2}]}")
+                .post("/test/record")
+                .then().statusCode(200).body(is("order-1:3:cheese"));
+    }
+
+    @Test
+    void testJsonCreator() {
+        RestAssured.given().contentType("application/json")
+                .body("{\"amount\":42,\"currency\":\"EUR\"}")
+                .post("/test/creator")
+                .then().statusCode(200).body(is("42 EUR"));
+    }
+
+    @Test
+    void testCollection() {
+        RestAssured.given().contentType("application/json")
+                .body("[{\"product\":\"cheese\",\"price\":2},{\"product\":\"wine\",\"price\":10}]")
+                .post("/test/collection")
+                .then().statusCode(200).body(is("12"));
+    }
+
+    @Test
+    void testPolymorphic() {
+        RestAssured.given().contentType("application/json")
+                .body("[{\"type\":\"circle\",\"radius\":1},{\"type\":\"square\",\"side\":2}]")
+                .post("/test/polymorphic")
+                .then().statusCode(200).body(is("circle square"));
+    }
+
+    private static boolean hasGeneratedDeserializer(Class<?> type) {
+        try {
+            Class.forName(type.getName() + "$quarkusjacksondeserializer", false,
+                    Thread.currentThread().getContextClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Path("/test")
+    public static class TestResource {
+
+        @POST
+        @Path("/record")
+        public String record(Order order) {
+            return order.id() + ":" + order.quantity() + ":" + order.lines().get(0).product();
+        }
+
+        @POST
+        @Path("/creator")
+        public String creator(Money money) {
+            return money.getAmount() + " " + money.getCurrency();
+        }
+
+        @POST
+        @Path("/collection")
+        public String collection(List<Line> lines) {
+            return String.valueOf(lines.stream().mapToInt(Line::price).sum());
+        }
+
+        @POST
+        @Path("/polymorphic")
+        public String polymorphic(List<Shape> shapes) {
+            return String.join(" ", shapes.stream().map(Shape::name).toList());
+        }
+    }
+
+    public record Order(String id, int quantity, List<Line> lines) {
+    }
+
+    public record Line(String product, int price) {
+    }
+
+    public static class Money {
+
+        private final long amount;
+        private final String currency;
+
+        @JsonCreator
+        public Money(@JsonProperty("amount") long amount, @JsonProperty("currency") String currency) {
+            this.amount = amount;
+            this.currency = currency;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+    @JsonSubTypes({ @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square") })
+    public sealed interface Shape permits Circle, Square {
+
+        String name();
+    }
+
+    public record Circle(double radius) implements Shape {
+
+        @Override
+        public String name() {
+            return "circle";
+        }
+    }
+
+    public record Square(double side) implements Shape {
+
+        @Override
+        public String name() {
+            return "square";
+        }
+    }
+}
@@ -32,6 +32,7 @@ public class BasicServerJacksonMessageBodyWriter extends ServerMessageBodyWriter
 
     private final LazyValue<ObjectWriter> defaultWriter;
     private final Map<JavaType, ObjectWriter> genericWriters = new ConcurrentHashMap<>();
+    private final PooledBufferJsonWriter bufferWriter = new PooledBufferJsonWriter();
 
     // used by Arc
     public BasicServerJacksonMessageBodyWriter() {
@@ -77,11 +78,17 @@ public ObjectWriter apply(JavaType type) {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
+        OutputStream stream;
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
+            stream = context.getOrCreateOutputStream();
             stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
-            getWriter(genericType, o).writeValue(stream, o);
+            ObjectWriter writer = getWriter(genericType, o);
+            if (bufferWriter.write(writer, o, context)) {
+                return;
+            }
+            stream = context.getOrCreateOutputStream();
+            writer.writeValue(stream, o);
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
         stream.close();
@@ -44,6 +44,7 @@ public class FullyFeaturedServerJacksonMessageBodyWriter extends ServerMessageBo
     private final ConcurrentMap<String, ObjectWriter> perTypeWriter = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, ObjectMapper> contextResolverMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<ObjectMapper, ObjectWriter> objectWriterMap = new ConcurrentHashMap<>();
+    private final PooledBufferJsonWriter bufferWriter = new PooledBufferJsonWriter();
 
     // used by Arc
     public FullyFeaturedServerJacksonMessageBodyWriter() {
@@ -67,8 +68,9 @@ public ObjectWriter get() {
     @Override
     public void writeResponse(Object o, Type genericType, ServerRequestContext context)
             throws WebApplicationException, IOException {
-        OutputStream stream = context.getOrCreateOutputStream();
+        OutputStream stream;
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
+            stream = context.getOrCreateOutputStream();
             stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
             ObjectMapper effectiveMapper = getEffectiveMapper(o, context);
@@ -102,6 +104,10 @@ public void writeResponse(Object o, Type genericType, ServerRequestContext conte
                     effectiveWriter = effectiveWriter.forType(rootType);
                 }
             }
+            if (bufferWriter.write(effectiveWriter, o, context)) {
+                return;
+            }
+            stream = context.getOrCreateOutputStream();
             effectiveWriter.writeValue(stream, o);
         }
         // we don't use try-with-resources because that results in writing to the http output without the exception mapping coming into play
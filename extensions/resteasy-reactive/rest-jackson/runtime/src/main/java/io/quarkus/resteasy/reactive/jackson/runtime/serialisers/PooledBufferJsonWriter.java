@@ -0,0 +1,174 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.utils.NoBoundChecksBuffer;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Serializes an entity into a single pooled buffer that is passed to Vert.x when the response is ended, instead of
+ * writing it in chunks through the response output stream.
+ * <p>
+ * The initial capacity of the buffer is derived from the running average of the entity sizes of each resource method,
+ * so that the buffer rarely needs to grow. Methods without resource info share a default estimate. The buffer never
+ * grows beyond {@link #MAX_BUFFERED_SIZE}: a larger entity is written through the output stream from that point on, and
+ * resource methods that produce such entities on average keep using the output stream from the start.
+ */
+final class PooledBufferJsonWriter {
+
+    static final int DEFAULT_CAPACITY = 512;
+    // the initial capacity is capped, larger entities grow the buffer as needed
+    static final int MAX_INITIAL_CAPACITY = 64 * 1024;
+    // entities larger than this are written through the output stream
+    static final int MAX_BUFFERED_SIZE = 4 * 1024 * 1024;
+
+    private final ConcurrentMap<String, SizeEstimate> estimates = new ConcurrentHashMap<>();
+    private final SizeEstimate defaultEstimate = new SizeEstimate();
+
+    /**
+     * @return {@code true} if the response was ended, {@code false} if the entity must be written to the output stream
+     */
+    boolean write(ObjectWriter writer, Object entity, ServerRequestContext context) throws IOException {
+        if (!(context instanceof VertxResteasyReactiveRequestContext vertxContext) || vertxContext.getOutputStream() != null) {
+            // the output stream was already created or replaced by a filter
+            return false;
+        }
+        SizeEstimate estimate = defaultEstimate;
+        ResteasyReactiveResourceInfo resourceInfo = context.getResteasyReactiveResourceInfo();
+        if (resourceInfo != null) {
+            estimate = estimates.computeIfAbsent(resourceInfo.getMethodId(), SizeEstimate.FACTORY);
+        }
+        if (estimate.average > MAX_BUFFERED_SIZE) {
+            return false;
+        }
+        SpillingOutputStream out = new SpillingOutputStream(VertxByteBufAllocator.POOLED_ALLOCATOR
+                .directBuffer(estimate.capacity(), MAX_BUFFERED_SIZE), context);
+        try {
+            writer.writeValue(out, entity);
+        } catch (Throwable t) {
+            out.release();
+            throw t;
+        }
+        if (out.stream != null) {
+            estimate.update(out.size);
+            // idempotent if the writer already closed the target
+            out.stream.close();
+        } else {
+            estimate.update(out.buffer.readableBytes());
+            vertxContext.end(new NoBoundChecksBuffer(out.buffer));
+        }
+        return true;
+    }
+
+    /**
+     * Writes to the pooled buffer until it reaches its maximum capacity, then copies the buffer to the response output
+     * stream and writes to the stream.
+     */
+    private static final class SpillingOutputStream extends OutputStream {
+
+        private final ServerRequestContext context;
+        private ByteBuf buffer;
+        private OutputStream stream;
+        private int size;
+
+        SpillingOutputStream(ByteBuf buffer, ServerRequestContext context) {
+            this.buffer = buffer;
+            this.context = context;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            size = saturatedAdd(size, 1);
+            if (stream == null && buffer.maxWritableBytes() < 1) {
+                spill();
+            }
+            if (stream != null) {
+                stream.write(b);
+            } else {
+                buffer.writeByte(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            size = saturatedAdd(size, len);
+            if (stream == null && buffer.maxWritableBytes() < len) {
+                spill();
+            }
+            if (stream != null) {
+                stream.write(b, off, len);
+            } else {
+                buffer.writeBytes(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (stream != null) {
+                stream.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+
+        private void spill() throws IOException {
+            stream = context.getOrCreateOutputStream();
+            try {
+                buffer.readBytes(stream, buffer.readableBytes());
+            } finally {
+                release();
+            }
+        }
+
+        private static int saturatedAdd(int size, int len) {
+            int result = size + len;
+            return result < 0 ? Integer.MAX_VALUE : result;
+        }
+
+        void release() {
+            if (buffer != null) {
+                buffer.release();
+                buffer = null;
+            }
+        }
+    }
+
+    private static final class SizeEstimate {
+
+        static final Function<String, SizeEstimate> FACTORY = new Function<>() {
+            @Override
+            public SizeEstimate apply(String methodId) {
+                return new SizeEstimate();
+            }
+        };
+
+        // exponential moving average; racy updates are fine as this is only a hint
+        volatile int average = DEFAULT_CAPACITY;
+
+        int capacity() {
+            int avg = average;
+            // leave some headroom so that slightly larger entities do not trigger a resize
+            return Math.min(avg + (avg >> 2), MAX_INITIAL_CAPACITY);
+        }
+
+        void update(int size) {
+            int avg = average;
+            average = avg + ((size - avg) >> 3);
+        }
+    }
+}
@@ -19,4 +19,28 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * streamed to the client in chunks of UTF-8 encoded bytes, i.e. the rendered template is not collected in a single
+     * string and the static text of the template is not encoded again for each response. A chunk is written as soon as it
+     * is rendered and the rendering waits until the previous chunk is written.
+     * <p>
+     * Note that the response is only streamed for a blocking resource method and if the media type can be determined from
+     * the template variant or from the {@code @Produces} annotation. Furthermore, a resource method is not streamed if it
+     * declares {@code @ResponseStatus} or {@code @ResponseHeader}, if a response filter or a writer interceptor applies to
+     * it, or if a {@code DynamicFeature} is registered. This also applies to a global {@code ContainerResponseFilter} or
+     * {@code WriterInterceptor}, and to filters and features registered by other extensions, e.g. for CORS, security or
+     * OpenTelemetry. In other words, if the application or any of its extensions registers such a provider then no
+     * resource method is streamed. In that case, the template is rendered as usual. Enable the {@code DEBUG} level for the
+     * {@code io.quarkus.resteasy.reactive.qute.deployment} category to see why a resource method is not streamed.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
+    /**
+     * The size of a chunk in bytes if {@link #streaming()} is enabled.
+     */
+    @WithDefault("8192")
+    int streamingChunkSize();
+
 }
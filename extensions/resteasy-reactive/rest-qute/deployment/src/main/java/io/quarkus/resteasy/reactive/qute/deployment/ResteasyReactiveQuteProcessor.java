@@ -6,32 +6,51 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.ResponseHeader;
+import org.jboss.resteasy.reactive.ResponseStatus;
+import org.jboss.resteasy.reactive.common.model.InterceptorContainer;
+import org.jboss.resteasy.reactive.common.model.ResourceInterceptor;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.NameBindingUtil;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
 import org.jboss.resteasy.reactive.server.handlers.UniResponseHandler;
 import org.jboss.resteasy.reactive.server.model.FixedHandlersChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.common.deployment.ResourceInterceptorsBuildItem;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseStreamingHandler;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.DynamicFeatureBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
+    private static final Logger LOG = Logger.getLogger(ResteasyReactiveQuteProcessor.class);
+
     private static final DotName TEMPLATE_INSTANCE = DotName.createSimple(TemplateInstance.class.getName());
+    private static final DotName RESPONSE_HEADER = DotName.createSimple(ResponseHeader.class.getName());
+    private static final DotName RESPONSE_HEADER_LIST = DotName.createSimple(ResponseHeader.List.class.getName());
+    private static final DotName RESPONSE_STATUS = DotName.createSimple(ResponseStatus.class.getName());
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -57,7 +76,8 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config, CombinedIndexBuildItem combinedIndex,
+            ResourceInterceptorsBuildItem resourceInterceptors, List<DynamicFeatureBuildItem> dynamicFeatures) {
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -66,14 +86,78 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
+                    List<ServerRestHandler> handlers;
+                    if (config.streaming() && isStreamable(method, actualEndpointClass, methodContext)) {
+                        // TemplateResponseStreamingHandler writes the response directly if possible
+                        TemplateResponseStreamingHandler streamingHandler = new TemplateResponseStreamingHandler();
+                        streamingHandler.setChunkSize(config.streamingChunkSize());
+                        handlers = List.of(streamingHandler, new TemplateResponseUniHandler(), new UniResponseHandler());
+                    } else {
+                        handlers = List.of(new TemplateResponseUniHandler(), new UniResponseHandler());
+                    }
                     return Collections.singletonList(
-                            new FixedHandlersChainCustomizer(
-                                    List.of(new TemplateResponseUniHandler(), new UniResponseHandler()),
+                            new FixedHandlersChainCustomizer(handlers,
                                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
                 }
                 return Collections.emptyList();
             }
 
+            /**
+             * A streamed response is written directly, i.e. it would bypass the response filters, the writer interceptors
+             * and the response customizations of the resource method. Such a method is not streamed.
+             */
+            private boolean isStreamable(MethodInfo method, ClassInfo actualEndpointClass, Map<String, Object> methodContext) {
+                AnnotationStore annotationStore = (AnnotationStore) methodContext
+                        .get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+                if (annotationStore.hasAnnotation(method, RESPONSE_STATUS)
+                        || annotationStore.hasAnnotation(method, RESPONSE_HEADER)
+                        || annotationStore.hasAnnotation(method, RESPONSE_HEADER_LIST)) {
+                    LOG.debugf("Template not streamed for %s#%s(): the response is customized", actualEndpointClass.name(),
+                            method.name());
+                    return false;
+                }
+                if (!dynamicFeatures.isEmpty()) {
+                    // A dynamic feature may register a filter for any resource method
+                    LOG.debugf("Template not streamed for %s#%s(): dynamic features are registered",
+                            actualEndpointClass.name(), method.name());
+                    return false;
+                }
+                Set<String> nameBindings = NameBindingUtil.nameBindingNames(combinedIndex.getIndex(), method,
+                        NameBindingUtil.nameBindingNames(combinedIndex.getIndex(), actualEndpointClass));
+                String filter = findInterceptor(resourceInterceptors.getResourceInterceptors().getContainerResponseFilters(),
+                        nameBindings);
+                if (filter == null) {
+                    filter = findInterceptor(resourceInterceptors.getResourceInterceptors().getWriterInterceptors(),
+                            nameBindings);
+                }
+                if (filter != null) {
+                    LOG.debugf("Template not streamed for %s#%s(): %s applies to the response", actualEndpointClass.name(),
+                            method.name(), filter);
+                    return false;
+                }
+                return true;
+            }
+
+            private String findInterceptor(InterceptorContainer<?> container, Set<String> nameBindings) {
+                for (ResourceInterceptor<?> interceptor : container.getGlobalResourceInterceptors()) {
+                    // TemplateResponseFilter does not apply to a TemplateInstance returned from a resource method
+                    if (!isTemplateResponseFilter(interceptor)) {
+                        return interceptor.getClassName();
+                    }
+                }
+                for (ResourceInterceptor<?> interceptor : container.getNameResourceInterceptors()) {
+                    if (nameBindings.containsAll(interceptor.getNameBindingNames())) {
+                        return interceptor.getClassName();
+                    }
+                }
+                return null;
+            }
+
+            private boolean isTemplateResponseFilter(ResourceInterceptor<?> interceptor) {
+                // The filter class is generated for the @ServerResponseFilter method
+                return interceptor.getClassName().startsWith(TemplateResponseFilter.class.getName() + "$");
+            }
+
             private boolean isAsyncTemplateInstance(Type type) {
                 boolean isAsyncTemplateInstance = false;
                 if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
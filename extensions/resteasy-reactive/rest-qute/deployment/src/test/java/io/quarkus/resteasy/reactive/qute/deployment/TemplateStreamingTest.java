@@ -0,0 +1,159 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.ResponseHeader;
+import org.jboss.resteasy.reactive.ResponseStatus;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class TemplateStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Filtered.class, FilteredResponseFilter.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true\n"
+                            + "quarkus.rest.qute.streaming-chunk-size=16"), "application.properties")
+                    .addAsResource(new StringAsset("<ul>{#each items}<li>Žluťoučký kůň {it}</li>{/each}</ul>"),
+                            "templates/page.html")
+                    .addAsResource(new StringAsset("{#each items}{it}{/each}"), "templates/list.txt"));
+
+    static final List<Integer> ITEMS = IntStream.range(0, 100).boxed().toList();
+
+    @Test
+    public void testStreaming() {
+        String expected = ITEMS.stream().map(i -> "<li>Žluťoučký kůň " + i + "</li>")
+                .collect(Collectors.joining("", "<ul>", "</ul>"));
+        when().get("/test/html").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .contentType(Matchers.startsWith("text/html"))
+                .contentType(Matchers.containsStringIgnoringCase("charset=UTF-8"))
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testStreamingProduces() {
+        when().get("/test/text").then()
+                .statusCode(200)
+                .contentType(Matchers.startsWith("text/plain"))
+                .body(Matchers.is(ITEMS.stream().map(Object::toString).collect(Collectors.joining())));
+    }
+
+    @Test
+    public void testNonBlockingNotStreamed() {
+        // The event loop cannot wait until a chunk is written
+        when().get("/test/non-blocking").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", Matchers.nullValue())
+                .contentType(Matchers.startsWith("text/plain"))
+                .body(Matchers.is(ITEMS.stream().map(Object::toString).collect(Collectors.joining())));
+    }
+
+    @Test
+    public void testResponseCustomizationsApplied() {
+        String expected = ITEMS.stream().map(Object::toString).collect(Collectors.joining());
+        // These methods are not streamed
+        when().get("/test/status").then()
+                .statusCode(201)
+                .header("X-Foo", "bar")
+                .contentType(Matchers.startsWith("text/plain"))
+                .body(Matchers.is(expected));
+        when().get("/test/filtered").then()
+                .statusCode(200)
+                .header("X-Filtered", "true")
+                .contentType(Matchers.startsWith("text/plain"))
+                .body(Matchers.is(expected));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template page;
+
+        @Inject
+        Template list;
+
+        @GET
+        @Path("html")
+        public TemplateInstance html() {
+            return page.data("items", ITEMS);
+        }
+
+        @GET
+        @Path("text")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance text() {
+            return list.data("items", ITEMS);
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance nonBlocking() {
+            return list.data("items", ITEMS);
+        }
+
+        @GET
+        @Path("status")
+        @Produces(MediaType.TEXT_PLAIN)
+        @ResponseStatus(201)
+        @ResponseHeader(name = "X-Foo", value = "bar")
+        public TemplateInstance status() {
+            return list.data("items", ITEMS);
+        }
+
+        @Filtered
+        @GET
+        @Path("filtered")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance filtered() {
+            return list.data("items", ITEMS);
+        }
+    }
+
+    @NameBinding
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Filtered {
+    }
+
+    @Filtered
+    @Provider
+    public static class FilteredResponseFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().add("X-Filtered", "true");
+        }
+    }
+}
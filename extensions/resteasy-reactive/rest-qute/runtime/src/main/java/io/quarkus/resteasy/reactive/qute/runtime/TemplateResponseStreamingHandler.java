@@ -0,0 +1,193 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.util.ServerMediaType;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateException;
+import io.quarkus.qute.TemplateInstance;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Streams the rendered template to the client in chunks of UTF-8 encoded bytes.
+ * <p>
+ * The template is rendered on the current thread, which waits until the previous chunk is written before the next one is
+ * rendered. If the current thread cannot be blocked, e.g. for a non-blocking resource method, or if the media type of the
+ * response cannot be determined then the result is left untouched and the template is rendered by the
+ * {@link TemplateResponseUniHandler}.
+ * <p>
+ * The response filters and writer interceptors are bypassed. Therefore, this handler is not registered for a resource
+ * method with filters, interceptors or response customizations.
+ */
+public class TemplateResponseStreamingHandler implements ServerRestHandler {
+
+    private static final Logger LOG = Logger.getLogger(TemplateResponseStreamingHandler.class);
+
+    private static final ServerRestHandler[] AWOL = new ServerRestHandler[] {
+            requestContext -> {
+                throw new IllegalStateException("FAILURE: should never be restarted");
+            }
+    };
+
+    private int chunkSize;
+
+    private volatile Engine engine;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        if (!(requestContext.getResult() instanceof TemplateInstance instance)) {
+            return;
+        }
+        if (!Infrastructure.canCallerThreadBeBlocked()) {
+            // The chunks would be buffered until written - let the TemplateResponseUniHandler render the template
+            return;
+        }
+
+        requestContext.requireCDIRequestScope();
+
+        MediaType mediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                requestContext.getHttpHeaders().getAcceptableLanguages());
+        if (mediaType == null) {
+            mediaType = getProducedMediaType(requestContext);
+            if (mediaType == null) {
+                // Let the TemplateResponseUniHandler render the template
+                return;
+            }
+        }
+        if (!mediaType.getParameters().containsKey(MediaType.CHARSET_PARAMETER)) {
+            mediaType = mediaType.withCharset(StandardCharsets.UTF_8.name());
+        }
+        requestContext.setResponseContentType(mediaType);
+
+        Engine engine = this.engine;
+        if (engine == null) {
+            synchronized (this) {
+                engine = this.engine;
+                if (engine == null) {
+                    this.engine = engine = Arc.container().instance(Engine.class).get();
+                }
+            }
+        }
+        Multi<byte[]> multi = instance.createUtf8Multi(chunkSize);
+        if (!engine.useAsyncTimeout()) {
+            // Make sure the timeout is always used
+            long timeout = instance.getTimeout();
+            multi = multi.ifNoItem().after(Duration.ofMillis(timeout))
+                    .failWith(() -> new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred"));
+        }
+        requestContext.suspend();
+        multi.subscribe().withSubscriber(new ChunkSubscriber(requestContext, mediaType));
+    }
+
+    private static MediaType getProducedMediaType(ResteasyReactiveRequestContext requestContext) {
+        ServerMediaType produces = requestContext.getTarget().getProduces();
+        if (produces != null) {
+            MediaType[] mediaTypes = produces.getSortedOriginalMediaTypes();
+            if (mediaTypes.length == 1 && !mediaTypes[0].isWildcardType() && !mediaTypes[0].isWildcardSubtype()) {
+                return mediaTypes[0];
+            }
+        }
+        return null;
+    }
+
+    private static class ChunkSubscriber implements Subscriber<byte[]> {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final MediaType mediaType;
+
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+
+        ChunkSubscriber(ResteasyReactiveRequestContext requestContext, MediaType mediaType) {
+            this.requestContext = requestContext;
+            this.mediaType = mediaType;
+            // Make sure we never restart by accident
+            requestContext.restart(AWOL, true);
+            requestContext.serverResponse().addCloseHandler(() -> {
+                if (!completed && subscription != null) {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(byte[] chunk) {
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.closed()) {
+                subscription.cancel();
+                return;
+            }
+            writeHead(response);
+            // Request the next chunk once the current one is written
+            response.write(chunk).whenComplete((v, t) -> {
+                if (t != null) {
+                    subscription.cancel();
+                    onError(t);
+                } else {
+                    subscription.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            ServerHttpResponse response = requestContext.serverResponse();
+            if (response.headWritten()) {
+                // It's not possible to send the error to the client - the last chunk is not sent so that the client can
+                // detect the failure
+                LOG.errorf(t, "Unable to render the template, the response is incomplete");
+                response.reset();
+            } else {
+                requestContext.resume(t, true);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            ServerHttpResponse response = requestContext.serverResponse();
+            writeHead(response);
+            response.end();
+            requestContext.close();
+        }
+
+        private void writeHead(ServerHttpResponse response) {
+            if (!response.headWritten()) {
+                response.setStatusCode(Response.Status.OK.getStatusCode());
+                response.setResponseHeader(HttpHeaders.CONTENT_TYPE, mediaType.toString());
+                response.setChunked(true);
+            }
+        }
+    }
+
+}
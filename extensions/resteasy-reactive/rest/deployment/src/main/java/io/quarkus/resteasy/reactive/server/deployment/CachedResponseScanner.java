@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.reactive.server.deployment;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+
+import io.quarkus.resteasy.reactive.server.CachedResponse;
+import io.quarkus.resteasy.reactive.server.runtime.CachedResponseHandler;
+
+public class CachedResponseScanner implements MethodScanner {
+
+    static final DotName CACHED_RESPONSE = DotName.createSimple(CachedResponse.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        AnnotationInstance cachedResponse = annotationStore.getAnnotation(method, CACHED_RESPONSE);
+        if (cachedResponse == null) {
+            cachedResponse = annotationStore.getAnnotation(actualEndpointClass, CACHED_RESPONSE);
+            if (cachedResponse == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        CachedResponseHandler handler = new CachedResponseHandler();
+        handler.setCacheName(cachedResponse.value("cacheName").asString());
+        handler.setMethodId(actualEndpointClass.name() + "#" + method.name() + method.parameterTypes());
+        AnnotationValue maxAge = cachedResponse.value("maxAge");
+        handler.setMaxAge(maxAge != null ? maxAge.asLong() : 0);
+        List<String> varyBy = new ArrayList<>();
+        AnnotationValue varyByValue = cachedResponse.value("varyBy");
+        if (varyByValue != null) {
+            varyBy.addAll(List.of(varyByValue.asStringArray()));
+        }
+        String[] produces = (String[]) methodContext.get(EndpointIndexer.METHOD_PRODUCES);
+        if (produces != null && produces.length > 1 && varyBy.stream().noneMatch("Accept"::equalsIgnoreCase)) {
+            // the representation is selected by the Accept header
+            varyBy.add("Accept");
+        }
+        handler.setVaryBy(varyBy);
+
+        return List.of(new FixedHandlerChainCustomizer(handler, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE));
+    }
+
+}
@@ -57,6 +57,7 @@
 import io.quarkus.arc.deployment.GeneratedBeanGizmoAdaptor;
 import io.quarkus.arc.deployment.LookupConditionsProcessor;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -114,6 +115,32 @@ public MethodScannerBuildItem compressionSupport(VertxHttpBuildTimeConfig httpBu
         return new MethodScannerBuildItem(new CompressionScanner(httpBuildTimeConfig));
     }
 
+    @BuildStep
+    public MethodScannerBuildItem cachedResponseSupport() {
+        return new MethodScannerBuildItem(new CachedResponseScanner());
+    }
+
+    @BuildStep
+    public void cachedResponseCacheNames(CombinedIndexBuildItem combinedIndexBuildItem, Capabilities capabilities,
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
+        Collection<AnnotationInstance> instances = combinedIndexBuildItem.getIndex()
+                .getAnnotations(CachedResponseScanner.CACHED_RESPONSE);
+        if (instances.isEmpty()) {
+            return;
+        }
+        if (!capabilities.isPresent(Capability.CACHE)) {
+            throw new IllegalStateException("@CachedResponse is used on " + instances.iterator().next().target()
+                    + " but the quarkus-cache extension is not present. Please add it to your application.");
+        }
+        Set<String> names = new HashSet<>();
+        for (AnnotationInstance instance : instances) {
+            String name = instance.value("cacheName").asString();
+            if (names.add(name)) {
+                cacheNames.produce(new AdditionalCacheNameBuildItem(name));
+            }
+        }
+    }
+
     @BuildStep
     public ResourceInterceptorsContributorBuildItem scanForInterceptors(CombinedIndexBuildItem combinedIndexBuildItem,
             ApplicationResultBuildItem applicationResultBuildItem) {
@@ -0,0 +1,136 @@
+package io.quarkus.resteasy.reactive.server.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.resteasy.reactive.server.CachedResponse;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+
+public class CachedResponseTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(GreetingResource.class, Counter.class);
+                }
+            });
+
+    @Inject
+    Counter counter;
+
+    @Test
+    public void testCachedResponse() {
+        String etag = RestAssured.get("/greeting/foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 1"))
+                .header("ETag", notNullValue())
+                .header("Cache-Control", "max-age=60")
+                .header("Vary", "X-Tenant")
+                .contentType(MediaType.TEXT_PLAIN)
+                .extract().header("ETag");
+
+        // served from the cache
+        RestAssured.get("/greeting/foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 1"))
+                .header("ETag", etag)
+                .contentType(MediaType.TEXT_PLAIN);
+        assertEquals(1, counter.get("foo"));
+
+        RestAssured.given().header("If-None-Match", etag).get("/greeting/foo")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag)
+                .body(equalTo(""));
+        assertEquals(1, counter.get("foo"));
+
+        // the vary-by header is part of the key
+        RestAssured.given().header("X-Tenant", "acme").get("/greeting/foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 2"))
+                .header("ETag", not(etag));
+
+        // invalidate the cache
+        RestAssured.post("/greeting/invalidate").then().statusCode(204);
+        RestAssured.given().header("If-None-Match", etag).get("/greeting/foo")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello foo 3"));
+    }
+
+    @Test
+    public void testErrorNotCached() {
+        RestAssured.get("/greeting/fail").then().statusCode(500);
+        RestAssured.get("/greeting/fail").then().statusCode(500);
+        assertEquals(2, counter.get("fail"));
+    }
+
+    @Path("greeting")
+    public static class GreetingResource {
+
+        @Inject
+        Counter counter;
+
+        @GET
+        @Path("{name}")
+        @Produces(MediaType.TEXT_PLAIN)
+        @CachedResponse(cacheName = "greetings", maxAge = 60, varyBy = "X-Tenant")
+        public String greeting(@PathParam("name") String name) {
+            int count = counter.increment(name);
+            if (name.equals("fail")) {
+                throw new IllegalStateException("fail");
+            }
+            return "hello " + name + " " + count;
+        }
+
+        @POST
+        @Path("invalidate")
+        @CacheInvalidateAll(cacheName = "greetings")
+        public void invalidate() {
+        }
+    }
+
+    @ApplicationScoped
+    public static class Counter {
+
+        private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        int increment(String name) {
+            return counts.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+        }
+
+        int get(String name) {
+            AtomicInteger count = counts.get(name);
+            return count == null ? 0 : count.get();
+        }
+    }
+}
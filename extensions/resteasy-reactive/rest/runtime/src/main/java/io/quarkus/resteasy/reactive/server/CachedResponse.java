@@ -0,0 +1,43 @@
+package io.quarkus.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the serialized responses of a {@code GET} resource method on the server.
+ * <p>
+ * A successful response is stored in the cache with the given {@link #cacheName()}, keyed by the resource method, the
+ * request path, the query string and the values of the {@link #varyBy()} headers. Subsequent matching requests are
+ * answered from the cache before the resource method is invoked. Every cached response has an {@code ETag} header and a
+ * request with a matching {@code If-None-Match} header is answered with {@code 304 Not Modified}.
+ * <p>
+ * The caches are managed by the Quarkus Cache extension, which must be present. The cached responses can be invalidated
+ * with {@code @CacheInvalidateAll(cacheName = "...")} or the {@code CacheManager} API.
+ * <p>
+ * Note that the current security identity is not part of the cache key. Do not cache responses that depend on the caller
+ * unless the identifying header (e.g. {@code Authorization}) is listed in {@link #varyBy()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface CachedResponse {
+
+    /**
+     * The name of the cache that stores the responses
+     */
+    String cacheName();
+
+    /**
+     * The maximum age of a cached response in seconds. If positive, a {@code Cache-Control: max-age} header is added to the
+     * responses and older cached responses are not served. Otherwise the cached responses are served until they are evicted
+     * or invalidated.
+     */
+    long maxAge() default 0;
+
+    /**
+     * The names of the request headers whose values are part of the cache key. These headers are also listed in the
+     * {@code Vary} response header.
+     */
+    String[] varyBy() default {};
+}
@@ -0,0 +1,253 @@
+package io.quarkus.resteasy.reactive.server.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * Serves the responses of a resource method annotated with {@link io.quarkus.resteasy.reactive.server.CachedResponse} from
+ * a cache. On a cache miss the serialized response entity is captured and stored once it is fully written.
+ */
+public class CachedResponseHandler implements ServerRestHandler {
+
+    private static final String CACHE_CONTROL = "Cache-Control";
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String VARY = "Vary";
+
+    private String cacheName;
+    private String methodId;
+    private long maxAge;
+    private List<String> varyBy;
+    private volatile CaffeineCache cache;
+    private volatile String vary;
+
+    public CachedResponseHandler() {
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getMethodId() {
+        return methodId;
+    }
+
+    public void setMethodId(String methodId) {
+        this.methodId = methodId;
+    }
+
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(long maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public List<String> getVaryBy() {
+        return varyBy;
+    }
+
+    public void setVaryBy(List<String> varyBy) {
+        this.varyBy = varyBy;
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        ServerHttpRequest request = requestContext.serverRequest();
+        if (!HttpMethod.GET.equals(request.getRequestMethod())) {
+            return;
+        }
+        CaffeineCache cache = cache();
+        String key = key(request);
+        CompletableFuture<Entry> cached = cache.getIfPresent(key);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            Entry entry = cached.getNow(null);
+            if (entry != null && isFresh(entry)) {
+                requestContext.abortWith(cachedResponse(entry, request.getRequestHeader(IF_NONE_MATCH)));
+                return;
+            }
+        }
+        requestContext.setOutputStream(new CapturingOutputStream(requestContext, cache, key));
+    }
+
+    private boolean isFresh(Entry entry) {
+        return maxAge <= 0 || System.currentTimeMillis() - entry.created() < maxAge * 1000;
+    }
+
+    private Response cachedResponse(Entry entry, String ifNoneMatch) {
+        Response.ResponseBuilder builder;
+        if (ifNoneMatch != null && matches(ifNoneMatch, entry.etag())) {
+            builder = Response.notModified();
+        } else {
+            builder = Response.ok(entry.body());
+            for (Map.Entry<String, String> header : entry.headers()) {
+                builder.header(header.getKey(), header.getValue());
+            }
+        }
+        Response response = builder.build();
+        addCacheHeaders(response.getHeaders(), entry.etag());
+        return response;
+    }
+
+    private void addCacheHeaders(MultivaluedMap<String, Object> headers, String etag) {
+        headers.putSingle(ETAG, etag);
+        if (maxAge > 0) {
+            headers.putSingle(CACHE_CONTROL, "max-age=" + maxAge);
+        }
+        String vary = vary();
+        if (vary != null) {
+            headers.putSingle(VARY, vary);
+        }
+    }
+
+    private String key(ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(methodId).append(' ').append(request.getRequestPath());
+        String query = request.query();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        if (varyBy != null) {
+            for (String header : varyBy) {
+                key.append('\n');
+                List<String> values = request.getAllRequestHeaders(header);
+                if (values != null) {
+                    key.append(String.join(",", values));
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    private String vary() {
+        if (varyBy == null || varyBy.isEmpty()) {
+            return null;
+        }
+        if (vary == null) {
+            vary = String.join(", ", varyBy);
+        }
+        return vary;
+    }
+
+    private CaffeineCache cache() {
+        CaffeineCache result = cache;
+        if (result == null) {
+            Cache found = Arc.container().instance(CacheManager.class).get().getCache(cacheName)
+                    .orElseThrow(() -> new IllegalStateException("Cache '" + cacheName + "' not found"));
+            if (!(found instanceof CaffeineCache)) {
+                throw new IllegalStateException(
+                        "@CachedResponse requires a Caffeine cache but cache '" + cacheName + "' is of type "
+                                + found.getClass().getName());
+            }
+            cache = result = (CaffeineCache) found;
+        }
+        return result;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                // weak comparison is used for If-None-Match
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isCacheableHeader(String name) {
+        return !name.equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                && !name.equalsIgnoreCase("Transfer-Encoding")
+                && !name.equalsIgnoreCase(HttpHeaders.CONTENT_ENCODING)
+                && !name.equalsIgnoreCase(HttpHeaders.SET_COOKIE)
+                && !name.equalsIgnoreCase(HttpHeaders.DATE)
+                && !name.equalsIgnoreCase("Connection")
+                && !name.equalsIgnoreCase(ETAG)
+                && !name.equalsIgnoreCase(CACHE_CONTROL)
+                && !name.equalsIgnoreCase(VARY);
+    }
+
+    record Entry(byte[] body, List<Map.Entry<String, String>> headers, String etag, long created) {
+    }
+
+    /**
+     * Buffers the serialized entity so that the {@code ETag} can be computed before the response is committed. The
+     * response is only stored if it is a {@code 200 OK} and the application did not set its own {@code ETag}.
+     */
+    private final class CapturingOutputStream extends ByteArrayOutputStream {
+
+        private final ResteasyReactiveRequestContext requestContext;
+        private final CaffeineCache cache;
+        private final String key;
+        private boolean closed;
+
+        CapturingOutputStream(ResteasyReactiveRequestContext requestContext, CaffeineCache cache, String key) {
+            this.requestContext = requestContext;
+            this.cache = cache;
+            this.key = key;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Response response = requestContext.getResponse().get();
+            MultivaluedMap<String, Object> headers = response.getHeaders();
+            boolean cacheable = response.getStatus() == Response.Status.OK.getStatusCode()
+                    && !headers.containsKey(ETAG);
+            byte[] body = toByteArray();
+            String etag = null;
+            if (cacheable) {
+                etag = '"' + HashUtil.sha1(body) + '"';
+                addCacheHeaders(headers, etag);
+            }
+            ServerHttpResponse serverResponse = requestContext.serverResponse();
+            try (OutputStream out = serverResponse.createResponseOutputStream()) {
+                out.write(body);
+            }
+            if (cacheable) {
+                List<Map.Entry<String, String>> cachedHeaders = new ArrayList<>();
+                for (Map.Entry<String, String> header : serverResponse.getAllResponseHeaders()) {
+                    if (isCacheableHeader(header.getKey())) {
+                        cachedHeaders.add(Map.entry(header.getKey(), header.getValue()));
+                    }
+                }
+                cache.put(key, CompletableFuture.completedFuture(
+                        new Entry(body, cachedHeaders, etag, System.currentTimeMillis())));
+            }
+        }
+    }
+}
@@ -53,6 +53,41 @@ public void testContinueMatching() {
         Assertions.assertNull(result);
     }
 
+    @Test
+    void testSharedStem() {
+        RequestMapper<String> mapper = mapper(false, "/api/{tenant}/orders", "/api/{tenant}/orders/{id}",
+                "/api/{tenant}/orders/{id}/items/{item}", "/api/{tenant}/orders/count", "/api/{tenant}/users/{id}",
+                "/api/{tenant}/{type}/{id}", "/api/{tenant}/orders/{id:[0-9]+}/history");
+
+        var result = mapper.map("/api/acme/orders/42/items/7");
+        Assertions.assertEquals("/api/{tenant}/orders/{id}/items/{item}", result.value);
+        Assertions.assertEquals("acme", result.pathParamValues[0]);
+        Assertions.assertEquals("42", result.pathParamValues[1]);
+        Assertions.assertEquals("7", result.pathParamValues[2]);
+
+        // literals take precedence over parameters
+        result = mapper.map("/api/acme/orders/count");
+        Assertions.assertEquals("/api/{tenant}/orders/count", result.value);
+        Assertions.assertEquals("acme", result.pathParamValues[0]);
+        Assertions.assertNull(result.pathParamValues[1]);
+
+        result = mapper.map("/api/acme/users/1");
+        Assertions.assertEquals("/api/{tenant}/users/{id}", result.value);
+        result = mapper.map("/api/acme/products/1/");
+        Assertions.assertEquals("/api/{tenant}/{type}/{id}", result.value);
+        Assertions.assertEquals("products", result.pathParamValues[1]);
+        Assertions.assertEquals("1", result.pathParamValues[2]);
+
+        // custom regex
+        result = mapper.map("/api/acme/orders/42/history");
+        Assertions.assertEquals("/api/{tenant}/orders/{id:[0-9]+}/history", result.value);
+        Assertions.assertEquals("42", result.pathParamValues[1]);
+        Assertions.assertNull(mapper.map("/api/acme/orders/abc/history"));
+
+        Assertions.assertNull(mapper.map("/api/acme"));
+        Assertions.assertNull(mapper.map("/api/acme/orders/42/items"));
+    }
+
     RequestMapper<String> mapper(boolean prefixTemplates, String... vals) {
         ArrayList<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
@@ -0,0 +1,206 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.common.runtime.ScheduledMethod;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerConfig.DispatchMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Measures the work a {@link SimpleScheduler} does for one second of scheduler time, with a number of programmatic
+ * interval jobs with periods between 10 and 300 seconds.
+ * <p>
+ * In the {@code periodic} dispatch mode, one invocation is a {@link SimpleScheduler#checkTriggers()}, i.e. every trigger
+ * is evaluated. In the {@code next-fire-time} mode, one invocation is a {@link SimpleScheduler#dispatch(ScheduledTask)}
+ * for as many jobs as are due in one second on average. Each dispatch replaces the pending dispatch of the job in the
+ * delay queue of the scheduler executor, which holds one dispatch per job.
+ * <p>
+ * The start of the jobs is delayed so that they are never due during the measurement, i.e. job execution is not
+ * measured.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar TriggerDispatchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TriggerDispatchBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int jobs;
+
+    @Param({ "periodic", "next-fire-time" })
+    public String dispatchMode;
+
+    private SimpleScheduler scheduler;
+    private ScheduledTask[] tasks;
+    // the average number of jobs that are due in one second
+    private double duePerSecond;
+    private double due;
+    private int next;
+
+    @Setup
+    public void setup() {
+        DispatchMode mode = dispatchMode.equals("next-fire-time") ? DispatchMode.NEXT_FIRE_TIME : DispatchMode.PERIODIC;
+        scheduler = new SimpleScheduler(new BenchmarkSchedulerContext(), new BenchmarkSchedulerRuntimeConfig(), null,
+                null, null, null, null, null, null, null, null, null, new BenchmarkSchedulerConfig(mode), null, null);
+        tasks = new ScheduledTask[jobs];
+        duePerSecond = 0;
+        for (int i = 0; i < jobs; i++) {
+            int period = 10 + i % 291;
+            String identity = "job" + i;
+            scheduler.newJob(identity)
+                    .setInterval(period + "s")
+                    .setDelayed((3600 + i % 3600) + "s")
+                    .setTask(execution -> {
+                    })
+                    .schedule();
+            tasks[i] = scheduler.getScheduledTask(identity);
+            duePerSecond += 1.0 / period;
+            if (mode == DispatchMode.NEXT_FIRE_TIME) {
+                // the first dispatch of the job is queued
+                scheduler.dispatch(tasks[i]);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Benchmark
+    public void checkPeriod() {
+        if (dispatchMode.equals("periodic")) {
+            scheduler.checkTriggers();
+        } else {
+            due += duePerSecond;
+            for (; due >= 1; due--) {
+                ScheduledTask task = tasks[next];
+                next = (next + 1) % tasks.length;
+                // the due dispatch is removed from the delay queue before it runs again
+                task.cancelDispatch();
+                scheduler.dispatch(task);
+            }
+        }
+    }
+
+    static class BenchmarkSchedulerContext implements SchedulerContext {
+
+        @Override
+        public CronType getCronType() {
+            return CronType.QUARTZ;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods() {
+            return List.of();
+        }
+
+        @Override
+        public boolean forceSchedulerStart() {
+            return true;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods(String implementation) {
+            return List.of();
+        }
+
+        @Override
+        public boolean matchesImplementation(Scheduled scheduled, String implementation) {
+            return true;
+        }
+
+        @Override
+        public String autoImplementation() {
+            return Scheduled.SIMPLE;
+        }
+    }
+
+    static class BenchmarkSchedulerRuntimeConfig implements SchedulerRuntimeConfig {
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public Duration overdueGracePeriod() {
+            return Duration.ofSeconds(1);
+        }
+
+        @Override
+        public StartMode startMode() {
+            return StartMode.FORCED;
+        }
+    }
+
+    static class BenchmarkSchedulerConfig implements SchedulerConfig {
+
+        private final DispatchMode dispatchMode;
+
+        BenchmarkSchedulerConfig(DispatchMode dispatchMode) {
+            this.dispatchMode = dispatchMode;
+        }
+
+        @Override
+        public CronType cronType() {
+            return CronType.QUARTZ;
+        }
+
+        @Override
+        public boolean metricsEnabled() {
+            return false;
+        }
+
+        @Override
+        public boolean tracingEnabled() {
+            return false;
+        }
+
+        @Override
+        public OptionalInt virtualThreadsMaxConcurrentExecutions() {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public Map<String, VirtualThreadJobConfig> virtualThreadsJobs() {
+            return Map.of();
+        }
+
+        @Override
+        public boolean useCompositeScheduler() {
+            return false;
+        }
+
+        @Override
+        public DispatchMode simpleDispatchMode() {
+            return dispatchMode;
+        }
+    }
+}
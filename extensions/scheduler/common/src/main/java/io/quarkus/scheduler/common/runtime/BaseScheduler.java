@@ -1,6 +1,10 @@
 package io.quarkus.scheduler.common.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -41,9 +45,24 @@ protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
             ConcurrentExecution concurrentExecution, Scheduled.SkipPredicate skipPredicate, JobInstrumenter instrumenter,
             Vertx vertx, boolean skipOffloadingInvoker,
             OptionalLong delay, ScheduledExecutorService blockingExecutor) {
+        return initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx, skipOffloadingInvoker,
+                delay, blockingExecutor, OptionalInt.empty());
+    }
+
+    /**
+     * @param virtualThreadsMaxConcurrentExecutions the maximum number of concurrent executions of a job that runs on a
+     *        virtual thread
+     */
+    protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
+            ConcurrentExecution concurrentExecution, Scheduled.SkipPredicate skipPredicate, JobInstrumenter instrumenter,
+            Vertx vertx, boolean skipOffloadingInvoker,
+            OptionalLong delay, ScheduledExecutorService blockingExecutor, OptionalInt virtualThreadsMaxConcurrentExecutions) {
         invoker = new StatusEmitterInvoker(invoker, events.successExecution, events.failedExecution, events.startedExecution);
         if (concurrentExecution == ConcurrentExecution.SKIP) {
             invoker = new SkipConcurrentExecutionInvoker(invoker, events.skippedExecution);
+        } else if (virtualThreadsMaxConcurrentExecutions.isPresent() && invoker.isRunningOnVirtualThread()) {
+            invoker = new ConcurrencyLimitInvoker(invoker, virtualThreadsMaxConcurrentExecutions.getAsInt(),
+                    events.skippedExecution);
         }
         if (skipPredicate != null) {
             invoker = new SkipPredicateInvoker(invoker, skipPredicate, events.skippedExecution);
@@ -60,6 +79,38 @@ protected ScheduledInvoker initInvoker(ScheduledInvoker invoker, Events events,
         return invoker;
     }
 
+    /**
+     * @return the instrumenter that applies all enabled {@link JobInstrumenter} beans, or {@code null} if no instrumenter
+     *         is enabled
+     */
+    protected JobInstrumenter initInstrumenter(boolean tracingEnabled, boolean metricsEnabled) {
+        if (!tracingEnabled && !metricsEnabled) {
+            return null;
+        }
+        List<JobInstrumenter> instrumenters = new ArrayList<>();
+        for (JobInstrumenter instrumenter : jobInstrumenter) {
+            switch (instrumenter.kind()) {
+                case TRACING -> {
+                    if (tracingEnabled) {
+                        instrumenters.add(instrumenter);
+                    }
+                }
+                case METRICS -> {
+                    if (metricsEnabled) {
+                        instrumenters.add(instrumenter);
+                    }
+                }
+            }
+        }
+        if (instrumenters.isEmpty()) {
+            return null;
+        } else if (instrumenters.size() == 1) {
+            return instrumenters.get(0);
+        }
+        instrumenters.sort(Comparator.comparing(JobInstrumenter::kind));
+        return new CompositeJobInstrumenter(instrumenters);
+    }
+
     protected Scheduled.SkipPredicate initSkipPredicate(Class<? extends SkipPredicate> predicateClass) {
         if (predicateClass.equals(Scheduled.Never.class)) {
             return null;
@@ -0,0 +1,42 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.scheduler.spi.JobInstrumenter;
+
+/**
+ * Applies multiple instrumenters; the first instrumenter wraps the second one, etc.
+ */
+final class CompositeJobInstrumenter implements JobInstrumenter {
+
+    private final List<JobInstrumenter> instrumenters;
+
+    CompositeJobInstrumenter(List<JobInstrumenter> instrumenters) {
+        this.instrumenters = List.copyOf(instrumenters);
+    }
+
+    @Override
+    public CompletionStage<Void> instrument(JobInstrumentationContext context) {
+        return instrument(0, context);
+    }
+
+    private CompletionStage<Void> instrument(int index, JobInstrumentationContext context) {
+        if (index == instrumenters.size()) {
+            return context.executeJob();
+        }
+        return instrumenters.get(index).instrument(new JobInstrumentationContext() {
+
+            @Override
+            public String getSpanName() {
+                return context.getSpanName();
+            }
+
+            @Override
+            public CompletionStage<Void> executeJob() {
+                return instrument(index + 1, context);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.quarkus.scheduler.common.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.event.Event;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.SkippedExecution;
+
+/**
+ * An invoker wrapper that skips an execution if the maximum number of concurrent executions is reached.
+ *
+ * @see SkipConcurrentExecutionInvoker
+ */
+public final class ConcurrencyLimitInvoker extends DelegateInvoker {
+
+    private static final Logger LOG = Logger.getLogger(ConcurrencyLimitInvoker.class);
+
+    private final int maxConcurrentExecutions;
+    private final AtomicInteger running;
+    private final Event<SkippedExecution> event;
+
+    public ConcurrencyLimitInvoker(ScheduledInvoker delegate, int maxConcurrentExecutions, Event<SkippedExecution> event) {
+        super(delegate);
+        if (maxConcurrentExecutions < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent executions must be greater than zero");
+        }
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.running = new AtomicInteger();
+        this.event = event;
+    }
+
+    @Override
+    public CompletionStage<Void> invoke(ScheduledExecution execution) throws Exception {
+        if (running.incrementAndGet() <= maxConcurrentExecutions) {
+            return invokeDelegate(execution).whenComplete((r, t) -> running.decrementAndGet());
+        }
+        running.decrementAndGet();
+        LOG.debugf("Skipped scheduled invoker execution: %s", delegate.getClass().getName());
+        SkippedExecution payload = new SkippedExecution(execution,
+                "The maximum number of concurrent executions [" + maxConcurrentExecutions + "] was reached");
+        try {
+            event.fire(payload);
+            event.fireAsync(payload);
+        } catch (Exception e) {
+            LOG.errorf("Error while firing SkippedExecution event", e);
+        }
+        return CompletableFuture.completedStage(null);
+    }
+
+}
@@ -11,6 +11,7 @@
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
 
 /**
  * Offloads the execution of the scheduled task if necessary.
@@ -34,17 +35,18 @@ public CompletionStage<Void> invoke(ScheduledExecution execution) throws Excepti
         VertxContextSafetyToggle.setContextSafe(context, true);
         if (delegate.isBlocking()) {
             if (delegate.isRunningOnVirtualThread()) {
-                // While counter-intuitive, we switch to a safe context, so that context is captured and attached
-                // to the virtual thread.
-                context.runOnContext(new Handler<Void>() {
+                // Submit the task directly, i.e. without a round trip through the event loop, and attach the safe
+                // duplicated context to the virtual thread
+                ContextInternal contextInternal = (ContextInternal) context;
+                VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
                     @Override
-                    public void handle(Void event) {
-                        VirtualThreadsRecorder.getCurrent().execute(new Runnable() {
-                            @Override
-                            public void run() {
-                                invokeComplete(ret, execution);
-                            }
-                        });
+                    public void run() {
+                        ContextInternal previous = contextInternal.beginDispatch();
+                        try {
+                            invokeComplete(ret, execution);
+                        } finally {
+                            contextInternal.endDispatch(previous);
+                        }
                     }
                 });
             } else {
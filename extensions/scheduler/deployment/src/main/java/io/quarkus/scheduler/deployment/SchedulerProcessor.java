@@ -94,6 +94,7 @@
 import io.quarkus.scheduler.runtime.CompositeScheduler;
 import io.quarkus.scheduler.runtime.Constituent;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
+import io.quarkus.scheduler.runtime.SchedulerConfig.DispatchMode;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
 import io.quarkus.security.spi.RunAsUserPredicateBuildItem;
@@ -324,7 +325,14 @@ void validateScheduledBusinessMethods(SchedulerConfig config, List<ScheduledBusi
                 }
             }
             // Validate cron() and every() expressions
-            long checkPeriod = capabilities.isMissing(Capability.QUARTZ) ? SimpleScheduler.CHECK_PERIOD : 50;
+            long checkPeriod;
+            if (capabilities.isPresent(Capability.QUARTZ)) {
+                checkPeriod = 50;
+            } else if (config.simpleDispatchMode() == DispatchMode.NEXT_FIRE_TIME) {
+                checkPeriod = SimpleScheduler.MIN_DISPATCH_DELAY;
+            } else {
+                checkPeriod = SimpleScheduler.CHECK_PERIOD;
+            }
             CronParser parser = new CronParser(CronDefinitionBuilder.instanceDefinitionFor(config.cronType()));
             for (AnnotationInstance scheduled : scheduledMethod.getSchedules()) {
                 Throwable error = validateScheduled(parser, scheduled, encounteredIdentities, validationPhase.getContext(),
@@ -455,7 +463,8 @@ public void metrics(SchedulerConfig config,
                         if (metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
                             // Micrometer
                             context.transform()
-                                    .add(micrometerTimed, createStringValue("value", "scheduled.methods"))
+                                    .add(micrometerTimed, createStringValue("value", "scheduled.methods"),
+                                            createBooleanValue("histogram", true))
                                     .add(micrometerTimed, createStringValue("value", "scheduled.methods.running"),
                                             createBooleanValue("longTask", true))
                                     .done();
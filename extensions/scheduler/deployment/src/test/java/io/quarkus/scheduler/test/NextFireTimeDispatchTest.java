@@ -0,0 +1,76 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class NextFireTimeDispatchTest {
+
+    private static final int NUM_JOBS = 1_000;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.simple.dispatch-mode", "next-fire-time");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testManyProgrammaticJobs() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(NUM_JOBS * 2);
+        for (int i = 0; i < NUM_JOBS; i++) {
+            scheduler.newJob("job" + i)
+                    .setInterval("0.5s")
+                    .setTask(ec -> latch.countDown())
+                    .schedule();
+        }
+        // each job should fire at least twice
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger unscheduledCount = new AtomicInteger();
+        scheduler.newJob("unscheduled")
+                .setInterval("0.1s")
+                .setTask(ec -> unscheduledCount.incrementAndGet())
+                .schedule();
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+        // an execution may still be in progress
+        Thread.sleep(200);
+        int count = unscheduledCount.get();
+        Thread.sleep(500);
+        assertEquals(count, unscheduledCount.get());
+
+        for (int i = 0; i < NUM_JOBS; i++) {
+            scheduler.unscheduleJob("job" + i);
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+
+        @Scheduled(every = "0.1s")
+        void everyHundredMillis() {
+            LATCH.countDown();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkus.scheduler.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class JobExecutionTimerTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true"),
+                            "application.properties"));
+
+    @Inject
+    MeterRegistry registry;
+
+    @Inject
+    Scheduler scheduler;
+
+    @BeforeAll
+    static void addSimpleRegistry() {
+        Metrics.globalRegistry.add(new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testJobTimers() throws InterruptedException {
+        CountDownLatch programmaticLatch = new CountDownLatch(1);
+        scheduler.newJob("programmatic")
+                .setInterval("1s")
+                .setTask(ex -> programmaticLatch.countDown())
+                .schedule();
+
+        assertTrue(Jobs.latch.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.failingLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(programmaticLatch.await(5, TimeUnit.SECONDS));
+
+        // The timer is updated after the job is executed
+        Awaitility.await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> {
+            Timer success = registry.find("scheduled.methods").tag("class", Jobs.class.getName())
+                    .tag("method", "everySecond").tag("exception", "none").timer();
+            assertNotNull(success);
+            assertTrue(success.count() > 0, "Count=" + success.count());
+
+            Timer failure = registry.find("scheduled.methods").tag("class", Jobs.class.getName())
+                    .tag("method", "failing").tag("exception", "IllegalStateException").timer();
+            assertNotNull(failure);
+            assertTrue(failure.count() > 0, "Count=" + failure.count());
+
+            Timer programmatic = registry.find("scheduled.methods").tag("class", Scheduler.class.getName())
+                    .tag("method", "programmatic").tag("exception", "none").timer();
+            assertNotNull(programmatic);
+            assertTrue(programmatic.count() > 0, "Count=" + programmatic.count());
+            assertNotNull(registry.find("scheduled.methods.running").tag("class", Scheduler.class.getName())
+                    .tag("method", "programmatic").longTaskTimer());
+        });
+        // @Scheduled methods are only timed by the interceptor
+        assertNull(registry.find("scheduled.methods").tag("method", "every-second").timer());
+        assertNull(registry.find("scheduled.methods").tag("method", "failing").tag("class", Scheduler.class.getName())
+                .timer());
+        scheduler.unscheduleJob("programmatic");
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch latch = new CountDownLatch(1);
+        static final CountDownLatch failingLatch = new CountDownLatch(1);
+
+        @Scheduled(identity = "every-second", every = "1s")
+        void everySecond() {
+            latch.countDown();
+        }
+
+        @Scheduled(identity = "failing", every = "1s")
+        void failing() {
+            failingLatch.countDown();
+            throw new IllegalStateException("Failed");
+        }
+
+    }
+
+}
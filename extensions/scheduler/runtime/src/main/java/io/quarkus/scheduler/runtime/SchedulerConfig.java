@@ -1,7 +1,13 @@
 package io.quarkus.scheduler.runtime;
 
+import java.util.Map;
+import java.util.OptionalInt;
+
 import com.cronutils.model.CronType;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigDocSection;
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.scheduler.Scheduled;
@@ -37,6 +43,38 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean tracingEnabled();
 
+    /**
+     * The maximum number of concurrent executions of a scheduled job that runs on a virtual thread. If the limit is
+     * reached then the execution is skipped and a {@link io.quarkus.scheduler.SkippedExecution} event is fired.
+     * <p>
+     * This value is the default for all jobs, it can be overridden for a specific job with
+     * {@code quarkus.scheduler.virtual-threads.jobs."identity".max-concurrent-executions}. By default, the number of
+     * concurrent executions is not limited. This limit is not used for jobs that use
+     * {@link Scheduled.ConcurrentExecution#SKIP}.
+     */
+    @WithName("virtual-threads.max-concurrent-executions")
+    OptionalInt virtualThreadsMaxConcurrentExecutions();
+
+    /**
+     * Per-job configuration of scheduled jobs that run on a virtual thread. The key is the identity of the job.
+     */
+    @ConfigDocSection
+    @ConfigDocMapKey("identity")
+    @WithName("virtual-threads.jobs")
+    Map<String, VirtualThreadJobConfig> virtualThreadsJobs();
+
+    /**
+     * @param identity the identity of the job
+     * @return the maximum number of concurrent executions of the given job if it runs on a virtual thread
+     */
+    default OptionalInt virtualThreadsMaxConcurrentExecutions(String identity) {
+        VirtualThreadJobConfig jobConfig = virtualThreadsJobs().get(identity);
+        if (jobConfig != null && jobConfig.maxConcurrentExecutions().isPresent()) {
+            return jobConfig.maxConcurrentExecutions();
+        }
+        return virtualThreadsMaxConcurrentExecutions();
+    }
+
     /**
      * By default, only one {@link Scheduler} implementation is used. If set to {@code true} then a composite {@link Scheduler}
      * that delegates to all running implementations is used.
@@ -47,4 +85,39 @@ public interface SchedulerConfig {
     @WithDefault("false")
     boolean useCompositeScheduler();
 
+    /**
+     * Determines how the simple scheduler dispatches triggers.
+     *
+     * @see DispatchMode
+     */
+    @WithName("simple.dispatch-mode")
+    @WithDefault("periodic")
+    DispatchMode simpleDispatchMode();
+
+    enum DispatchMode {
+
+        /**
+         * All triggers are checked every second. The resolution of triggers is limited to one second.
+         */
+        PERIODIC,
+
+        /**
+         * Each trigger is dispatched at its next fire time, so only due triggers are evaluated. The triggers are ordered by
+         * their next fire time in the delay queue of the scheduler executor. This mode scales to a large number of
+         * programmatic jobs and supports {@code every()} intervals shorter than one second.
+         */
+        NEXT_FIRE_TIME;
+    }
+
+    @ConfigGroup
+    interface VirtualThreadJobConfig {
+
+        /**
+         * The maximum number of concurrent executions of this job. If set, it overrides the value of
+         * {@code quarkus.scheduler.virtual-threads.max-concurrent-executions}.
+         */
+        OptionalInt maxConcurrentExecutions();
+
+    }
+
 }
@@ -14,9 +14,12 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -59,6 +62,7 @@
 import io.quarkus.scheduler.common.runtime.SchedulerContext;
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
+import io.quarkus.scheduler.runtime.SchedulerConfig.DispatchMode;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
@@ -72,8 +76,13 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     // milliseconds
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds, only used in the DispatchMode.NEXT_FIRE_TIME mode
+    public static final long MIN_DISPATCH_DELAY = 1L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
+    private final boolean dispatchOnFireTime;
+    private volatile boolean dispatching;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
 
@@ -93,6 +102,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.dispatchOnFireTime = schedulerConfig.simpleDispatchMode() == DispatchMode.NEXT_FIRE_TIME;
 
         if (!schedulerRuntimeConfig.enabled()) {
             this.scheduledExecutor = null;
@@ -126,13 +136,17 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check all registered triggers every second,
+        // or to dispatch each trigger at its next fire time in the DispatchMode.NEXT_FIRE_TIME mode
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // The dispatch of an unscheduled job is removed from the delay queue immediately
+        executor.setRemoveOnCancelPolicy(dispatchOnFireTime);
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -153,13 +167,12 @@ public void run() {
                 Optional<SimpleTrigger> trigger = createTrigger(id, method.getMethodDescription(), scheduled,
                         defaultOverdueGracePeriod);
                 if (trigger.isPresent()) {
-                    JobInstrumenter instrumenter = null;
-                    if (schedulerConfig.tracingEnabled() && jobInstrumenter.isResolvable()) {
-                        instrumenter = jobInstrumenter.get();
-                    }
+                    // @Scheduled methods are timed by the metrics extension
+                    JobInstrumenter instrumenter = initInstrumenter(schedulerConfig.tracingEnabled(), false);
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
-                            vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                            vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                            schedulerConfig.virtualThreadsMaxConcurrentExecutions(id));
                     scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
                 }
             }
@@ -199,6 +212,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancelDispatch();
                     return task.trigger;
                 }
             }
@@ -211,6 +225,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (dispatchOnFireTime) {
+            dispatching = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                startDispatch(task);
+            }
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -242,6 +263,45 @@ void checkTriggers() {
         }
     }
 
+    ScheduledTask getScheduledTask(String identity) {
+        return scheduledTasks.get(identity);
+    }
+
+    void startDispatch(ScheduledTask task) {
+        if (task.dispatched.compareAndSet(false, true)) {
+            scheduleDispatch(task, 0);
+        }
+    }
+
+    private void scheduleDispatch(ScheduledTask task, long delay) {
+        try {
+            task.future = scheduledExecutor.schedule(() -> dispatch(task), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the executor was shut down
+            LOG.tracef("Unable to dispatch %s - scheduler executor was shut down", task.trigger);
+        }
+    }
+
+    void dispatch(ScheduledTask task) {
+        if (scheduledTasks.get(task.trigger.id) != task) {
+            // the job was unscheduled in the meantime
+            return;
+        }
+        if (!running || !task.trigger.isRunning()) {
+            // paused - check again later
+            scheduleDispatch(task, CHECK_PERIOD);
+            return;
+        }
+        ZonedDateTime now = ZonedDateTime.now();
+        task.execute(now, vertx);
+        Instant next = task.trigger.nextEvaluation();
+        if (next == null) {
+            LOG.debugf("%s will not fire anymore", task.trigger);
+            return;
+        }
+        scheduleDispatch(task, Math.max(MIN_DISPATCH_DELAY, ChronoUnit.MILLIS.between(now.toInstant(), next)));
+    }
+
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -372,7 +432,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, description));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription, description,
+                    dispatchOnFireTime));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -383,6 +444,9 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // only used in the DispatchMode.NEXT_FIRE_TIME mode
+        final AtomicBoolean dispatched = new AtomicBoolean();
+        volatile ScheduledFuture<?> future;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -404,6 +468,13 @@ void execute(ZonedDateTime now, Vertx vertx) {
             }
         }
 
+        void cancelDispatch() {
+            ScheduledFuture<?> future = this.future;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
     }
 
     static abstract class SimpleTrigger implements Trigger {
@@ -429,6 +500,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * Used in the {@link DispatchMode#NEXT_FIRE_TIME} mode.
+         *
+         * @return the time at which this trigger should be evaluated next, or {@code null} if it will not fire anymore
+         */
+        abstract Instant nextEvaluation();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -463,13 +541,16 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // if true, the trigger is evaluated at its fire time and the fire times are not truncated to seconds
+        private final boolean precise;
 
         IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String methodDescription,
-                String description) {
+                String description, boolean precise) {
             super(id, start, methodDescription, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precise = precise;
+            if (!precise && interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -483,13 +564,20 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = precise ? now : now.truncatedTo(ChronoUnit.SECONDS);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (!precise) {
+                    lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                } else if (diff < 2 * interval) {
+                    // keep a fixed rate unless a whole interval was missed
+                    lastFireTime = scheduledFireTime;
+                } else {
+                    lastFireTime = now;
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -505,6 +593,15 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        Instant nextEvaluation() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant();
+            }
+            return last.toInstant().plusMillis(interval);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -547,6 +644,11 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        Instant nextEvaluation() {
+            return getNextFireTime();
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -676,17 +778,19 @@ public boolean isBlocking() {
             Optional<SimpleTrigger> trigger = createTrigger(identity, null, scheduled, defaultOverdueGracePeriod);
             if (trigger.isPresent()) {
                 SimpleTrigger simpleTrigger = trigger.get();
-                JobInstrumenter instrumenter = null;
-                if (schedulerConfig.tracingEnabled() && jobInstrumenter.isResolvable()) {
-                    instrumenter = jobInstrumenter.get();
-                }
+                JobInstrumenter instrumenter = initInstrumenter(schedulerConfig.tracingEnabled(),
+                        schedulerConfig.metricsEnabled());
                 invoker = initInvoker(invoker, events, concurrentExecution, skipPredicate, instrumenter, vertx,
-                        false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
+                        false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor,
+                        schedulerConfig.virtualThreadsMaxConcurrentExecutions(identity));
                 ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, true);
                 ScheduledTask existing = scheduledTasks.putIfAbsent(simpleTrigger.id, scheduledTask);
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (dispatching) {
+                    startDispatch(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
@@ -5,13 +5,21 @@
 /**
  * Instruments a scheduled job.
  * <p>
- * Telemetry extensions can provide exactly one CDI bean of this type. The scope must be either {@link jakarta.inject.Singleton}
- * or {@link jakarta.enterprise.context.ApplicationScoped}.
+ * Telemetry extensions can provide at most one CDI bean of this type per {@link Kind}. The scope must be either
+ * {@link jakarta.inject.Singleton} or {@link jakarta.enterprise.context.ApplicationScoped}. If multiple instrumenters are
+ * enabled then the tracing instrumenter wraps the metrics instrumenter.
  */
 public interface JobInstrumenter {
 
     CompletionStage<Void> instrument(JobInstrumentationContext context);
 
+    /**
+     * @return the kind of this instrumenter
+     */
+    default Kind kind() {
+        return Kind.TRACING;
+    }
+
     interface JobInstrumentationContext {
 
         String getSpanName();
@@ -20,4 +28,20 @@ interface JobInstrumentationContext {
 
     }
 
+    enum Kind {
+
+        /**
+         * The instrumenter is used if {@code quarkus.scheduler.tracing.enabled} is set to {@code true}.
+         */
+        TRACING,
+
+        /**
+         * The instrumenter is used if {@code quarkus.scheduler.metrics.enabled} is set to {@code true}.
+         * <p>
+         * A metrics instrumenter is only used for jobs that are not declared with a {@code @Scheduled} method. These
+         * methods are instrumented by the metrics extension with interceptor bindings instead.
+         */
+        METRICS,
+    }
+
 }
@@ -9,6 +9,7 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -88,6 +89,7 @@ public void produceResources(List<GeneratedStaticResourceBuildItem> generatedSta
     public void process(List<GeneratedStaticResourceBuildItem> generatedStaticResources,
             LaunchModeBuildItem launchModeBuildItem,
             BuildProducer<RouteBuildItem> routes, GeneratedStaticResourcesRecorder generatedStaticResourcesRecorder,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             BuildProducer<NotFoundPageDisplayableEndpointBuildItem> notFoundPageProducer) throws BuildException {
         if (generatedStaticResources.isEmpty()) {
             return;
@@ -107,9 +109,19 @@ public void process(List<GeneratedStaticResourceBuildItem> generatedStaticResour
         Set<String> generatedClassPathResources = generatedStaticResources.stream()
                 .map(GeneratedStaticResourceBuildItem::getEndpoint)
                 .collect(Collectors.toSet());
+        // The generated resources compressed at build time, i.e. not in the development mode
+        Map<String, Map<String, String>> precompressedPaths = new HashMap<>();
+        if (precompressedResources.isPresent()) {
+            for (Map.Entry<String, Map<String, String>> e : precompressedResources.get().getResources().entrySet()) {
+                if (generatedClassPathResources.contains(e.getKey())) {
+                    precompressedPaths.put(e.getKey(), e.getValue());
+                }
+            }
+        }
         routes.produce(RouteBuildItem.builder()
                 .orderedRoute("/*", ROUTE_ORDER, generatedStaticResourcesRecorder.createRouteCustomizer())
-                .handler(generatedStaticResourcesRecorder.createHandler(generatedClassPathResources, generatedFilesResources))
+                .handler(generatedStaticResourcesRecorder.createHandler(generatedClassPathResources, generatedFilesResources,
+                        precompressedPaths))
                 .build());
     }
 
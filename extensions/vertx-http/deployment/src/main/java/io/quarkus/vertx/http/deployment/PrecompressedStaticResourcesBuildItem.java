@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Holds the static resources compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, Map<String, String>> resources;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, Map<String, String>> resources) {
+        this.resources = resources;
+    }
+
+    /**
+     *
+     * @return the map of resource paths to the map of encodings to etags
+     */
+    public Map<String, Map<String, String>> getResources() {
+        return resources;
+    }
+
+}
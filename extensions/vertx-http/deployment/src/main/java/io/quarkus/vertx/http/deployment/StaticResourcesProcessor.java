@@ -2,13 +2,25 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,20 +31,31 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResources;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
+    // Smaller resources are not worth compressing
+    private static final int PRECOMPRESS_MIN_SIZE = 1024;
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +82,122 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(Capabilities capabilities, VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources) {
+        if (!httpBuildTimeConfig.precompressStaticResources() || capabilities.isPresent(Capability.SERVLET)) {
+            return;
+        }
+        List<String> encodings = new ArrayList<>();
+        List<String> compressors = httpBuildTimeConfig.compressors().orElse(List.of());
+        if (compressors.contains(PrecompressedStaticResources.BROTLI)) {
+            if (Brotli4jLoader.isAvailable()) {
+                encodings.add(PrecompressedStaticResources.BROTLI);
+            } else {
+                LOG.warnf("Static resources are not precompressed with brotli - native library is not available: %s",
+                        Brotli4jLoader.getUnavailabilityCause());
+            }
+        }
+        if (compressors.contains(PrecompressedStaticResources.GZIP)) {
+            encodings.add(PrecompressedStaticResources.GZIP);
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().orElse(List.of()));
+        if (encodings.isEmpty() || compressMediaTypes.isEmpty()) {
+            return;
+        }
+
+        Map<String, Map<String, String>> precompressed = new HashMap<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getResourceName();
+            if (Files.isDirectory(visitPath) || !rel.startsWith(prefix)) {
+                return;
+            }
+            String path = rel.substring(prefix.length());
+            if (precompressed.containsKey(path) || !compressMediaTypes.contains(MimeMapping.mimeTypeForFilename(path))) {
+                return;
+            }
+            precompress(path, readAllBytes(visitPath), encodings, precompressed, generatedResources, nativeImageResources);
+        });
+        // The resources generated by extensions are not on the classpath yet
+        for (GeneratedStaticResourceBuildItem generatedStaticResource : generatedStaticResources) {
+            String path = generatedStaticResource.getEndpoint();
+            if (precompressed.containsKey(path) || !compressMediaTypes.contains(MimeMapping.mimeTypeForFilename(path))) {
+                continue;
+            }
+            byte[] content = generatedStaticResource.isFile() ? readAllBytes(generatedStaticResource.getFile())
+                    : generatedStaticResource.getContent();
+            precompress(path, content, encodings, precompressed, generatedResources, nativeImageResources);
+        }
+        if (!precompressed.isEmpty()) {
+            LOG.debugf("Precompressed %s static resources", precompressed.size());
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(precompressed));
+        }
+    }
+
+    private static void precompress(String path, byte[] content, List<String> encodings,
+            Map<String, Map<String, String>> precompressed, BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        if (content.length < PRECOMPRESS_MIN_SIZE) {
+            return;
+        }
+        Map<String, String> variants = new HashMap<>();
+        for (String encoding : encodings) {
+            byte[] compressed = compress(encoding, content);
+            // Only keep the variant if it saves some bytes
+            if (compressed.length < content.length) {
+                String name = PrecompressedStaticResources.PRECOMPRESSED_RESOURCES + path
+                        + PrecompressedStaticResources.fileExtension(encoding);
+                generatedResources.produce(new GeneratedResourceBuildItem(name, compressed));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(name));
+                variants.put(encoding, HashUtil.sha1(compressed));
+            }
+        }
+        if (!variants.isEmpty()) {
+            precompressed.put(path, variants);
+        }
+    }
+
+    private static byte[] readAllBytes(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] compress(String encoding, byte[] content) {
+        try {
+            if (PrecompressedStaticResources.BROTLI.equals(encoding)) {
+                return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(content);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedResources.map(PrecompressedStaticResourcesBuildItem::getResources).orElse(Map.of()))));
         }
     }
 
@@ -0,0 +1,96 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.precompress-static-resources=true\n" +
+            "quarkus.http.compressors=gzip\n";
+
+    private static final String PAGE = "<html><body>" + CompressionTest.TEXT + CompressionTest.TEXT + "</body></html>";
+
+    private static final String SMALL = "body { color: red; }";
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(PAGE), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset(PAGE), "META-INF/resources/page.html")
+                    .addAsResource(new StringAsset(SMALL), "META-INF/resources/small.css"))
+            .addBuildChainCustomizer(b -> b.addBuildStep(new BuildStep() {
+                @Override
+                public void execute(BuildContext context) {
+                    context.produce(new GeneratedStaticResourceBuildItem("/generated.html",
+                            PAGE.getBytes(StandardCharsets.UTF_8)));
+                }
+            }).produces(GeneratedStaticResourceBuildItem.class).produces(GeneratedResourceBuildItem.class).build());
+
+    @Test
+    public void testPrecompressed() {
+        String etag = given().get("/page.html").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("content-type", startsWith("text/html"))
+                .header("vary", is("accept-encoding"))
+                .header("etag", notNullValue())
+                .header("content-length", Integer::parseInt, lessThan(PAGE.length()))
+                .body(equalTo(PAGE))
+                .extract().header("etag");
+
+        given().header("If-None-Match", etag).get("/page.html").then().statusCode(304);
+
+        // The index page is resolved
+        given().get("/").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(PAGE));
+    }
+
+    @Test
+    public void testGeneratedResourcePrecompressed() {
+        given().get("/generated.html").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("vary", is("accept-encoding"))
+                .header("etag", notNullValue())
+                .header("content-length", Integer::parseInt, lessThan(PAGE.length()))
+                .body(equalTo(PAGE));
+    }
+
+    @Test
+    public void testNotAccepted() {
+        // RestAssured sends "Accept-Encoding: gzip" unless the decoder config is changed
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/page.html").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo(PAGE));
+    }
+
+    @Test
+    public void testSmallResourceNotPrecompressed() {
+        given().get("/small.css").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo(SMALL));
+    }
+
+}
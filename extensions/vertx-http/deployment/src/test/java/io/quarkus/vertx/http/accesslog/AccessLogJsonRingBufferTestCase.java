@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Tests writing the access log in the JSON format to a file through the ring buffer
+ */
+public class AccessLogJsonRingBufferTestCase {
+
+    @RegisterExtension
+    public static QuarkusExtensionTest unitTest = new QuarkusExtensionTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    try {
+                        Path logDirectory = Files.createTempDirectory("quarkus-tests");
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.ring-buffer", "true");
+                        p.setProperty("quarkus.http.access-log.format", "json");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.pattern", "combined");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testJsonEntry() {
+        RestAssured.given().header("User-Agent", "Agent \"007\"").get("/does-not-exist?foo=bar");
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Path path = logDirectory.resolve("server.log");
+                    assertThat(path).exists();
+                    String data = Files.readString(path);
+                    assertThat(data).endsWith("\n");
+                    JsonObject entry = new JsonObject(data.trim());
+                    assertThat(entry.getString("requestLine")).isEqualTo("GET /does-not-exist?foo=bar HTTP/1.1");
+                    assertThat(entry.getString("responseCode")).isEqualTo("404");
+                    assertThat(entry.getString("requestHeader.User-Agent")).isEqualTo("Agent \"007\"");
+                    assertThat(entry.containsKey("requestHeader.Referer")).isTrue();
+                    assertThat(entry.getValue("requestHeader.Referer")).isNull();
+                });
+    }
+
+}
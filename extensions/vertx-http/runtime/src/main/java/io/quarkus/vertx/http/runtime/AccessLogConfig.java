@@ -3,6 +3,7 @@
 import java.util.Optional;
 import java.util.Set;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface AccessLogConfig {
@@ -37,6 +38,12 @@ public interface AccessLogConfig {
     @WithDefault("common")
     String pattern();
 
+    /**
+     * The format of the access log entries.
+     */
+    @WithDefault("text")
+    Format format();
+
     /**
      * Set of HTTP headers whose values must be masked when the `%{ALL_REQUEST_HEADERS}` attribute
      * is enabled with the {@link #pattern()} property.
@@ -55,6 +62,24 @@ public interface AccessLogConfig {
     @WithDefault("false")
     boolean logToFile();
 
+    /**
+     * If enabled and the log is written to a file, then the entries are encoded directly to bytes into a preallocated ring
+     * buffer owned by the event loop that handled the request. A single background writer drains the ring buffers and
+     * writes the entries to the file in batches.
+     * <p>
+     * An entry that does not fit in the ring buffer is dropped and the number of dropped entries is logged. Entries from
+     * different event loops may be written out of order.
+     */
+    @WithDefault("false")
+    boolean ringBuffer();
+
+    /**
+     * The size of a ring buffer used when {@link #ringBuffer()} is enabled. The value is rounded up to the next power of
+     * two. There is one ring buffer per event loop and one shared by other threads.
+     */
+    @WithDefault("256K")
+    MemorySize ringBufferSize();
+
     /**
      * The access log file base name, defaults to 'quarkus' which will give a log file
      * name of 'quarkus.log'.
@@ -94,4 +119,17 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    enum Format {
+        /**
+         * The entries are formatted according to the {@link AccessLogConfig#pattern()}.
+         */
+        TEXT,
+        /**
+         * Each entry is a JSON object with a field for every attribute of the {@link AccessLogConfig#pattern()}, e.g.
+         * `{"remoteHost":"127.0.0.1","requestLine":"GET / HTTP/1.1","responseCode":"200"}`. The literal text of the pattern
+         * is ignored.
+         */
+        JSON
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.vertx.http.runtime;
 
+import static io.quarkus.vertx.http.runtime.RoutingUtils.resolvePath;
+
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -26,8 +28,15 @@ public GeneratedStaticResourcesRecorder(RuntimeValue<VertxHttpConfig> httpConfig
         this.httpBuildTimeConfig = httpBuildTimeConfig;
     }
 
+    /**
+     *
+     * @param generatedClasspathResources
+     * @param generatedFilesResources
+     * @param precompressedPaths the paths of generated resources compressed at build time, mapped to encoding -> etag
+     * @return the handler
+     */
     public Handler<RoutingContext> createHandler(Set<String> generatedClasspathResources,
-            Map<String, String> generatedFilesResources) {
+            Map<String, String> generatedFilesResources, Map<String, Map<String, String>> precompressedPaths) {
 
         StaticResourcesConfig config = httpConfig.getValue().staticResources();
 
@@ -36,10 +45,25 @@ public Handler<RoutingContext> createHandler(Set<String> generatedClasspathResou
                 .httpBuildTimeConfig(httpBuildTimeConfig)
                 .defaultEncoding(config.contentEncoding())
                 .build();
-        return new DevStaticHandler(generatedClasspathResources,
+        DevStaticHandler staticHandler = new DevStaticHandler(generatedClasspathResources,
                 generatedFilesResources,
                 options);
-
+        if (precompressedPaths.isEmpty()) {
+            return staticHandler;
+        }
+        PrecompressedStaticResources precompressed = new PrecompressedStaticResources(precompressedPaths,
+                Thread.currentThread().getContextClassLoader(), config);
+        String indexPage = config.indexPage().charAt(0) == '/' ? config.indexPage().substring(1) : config.indexPage();
+        return new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext ctx) {
+                String rel = resolvePath(ctx);
+                if (rel != null && precompressed.send(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel)) {
+                    return;
+                }
+                staticHandler.handle(ctx);
+            }
+        };
     }
 
     public Consumer<Route> createRouteCustomizer() {
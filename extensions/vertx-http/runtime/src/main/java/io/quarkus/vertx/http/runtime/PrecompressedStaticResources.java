@@ -0,0 +1,174 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources compressed at build time.
+ * <p>
+ * The compressed variants are stored in {@link #PRECOMPRESSED_RESOURCES} and loaded lazily. A variant is only served for
+ * a {@code GET} request without the {@code Range} header, and if the client accepts the encoding. Otherwise, the resource
+ * is served by the static handler.
+ */
+public final class PrecompressedStaticResources {
+
+    private static final Logger LOG = Logger.getLogger(PrecompressedStaticResources.class);
+
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+
+    public static final String BROTLI = "br";
+    public static final String GZIP = "gzip";
+
+    // The preferred encoding goes first
+    private static final List<String> ENCODINGS = List.of(BROTLI, GZIP);
+
+    public static String fileExtension(String encoding) {
+        return BROTLI.equals(encoding) ? ".br" : ".gz";
+    }
+
+    // path -> encoding -> etag
+    private final Map<String, Map<String, String>> resources;
+    private final ClassLoader classLoader;
+    private final String cacheControl;
+    private final boolean sendVaryHeader;
+    private final String defaultContentEncoding;
+    private final Map<String, Buffer> contents = new ConcurrentHashMap<>();
+
+    PrecompressedStaticResources(Map<String, Map<String, String>> resources, ClassLoader classLoader,
+            StaticResourcesConfig config) {
+        this.resources = resources;
+        this.classLoader = classLoader;
+        this.cacheControl = config.cachingEnabled() ? "public, max-age=" + config.maxAge().toSeconds() : null;
+        this.sendVaryHeader = config.sendVaryHeader();
+        this.defaultContentEncoding = config.contentEncoding().name();
+    }
+
+    /**
+     *
+     * @param ctx
+     * @param path the path of the resource, e.g. {@code /js/app.js}
+     * @return {@code true} if the precompressed variant was sent, {@code false} otherwise
+     */
+    boolean send(RoutingContext ctx, String path) {
+        Map<String, String> variants = resources.get(path);
+        if (variants == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        if (request.method() != HttpMethod.GET || request.headers().contains(HttpHeaders.RANGE)) {
+            return false;
+        }
+        String encoding = selectEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING), variants);
+        if (encoding == null) {
+            return false;
+        }
+        Buffer content;
+        try {
+            content = contents.computeIfAbsent(path + fileExtension(encoding), this::load);
+        } catch (UncheckedIOException e) {
+            LOG.debugf(e, "Unable to load the precompressed variant of %s", path);
+            return false;
+        }
+        if (content == null) {
+            return false;
+        }
+
+        HttpServerResponse response = ctx.response();
+        String etag = "\"" + variants.get(encoding) + "\"";
+        response.putHeader(HttpHeaders.ETAG, etag);
+        if (sendVaryHeader) {
+            response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (cacheControl != null) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return true;
+        }
+        String contentType = MimeMapping.mimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultContentEncoding);
+            } else {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        // This header also prevents the response from being compressed again
+        response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.end(content);
+        return true;
+    }
+
+    private Buffer load(String name) {
+        try (InputStream in = classLoader.getResourceAsStream(PRECOMPRESSED_RESOURCES + name)) {
+            return in != null ? Buffer.buffer(in.readAllBytes()) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String selectEncoding(String acceptEncoding, Map<String, String> variants) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        boolean wildcard = false;
+        boolean brotli = false;
+        boolean gzip = false;
+        for (String value : acceptEncoding.split(",")) {
+            String coding = value;
+            int paramsStart = value.indexOf(';');
+            if (paramsStart != -1) {
+                if (isZeroQuality(value.substring(paramsStart + 1))) {
+                    continue;
+                }
+                coding = value.substring(0, paramsStart);
+            }
+            coding = coding.trim();
+            if (BROTLI.equalsIgnoreCase(coding)) {
+                brotli = true;
+            } else if (GZIP.equalsIgnoreCase(coding)) {
+                gzip = true;
+            } else if ("*".equals(coding)) {
+                wildcard = true;
+            }
+        }
+        for (String encoding : ENCODINGS) {
+            if (variants.containsKey(encoding)
+                    && (wildcard || (BROTLI.equals(encoding) ? brotli : gzip))) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim()) <= 0.0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -5,6 +5,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -39,7 +40,13 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     *
+     * @param knownPaths
+     * @param precompressedPaths the paths of resources compressed at build time, mapped to encoding -> etag
+     * @return the route consumer
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, Map<String, String>> precompressedPaths) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -98,6 +105,8 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final PrecompressedStaticResources precompressed = precompressedPaths.isEmpty() ? null
+                    : new PrecompressedStaticResources(precompressedPaths, currentCl, config);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -108,6 +117,10 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (precompressed != null
+                                && precompressed.send(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
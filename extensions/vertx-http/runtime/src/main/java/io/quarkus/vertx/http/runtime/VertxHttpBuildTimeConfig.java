@@ -116,6 +116,17 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * If enabled then the static resources from {@code META-INF/resources} and the static resources generated by
+     * extensions are compressed at build time with the maximum compression level. A precompressed variant is served if the client accepts the encoding; this way the
+     * resources are not compressed on every request.
+     * <p>
+     * Only the {@code gzip} and {@code br} encodings listed in {@link #compressors} are used and only the resources with
+     * a media type listed in {@link #compressMediaTypes} are compressed. This option has no effect in the development mode.
+     */
+    @WithDefault("false")
+    boolean precompressStaticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
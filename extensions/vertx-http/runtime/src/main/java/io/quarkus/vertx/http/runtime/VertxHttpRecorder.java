@@ -101,6 +101,7 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -532,13 +533,20 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
-                        accessLog.rotate());
+                if (accessLog.ringBuffer()) {
+                    receiver = new RingBufferAccessLogReceiver(executor, outputDir.toPath(), accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate(),
+                            (int) Math.min(accessLog.ringBufferSize().asLongValue(), 1 << 30));
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
             }
             setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
+                    nonRootPath, accessLog.pattern(), accessLog.format(), accessLog.consolidateReroutedRequests(),
+                    accessLog.excludePattern());
             quarkusWrapperNeeded = true;
         }
 
@@ -554,7 +562,7 @@ public void logMessage(String message) {
             };
 
             setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
+                    nonRootPath, accessLog.pattern(), accessLog.format(), accessLog.consolidateReroutedRequests(),
                     accessLog.excludePattern().or(() -> Optional.of("^" + nonRootPath + ".*")));
             quarkusWrapperNeeded = true;
         }
@@ -665,11 +673,12 @@ private void setupAccessLogHandler(Optional<RuntimeValue<Router>> mainRouterRunt
             String rootPath,
             String nonRootPath,
             String pattern,
+            AccessLogConfig.Format format,
             boolean consolidateReroutedRequests,
             Optional<String> excludePattern) {
 
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
-        AccessLogHandler handler = new AccessLogHandler(receiver, pattern, consolidateReroutedRequests,
+        AccessLogHandler handler = new AccessLogHandler(receiver, pattern, format, consolidateReroutedRequests,
                 getClass().getClassLoader(),
                 excludePattern);
         if (rootPath.equals("/") || nonRootPath.equals("/")) {
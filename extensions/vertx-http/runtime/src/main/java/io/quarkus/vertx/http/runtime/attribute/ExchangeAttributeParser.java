@@ -58,7 +58,26 @@ public int compare(ExchangeAttributeBuilder o1, ExchangeAttributeBuilder o2) {
      * @return
      */
     public ExchangeAttribute parse(final String valueString) {
-        final List<ExchangeAttribute> attributes = new ArrayList<>();
+        final List<Token> tokens = parseTokens(valueString);
+        if (tokens.size() == 1) {
+            return tokens.get(0).attribute();
+        }
+        final ExchangeAttribute[] attributes = new ExchangeAttribute[tokens.size()];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = tokens.get(i).attribute();
+        }
+        return new CompositeExchangeAttribute(attributes);
+    }
+
+    /**
+     * Parses the provided value string, and turns it into a list of tokens. The rules are the same as for
+     * {@link #parse(String)}.
+     *
+     * @param valueString
+     * @return the list of tokens
+     */
+    public List<Token> parseTokens(final String valueString) {
+        final List<Token> tokens = new ArrayList<>();
         int pos = 0;
         int state = 0; //0 = literal, 1 = %, 2 = %{, 3 = $, 4 = ${, 5 = %<
         for (int i = 0; i < valueString.length(); ++i) {
@@ -67,7 +86,7 @@ public ExchangeAttribute parse(final String valueString) {
                 case 0: {
                     if (c == '%' || c == '$') {
                         if (pos != i) {
-                            attributes.add(wrap(parseSingleToken(valueString.substring(pos, i))));
+                            tokens.add(token(valueString.substring(pos, i)));
                             pos = i;
                         }
                         if (c == '%') {
@@ -85,11 +104,11 @@ public ExchangeAttribute parse(final String valueString) {
                         state = 5;
                     } else if (c == '%') {
                         //literal percent
-                        attributes.add(wrap(new ConstantExchangeAttribute("%")));
+                        tokens.add(new Token("%%", wrap(new ConstantExchangeAttribute("%")), true));
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(token(valueString.substring(pos, i + 1)));
                         pos = i + 1;
                         state = 0;
                     }
@@ -97,7 +116,7 @@ public ExchangeAttribute parse(final String valueString) {
                 }
                 case 2, 4: {
                     if (c == '}') {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(token(valueString.substring(pos, i + 1)));
                         pos = i + 1;
                         state = 0;
                     }
@@ -108,18 +127,18 @@ public ExchangeAttribute parse(final String valueString) {
                         state = 4;
                     } else if (c == '$') {
                         //literal dollars
-                        attributes.add(wrap(new ConstantExchangeAttribute("$")));
+                        tokens.add(new Token("$$", wrap(new ConstantExchangeAttribute("$")), true));
                         pos = i + 1;
                         state = 0;
                     } else {
-                        attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                        tokens.add(token(valueString.substring(pos, i + 1)));
                         pos = i + 1;
                         state = 0;
                     }
                     break;
                 }
                 case 5: {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos, i + 1))));
+                    tokens.add(token(valueString.substring(pos, i + 1)));
                     pos = i + 1;
                     state = 0;
                     break;
@@ -133,7 +152,7 @@ public ExchangeAttribute parse(final String valueString) {
             case 3:
             case 5: {
                 if (pos != valueString.length()) {
-                    attributes.add(wrap(parseSingleToken(valueString.substring(pos))));
+                    tokens.add(token(valueString.substring(pos)));
                 }
                 break;
             }
@@ -142,10 +161,11 @@ public ExchangeAttribute parse(final String valueString) {
                 throw new RuntimeException("Mismatched braces: " + valueString);
             }
         }
-        if (attributes.size() == 1) {
-            return attributes.get(0);
-        }
-        return new CompositeExchangeAttribute(attributes.toArray(new ExchangeAttribute[attributes.size()]));
+        return tokens;
+    }
+
+    private Token token(String value) {
+        return new Token(value, wrap(parseSingleToken(value)), value.charAt(0) != '%' && value.charAt(0) != '$');
     }
 
     public ExchangeAttribute parseSingleToken(final String token) {
@@ -161,6 +181,16 @@ public ExchangeAttribute parseSingleToken(final String token) {
         return new ConstantExchangeAttribute(token);
     }
 
+    /**
+     * A token of the parsed value string.
+     *
+     * @param value the token as found in the value string, e.g. {@code %h}, {@code %{i,Referer}} or a literal
+     * @param attribute the attribute
+     * @param literal {@code true} if the token is a literal
+     */
+    public record Token(String value, ExchangeAttribute attribute, boolean literal) {
+    }
+
     private ExchangeAttribute wrap(ExchangeAttribute attribute) {
         ExchangeAttribute res = attribute;
         for (ExchangeAttributeWrapper w : wrappers) {
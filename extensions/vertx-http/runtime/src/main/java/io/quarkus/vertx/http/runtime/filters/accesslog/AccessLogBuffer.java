@@ -0,0 +1,136 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer that encodes strings directly to UTF-8, without intermediate {@code byte[]} or {@link String}
+ * allocations. Instances are reused and are not thread safe.
+ */
+final class AccessLogBuffer {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int length;
+
+    AccessLogBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    void write(byte b) {
+        ensureCapacity(1);
+        bytes[length++] = b;
+    }
+
+    void write(byte[] src) {
+        ensureCapacity(src.length);
+        System.arraycopy(src, 0, bytes, length, src.length);
+        length += src.length;
+    }
+
+    void writeUtf8(String value) {
+        int len = value.length();
+        ensureCapacity(len);
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else {
+                i = writeNonAscii(value, i, c);
+                ensureCapacity(len - i);
+            }
+        }
+    }
+
+    void writeJsonString(String value) {
+        int len = value.length();
+        ensureCapacity(len + 2);
+        bytes[length++] = '"';
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                i = writeNonAscii(value, i, c);
+            } else if (c == '"' || c == '\\') {
+                ensureCapacity(2);
+                bytes[length++] = '\\';
+                bytes[length++] = (byte) c;
+            } else if (c < 0x20) {
+                writeControl(c);
+            } else {
+                ensureCapacity(1);
+                bytes[length++] = (byte) c;
+            }
+        }
+        ensureCapacity(1);
+        bytes[length++] = '"';
+    }
+
+    String toUtf8String() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void writeControl(char c) {
+        ensureCapacity(6);
+        bytes[length++] = '\\';
+        switch (c) {
+            case '\n' -> bytes[length++] = 'n';
+            case '\r' -> bytes[length++] = 'r';
+            case '\t' -> bytes[length++] = 't';
+            default -> {
+                bytes[length++] = 'u';
+                bytes[length++] = '0';
+                bytes[length++] = '0';
+                bytes[length++] = HEX[c >> 4];
+                bytes[length++] = HEX[c & 0xF];
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the index of the last char consumed
+     */
+    private int writeNonAscii(String value, int index, char c) {
+        ensureCapacity(4);
+        if (c < 0x800) {
+            bytes[length++] = (byte) (0xC0 | (c >> 6));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            // Malformed input
+            bytes[length++] = '?';
+        } else {
+            bytes[length++] = (byte) (0xE0 | (c >> 12));
+            bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[length++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length << 1, length + extra));
+        }
+    }
+
+}
@@ -0,0 +1,233 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.vertx.http.runtime.AccessLogConfig;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser.Token;
+import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Encodes access log entries directly to UTF-8 bytes.
+ * <p>
+ * The pattern is compiled once: the literal parts are encoded upfront and only the attributes are resolved for each
+ * request. In the {@link AccessLogConfig.Format#TEXT} format the entry is identical to the message produced by the
+ * {@link ExchangeAttribute} parsed from the same pattern. In the {@link AccessLogConfig.Format#JSON} format the entry is a
+ * JSON object with a field for each attribute of the pattern; the literal parts are ignored and a missing value is
+ * encoded as {@code null}.
+ */
+public final class AccessLogEncoder {
+
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    // Names of the single character tokens, see AccessLogHandler
+    private static final Map<Character, String> SHORT_TOKEN_NAMES = Map.ofEntries(
+            Map.entry('a', "REMOTE_IP"),
+            Map.entry('A', "LOCAL_IP"),
+            Map.entry('b', "BYTES_SENT"),
+            Map.entry('B', "BYTES_SENT"),
+            Map.entry('h', "REMOTE_HOST"),
+            Map.entry('H', "PROTOCOL"),
+            Map.entry('l', "IDENT_USERNAME"),
+            Map.entry('m', "METHOD"),
+            Map.entry('p', "LOCAL_PORT"),
+            Map.entry('q', "QUERY_STRING"),
+            Map.entry('r', "REQUEST_LINE"),
+            Map.entry('R', "REQUEST_PATH"),
+            Map.entry('s', "RESPONSE_CODE"),
+            Map.entry('t', "DATE_TIME"),
+            Map.entry('u', "REMOTE_USER"),
+            Map.entry('U', "REQUEST_URL"),
+            Map.entry('v', "LOCAL_SERVER_NAME"),
+            Map.entry('D', "RESPONSE_TIME"),
+            Map.entry('T', "RESPONSE_TIME_SECONDS"),
+            Map.entry('I', "THREAD_NAME"));
+
+    // Prefixes of the parameterized tokens, e.g. %{i,Referer}
+    private static final Map<String, String> PARAMETERIZED_TOKEN_PREFIXES = Map.of(
+            "i", "requestHeader.",
+            "o", "responseHeader.",
+            "c", "cookie.",
+            "q", "queryParameter.",
+            "d", "data.",
+            "X", "mdc.",
+            "time", "time.");
+
+    private static final ThreadLocal<AccessLogBuffer> STRING_BUFFER = ThreadLocal.withInitial(() -> new AccessLogBuffer(256));
+
+    private final String pattern;
+    private final boolean json;
+    // prefixes[i] is written before the value of attributes[i]
+    private final byte[][] prefixes;
+    private final ExchangeAttribute[] attributes;
+    private final byte[] suffix;
+
+    private AccessLogEncoder(String pattern, boolean json, byte[][] prefixes, ExchangeAttribute[] attributes,
+            byte[] suffix) {
+        this.pattern = pattern;
+        this.json = json;
+        this.prefixes = prefixes;
+        this.attributes = attributes;
+        this.suffix = suffix;
+    }
+
+    /**
+     *
+     * @param pattern the access log pattern; the named formats must be already resolved
+     * @param format
+     * @param classLoader
+     * @return a new encoder
+     */
+    public static AccessLogEncoder create(String pattern, AccessLogConfig.Format format, ClassLoader classLoader) {
+        boolean json = format == AccessLogConfig.Format.JSON;
+        // Missing values are encoded as null in JSON
+        ExchangeAttributeParser parser = new ExchangeAttributeParser(classLoader,
+                json ? Collections.emptyList() : Collections.singletonList(new SubstituteEmptyWrapper("-")));
+        List<byte[]> prefixes = new ArrayList<>();
+        List<ExchangeAttribute> attributes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        if (json) {
+            Set<String> names = new HashSet<>();
+            for (Token token : parser.parseTokens(pattern)) {
+                if (token.literal()) {
+                    continue;
+                }
+                String name = fieldName(token.value());
+                int idx = 1;
+                String unique = name;
+                while (!names.add(unique)) {
+                    unique = name + "_" + ++idx;
+                }
+                literal.append(prefixes.isEmpty() ? '{' : ',');
+                appendJsonString(literal, unique);
+                literal.append(':');
+                prefixes.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+                attributes.add(token.attribute());
+                literal.setLength(0);
+            }
+            if (prefixes.isEmpty()) {
+                literal.append('{');
+            }
+            literal.append('}');
+        } else {
+            for (Token token : parser.parseTokens(pattern)) {
+                if (token.literal()) {
+                    // Literals are constants
+                    literal.append(token.attribute().readAttribute(null));
+                } else {
+                    prefixes.add(literal.toString().getBytes(StandardCharsets.UTF_8));
+                    attributes.add(token.attribute());
+                    literal.setLength(0);
+                }
+            }
+        }
+        return new AccessLogEncoder(pattern, json, prefixes.toArray(new byte[0][]),
+                attributes.toArray(new ExchangeAttribute[0]), literal.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    void encode(RoutingContext exchange, AccessLogBuffer buffer) {
+        for (int i = 0; i < attributes.length; i++) {
+            buffer.write(prefixes[i]);
+            String value = attributes[i].readAttribute(exchange);
+            if (json) {
+                if (value == null) {
+                    buffer.write(NULL);
+                } else {
+                    buffer.writeJsonString(value);
+                }
+            } else if (value != null) {
+                buffer.writeUtf8(value);
+            }
+        }
+        buffer.write(suffix);
+    }
+
+    /**
+     * Encodes the entry into a reused buffer and then creates a string from the buffer.
+     *
+     * @param exchange
+     * @return the entry
+     */
+    public String encodeToString(RoutingContext exchange) {
+        AccessLogBuffer buffer = STRING_BUFFER.get();
+        buffer.reset();
+        encode(exchange, buffer);
+        return buffer.toUtf8String();
+    }
+
+    static String fieldName(String token) {
+        String name;
+        if (token.startsWith("%{") || token.startsWith("${")) {
+            String content = token.substring(2, token.length() - 1);
+            int comma = content.indexOf(',');
+            if (comma != -1) {
+                String prefix = content.substring(0, comma).trim();
+                return PARAMETERIZED_TOKEN_PREFIXES.getOrDefault(prefix, prefix + ".") + content.substring(comma + 1).trim();
+            }
+            name = content;
+        } else if (token.startsWith("%<") && token.length() == 3) {
+            name = "ORIGINAL_" + SHORT_TOKEN_NAMES.getOrDefault(token.charAt(2), token.substring(2));
+        } else if (token.length() == 2) {
+            name = SHORT_TOKEN_NAMES.getOrDefault(token.charAt(1), token.substring(1));
+        } else {
+            name = token.substring(1);
+        }
+        if (name.startsWith("<")) {
+            name = "ORIGINAL_" + name.substring(1);
+        }
+        return camelCase(name);
+    }
+
+    private static String camelCase(String name) {
+        StringBuilder builder = new StringBuilder(name.length());
+        boolean upper = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                upper = builder.length() > 0;
+            } else if (upper) {
+                builder.append(Character.toUpperCase(c));
+                upper = false;
+            } else {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void appendJsonString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return "AccessLogEncoder{" +
+                "pattern='" + pattern + '\'' +
+                ", json=" + json +
+                '}';
+    }
+
+}
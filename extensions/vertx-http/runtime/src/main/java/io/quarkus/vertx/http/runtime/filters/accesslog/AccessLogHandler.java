@@ -24,6 +24,7 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.quarkus.vertx.http.runtime.AccessLogConfig;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
 import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
@@ -97,16 +98,32 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     private final String formatString;
     private final boolean consolidateReroutedRequests;
     private final ExchangeAttribute tokens;
+    private final AccessLogEncoder encoder;
     private final Pattern excludePattern;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
             boolean consolidateReroutedRequests, ClassLoader classLoader,
             Optional<String> excludePattern) {
+        this(accessLogReceiver, formatString, AccessLogConfig.Format.TEXT, consolidateReroutedRequests, classLoader,
+                excludePattern);
+    }
+
+    public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
+            AccessLogConfig.Format format, boolean consolidateReroutedRequests, ClassLoader classLoader,
+            Optional<String> excludePattern) {
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
-                .parse(this.formatString);
+        if (format == AccessLogConfig.Format.TEXT && !(accessLogReceiver instanceof RingBufferAccessLogReceiver)) {
+            this.tokens = new ExchangeAttributeParser(classLoader,
+                    Collections.singletonList(new SubstituteEmptyWrapper("-")))
+                    .parse(this.formatString);
+            this.encoder = null;
+        } else {
+            // The pattern is compiled to an encoder that writes the entry directly to bytes
+            this.tokens = null;
+            this.encoder = AccessLogEncoder.create(this.formatString, format, classLoader);
+        }
         if (excludePattern.isPresent()) {
             this.excludePattern = Pattern.compile(excludePattern.get());
         } else {
@@ -120,6 +137,7 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String format
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
         this.tokens = attribute;
+        this.encoder = null;
         this.excludePattern = null;
     }
 
@@ -155,7 +173,13 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                if (encoder == null) {
+                    accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                } else if (accessLogReceiver instanceof RingBufferAccessLogReceiver ringBufferReceiver) {
+                    ringBufferReceiver.logExchange(rc, encoder);
+                } else {
+                    accessLogReceiver.logMessage(encoder.encodeToString(rc));
+                }
             }
         });
         if (consolidateReroutedRequests) {
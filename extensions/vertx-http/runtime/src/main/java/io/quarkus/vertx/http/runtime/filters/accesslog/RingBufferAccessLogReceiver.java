@@ -0,0 +1,382 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Context;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that encodes the entries directly to bytes and stores them in a directory under the specified file name.
+ * The log is rotated after midnight.
+ * <p>
+ * Each event loop thread encodes the entries into its own preallocated ring buffer, so that no objects are allocated
+ * and no locks are acquired on the event loop. Other threads share a single ring buffer guarded by a lock. A single
+ * writer drains all the ring buffers and writes the content to the file with one gathering {@link FileChannel} write.
+ * The same CAS based mechanism as in {@link DefaultAccessLogReceiver} ensures that only one writer is active at a time.
+ * <p>
+ * An entry that does not fit in the ring buffer is dropped. The number of dropped entries is reported in the log.
+ * The entries from different threads may be written out of order.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DOT = ".";
+
+    private static final byte NEW_LINE = '\n';
+
+    private final Executor logWriteExecutor;
+
+    private final int ringBufferSize;
+
+    private final List<Ring> rings = new CopyOnWriteArrayList<>();
+
+    private final ThreadLocal<Ring> eventLoopRing;
+
+    // Used by all threads that are not event loop threads
+    private final Ring sharedRing;
+
+    private final LongAdder dropped = new LongAdder();
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<RingBufferAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(RingBufferAccessLogReceiver.class, "state");
+
+    private long changeOverPoint;
+    private String currentDateString;
+    private volatile boolean forceLogRotation;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+
+    private FileChannel channel = null;
+    private ByteBuffer[] segments = new ByteBuffer[0];
+
+    private volatile boolean closed = false;
+    private boolean initialRun = true;
+    private final boolean rotate;
+
+    /**
+     *
+     * @param logWriteExecutor
+     * @param outputDirectory
+     * @param logBaseName
+     * @param logNameSuffix
+     * @param rotate
+     * @param ringBufferSize the size of a ring buffer in bytes; rounded up to the next power of two
+     */
+    public RingBufferAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
+            final String logNameSuffix, boolean rotate, int ringBufferSize) {
+        if (ringBufferSize <= 0) {
+            throw new IllegalArgumentException("Ring buffer size must be positive: " + ringBufferSize);
+        }
+        this.logWriteExecutor = logWriteExecutor;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName.endsWith(DOT) ? logBaseName.substring(0, logBaseName.length() - 1) : logBaseName;
+        this.logNameSuffix = (logNameSuffix == null || logNameSuffix.isEmpty()) ? ".log"
+                : (logNameSuffix.charAt(0) == '.' ? logNameSuffix : DOT + logNameSuffix);
+        this.rotate = rotate;
+        this.defaultLogFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        this.ringBufferSize = ringBufferSize == 1 ? 1 : Integer.highestOneBit(ringBufferSize - 1) << 1;
+        this.sharedRing = newRing();
+        this.eventLoopRing = ThreadLocal.withInitial(this::newRing);
+        calculateChangeOverPoint();
+    }
+
+    private Ring newRing() {
+        Ring ring = new Ring(ringBufferSize);
+        rings.add(ring);
+        return ring;
+    }
+
+    /**
+     * Encodes the entry for the given exchange and queues it for writing.
+     *
+     * @param exchange
+     * @param encoder
+     */
+    public void logExchange(RoutingContext exchange, AccessLogEncoder encoder) {
+        if (Context.isOnEventLoopThread()) {
+            Ring ring = eventLoopRing.get();
+            ring.scratch.reset();
+            encoder.encode(exchange, ring.scratch);
+            offer(ring);
+        } else {
+            synchronized (sharedRing) {
+                sharedRing.scratch.reset();
+                encoder.encode(exchange, sharedRing.scratch);
+                offer(sharedRing);
+            }
+        }
+        scheduleWriter();
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        synchronized (sharedRing) {
+            sharedRing.scratch.reset();
+            sharedRing.scratch.writeUtf8(message);
+            offer(sharedRing);
+        }
+        scheduleWriter();
+    }
+
+    private void offer(Ring ring) {
+        ring.scratch.write(NEW_LINE);
+        if (!ring.offer(ring.scratch.bytes(), ring.scratch.length())) {
+            dropped.increment();
+        }
+    }
+
+    private void scheduleWriter() {
+        if (stateUpdater.get(this) == 0 && stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    /**
+     * drains all ring buffers
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        if (forceLogRotation) {
+            doRotate();
+        } else if (initialRun && Files.exists(defaultLogFile)) {
+            //if there is an existing log file check if it should be rotated
+            long lm = 0;
+            try {
+                lm = Files.getLastModifiedTime(defaultLogFile).toMillis();
+            } catch (IOException e) {
+                log.error("Error rotating access log", e);
+            }
+            Calendar c = Calendar.getInstance();
+            c.setTimeInMillis(changeOverPoint);
+            c.add(Calendar.DATE, -1);
+            if (lm <= c.getTimeInMillis()) {
+                doRotate();
+            }
+        }
+        initialRun = false;
+        try {
+            drain();
+            long droppedCount = dropped.sumThenReset();
+            if (droppedCount > 0) {
+                log.warnf("%s access log entries were dropped because the ring buffer was full; consider increasing "
+                        + "quarkus.http.access-log.ring-buffer-size", droppedCount);
+            }
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if there is still more entries
+            //if so then run this again
+            if (hasPendingEntries() || forceLogRotation) {
+                if (stateUpdater.compareAndSet(this, 0, 1)) {
+                    logWriteExecutor.execute(this);
+                }
+            } else if (closed) {
+                try {
+                    if (channel != null) {
+                        channel.close();
+                        channel = null;
+                    }
+                } catch (IOException e) {
+                    log.error("Error writing access log", e);
+                }
+            }
+        }
+    }
+
+    private boolean hasPendingEntries() {
+        for (Ring ring : rings) {
+            if (ring.tail != ring.head) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drain() {
+        List<Ring> current = rings;
+        int size = current.size();
+        if (segments.length < size * 2) {
+            segments = new ByteBuffer[size * 2];
+        }
+        long[] tails = new long[size];
+        int count = 0;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            Ring ring = current.get(i);
+            long head = ring.head;
+            long tail = ring.tail;
+            tails[i] = tail;
+            if (tail == head) {
+                continue;
+            }
+            int length = (int) (tail - head);
+            int index = (int) (head & ring.mask);
+            int first = Math.min(length, ring.data.length - index);
+            segments[count++] = ByteBuffer.wrap(ring.data, index, first);
+            if (first < length) {
+                segments[count++] = ByteBuffer.wrap(ring.data, 0, length - first);
+            }
+            total += length;
+        }
+        if (total == 0) {
+            return;
+        }
+        if (System.currentTimeMillis() > changeOverPoint) {
+            doRotate();
+        }
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
+                        StandardOpenOption.CREATE);
+            }
+            long written = 0;
+            while (written < total) {
+                written += channel.write(segments, 0, count);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+        } finally {
+            // Release the space even if the write failed so that the producers are not blocked forever
+            for (int i = 0; i < size; i++) {
+                current.get(i).head = tails[i];
+            }
+            for (int i = 0; i < count; i++) {
+                segments[i] = null;
+            }
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    private void doRotate() {
+        forceLogRotation = false;
+        if (!rotate) {
+            return;
+        }
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + DOT + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    /**
+     * forces a log rotation. This rotation is performed in an async manner, you cannot rely on the rotation
+     * being performed immediately after this method returns.
+     */
+    public void rotate() {
+        forceLogRotation = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (stateUpdater.compareAndSet(this, 0, 1)) {
+            logWriteExecutor.execute(this);
+        }
+    }
+
+    /**
+     * A single-producer single-consumer ring buffer. The producer is the owning thread (or any thread holding the lock of
+     * the shared ring) and the consumer is the writer.
+     */
+    static final class Ring {
+
+        final byte[] data;
+        final int mask;
+        // Reused by the producer to encode an entry
+        final AccessLogBuffer scratch = new AccessLogBuffer(256);
+
+        // The position up to which the data was consumed; only written by the consumer
+        volatile long head;
+        // The position up to which the data was published; only written by the producer
+        volatile long tail;
+
+        Ring(int size) {
+            this.data = new byte[size];
+            this.mask = size - 1;
+        }
+
+        boolean offer(byte[] src, int length) {
+            long t = tail;
+            if (length > data.length - (t - head)) {
+                return false;
+            }
+            int index = (int) (t & mask);
+            int first = Math.min(length, data.length - index);
+            System.arraycopy(src, 0, data, index, first);
+            if (first < length) {
+                System.arraycopy(src, first, data, 0, length - first);
+            }
+            tail = t + length;
+            return true;
+        }
+
+    }
+
+}
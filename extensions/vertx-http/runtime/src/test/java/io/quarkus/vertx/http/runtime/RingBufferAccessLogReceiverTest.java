@@ -0,0 +1,62 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMessagesWritten() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, tempDir, "access",
+                null, true, 64)) {
+            List<String> expected = new ArrayList<>();
+            // The messages wrap around the ring buffer several times
+            for (int i = 0; i < 20; i++) {
+                String message = "Message " + i + " é";
+                expected.add(message);
+                receiver.logMessage(message);
+            }
+            assertThat(Files.readAllLines(tempDir.resolve("access.log"))).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void testMessageLargerThanRingBufferDropped() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, tempDir, "access",
+                ".txt", true, 16)) {
+            receiver.logMessage("short");
+            receiver.logMessage("a message that does not fit in the ring buffer");
+            receiver.logMessage("short again");
+            assertThat(Files.readAllLines(tempDir.resolve("access.txt"))).containsExactly("short", "short again");
+        }
+    }
+
+    @Test
+    void testRotate() throws IOException {
+        try (RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(Runnable::run, tempDir, "access.",
+                null, true, 1024)) {
+            receiver.logMessage("Message 1");
+            receiver.rotate();
+            receiver.logMessage("Message 2");
+            try (var files = Files.list(tempDir)) {
+                assertThat(files).extracting(p -> p.getFileName().toString())
+                        .hasSize(2)
+                        .contains("access.log");
+            }
+            assertThat(Files.readAllLines(tempDir.resolve("access.log"))).containsExactly("Message 2");
+        }
+    }
+}
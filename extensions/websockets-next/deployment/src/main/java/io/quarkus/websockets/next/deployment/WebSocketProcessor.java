@@ -132,6 +132,7 @@
 import io.quarkus.vertx.http.security.AuthorizationPolicy;
 import io.quarkus.websockets.next.HttpUpgradeCheck;
 import io.quarkus.websockets.next.InboundProcessingMode;
+import io.quarkus.websockets.next.OutboundMessageKeyResolver;
 import io.quarkus.websockets.next.WebSocketClientConnection;
 import io.quarkus.websockets.next.WebSocketClientException;
 import io.quarkus.websockets.next.WebSocketConnection;
@@ -672,6 +673,12 @@ UnremovableBeanBuildItem makeHttpUpgradeChecksUnremovable() {
         return UnremovableBeanBuildItem.beanTypes(HTTP_UPGRADE_CHECK_NAME);
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem makeOutboundMessageKeyResolverUnremovable() {
+        // we access the resolver programmatically
+        return UnremovableBeanBuildItem.beanTypes(OutboundMessageKeyResolver.class);
+    }
+
     @BuildStep
     List<ValidationPhaseBuildItem.ValidationErrorBuildItem> validateHttpUpgradeCheckNotRequestScoped(
             ValidationPhaseBuildItem validationPhase) {
@@ -698,6 +705,13 @@ void serverSyntheticBeans(WebSocketServerRecorder recorder, List<GeneratedEndpoi
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
         List<GeneratedEndpointBuildItem> serverEndpoints = generatedEndpoints.stream()
                 .filter(GeneratedEndpointBuildItem::isServer).toList();
+        // ServerEndpointsContext is always registered but is removable
+        syntheticBeans.produce(SyntheticBeanBuildItem.configure(WebSocketServerRecorder.ServerEndpointsContext.class)
+                .scope(Singleton.class)
+                .setRuntimeInit()
+                .supplier(recorder.createServerEndpointsContext(
+                        serverEndpoints.stream().map(e -> e.path).collect(Collectors.toList())))
+                .done());
         if (serverEndpoints.isEmpty()) {
             return;
         }
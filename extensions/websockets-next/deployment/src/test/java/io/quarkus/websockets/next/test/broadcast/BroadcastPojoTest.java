@@ -0,0 +1,129 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.TextMessageCodec;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class BroadcastPojoTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Ticker.class, Tick.class, TickCodec.class);
+            });
+
+    @TestHTTPResource("ticker")
+    URI tickerUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testMessageIsEncodedOncePerBroadcast() throws Exception {
+        List<WebSocketClient> clients = new ArrayList<>();
+        try {
+            List<String> messages = new CopyOnWriteArrayList<>();
+            // 1 + 2 + 3 messages are received by the clients
+            CountDownLatch messagesLatch = new CountDownLatch(6);
+            for (String clientId : List.of("C1", "C2", "C3")) {
+                clients.add(connect(clientId, messages, messagesLatch));
+            }
+            assertTrue(messagesLatch.await(5, TimeUnit.SECONDS));
+            assertEquals(6, messages.size());
+            // A broadcast encodes the message once regardless of the number of connections
+            assertEquals(3, TickCodec.ENCODED.get());
+        } finally {
+            for (WebSocketClient client : clients) {
+                client.close().toCompletionStage().toCompletableFuture().get();
+            }
+        }
+    }
+
+    WebSocketClient connect(String clientId, List<String> messages, CountDownLatch messagesLatch)
+            throws InterruptedException {
+        WebSocketClient client = vertx.createWebSocketClient();
+        CountDownLatch messageLatch = new CountDownLatch(1);
+        client
+                .connect(tickerUri.getPort(), tickerUri.getHost(), tickerUri.getPath() + "/" + clientId)
+                .onComplete(r -> {
+                    if (r.succeeded()) {
+                        r.result().textMessageHandler(msg -> {
+                            messages.add(msg);
+                            messageLatch.countDown();
+                            messagesLatch.countDown();
+                        });
+                    } else {
+                        throw new IllegalStateException(r.cause());
+                    }
+                });
+        // Wait for the broadcast of the connected client
+        assertTrue(messageLatch.await(5, TimeUnit.SECONDS));
+        return client;
+    }
+
+    @WebSocket(path = "/ticker/{client}")
+    public static class Ticker {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnOpen
+        Uni<Void> open() {
+            return connection.broadcast().sendText(new Tick(connection.pathParam("client").toLowerCase()));
+        }
+
+    }
+
+    public record Tick(String client) {
+    }
+
+    @Singleton
+    @Priority(10)
+    public static class TickCodec implements TextMessageCodec<Tick> {
+
+        static final AtomicInteger ENCODED = new AtomicInteger();
+
+        @Override
+        public boolean supports(Type type) {
+            return type.equals(Tick.class);
+        }
+
+        @Override
+        public String encode(Tick value) {
+            ENCODED.incrementAndGet();
+            return value.client();
+        }
+
+        @Override
+        public Tick decode(Type type, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+package io.quarkus.websockets.next.test.outboundqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.Connection;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OutboundMessageKeyResolver;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class OutboundQueueCoalesceLatestTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Producer.class, KeyResolver.class, WSClient.class);
+            })
+            // The limit is never reached, i.e. the messages are only replaced by the newer messages with the same key
+            .overrideConfigKey("quarkus.websockets-next.server.outbound-queue.max-queued-bytes", "64M")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound-queue.overflow-strategy", "coalesce-latest");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/producer")
+    URI producerUri;
+
+    @Test
+    void testQueuedMessagesCoalesced() {
+        try (WSClient client = WSClient.create(vertx).connect(producerUri)) {
+            // The client stops reading so that the outbound buffers of the connection fill up
+            client.socket().pause();
+            client.sendAndAwait("go");
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> Producer.SUBMITTED.get() == Producer.MESSAGES);
+            client.socket().resume();
+
+            // The send operation of a replaced message completes successfully
+            Awaitility.await().atMost(Duration.ofSeconds(20)).until(() -> Producer.SENT.get() == Producer.MESSAGES);
+            assertEquals(0, Producer.FAILED.get());
+            assertTrue(KeyResolver.RESOLVED.get() > 0);
+
+            // The latest message of each key is received
+            Map<String, Integer> latest = new HashMap<>();
+            Awaitility.await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                latest.clear();
+                for (Buffer message : client.getMessages()) {
+                    String[] parts = message.toString().split(":");
+                    Integer previous = latest.put(parts[0], Integer.parseInt(parts[1]));
+                    // The messages with the same key are received in order
+                    assertTrue(previous == null || previous < Integer.parseInt(parts[1]));
+                }
+                for (int i = 0; i < Producer.KEYS; i++) {
+                    assertEquals(Producer.MESSAGES - Producer.KEYS + i, latest.get("k" + i));
+                }
+            });
+            List<Buffer> messages = client.getMessages();
+            assertTrue(messages.size() < Producer.MESSAGES, "No message was coalesced");
+        }
+    }
+
+    @Singleton
+    public static class KeyResolver implements OutboundMessageKeyResolver {
+
+        static final AtomicInteger RESOLVED = new AtomicInteger();
+
+        @Override
+        public Object resolve(Connection connection, Object message) {
+            RESOLVED.incrementAndGet();
+            String text = (String) message;
+            return text.substring(0, text.indexOf(':'));
+        }
+
+    }
+
+    @WebSocket(path = "/producer")
+    public static class Producer {
+
+        static final int MESSAGES = 20_000;
+        static final int KEYS = 4;
+        static final AtomicInteger SUBMITTED = new AtomicInteger();
+        static final AtomicInteger SENT = new AtomicInteger();
+        static final AtomicInteger FAILED = new AtomicInteger();
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> produce(String message) {
+            String payload = "x".repeat(1024);
+            for (int i = 0; i < MESSAGES; i++) {
+                connection.sendText("k" + (i % KEYS) + ":" + i + ":" + payload).subscribe().with(
+                        ignored -> SENT.incrementAndGet(),
+                        t -> FAILED.incrementAndGet());
+                SUBMITTED.incrementAndGet();
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.quarkus.websockets.next.test.outboundqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class OutboundQueueDropOldestTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Producer.class, WSClient.class);
+            })
+            // drop-oldest is the default overflow strategy
+            .overrideConfigKey("quarkus.websockets-next.server.outbound-queue.max-queued-bytes", "64K");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/producer")
+    URI producerUri;
+
+    @Test
+    void testOldestMessagesDropped() {
+        try (WSClient client = WSClient.create(vertx).connect(producerUri)) {
+            // The client stops reading so that the outbound buffers of the connection fill up
+            client.socket().pause();
+            client.sendAndAwait("go");
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> Producer.SUBMITTED.get() == Producer.MESSAGES);
+            client.socket().resume();
+
+            // The send operation of a dropped message completes successfully
+            Awaitility.await().atMost(Duration.ofSeconds(20)).until(() -> Producer.SENT.get() == Producer.MESSAGES);
+            assertEquals(0, Producer.FAILED.get());
+            // The newest message is never dropped
+            Awaitility.await().atMost(Duration.ofSeconds(10))
+                    .until(() -> index(client.getLastMessage()) == Producer.MESSAGES - 1);
+            List<Buffer> messages = client.getMessages();
+            assertTrue(messages.size() < Producer.MESSAGES, "No message was dropped");
+            // The messages that were not dropped are received in order
+            for (int i = 1; i < messages.size(); i++) {
+                assertTrue(index(messages.get(i - 1)) < index(messages.get(i)));
+            }
+            assertFalse(client.isClosed());
+        }
+    }
+
+    static int index(Buffer message) {
+        if (message == null) {
+            return -1;
+        }
+        String text = message.toString();
+        return Integer.parseInt(text.substring(0, text.indexOf(':')));
+    }
+
+    @WebSocket(path = "/producer")
+    public static class Producer {
+
+        static final int MESSAGES = 20_000;
+        static final AtomicInteger SUBMITTED = new AtomicInteger();
+        static final AtomicInteger SENT = new AtomicInteger();
+        static final AtomicInteger FAILED = new AtomicInteger();
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> produce(String message) {
+            String payload = "x".repeat(1024);
+            for (int i = 0; i < MESSAGES; i++) {
+                connection.sendText(i + ":" + payload).subscribe().with(ignored -> SENT.incrementAndGet(),
+                        t -> FAILED.incrementAndGet());
+                SUBMITTED.incrementAndGet();
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.quarkus.websockets.next.test.outboundqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class OutboundQueueOverflowCloseTest {
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Producer.class, WSClient.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound-queue.max-queued-bytes", "64K")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound-queue.overflow-strategy", "close");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/producer")
+    URI producerUri;
+
+    @Test
+    void testSlowClientIsClosed() throws InterruptedException {
+        try (WSClient client = WSClient.create(vertx).connect(producerUri)) {
+            // The client stops reading so that the outbound buffers of the connection fill up
+            client.socket().pause();
+            client.sendAndAwait("go");
+            assertTrue(Producer.FAILED.await(10, TimeUnit.SECONDS));
+            // Only the messages that fit in the socket buffers and the outbound queue were written
+            assertTrue(Producer.SENT.get() < Producer.MESSAGES);
+            // The close frame follows the messages written before the overflow
+            client.socket().resume();
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(client::isClosed);
+            assertEquals(WebSocketCloseStatus.POLICY_VIOLATION.code(), client.closeStatusCode());
+        }
+    }
+
+    @WebSocket(path = "/producer")
+    public static class Producer {
+
+        static final int MESSAGES = 20_000;
+        static final AtomicInteger SENT = new AtomicInteger();
+        static final CountDownLatch FAILED = new CountDownLatch(1);
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> produce(String message) {
+            String payload = "x".repeat(1024);
+            for (int i = 0; i < MESSAGES; i++) {
+                connection.sendText(payload).subscribe().with(ignored -> SENT.incrementAndGet(),
+                        t -> FAILED.countDown());
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.quarkus.websockets.next.test.telemetry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.builder.Version;
+import io.quarkus.maven.dependency.Dependency;
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class MicrometerWebSocketsOutboundQueueTest {
+
+    private static final String QUEUED_BYTES = "quarkus_websockets_server_outbound_queued_bytes";
+    private static final String DROPPED = "quarkus_websockets_server_outbound_dropped_total";
+
+    @RegisterExtension
+    public static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot(root -> root
+                    .addClasses(Producer.class, WSClient.class)
+                    .addAsResource(new StringAsset("""
+                            quarkus.websockets-next.server.metrics.enabled=true
+                            quarkus.websockets-next.server.outbound-queue.max-queued-bytes=64K
+                            """), "application.properties"))
+            .setForcedDependencies(
+                    List.of(Dependency.of("io.quarkus", "quarkus-micrometer-registry-prometheus-deployment",
+                            Version.getVersion())));
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/producer")
+    URI producerUri;
+
+    @Test
+    public void testQueuedBytesAndDroppedMessages() {
+        try (WSClient client = WSClient.create(vertx).connect(producerUri)) {
+            // The client stops reading so that the outbound buffers of the connection fill up
+            client.socket().pause();
+            client.sendAndAwait("go");
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> Producer.SUBMITTED.get() == Producer.MESSAGES);
+
+            // The oldest messages are dropped so that exactly 64 messages of 1KB remain queued,
+            // i.e. the size of a message is the length of the UTF-8 encoded payload
+            String metrics = getMetrics();
+            assertEquals(64 * 1024, metricValue(metrics, QUEUED_BYTES));
+            assertTrue(metricValue(metrics, DROPPED) > 0, metrics);
+
+            client.socket().resume();
+            Awaitility.await().atMost(Duration.ofSeconds(20)).untilAsserted(() -> {
+                assertEquals(Producer.MESSAGES, Producer.SENT.get());
+                assertEquals(0, metricValue(getMetrics(), QUEUED_BYTES));
+            });
+        }
+    }
+
+    static String getMetrics() {
+        return RestAssured.given().get("/q/metrics").then().statusCode(200).extract().asString();
+    }
+
+    static double metricValue(String metrics, String name) {
+        // quarkus_websockets_server_outbound_dropped_total{uri="/producer"} 42.0
+        return metrics.lines()
+                .filter(l -> l.startsWith(name + "{") && l.contains("uri=\"/producer\""))
+                .mapToDouble(l -> Double.parseDouble(l.substring(l.lastIndexOf(' ') + 1)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Metric " + name + " not found: " + metrics));
+    }
+
+    @WebSocket(path = "/producer")
+    public static class Producer {
+
+        static final int MESSAGES = 20_000;
+        static final AtomicInteger SUBMITTED = new AtomicInteger();
+        static final AtomicInteger SENT = new AtomicInteger();
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> produce(String message) {
+            // 524 characters, 1024 bytes
+            String payload = "\u00e9".repeat(500) + "x".repeat(24);
+            for (int i = 0; i < MESSAGES; i++) {
+                connection.sendText(payload).subscribe().with(ignored -> SENT.incrementAndGet(), t -> {
+                });
+                SUBMITTED.incrementAndGet();
+            }
+            return Uni.createFrom().voidItem();
+        }
+
+    }
+
+}
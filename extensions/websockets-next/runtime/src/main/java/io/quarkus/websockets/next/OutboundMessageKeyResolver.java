@@ -0,0 +1,23 @@
+package io.quarkus.websockets.next;
+
+/**
+ * Resolves the key of an outbound message. If the {@code coalesce-latest} overflow strategy of the outbound queue is
+ * configured, a message queued for a slow client is replaced by a newer message with the same key. For example, a market
+ * data endpoint may resolve the symbol of a quote so that a slow client only receives the latest quote of each symbol.
+ * <p>
+ * Implementations must be CDI beans. Qualifiers are ignored. At most one bean may be declared.
+ *
+ * @see Sender#sendText(Object)
+ */
+public interface OutboundMessageKeyResolver {
+
+    /**
+     *
+     * @param connection the connection the message is sent to
+     * @param message the message passed to the sender, i.e. a {@link String}, a {@link io.vertx.core.buffer.Buffer} or an
+     *        object encoded by a codec
+     * @return the key, or {@code null} if the message is never replaced
+     */
+    Object resolve(Connection connection, Object message);
+
+}
@@ -0,0 +1,299 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.enterprise.inject.Instance;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.websockets.next.CloseReason;
+import io.quarkus.websockets.next.OutboundMessageKeyResolver;
+import io.quarkus.websockets.next.WebSocketException;
+import io.quarkus.websockets.next.runtime.config.OverflowStrategy;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketBase;
+
+/**
+ * Bounded queue of the outbound messages of a connection.
+ * <p>
+ * A message is written to the WebSocket directly unless the write queue of the WebSocket is full, i.e. the client does
+ * not read fast enough. In that case the message is queued until the WebSocket is drained. If the queued messages exceed
+ * the configured number of bytes then the {@link OverflowStrategy} is applied. The send operation of a dropped or replaced
+ * message completes successfully.
+ */
+final class OutboundQueue {
+
+    private static final Logger LOG = Logger.getLogger(OutboundQueue.class);
+
+    static final CloseReason OVERFLOW = new CloseReason(WebSocketCloseStatus.POLICY_VIOLATION.code(),
+            "Outbound queue overflow");
+
+    private final WebSocketConnectionBase connection;
+    private final long maxQueuedBytes;
+    private final OverflowStrategy overflowStrategy;
+    private final OutboundMessageKeyResolver keyResolver;
+    private final ArrayDeque<Message> queue;
+    // only used for the coalesce-latest strategy
+    private final Map<Object, Message> keyed;
+    private long queuedBytes;
+    private boolean drainHandlerSet;
+    private boolean closed;
+
+    private OutboundQueue(WebSocketConnectionBase connection, long maxQueuedBytes, OverflowStrategy overflowStrategy,
+            OutboundMessageKeyResolver keyResolver) {
+        this.connection = connection;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.overflowStrategy = overflowStrategy;
+        this.keyResolver = keyResolver;
+        this.queue = new ArrayDeque<>();
+        this.keyed = overflowStrategy == OverflowStrategy.COALESCE_LATEST && keyResolver != null ? new HashMap<>() : null;
+    }
+
+    /**
+     * @return the function that creates the queue for a connection, or {@code null} if the outbound messages should not be
+     *         queued
+     */
+    static Function<WebSocketConnectionBase, OutboundQueue> creator(WebSocketsServerRuntimeConfig.OutboundQueue config,
+            ArcContainer container) {
+        if (config.maxQueuedBytes().isEmpty()) {
+            return null;
+        }
+        long maxQueuedBytes = config.maxQueuedBytes().get().asLongValue();
+        OverflowStrategy overflowStrategy = config.overflowStrategy();
+        OutboundMessageKeyResolver keyResolver = null;
+        if (overflowStrategy == OverflowStrategy.COALESCE_LATEST) {
+            Instance<OutboundMessageKeyResolver> instance = container.select(OutboundMessageKeyResolver.class);
+            if (instance.isResolvable()) {
+                keyResolver = instance.get();
+            } else {
+                LOG.warnf("No %s bean found, queued outbound messages are never coalesced",
+                        OutboundMessageKeyResolver.class.getSimpleName());
+            }
+        }
+        OutboundMessageKeyResolver resolver = keyResolver;
+        return new Function<>() {
+            @Override
+            public OutboundQueue apply(WebSocketConnectionBase connection) {
+                return new OutboundQueue(connection, maxQueuedBytes, overflowStrategy, resolver);
+            }
+        };
+    }
+
+    Future<Void> writeText(String text, Object message) {
+        return write(new Message(text, null, message, -1));
+    }
+
+    Future<Void> writeBinary(Buffer binary, Object message) {
+        return write(new Message(null, binary, message, binary.length()));
+    }
+
+    /**
+     * Discards the queued messages once the connection is closed.
+     */
+    void discard() {
+        List<Message> discarded;
+        synchronized (this) {
+            closed = true;
+            discarded = new ArrayList<>(queue);
+            clear();
+        }
+        for (Message message : discarded) {
+            message.promise.fail(new WebSocketException("Connection closed before the message was sent"));
+        }
+    }
+
+    private Future<Void> write(Message message) {
+        WebSocketBase webSocket = connection.webSocket();
+        List<Message> dropped = null;
+        List<Message> failed = null;
+        Future<Void> result;
+        synchronized (this) {
+            if (closed) {
+                return Future.failedFuture(new WebSocketException("Connection closed before the message was sent"));
+            }
+            if (queue.isEmpty() && !webSocket.writeQueueFull()) {
+                return message.write(webSocket);
+            }
+            if (!drainHandlerSet) {
+                drainHandlerSet = true;
+                webSocket.drainHandler(new Handler<Void>() {
+                    @Override
+                    public void handle(Void event) {
+                        drain();
+                    }
+                });
+            }
+            if (message.size < 0) {
+                // The encoded length is only needed if the message is queued
+                message.size = ByteBufUtil.utf8Bytes(message.text);
+            }
+            message.promise = Promise.promise();
+            result = message.promise.future();
+            Message replaced = enqueue(message);
+            if (replaced != null) {
+                dropped = new ArrayList<>();
+                dropped.add(replaced);
+            }
+            if (queuedBytes > maxQueuedBytes) {
+                if (overflowStrategy == OverflowStrategy.CLOSE) {
+                    closed = true;
+                    failed = new ArrayList<>(queue);
+                    clear();
+                } else {
+                    if (dropped == null) {
+                        dropped = new ArrayList<>();
+                    }
+                    while (queuedBytes > maxQueuedBytes && !queue.isEmpty()) {
+                        Message oldest = queue.poll();
+                        if (keyed != null && oldest.key != null) {
+                            keyed.remove(oldest.key);
+                        }
+                        queuedBytes -= oldest.size;
+                        reportQueuedBytes(-oldest.size);
+                        dropped.add(oldest);
+                    }
+                }
+            }
+        }
+        SendingInterceptor sendingInterceptor = connection.sendingInterceptor();
+        if (dropped != null) {
+            for (Message m : dropped) {
+                m.promise.complete();
+            }
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onDropped(dropped.size());
+            }
+            LOG.debugf("Dropped %s outbound messages of a slow client: %s", dropped.size(), connection);
+        }
+        if (failed != null) {
+            LOG.debugf("Outbound queue overflow, closing the connection of a slow client: %s", connection);
+            for (Message m : failed) {
+                m.promise.fail(new WebSocketException("Connection closed due to outbound queue overflow"));
+            }
+            if (sendingInterceptor != null) {
+                sendingInterceptor.onDropped(failed.size());
+            }
+            connection.close(OVERFLOW).subscribe().with(ignored -> {
+            }, t -> LOG.debugf(t, "Unable to close the connection of a slow client: %s", connection));
+        }
+        return result;
+    }
+
+    /**
+     * @return the message replaced by the given message, or {@code null}
+     */
+    private Message enqueue(Message message) {
+        if (keyed != null) {
+            message.key = keyResolver.resolve(connection, message.message);
+            if (message.key != null) {
+                Message existing = keyed.get(message.key);
+                if (existing != null) {
+                    // Replace the queued message and keep its position in the queue
+                    Message replaced = existing.replaceWith(message);
+                    queuedBytes += existing.size - replaced.size;
+                    reportQueuedBytes(existing.size - replaced.size);
+                    return replaced;
+                }
+                keyed.put(message.key, message);
+            }
+        }
+        queue.add(message);
+        queuedBytes += message.size;
+        reportQueuedBytes(message.size);
+        return null;
+    }
+
+    private void clear() {
+        reportQueuedBytes(-queuedBytes);
+        queue.clear();
+        if (keyed != null) {
+            keyed.clear();
+        }
+        queuedBytes = 0;
+    }
+
+    private void drain() {
+        WebSocketBase webSocket = connection.webSocket();
+        synchronized (this) {
+            while (!queue.isEmpty() && !webSocket.writeQueueFull()) {
+                Message message = queue.poll();
+                if (keyed != null && message.key != null) {
+                    keyed.remove(message.key);
+                }
+                queuedBytes -= message.size;
+                reportQueuedBytes(-message.size);
+                Promise<Void> promise = message.promise;
+                message.write(webSocket).onComplete(new Handler<AsyncResult<Void>>() {
+                    @Override
+                    public void handle(AsyncResult<Void> r) {
+                        if (r.succeeded()) {
+                            promise.complete();
+                        } else {
+                            promise.fail(r.cause());
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private void reportQueuedBytes(long delta) {
+        SendingInterceptor sendingInterceptor = connection.sendingInterceptor();
+        if (sendingInterceptor != null && delta != 0) {
+            sendingInterceptor.onQueued(delta);
+        }
+    }
+
+    private static final class Message {
+
+        private String text;
+        private Buffer binary;
+        // the original message, used to resolve the key
+        private Object message;
+        // the number of bytes of the payload, i.e. the UTF-8 encoded length of a text message, or -1 if not computed yet
+        private int size;
+        private Object key;
+        private Promise<Void> promise;
+
+        Message(String text, Buffer binary, Object message, int size) {
+            this.text = text;
+            this.binary = binary;
+            this.message = message;
+            this.size = size;
+        }
+
+        Future<Void> write(WebSocketBase webSocket) {
+            return text != null ? webSocket.writeTextMessage(text) : webSocket.writeBinaryMessage(binary);
+        }
+
+        /**
+         * Takes over the payload and the promise of the given message.
+         *
+         * @return a message with the previous payload and promise
+         */
+        Message replaceWith(Message newer) {
+            Message replaced = new Message(text, binary, message, size);
+            replaced.promise = promise;
+            this.text = newer.text;
+            this.binary = newer.binary;
+            this.message = newer.message;
+            this.size = newer.size;
+            this.promise = newer.promise;
+            return replaced;
+        }
+    }
+}
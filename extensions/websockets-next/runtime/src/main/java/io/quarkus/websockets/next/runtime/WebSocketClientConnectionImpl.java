@@ -28,7 +28,7 @@ class WebSocketClientConnectionImpl extends WebSocketConnectionBase implements W
             Consumer<WebSocketClientConnection> cleanup) {
         super(Map.copyOf(pathParams), codecs,
                 new ClientHandshakeRequestImpl(serverEndpointUri, Objects.requireNonNull(webSocket), headers), trafficLogger,
-                new UserDataImpl(userData), sendingInterceptor);
+                new UserDataImpl(userData), sendingInterceptor, null);
         this.clientId = clientId;
         this.webSocket = webSocket;
         this.cleanup = cleanup;
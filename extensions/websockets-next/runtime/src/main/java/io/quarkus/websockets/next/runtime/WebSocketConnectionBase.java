@@ -3,6 +3,7 @@
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 import javax.net.ssl.SSLSession;
 
@@ -17,6 +18,7 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
@@ -44,8 +46,11 @@ public abstract class WebSocketConnectionBase implements Connection {
 
     private final SendingInterceptor sendingInterceptor;
 
+    private final OutboundQueue outboundQueue;
+
     WebSocketConnectionBase(Map<String, String> pathParams, Codecs codecs, HandshakeRequest handshakeRequest,
-            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
+            Function<WebSocketConnectionBase, OutboundQueue> outboundQueueCreator) {
         this.identifier = UUID.randomUUID().toString();
         this.pathParams = pathParams;
         this.codecs = codecs;
@@ -54,6 +59,7 @@ public abstract class WebSocketConnectionBase implements Connection {
         this.trafficLogger = trafficLogger;
         this.userData = userData;
         this.sendingInterceptor = sendingInterceptor;
+        this.outboundQueue = outboundQueueCreator != null ? outboundQueueCreator.apply(this) : null;
     }
 
     abstract WebSocketBase webSocket();
@@ -70,7 +76,11 @@ public String pathParam(String name) {
 
     @Override
     public Uni<Void> sendText(String message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage());
+        return sendText(message, message);
+    }
+
+    private Uni<Void> sendText(String message, Object original) {
+        Uni<Void> uni = Uni.createFrom().completionStage(() -> writeTextMessage(message, original).toCompletionStage());
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
         }
@@ -81,7 +91,7 @@ public Uni<Void> sendText(String message) {
 
     @Override
     public Uni<Void> sendBinary(Buffer message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage());
+        Uni<Void> uni = Uni.createFrom().completionStage(() -> writeBinaryMessage(message).toCompletionStage());
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
         }
@@ -90,17 +100,60 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message), message);
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes the text message without notifying the {@link SendingInterceptor}. Used for broadcasting, where the
+     * interceptor is notified once for all the connections.
+     */
+    Future<Void> writeText(String message, Object original) {
+        Future<Void> future = writeTextMessage(message, original);
+        return trafficLogger == null ? future : future.onSuccess(ignored -> trafficLogger.textMessageSent(this, message));
+    }
+
+    /**
+     * Writes the binary message without notifying the {@link SendingInterceptor}. Used for broadcasting, where the
+     * interceptor is notified once for all the connections.
+     */
+    Future<Void> writeBinary(Buffer message) {
+        Future<Void> future = writeBinaryMessage(message);
+        return trafficLogger == null ? future
+                : future.onSuccess(ignored -> trafficLogger.binaryMessageSent(this, message));
+    }
+
+    private Future<Void> writeTextMessage(String message, Object original) {
+        return outboundQueue != null ? outboundQueue.writeText(message, original) : webSocket().writeTextMessage(message);
+    }
+
+    private Future<Void> writeBinaryMessage(Buffer message) {
+        return outboundQueue != null ? outboundQueue.writeBinary(message, message)
+                : webSocket().writeBinaryMessage(message);
+    }
+
+    /**
+     * Discards the outbound messages queued for the client once the connection is closed.
+     */
+    void discardOutboundQueue() {
+        if (outboundQueue != null) {
+            outboundQueue.discard();
         }
-        return sendText(text);
+    }
+
+    SendingInterceptor sendingInterceptor() {
+        return sendingInterceptor;
     }
 
     @Override
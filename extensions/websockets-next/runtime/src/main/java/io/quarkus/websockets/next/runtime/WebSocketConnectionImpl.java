@@ -6,8 +6,10 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -16,7 +18,15 @@
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
@@ -34,19 +44,27 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final BroadcastSender defaultBroadcast;
 
+    /**
+     * The event loop context of the connection, or {@code null} if not created on a Vert.x thread
+     */
+    private final Context eventLoopContext;
+
     private final SecuritySupport securitySupport;
 
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
-            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator) {
+            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator,
+            Function<WebSocketConnectionBase, OutboundQueue> outboundQueueCreator) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
-                userData, sendingInterceptor);
+                userData, sendingInterceptor, outboundQueueCreator);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.defaultBroadcast = new BroadcastImpl(null);
+        Context context = Vertx.currentContext();
+        this.eventLoopContext = context != null ? VertxContext.getRootContext(context) : null;
         this.securitySupport = securitySupportCreator.apply(this);
     }
 
@@ -181,25 +199,6 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
         BroadcastImpl(Predicate<WebSocketConnection> filter) {
@@ -213,17 +212,18 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return doSend(message, null, message);
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message once for all connections
+            return doSend(encodeText(message), null, message);
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return doSend(null, message, message);
         }
 
         @Override
@@ -236,28 +236,126 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
+        private Uni<Void> doSend(String text, Buffer binary, Object message) {
             Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
             if (connections.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
+            return Uni.createFrom().emitter(emitter -> {
+                // Group the connections by event loop so that the message is written to all connections of an event loop
+                // in a single task, instead of scheduling a task per connection
+                Map<Context, List<WebSocketConnectionImpl>> eventLoops = new HashMap<>();
+                int count = 0;
+                for (WebSocketConnection connection : connections) {
+                    if (connection.isOpen()
+                            && (filter == null || filter.test(connection))) {
+                        WebSocketConnectionImpl c = (WebSocketConnectionImpl) connection;
+                        eventLoops.computeIfAbsent(c.eventLoopContext, k -> new ArrayList<>()).add(c);
+                        count++;
+                    }
+                }
+                if (count == 0) {
+                    emitter.complete(null);
+                    return;
+                }
+                Fanout fanout = new Fanout(text, binary, message, count, emitter);
+                Context current = Vertx.currentContext();
+                Context currentEventLoop = current != null ? VertxContext.getRootContext(current) : null;
+                for (Entry<Context, List<WebSocketConnectionImpl>> e : eventLoops.entrySet()) {
+                    Context eventLoop = e.getKey();
+                    List<WebSocketConnectionImpl> group = e.getValue();
+                    if (eventLoop == null || eventLoop == currentEventLoop) {
+                        fanout.write(group);
+                    } else {
+                        eventLoop.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                fanout.write(group);
+                            }
+                        });
+                    }
+                }
+            });
+        }
+
+    }
+
+    /**
+     * Writes a broadcast message to a set of connections and completes the emitter once the message was written to all of
+     * them.
+     */
+    private final class Fanout {
+
+        private final String text;
+        private final Buffer binary;
+        // the original message, i.e. before encoding
+        private final Object message;
+        private final UniEmitter<? super Void> emitter;
+        private final long start;
+        private final AtomicInteger pending;
+        private final AtomicInteger written;
+        private final Queue<Throwable> failures;
+
+        Fanout(String text, Buffer binary, Object message, int connections, UniEmitter<? super Void> emitter) {
+            this.text = text;
+            this.binary = binary;
+            this.message = message;
+            this.emitter = emitter;
+            this.start = System.nanoTime();
+            this.pending = new AtomicInteger(connections);
+            this.written = new AtomicInteger();
+            this.failures = new ConcurrentLinkedQueue<>();
+        }
+
+        void write(List<WebSocketConnectionImpl> connections) {
+            for (WebSocketConnectionImpl connection : connections) {
+                Future<Void> future;
+                try {
+                    future = text != null ? connection.writeText(text, message) : connection.writeBinary(binary);
+                } catch (Throwable t) {
+                    future = Future.failedFuture(t);
                 }
+                future.onComplete(new Handler<AsyncResult<Void>>() {
+                    @Override
+                    public void handle(AsyncResult<Void> r) {
+                        written(connection, r);
+                    }
+                });
             }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
+        }
+
+        private void written(WebSocketConnectionImpl connection, AsyncResult<Void> result) {
+            if (result.succeeded()) {
+                written.incrementAndGet();
+            } else if (!Endpoints.isWebSocketIsClosedFailure(result.cause(), connection)) {
+                // Intentionally ignore 'WebSocket is closed' failures
+                // It might happen that the connection is closed in the mean time
+                failures.add(result.cause());
+            }
+            if (pending.decrementAndGet() == 0) {
+                complete();
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
         }
 
+        private void complete() {
+            SendingInterceptor sendingInterceptor = sendingInterceptor();
+            int connections = written.get();
+            if (sendingInterceptor != null && connections > 0) {
+                long duration = System.nanoTime() - start;
+                if (text != null) {
+                    sendingInterceptor.onBroadcast(text, connections, duration);
+                } else {
+                    sendingInterceptor.onBroadcast(binary, connections, duration);
+                }
+            }
+            if (failures.isEmpty()) {
+                emitter.complete(null);
+            } else if (failures.size() == 1) {
+                emitter.fail(failures.peek());
+            } else {
+                emitter.fail(new CompositeException(new ArrayList<>(failures)));
+            }
+        }
     }
 
 }
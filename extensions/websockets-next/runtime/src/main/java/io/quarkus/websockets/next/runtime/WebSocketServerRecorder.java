@@ -14,6 +14,7 @@
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.inject.Instance;
@@ -88,6 +89,63 @@ public Object get() {
         };
     }
 
+    public Supplier<Object> createServerEndpointsContext(List<String> paths) {
+        return new Supplier<Object>() {
+            @Override
+            public Object get() {
+                List<Pattern> patterns = new ArrayList<>(paths.size());
+                for (String path : paths) {
+                    patterns.add(toPattern(path));
+                }
+                return new ServerEndpointsContext() {
+
+                    @Override
+                    public boolean isEndpointPath(String path) {
+                        for (Pattern pattern : patterns) {
+                            if (pattern.matcher(path).matches()) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    }
+
+                };
+            }
+        };
+    }
+
+    // The path is using Vertx syntax for path params, i.e. /foo/:bar
+    private static Pattern toPattern(String path) {
+        StringBuilder regex = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            regex.append('/');
+            if (segment.startsWith(":")) {
+                regex.append("[^/]+");
+            } else {
+                regex.append(Pattern.quote(segment));
+            }
+        }
+        // Vert.x ignores a trailing slash
+        return Pattern.compile(regex.append("/?").toString());
+    }
+
+    /**
+     * Provides the paths of the server endpoints relative to the HTTP root path.
+     */
+    public interface ServerEndpointsContext {
+
+        /**
+         *
+         * @param path the normalized path relative to the HTTP root path
+         * @return {@code true} if the path maps to a server endpoint
+         */
+        boolean isEndpointPath(String path);
+
+    }
+
     public Handler<RoutingContext> createEndpointHandler(String generatedEndpointClass, String endpointId,
             boolean activateRequestContext, boolean activateSessionContext, String endpointPath) {
         ArcContainer container = Arc.container();
@@ -96,6 +154,8 @@ public Handler<RoutingContext> createEndpointHandler(String generatedEndpointCla
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(runtimeConfig.getValue());
         WebSocketTelemetryProvider telemetryProvider = container.instance(WebSocketTelemetryProvider.class).orElse(null);
+        Function<WebSocketConnectionBase, OutboundQueue> outboundQueueCreator = OutboundQueue
+                .creator(runtimeConfig.getValue().outboundQueue(), container);
         return new Handler<RoutingContext>() {
 
             @Override
@@ -146,7 +206,7 @@ public void handle(Throwable throwable) {
                             : telemetrySupport.getSendingInterceptor();
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
                             connectionManager, codecs, ctx, trafficLogger, userData, sendingInterceptor,
-                            getSecuritySupportCreator(container, ctx));
+                            getSecuritySupportCreator(container, ctx), outboundQueueCreator);
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -155,7 +215,10 @@ public void handle(Throwable throwable) {
                     Endpoints.initialize(vertx, container, codecs, connection, ws, generatedEndpointClass,
                             runtimeConfig.getValue().autoPingInterval(), connection.securitySupport(),
                             runtimeConfig.getValue().unhandledFailureStrategy(), trafficLogger,
-                            () -> connectionManager.remove(generatedEndpointClass, connection), activateRequestContext,
+                            () -> {
+                                connectionManager.remove(generatedEndpointClass, connection);
+                                connection.discardOutboundQueue();
+                            }, activateRequestContext,
                             activateSessionContext, telemetrySupport);
                 });
             }
@@ -0,0 +1,22 @@
+package io.quarkus.websockets.next.runtime.config;
+
+/**
+ * The strategy applied when the outbound messages queued for a slow client exceed the configured limit.
+ */
+public enum OverflowStrategy {
+    /**
+     * Drop the oldest queued messages.
+     */
+    DROP_OLDEST,
+    /**
+     * Replace a queued message with a newer message with the same key, as resolved by the
+     * {@link io.quarkus.websockets.next.OutboundMessageKeyResolver}. The oldest queued messages are dropped if the limit is
+     * still exceeded.
+     */
+    COALESCE_LATEST,
+    /**
+     * Close the connection.
+     */
+    CLOSE;
+
+}
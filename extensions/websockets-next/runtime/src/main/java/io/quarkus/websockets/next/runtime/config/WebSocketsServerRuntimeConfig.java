@@ -7,6 +7,7 @@
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -61,6 +62,11 @@ public interface WebSocketsServerRuntimeConfig {
     @WithDefault("log-and-close")
     UnhandledFailureStrategy unhandledFailureStrategy();
 
+    /**
+     * Outbound queue configuration.
+     */
+    OutboundQueue outboundQueue();
+
     /**
      * WebSockets-specific security configuration.
      */
@@ -93,6 +99,25 @@ interface Security {
 
     }
 
+    interface OutboundQueue {
+
+        /**
+         * The maximum number of bytes of outbound messages queued for a connection. Messages are queued when the client does
+         * not read fast enough, i.e. when the write queue of the underlying WebSocket is full. The size of a text message is the
+         * length of its UTF-8 encoded payload.
+         * <p>
+         * By default, the outbound messages are not queued and the write buffer of a slow client grows without bound.
+         */
+        Optional<MemorySize> maxQueuedBytes();
+
+        /**
+         * The strategy applied when the queued messages of a connection exceed the {@code max-queued-bytes}.
+         */
+        @WithDefault("drop-oldest")
+        OverflowStrategy overflowStrategy();
+
+    }
+
     interface DevMode {
 
         /**
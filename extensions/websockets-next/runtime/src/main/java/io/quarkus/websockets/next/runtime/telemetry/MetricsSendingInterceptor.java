@@ -24,4 +24,24 @@ public void onSend(String text) {
     public void onSend(Buffer message) {
         interceptor.onMessageSent(message.getBytes(), path);
     }
+
+    @Override
+    public void onBroadcast(String text, int connections, long durationNanos) {
+        interceptor.onBroadcast(text.getBytes(StandardCharsets.UTF_8), connections, durationNanos, path);
+    }
+
+    @Override
+    public void onBroadcast(Buffer message, int connections, long durationNanos) {
+        interceptor.onBroadcast(message.getBytes(), connections, durationNanos, path);
+    }
+
+    @Override
+    public void onQueued(long bytesDelta) {
+        interceptor.onQueuedBytesChanged(bytesDelta, path);
+    }
+
+    @Override
+    public void onDropped(int count) {
+        interceptor.onMessagesDropped(count, path);
+    }
 }
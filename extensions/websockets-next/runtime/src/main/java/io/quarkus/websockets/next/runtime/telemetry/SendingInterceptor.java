@@ -24,4 +24,38 @@ public sealed interface SendingInterceptor permits MetricsSendingInterceptor {
      */
     void onSend(Buffer binaryMessage);
 
+    /**
+     * Intercept text messages broadcast to multiple connections, corresponds
+     * to the {@link io.quarkus.websockets.next.WebSocketConnection.BroadcastSender#sendText(String)} method.
+     *
+     * @param textMessage broadcast text message
+     * @param connections number of connections the message was written to
+     * @param durationNanos time elapsed from the start of the broadcast until the message was written to all connections
+     */
+    void onBroadcast(String textMessage, int connections, long durationNanos);
+
+    /**
+     * Intercept binary messages broadcast to multiple connections, corresponds
+     * to the {@link io.quarkus.websockets.next.WebSocketConnection.BroadcastSender#sendBinary(Buffer)} method.
+     *
+     * @param binaryMessage broadcast binary message
+     * @param connections number of connections the message was written to
+     * @param durationNanos time elapsed from the start of the broadcast until the message was written to all connections
+     */
+    void onBroadcast(Buffer binaryMessage, int connections, long durationNanos);
+
+    /**
+     * Intercept changes of the number of bytes of the outbound messages queued for a slow client.
+     *
+     * @param bytesDelta the change of the number of queued bytes
+     */
+    void onQueued(long bytesDelta);
+
+    /**
+     * Intercept outbound messages dropped because the outbound queue of a slow client overflowed.
+     *
+     * @param count number of dropped messages
+     */
+    void onDropped(int count);
+
 }
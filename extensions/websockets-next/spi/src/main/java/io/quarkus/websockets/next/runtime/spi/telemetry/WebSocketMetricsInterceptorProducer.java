@@ -36,6 +36,40 @@ interface WebSocketMetricsInterceptor {
          */
         void onMessageSent(byte[] data, String route);
 
+        /**
+         * Called every time an outbound binary or text message is broadcast to multiple connections.
+         * The message is only encoded once, therefore this method is called once instead of
+         * {@link #onMessageSent(byte[], String)} being called for every connection.
+         *
+         * @param data sent data
+         * @param connections number of connections the message was written to
+         * @param durationNanos time elapsed from the start of the broadcast until the message was written to all connections
+         * @param route endpoint route
+         */
+        default void onBroadcast(byte[] data, int connections, long durationNanos, String route) {
+            for (int i = 0; i < connections; i++) {
+                onMessageSent(data, route);
+            }
+        }
+
+        /**
+         * Called when the number of bytes of the outbound messages queued for a slow client changes.
+         *
+         * @param bytesDelta the change of the number of queued bytes
+         * @param route endpoint route
+         */
+        default void onQueuedBytesChanged(long bytesDelta, String route) {
+        }
+
+        /**
+         * Called when outbound messages are dropped because the outbound queue of a slow client overflowed.
+         *
+         * @param count number of dropped messages
+         * @param route endpoint route
+         */
+        default void onMessagesDropped(int count, String route) {
+        }
+
         /**
          * Called every time an inbound binary or text message is received.
          *
@@ -0,0 +1,175 @@
+package io.quarkus.arc.benchmarks;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.spi.InterceptionType;
+import jakarta.interceptor.InvocationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.InjectableInterceptor;
+import io.quarkus.arc.impl.InterceptedMethodMetadata;
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+
+/**
+ * Measures the overhead of an intercepted business method invocation, i.e. the invocation contexts created for a chain of
+ * 0-5 {@code @AroundInvoke} interceptors. The invocation mimics the code generated for an intercepted subclass method.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar InterceptorChainBenchmark -prof gc} in order to see the allocation rate
+ * per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class InterceptorChainBenchmark {
+
+    @Param({ "0", "1", "2", "3", "4", "5" })
+    public int interceptors;
+
+    private Service service;
+    private InterceptedMethodMetadata passThrough;
+    private InterceptedMethodMetadata bindings;
+    private InterceptedMethodMetadata contextData;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        service = new Service();
+        Method method = Service.class.getMethod("hello", String.class);
+        BiFunction<Object, InvocationContext, Object> forward = (target, ctx) -> ((Service) target)
+                .hello((String) ctx.getParameters()[0]);
+        passThrough = new InterceptedMethodMetadata(chain(Interceptor.PASS_THROUGH), method, Set.of(), forward);
+        bindings = new InterceptedMethodMetadata(chain(Interceptor.BINDINGS), method, Set.of(), forward);
+        contextData = new InterceptedMethodMetadata(chain(Interceptor.CONTEXT_DATA), method, Set.of(), forward);
+    }
+
+    /**
+     * Interceptors that only call {@link InvocationContext#proceed()}.
+     */
+    @Benchmark
+    public Object passThrough() throws Exception {
+        return InvocationContexts.performAroundInvoke(service, new Object[] { "foo" }, passThrough);
+    }
+
+    /**
+     * Interceptors that look up an interceptor binding, e.g. {@code @Timed}.
+     */
+    @Benchmark
+    public Object bindings() throws Exception {
+        return InvocationContexts.performAroundInvoke(service, new Object[] { "foo" }, bindings);
+    }
+
+    /**
+     * Interceptors that store a value in the context data.
+     */
+    @Benchmark
+    public Object contextData() throws Exception {
+        return InvocationContexts.performAroundInvoke(service, new Object[] { "foo" }, contextData);
+    }
+
+    private List<InterceptorInvocation> chain(Interceptor interceptor) {
+        List<InterceptorInvocation> chain = new ArrayList<>(interceptors);
+        for (int i = 0; i < interceptors; i++) {
+            chain.add(InterceptorInvocation.aroundInvoke(interceptor, interceptor));
+        }
+        return List.copyOf(chain);
+    }
+
+    public static class Service {
+
+        public String hello(String name) {
+            return name;
+        }
+
+    }
+
+    enum Interceptor implements InjectableInterceptor<Object> {
+
+        PASS_THROUGH {
+            @Override
+            public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+                return ctx.proceed();
+            }
+        },
+        BINDINGS {
+            @Override
+            public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+                if (((ArcInvocationContext) ctx).findIterceptorBinding(Deprecated.class) != null) {
+                    throw new IllegalStateException();
+                }
+                return ctx.proceed();
+            }
+        },
+        CONTEXT_DATA {
+            @Override
+            public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+                ctx.getContextData().put(name(), Boolean.TRUE);
+                return ctx.proceed();
+            }
+        };
+
+        @Override
+        public String getIdentifier() {
+            return name();
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Object.class);
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return this;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Interceptor.class;
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Set.of();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return type == InterceptionType.AROUND_INVOKE;
+        }
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { InterceptorChainBenchmark.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
@@ -19,17 +19,22 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
 
     protected Object target;
     protected Object[] parameters;
-    protected ContextDataMap contextData;
+    // Most interceptors never access the context data, so the map is created lazily
+    private ContextDataMap contextData;
 
-    protected AbstractInvocationContext(Object target, Object[] parameters, ContextDataMap contextData) {
+    protected AbstractInvocationContext(Object target, Object[] parameters) {
         this.target = target;
         this.parameters = parameters != null ? parameters : EMPTY_PARAMS;
-        this.contextData = contextData;
     }
 
     @Override
     public Map<String, Object> getContextData() {
-        return contextData;
+        ContextDataMap data = contextData;
+        if (data == null) {
+            data = new ContextDataMap(getInterceptorBindings());
+            contextData = data;
+        }
+        return data;
     }
 
     @SuppressWarnings("unchecked")
@@ -33,7 +33,7 @@ static Object perform(Object target, Object[] args, InterceptedMethodMetadata me
     private final InterceptedMethodMetadata metadata;
 
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        super(target, args);
         this.metadata = metadata;
     }
 
@@ -19,7 +19,7 @@ abstract class LifecycleCallbackInvocationContext extends AbstractInvocationCont
 
     LifecycleCallbackInvocationContext(Object target, Object[] parameters,
             Set<Annotation> bindings, List<InterceptorInvocation> chain) {
-        super(target, parameters, new ContextDataMap(bindings));
+        super(target, parameters);
         this.chain = chain;
         this.bindings = bindings;
     }
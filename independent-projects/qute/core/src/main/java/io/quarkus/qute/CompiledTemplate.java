@@ -0,0 +1,201 @@
+package io.quarkus.qute;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders a template without the interpretation of its nodes.
+ * <p>
+ * An implementation is usually generated at build time for a type-safe template. Static text is appended directly, the
+ * type-safe expressions are evaluated with direct method calls and the supported sections, i.e. {@code #for},
+ * {@code #if} and {@code #let}, are translated to plain Java code. All other nodes are rendered by the interpreter.
+ * <p>
+ * A node is identified by its index in the list returned by {@link #nodes(List)}. A compiled template is only used if its
+ * {@linkplain #getSignature() signature} matches the signature of the nodes of the parsed template. Otherwise, the
+ * template is interpreted.
+ *
+ * @see EngineBuilder#addCompiledTemplate(CompiledTemplate)
+ */
+public interface CompiledTemplate {
+
+    /**
+     *
+     * @return the id of the template, e.g. {@code ItemResource/items.html}
+     */
+    String getTemplateId();
+
+    /**
+     *
+     * @return the signature of the nodes this template was compiled for
+     * @see #signature(List)
+     */
+    String getSignature();
+
+    /**
+     * Renders the template.
+     * <p>
+     * Every node is rendered exactly once. The result of a node that is not available synchronously is awaited before
+     * the results of the subsequent nodes are processed.
+     *
+     * @param context
+     */
+    void render(RenderContext context);
+
+    /**
+     * The nodes are listed in depth-first order, i.e. a section node is followed by the nodes of its blocks.
+     *
+     * @param nodes
+     * @return all nodes of the given top-level nodes
+     */
+    static List<TemplateNode> nodes(List<TemplateNode> nodes) {
+        List<TemplateNode> all = new ArrayList<>();
+        addNodes(nodes, all);
+        return all;
+    }
+
+    private static void addNodes(List<TemplateNode> nodes, List<TemplateNode> all) {
+        for (TemplateNode node : nodes) {
+            all.add(node);
+            if (node.isSection()) {
+                for (SectionBlock block : node.asSection().getBlocks()) {
+                    addNodes(block.nodes, all);
+                }
+            }
+        }
+    }
+
+    /**
+     * The signature reflects the kind, the value of text nodes, the expression of expression nodes and the name and
+     * blocks of section nodes, so that a compiled template is not used for a template whose nodes do not match the nodes
+     * it was compiled for. The contents are represented by their SHA-256 digest.
+     *
+     * @param nodes
+     * @return the signature of the given top-level nodes
+     * @see #nodes(List)
+     */
+    static String signature(List<TemplateNode> nodes) {
+        List<TemplateNode> all = nodes(nodes);
+        StringBuilder kinds = new StringBuilder(all.size());
+        StringBuilder contents = new StringBuilder();
+        for (TemplateNode node : all) {
+            switch (node.kind()) {
+                case TEXT -> {
+                    kinds.append('T');
+                    contents.append(node.asText().getValue());
+                }
+                case EXPRESSION -> {
+                    kinds.append('E');
+                    contents.append(node.asExpression().expression.toOriginalString());
+                }
+                case SECTION -> {
+                    kinds.append('S');
+                    SectionNode section = node.asSection();
+                    contents.append(section.getName());
+                    for (SectionBlock block : section.getBlocks()) {
+                        contents.append('\u0000').append(block.label);
+                        for (Map.Entry<String, String> param : block.parameters.entrySet()) {
+                            contents.append(',').append(param.getKey()).append('=').append(param.getValue());
+                        }
+                        contents.append(':').append(block.nodes.size());
+                    }
+                }
+                case PARAM_DECLARATION -> kinds.append('P');
+            }
+            contents.append('\u0000');
+        }
+        try {
+            // the digest of the contents keeps the signature short while different contents never match in practice
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] digest = md.digest(contents.toString().getBytes(StandardCharsets.UTF_8));
+            return kinds.append(':').append(HexFormat.of().formatHex(digest)).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The context of a single rendering.
+     */
+    interface RenderContext {
+
+        /**
+         *
+         * @param key
+         * @return the data value for the given key, or {@code null} if no such value exists
+         */
+        Object getData(String key);
+
+        /**
+         * Appends the text node with the given id.
+         *
+         * @param nodeId
+         */
+        void appendText(int nodeId);
+
+        /**
+         * Appends the value of the expression node with the given id. The value is processed exactly as if it was the
+         * result of the evaluation of the expression, i.e. a {@link java.util.concurrent.CompletionStage} or a
+         * {@link io.smallrye.mutiny.Uni} is awaited and the result mappers are applied.
+         *
+         * @param nodeId
+         * @param value
+         */
+        void appendValue(int nodeId, Object value);
+
+        /**
+         * Renders the node with the given id with the interpreter. The current local variables are accessible in the
+         * node.
+         *
+         * @param nodeId
+         * @see #pushLocal(String, Object)
+         */
+        void renderNode(int nodeId);
+
+        /**
+         * Renders the section node with the given id with the interpreter. The given expressions of the section were
+         * already evaluated, e.g. a value that is not available synchronously, and are not evaluated again, i.e. the
+         * interpreter uses the given values instead.
+         *
+         * @param nodeId
+         * @param expressions the original strings of the evaluated expressions
+         * @param values the values of the evaluated expressions
+         * @see #renderNode(int)
+         */
+        void renderSection(int nodeId, String[] expressions, Object[] values);
+
+        /**
+         * Evaluates the parts of an expression that cannot be evaluated directly, e.g. if a property of a {@code null}
+         * value should be resolved. The parts that precede the given part are not evaluated again.
+         *
+         * @param nodeId the id of the expression node or the section node that declares the expression
+         * @param expression the original string of the expression
+         * @param partIndex the index of the first part to evaluate, {@code 0} means the whole expression is evaluated
+         * @param base the value the part at the given index is resolved against, ignored if the whole expression is
+         *        evaluated
+         * @return the value, or a {@link java.util.concurrent.CompletionStage} if the value is not available synchronously
+         * @see Expression#toOriginalString()
+         */
+        Object evaluate(int nodeId, String expression, int partIndex, Object base);
+
+        /**
+         * Declares a local variable, e.g. the alias of a loop element. The local variable hides a data value with the
+         * same name.
+         *
+         * @param name
+         * @param value
+         */
+        void pushLocal(String name, Object value);
+
+        /**
+         * Removes the last local variable declared.
+         */
+        void popLocal();
+
+    }
+
+}
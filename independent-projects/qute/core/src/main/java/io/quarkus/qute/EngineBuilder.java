@@ -36,6 +36,7 @@ public final class EngineBuilder {
     final List<TemplateLocator> locators;
     final List<ResultMapper> resultMappers;
     final List<TemplateInstance.Initializer> initializers;
+    final List<CompiledTemplate> compiledTemplates;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
     boolean removeStandaloneLines;
@@ -55,6 +56,7 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.compiledTemplates = new ArrayList<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -244,6 +246,18 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * A compiled template is used to render the template with the same id if it matches the parsed template.
+     *
+     * @param compiledTemplate
+     * @return self
+     * @see CompiledTemplate
+     */
+    public EngineBuilder addCompiledTemplate(CompiledTemplate compiledTemplate) {
+        this.compiledTemplates.add(compiledTemplate);
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
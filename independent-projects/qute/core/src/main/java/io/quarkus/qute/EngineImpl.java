@@ -5,6 +5,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -40,6 +41,7 @@ class EngineImpl implements Engine {
     private final boolean useAsyncTimeout;
     final TraceManagerImpl traceManager;
     final ParserConfigurator parserConfigurator;
+    private final Map<String, CompiledTemplate> compiledTemplates;
 
     EngineImpl(EngineBuilder builder) {
         this.sectionHelperFactories = Map.copyOf(builder.sectionHelperFactories);
@@ -58,6 +60,15 @@ class EngineImpl implements Engine {
         this.useAsyncTimeout = builder.useAsyncTimeout;
         this.traceManager = builder.enableTracing ? new TraceManagerImpl() : null;
         this.parserConfigurator = builder.parserConfigurator;
+        if (builder.compiledTemplates.isEmpty()) {
+            this.compiledTemplates = Map.of();
+        } else {
+            Map<String, CompiledTemplate> compiled = new HashMap<>();
+            for (CompiledTemplate compiledTemplate : builder.compiledTemplates) {
+                compiled.put(compiledTemplate.getTemplateId(), compiledTemplate);
+            }
+            this.compiledTemplates = Map.copyOf(compiled);
+        }
     }
 
     @Override
@@ -161,6 +172,10 @@ public boolean useAsyncTimeout() {
         return useAsyncTimeout;
     }
 
+    CompiledTemplate getCompiledTemplate(String templateId) {
+        return compiledTemplates.get(templateId);
+    }
+
     @Override
     public Optional<TemplateLocation> locate(String id) {
         for (TemplateLocator locator : locators) {
@@ -90,6 +90,20 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
         }
     }
 
+    /**
+     * Resolves the parts of a non-namespace expression starting with the part at the given index.
+     *
+     * @param expression
+     * @param resolutionContext
+     * @param base the value the part at the given index is resolved against
+     * @param partIndex
+     * @return the result
+     */
+    CompletionStage<Object> evaluate(Expression expression, ResolutionContext resolutionContext, Object base,
+            int partIndex) {
+        return resolveReference(false, base, expression.getParts(), resolutionContext, expression, partIndex);
+    }
+
     @Override
     public boolean strictRendering() {
         return strictRendering;
@@ -48,6 +48,11 @@ public Multi<String> createMulti() {
         return delegate().createMulti();
     }
 
+    @Override
+    public Multi<byte[]> createUtf8Multi(int chunkSize) {
+        return delegate().createUtf8Multi(chunkSize);
+    }
+
     @Override
     public Uni<String> createUni() {
         return delegate().createUni();
@@ -1,5 +1,7 @@
 package io.quarkus.qute;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -51,6 +53,14 @@ public Multi<String> createMulti() {
                 .invoke(() -> resultConsumer.accept(delegate, builder.toString()));
     }
 
+    @Override
+    public Multi<byte[]> createUtf8Multi(int chunkSize) {
+        Multi<byte[]> multi = delegate.createUtf8Multi(chunkSize);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        return multi.onItem().invoke(out::writeBytes).onCompletion()
+                .invoke(() -> resultConsumer.accept(delegate, out.toString(StandardCharsets.UTF_8)));
+    }
+
     @Override
     public Uni<String> createUni() {
         Uni<String> uni = delegate.createUni();
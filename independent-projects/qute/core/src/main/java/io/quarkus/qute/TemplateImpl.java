@@ -4,9 +4,11 @@
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,9 +25,11 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.qute.TemplateInstanceBase.DataMap;
 import io.quarkus.qute.trace.TemplateEvent;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.operators.AbstractUni;
 
 class TemplateImpl implements Template {
 
@@ -43,6 +47,9 @@ class TemplateImpl implements Template {
     // The initial capacity of the StringBuilder used to render the template
     final Capacity capacity;
 
+    // The compiled template is verified lazily because the nodes are optimized after the template is created
+    private final LazyValue<Optional<Compiled>> compiled;
+
     TemplateImpl(EngineImpl engine, SectionNode root, String templateId, String generatedId, Optional<Variant> variant,
             Optional<URI> source) {
         this.engine = engine;
@@ -56,6 +63,7 @@ class TemplateImpl implements Template {
         // Use a lazily initialized map to avoid unnecessary performance costs during parsing
         this.fragments = initFragments(root);
         this.capacity = new Capacity();
+        this.compiled = initCompiled(root);
     }
 
     @Override
@@ -170,6 +178,28 @@ public boolean test(TemplateNode node) {
         return null;
     }
 
+    private LazyValue<Optional<Compiled>> initCompiled(SectionNode section) {
+        if (!section.name.equals(Parser.ROOT_HELPER_NAME)) {
+            return null;
+        }
+        CompiledTemplate compiledTemplate = engine.getCompiledTemplate(templateId);
+        if (compiledTemplate == null) {
+            return null;
+        }
+        return new LazyValue<>(new Supplier<Optional<Compiled>>() {
+
+            @Override
+            public Optional<Compiled> get() {
+                if (compiledTemplate.getSignature().equals(CompiledTemplate.signature(getNodes()))) {
+                    return Optional.of(new Compiled(compiledTemplate, CompiledTemplate.nodes(getNodes())));
+                }
+                LOG.debugf("Compiled template does not match the nodes of %s - the template will be interpreted",
+                        TemplateImpl.this);
+                return Optional.empty();
+            }
+        });
+    }
+
     private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
@@ -210,6 +240,20 @@ public Multi<String> createMulti() {
             return multi;
         }
 
+        @Override
+        public Multi<byte[]> createUtf8Multi(int chunkSize) {
+            // Each chunk is emitted as soon as it is full
+            Multi<byte[]> multi = Multi.createFrom().publisher(new Utf8ChunkPublisher(chunkSize, getTimeout(),
+                    consumer -> renderData(data(), consumer), this::newTimeoutException));
+            if (engine.useAsyncTimeout()) {
+                long timeout = getTimeout();
+                multi = multi.ifNoItem()
+                        .after(Duration.ofMillis(timeout))
+                        .failWith(() -> newTimeoutException(timeout));
+            }
+            return multi;
+        }
+
         @Override
         public Uni<String> createUni() {
             Uni<String> uni = Uni.createFrom().completionStage(this::renderAsyncNoTimeout);
@@ -258,6 +302,18 @@ private CompletionStage<String> renderAsyncNoTimeout() {
             });
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         private int getCapacity() {
             return attributes.isEmpty() ? capacity.get() : getCapacityAttributeValue();
         }
@@ -279,10 +335,16 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            if (compiled != null && engine.traceManager == null) {
+                Compiled compiledTemplate = compiled.get().orElse(null);
+                if (compiledTemplate != null) {
+                    return renderCompiled(compiledTemplate, data, rootContext, consumer);
+                }
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
             TemplateEvent event = engine.traceManager != null ? new TemplateEvent(this, engine) : null;
             if (event != null) {
                 // Notify trace listeners that template rendering has started.
@@ -300,16 +362,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
                 if (event != null) {
@@ -321,6 +374,19 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
             return result;
         }
 
+        private CompletionStage<Void> renderCompiled(Compiled compiledTemplate, Object data, ResolutionContext rootContext,
+                Consumer<String> consumer) {
+            CompiledRenderContext context = new CompiledRenderContext(compiledTemplate.nodes, data, rootContext, consumer);
+            CompletionStage<Void> result;
+            try {
+                compiledTemplate.template.render(context);
+                result = context.complete();
+            } catch (Throwable e) {
+                result = CompletedStage.failure(e);
+            }
+            return result.whenComplete((r, t) -> runRenderedActions());
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -331,6 +397,238 @@ public String toString() {
             return "Instance of " + TemplateImpl.this.toString();
         }
 
+        private class CompiledRenderContext implements CompiledTemplate.RenderContext {
+
+            private final List<TemplateNode> nodes;
+            private final Object data;
+            private final ResolutionContext rootContext;
+            private final Consumer<String> consumer;
+            // Names and values of the local variables
+            private List<Object> locals;
+            // The results that follow a result which is not available synchronously
+            private List<CompletionStage<ResultNode>> pending;
+
+            CompiledRenderContext(List<TemplateNode> nodes, Object data, ResolutionContext rootContext,
+                    Consumer<String> consumer) {
+                this.nodes = nodes;
+                this.data = data;
+                this.rootContext = rootContext;
+                this.consumer = consumer;
+            }
+
+            @Override
+            public Object getData(String key) {
+                return data instanceof DataMap dataMap ? dataMap.get(key) : null;
+            }
+
+            @Override
+            public void appendText(int nodeId) {
+                add((TextNode) nodes.get(nodeId));
+            }
+
+            @Override
+            public void appendValue(int nodeId, Object value) {
+                ExpressionNode node = (ExpressionNode) nodes.get(nodeId);
+                if (value instanceof AbstractUni) {
+                    value = CompletionStageSupport.toCompletionStage(value);
+                }
+                add(node.toResultNode(value));
+            }
+
+            @Override
+            public void renderNode(int nodeId) {
+                add(nodes.get(nodeId).resolve(currentContext()));
+            }
+
+            @Override
+            public void renderSection(int nodeId, String[] expressions, Object[] values) {
+                SectionNode section = nodes.get(nodeId).asSection();
+                Map<Expression, CompletionStage<Object>> evaluated = new IdentityHashMap<>();
+                for (int i = 0; i < expressions.length; i++) {
+                    CompletionStage<Object> value = CompletionStageSupport.toCompletionStage(values[i]);
+                    for (SectionBlock block : section.getBlocks()) {
+                        for (Expression e : block.expressions.values()) {
+                            // e.g. the same condition in several blocks of an #if section
+                            if (e.toOriginalString().equals(expressions[i])) {
+                                evaluated.put(e, value);
+                            }
+                        }
+                    }
+                }
+                add(section.resolve(new EvaluatedResolutionContext(currentContext(), evaluated)));
+            }
+
+            @Override
+            public Object evaluate(int nodeId, String expression, int partIndex, Object base) {
+                Expression expr = findExpression(nodes.get(nodeId), expression);
+                CompletionStage<Object> result;
+                if (partIndex == 0) {
+                    result = currentContext().evaluate(expr);
+                } else {
+                    result = ((EvaluatorImpl) engine.getEvaluator()).evaluate(expr, currentContext(), base, partIndex);
+                }
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    return completed.get();
+                } else if (result instanceof CompletableFuture<Object> future && future.isDone()
+                        && !future.isCompletedExceptionally()) {
+                    return future.join();
+                }
+                return result;
+            }
+
+            @Override
+            public void pushLocal(String name, Object value) {
+                if (locals == null) {
+                    locals = new ArrayList<>();
+                }
+                locals.add(name);
+                locals.add(value);
+            }
+
+            @Override
+            public void popLocal() {
+                locals.remove(locals.size() - 1);
+                locals.remove(locals.size() - 1);
+            }
+
+            CompletionStage<Void> complete() {
+                if (pending == null) {
+                    return CompletedStage.ofVoid();
+                }
+                return Results.process(pending).thenAccept(r -> r.process(consumer));
+            }
+
+            private void add(ResultNode result) {
+                if (pending == null) {
+                    result.process(consumer);
+                } else {
+                    pending.add(CompletedStage.of(result));
+                }
+            }
+
+            private void add(CompletionStage<ResultNode> result) {
+                if (pending == null) {
+                    if (result instanceof CompletedStage<ResultNode> completed && !completed.isFailure()) {
+                        completed.get().process(consumer);
+                        return;
+                    } else if (result instanceof CompletableFuture<ResultNode> future && future.isDone()
+                            && !future.isCompletedExceptionally()) {
+                        future.join().process(consumer);
+                        return;
+                    }
+                    // The result is not available yet - the subsequent results must wait
+                    pending = new ArrayList<>();
+                }
+                pending.add(result);
+            }
+
+            private ResolutionContext currentContext() {
+                if (locals == null || locals.isEmpty()) {
+                    return rootContext;
+                }
+                Map<String, Object> values = new HashMap<>();
+                for (int i = 0; i < locals.size(); i += 2) {
+                    // Later declarations hide the previous ones
+                    values.put((String) locals.get(i), locals.get(i + 1));
+                }
+                return rootContext.createChild(Mapper.wrap(values), null);
+            }
+
+            private Expression findExpression(TemplateNode node, String expression) {
+                if (node.isExpression()) {
+                    return node.asExpression().expression;
+                }
+                for (SectionBlock block : node.asSection().getBlocks()) {
+                    for (Expression e : block.expressions.values()) {
+                        if (e.toOriginalString().equals(expression)) {
+                            return e;
+                        }
+                    }
+                }
+                throw new IllegalStateException("Expression {" + expression + "} not found in " + node);
+            }
+
+        }
+
+    }
+
+    /**
+     * Returns the values of the expressions that were already evaluated by a compiled template.
+     */
+    static final class EvaluatedResolutionContext implements ResolutionContext {
+
+        private final ResolutionContext delegate;
+        private final Map<Expression, CompletionStage<Object>> evaluated;
+
+        EvaluatedResolutionContext(ResolutionContext delegate, Map<Expression, CompletionStage<Object>> evaluated) {
+            this.delegate = delegate;
+            this.evaluated = evaluated;
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(String expression) {
+            return delegate.evaluate(expression);
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(Expression expression) {
+            CompletionStage<Object> value = evaluated.get(expression);
+            return value != null ? value : delegate.evaluate(expression);
+        }
+
+        @Override
+        public ResolutionContext createChild(Object data, Map<String, SectionBlock> extendingBlocks) {
+            return delegate.createChild(data, extendingBlocks);
+        }
+
+        @Override
+        public Object getData() {
+            return delegate.getData();
+        }
+
+        @Override
+        public ResolutionContext getParent() {
+            return delegate.getParent();
+        }
+
+        @Override
+        public SectionBlock getExtendingBlock(String name) {
+            return delegate.getExtendingBlock(name);
+        }
+
+        @Override
+        public SectionBlock getCurrentExtendingBlock(String name) {
+            return delegate.getCurrentExtendingBlock(name);
+        }
+
+        @Override
+        public Object getAttribute(String key) {
+            return delegate.getAttribute(key);
+        }
+
+        @Override
+        public Template getTemplate() {
+            return delegate.getTemplate();
+        }
+
+        @Override
+        public Evaluator getEvaluator() {
+            return delegate.getEvaluator();
+        }
+
+    }
+
+    static final class Compiled {
+
+        final CompiledTemplate template;
+        // All nodes of the template, the index of a node is its id
+        final List<TemplateNode> nodes;
+
+        Compiled(CompiledTemplate template, List<TemplateNode> nodes) {
+            this.template = template;
+            this.nodes = nodes;
+        }
+
     }
 
     class Capacity {
@@ -128,6 +128,30 @@ default Multi<String> createMulti() {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Create a new {@link Multi} that can be used to consume the rendered template encoded in UTF-8. Each item is a chunk of
+     * at most the given size. A chunk may be up to 3 bytes smaller if the next encoded character would not fit and the last
+     * chunk may be smaller still. Note that the bytes of a character may be split across two chunks. The static text of the
+     * template is encoded when the template is parsed, i.e. it is not encoded again for each rendering.
+     * <p>
+     * This operation does not trigger rendering. Instead, each subscription triggers a new rendering of the template, which
+     * starts when the first chunk is requested. A chunk is emitted as soon as it is full. If the subscriber has not requested
+     * the chunk yet then the rendering thread waits until it does, i.e. at most one full chunk is held in memory. The
+     * rendering fails if the chunk is not requested within the {@link #getTimeout() timeout}. Therefore, the chunks should not
+     * be requested on the thread that rendered the previous chunk, unless within {@code onNext()}. A thread that cannot be
+     * blocked, e.g. a Vert.x event loop, does not wait and the chunks are buffered until requested instead.
+     * <p>
+     * Note that a template that is not compiled is resolved completely before the first chunk is encoded.
+     *
+     * @param chunkSize the size of a chunk in bytes, must be at least 4
+     * @return a new Multi
+     * @see Multi#subscribe()
+     * @see Utf8Consumer
+     */
+    default Multi<byte[]> createUtf8Multi(int chunkSize) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Create a new {@link Uni} that can be used to consume the rendered template.
      * <p>
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,11 +11,13 @@ public class TextNode extends ResultNode implements TemplateNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    private final byte[] utf8;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
         this.value = value;
+        this.utf8 = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -44,7 +47,11 @@ public String getValue() {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer utf8Consumer) {
+            utf8Consumer.acceptUtf8(utf8);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
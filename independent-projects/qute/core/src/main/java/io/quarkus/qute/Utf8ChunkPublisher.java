@@ -0,0 +1,245 @@
+package io.quarkus.qute;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Renders a template into chunks of UTF-8 encoded bytes and emits each chunk as soon as it is full.
+ * <p>
+ * Each subscription triggers a new rendering, which starts when the subscriber requests the first chunk. If the subscriber
+ * has not requested the next chunk yet then the rendering thread waits until it does, i.e. at most one full chunk is held
+ * in memory. The rendering fails if the chunk is not requested within the timeout. A thread that cannot be blocked, e.g. a
+ * Vert.x event loop, does not wait and the chunks are buffered until requested instead.
+ *
+ * @see Infrastructure#canCallerThreadBeBlocked()
+ */
+final class Utf8ChunkPublisher implements Flow.Publisher<byte[]> {
+
+    private final int chunkSize;
+    private final long timeout;
+    private final Function<Utf8Consumer, CompletionStage<Void>> renderer;
+    private final Function<Long, TemplateException> timeoutException;
+
+    Utf8ChunkPublisher(int chunkSize, long timeout, Function<Utf8Consumer, CompletionStage<Void>> renderer,
+            Function<Long, TemplateException> timeoutException) {
+        if (chunkSize < 4) {
+            throw new IllegalArgumentException("The chunk size must be at least 4 bytes: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.timeout = timeout;
+        this.renderer = renderer;
+        this.timeoutException = timeoutException;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super byte[]> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new ChunkSubscription(subscriber));
+    }
+
+    private final class ChunkSubscription implements Flow.Subscription, Consumer<byte[]> {
+
+        private final Flow.Subscriber<? super byte[]> subscriber;
+        private final AtomicBoolean started = new AtomicBoolean();
+        // Serializes the signals to the subscriber
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // Signalled when all chunks were emitted or the subscription was cancelled
+        private final Condition drained = lock.newCondition();
+        // The following fields are guarded by the lock
+        private final Deque<byte[]> chunks = new ArrayDeque<>();
+        private long requested;
+        private boolean done;
+        private Throwable failure;
+
+        private volatile boolean cancelled;
+
+        ChunkSubscription(Flow.Subscriber<? super byte[]> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("Invalid number of requested chunks: " + n));
+                } else {
+                    requested += n;
+                    if (requested < 0) {
+                        requested = Long.MAX_VALUE;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+            if (n > 0 && started.compareAndSet(false, true)) {
+                render();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            lock.lock();
+            try {
+                chunks.clear();
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Emits the next chunk and waits until the subscriber requests it, if the current thread can be blocked.
+         */
+        @Override
+        public void accept(byte[] chunk) {
+            boolean await = Infrastructure.canCallerThreadBeBlocked();
+            lock.lock();
+            try {
+                if (cancelled || done) {
+                    return;
+                }
+                chunks.add(chunk);
+            } finally {
+                lock.unlock();
+            }
+            drain();
+            if (!await) {
+                return;
+            }
+            TemplateException stop = null;
+            lock.lock();
+            try {
+                long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+                while (!chunks.isEmpty() && !cancelled && !done) {
+                    if (nanos <= 0) {
+                        stop = timeoutException.apply(timeout);
+                        break;
+                    }
+                    nanos = drained.awaitNanos(nanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop = new TemplateException(e);
+            } finally {
+                if (stop != null) {
+                    fail(stop);
+                }
+                lock.unlock();
+            }
+            if (stop != null) {
+                drain();
+                // Stop rendering
+                throw stop;
+            }
+        }
+
+        private void render() {
+            Utf8ChunkedConsumer consumer = new Utf8ChunkedConsumer(chunkSize, this);
+            CompletionStage<Void> rendered;
+            try {
+                rendered = renderer.apply(consumer);
+            } catch (Throwable e) {
+                rendered = CompletedStage.failure(e);
+            }
+            rendered.whenComplete((r, t) -> {
+                Throwable error = t;
+                if (error == null) {
+                    try {
+                        consumer.flush();
+                    } catch (Throwable e) {
+                        error = e;
+                    }
+                }
+                lock.lock();
+                try {
+                    if (error != null) {
+                        fail(error);
+                    } else {
+                        done = true;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                drain();
+            });
+        }
+
+        // Must be called while holding the lock
+        private void fail(Throwable t) {
+            if (!done) {
+                done = true;
+                failure = t;
+                chunks.clear();
+                drained.signalAll();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (true) {
+                    byte[] chunk = null;
+                    boolean terminated = false;
+                    Throwable t = null;
+                    lock.lock();
+                    try {
+                        if (cancelled) {
+                            return;
+                        }
+                        if (requested > 0 && !chunks.isEmpty()) {
+                            chunk = chunks.poll();
+                            if (requested != Long.MAX_VALUE) {
+                                requested--;
+                            }
+                            if (chunks.isEmpty()) {
+                                drained.signalAll();
+                            }
+                        } else if (done && chunks.isEmpty()) {
+                            terminated = true;
+                            t = failure;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (chunk != null) {
+                        subscriber.onNext(chunk);
+                    } else if (terminated) {
+                        // No more signals are sent to the subscriber
+                        cancelled = true;
+                        if (t != null) {
+                            subscriber.onError(t);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    } else {
+                        break;
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package io.quarkus.qute;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Encodes the parts of the rendered template into chunks of UTF-8 encoded bytes.
+ * <p>
+ * A chunk is passed to the chunk consumer as soon as it is full, i.e. only the current chunk is held in memory. The
+ * pre-encoded static text is copied as is. A chunk is never modified after it is passed to the chunk consumer.
+ */
+final class Utf8ChunkedConsumer implements Utf8Consumer {
+
+    private final int chunkSize;
+    private final Consumer<byte[]> chunks;
+
+    private byte[] chunk;
+    private int position;
+
+    Utf8ChunkedConsumer(int chunkSize, Consumer<byte[]> chunks) {
+        if (chunkSize < 4) {
+            throw new IllegalArgumentException("The chunk size must be at least 4 bytes: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.chunks = chunks;
+        this.chunk = new byte[chunkSize];
+    }
+
+    @Override
+    public void accept(String value) {
+        int offset = 0;
+        while ((offset = encode(value, offset)) < value.length()) {
+            // The next encoded character does not fit
+            chunks.accept(takeChunk());
+        }
+        if (position == chunkSize) {
+            chunks.accept(takeChunk());
+        }
+    }
+
+    @Override
+    public void acceptUtf8(byte[] value) {
+        int offset = 0;
+        while (offset < value.length) {
+            offset = copy(value, offset);
+            if (position == chunkSize) {
+                chunks.accept(takeChunk());
+            }
+        }
+    }
+
+    /**
+     * Passes the last chunk to the chunk consumer, if there is one.
+     */
+    void flush() {
+        if (position > 0) {
+            chunks.accept(takeChunk());
+        }
+    }
+
+    private int copy(byte[] value, int from) {
+        int length = Math.min(chunkSize - position, value.length - from);
+        System.arraycopy(value, from, chunk, position, length);
+        position += length;
+        return from + length;
+    }
+
+    private int encode(String value, int from) {
+        int length = value.length();
+        int i = from;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (chunkSize - position < encodedLength(c)) {
+                // The encoded code point must fit in the current chunk
+                return i;
+            }
+            i++;
+            if (c < 0x80) {
+                chunk[position++] = (byte) c;
+            } else if (c < 0x800) {
+                chunk[position++] = (byte) (0xC0 | (c >> 6));
+                chunk[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(value.charAt(i))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(i++));
+                    chunk[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    chunk[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    chunk[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    chunk[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    // Malformed surrogate pair - use the same replacement as String#getBytes()
+                    chunk[position++] = '?';
+                }
+            } else {
+                chunk[position++] = (byte) (0xE0 | (c >> 12));
+                chunk[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                chunk[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return i;
+    }
+
+    private static int encodedLength(char c) {
+        if (c < 0x80) {
+            return 1;
+        } else if (c < 0x800) {
+            return 2;
+        } else if (Character.isSurrogate(c)) {
+            return 4;
+        }
+        return 3;
+    }
+
+    private byte[] takeChunk() {
+        byte[] ret;
+        if (position == chunkSize) {
+            ret = chunk;
+            chunk = new byte[chunkSize];
+        } else {
+            ret = Arrays.copyOf(chunk, position);
+        }
+        position = 0;
+        return ret;
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * Consumes the rendered template as UTF-8 encoded bytes.
+ * <p>
+ * Static text is stored pre-encoded when a template is parsed and is passed to {@link #acceptUtf8(byte[])} as is, i.e.
+ * it is not encoded again during rendering. All other parts of the rendered template are passed to
+ * {@link #accept(String)}.
+ *
+ * @see TemplateInstance#consume(Consumer)
+ * @see TemplateInstance#createUtf8Multi(int)
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * The array must not be modified.
+     *
+     * @param value the UTF-8 encoded chunk of the rendered template
+     */
+    void acceptUtf8(byte[] value);
+
+}
@@ -1,16 +1,23 @@
 package io.quarkus.qute;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +38,87 @@ public void testCreateMulti() throws InterruptedException {
         assertMulti(multi.select().first(), "foo");
     }
 
+    @Test
+    public void testCreateUtf8Multi() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Žluťoučký kůň: {#each}{it}{#if it_hasNext}, {/if}{/each} \uD83D\uDE00!");
+        List<String> data = Arrays.asList("foo", "ďábel", "\uD83D\uDC34");
+        String expected = "Žluťoučký kůň: foo, ďábel, \uD83D\uDC34 \uD83D\uDE00!";
+
+        List<byte[]> chunks = template.data(data).createUtf8Multi(8).collect().asList().await().indefinitely();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < chunks.size(); i++) {
+            byte[] chunk = chunks.get(i);
+            if (i < chunks.size() - 1) {
+                // A chunk may be up to 3 bytes smaller if the next character does not fit, the last one may be smaller still
+                assertTrue(chunk.length >= 5 && chunk.length <= 8, () -> "Invalid chunk size: " + chunk.length);
+            }
+            out.writeBytes(chunk);
+        }
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    public void testCreateUtf8MultiHonoursDemand() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#each}{it}{/each}");
+        List<String> data = Arrays.asList("aaaaaaaa", "bbbbbbbb", "cccccccc");
+        BlockingQueue<String> items = new LinkedBlockingQueue<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        template.data(data).createUtf8Multi(8).subscribe().withSubscriber(new Flow.Subscriber<byte[]>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(byte[] item) {
+                items.add(new String(item, StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+        assertTrue(items.isEmpty());
+        // The rendering starts when the first chunk is requested
+        Thread renderingThread = new Thread(() -> subscription.get().request(1));
+        renderingThread.start();
+        assertEquals("aaaaaaaa", items.poll(5, TimeUnit.SECONDS));
+        // The next chunk is full but it was not requested yet
+        awaitWaiting(renderingThread);
+        assertTrue(items.isEmpty());
+        subscription.get().request(1);
+        assertEquals("bbbbbbbb", items.poll(5, TimeUnit.SECONDS));
+        awaitWaiting(renderingThread);
+        assertTrue(items.isEmpty());
+        assertEquals(1, completed.getCount());
+        subscription.get().request(Long.MAX_VALUE);
+        assertEquals("cccccccc", items.poll(5, TimeUnit.SECONDS));
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        renderingThread.join(5000);
+        assertFalse(renderingThread.isAlive());
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                fail("The rendering thread is not waiting: " + thread.getState());
+            }
+            Thread.sleep(10);
+        }
+    }
+
     @Test
     public void testCreateUni() throws InterruptedException {
         Engine engine = Engine.builder().addDefaults().build();
@@ -0,0 +1,101 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link RequestMapper} lookup for route tables with 100-900 templates.
+ * <p>
+ * The {@code literal} layout resembles a typical REST API where every resource has its own literal path, e.g.
+ * {@code /api/v1/orders/{id}/items/{itemId}}, so that the templates are spread over many stems. The {@code tenant} layout
+ * starts every template with a parameter, e.g. {@code /api/{tenant}/orders/{id}}, so that all the templates share the
+ * {@code /api} stem.
+ * <p>
+ * Run with {@code java -jar target/benchmark.jar RequestMapperBenchmark -prof gc} in order to see the allocation rate per
+ * operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestMapperBenchmark {
+
+    private static final String[] RESOURCE_TEMPLATES = {
+            "",
+            "/{id}",
+            "/search",
+            "/count",
+            "/{id}/items",
+            "/{id}/items/{itemId}",
+            "/{id}/history/{version}",
+            "/{id}/tags/{tag}",
+            "/export/{format}",
+    };
+
+    private static final String[] RESOURCE_PATHS = {
+            "",
+            "/4711",
+            "/search",
+            "/count",
+            "/4711/items",
+            "/4711/items/42",
+            "/4711/history/3",
+            "/4711/tags/important",
+            "/export/csv",
+    };
+
+    @Param({ "100", "900" })
+    public int routes;
+
+    @Param({ "literal", "tenant" })
+    public String layout;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        String prefix = layout.equals("tenant") ? "/api/{tenant}/resource" : "/api/v1/resource";
+        String pathPrefix = layout.equals("tenant") ? "/api/acme/resource" : "/api/v1/resource";
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        List<String> requestPaths = new ArrayList<>();
+        for (int resource = 0; templates.size() < routes; resource++) {
+            for (int i = 0; i < RESOURCE_TEMPLATES.length && templates.size() < routes; i++) {
+                String template = prefix + resource + RESOURCE_TEMPLATES[i];
+                templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+                requestPaths.add(pathPrefix + resource + RESOURCE_PATHS[i]);
+            }
+        }
+        mapper = new RequestMapper<>(templates);
+        // visit the paths in a scattered order
+        paths = new String[requestPaths.size()];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = requestPaths.get((int) ((i * 7919L) % paths.length));
+        }
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> map() {
+        String path = paths[next];
+        next = next + 1 == paths.length ? 0 : next + 1;
+        return mapper.map(path);
+    }
+}
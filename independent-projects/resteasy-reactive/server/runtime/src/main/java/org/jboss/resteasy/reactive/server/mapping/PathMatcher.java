@@ -49,7 +49,7 @@ List<PathMatch<T>> match(String path) {
             } else if (pathLength < length) {
                 SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
                 if (next != null) {
-                    matches.add(new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue()));
+                    matches.add(new PathMatch<>(next.getKey(), path, pathLength, next.getValue()));
                 }
             }
         }
@@ -124,16 +124,34 @@ public PathMatcher<T> build() {
 
     public static final class PathMatch<T> {
         private final String matched;
-        private final String remaining;
+        private final String path;
+        private final int matchedLength;
+        private String remaining;
         private final T value;
 
         public PathMatch(String matched, String remaining, T value) {
             this.matched = matched;
             this.remaining = remaining;
+            this.path = null;
+            this.matchedLength = 0;
+            this.value = value;
+        }
+
+        /**
+         * The remaining part of the path is only created when requested as the request mapping only needs the length of
+         * the matched part
+         */
+        PathMatch(String matched, String path, int matchedLength, T value) {
+            this.matched = matched;
+            this.path = path;
+            this.matchedLength = matchedLength;
             this.value = value;
         }
 
         public String getRemaining() {
+            if (remaining == null) {
+                remaining = path.substring(matchedLength);
+            }
             return remaining;
         }
 
@@ -22,19 +22,20 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
         this.templates = templates;
         int max = 0;
-        Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
+        Map<String, StemPaths<T>> aggregates = new HashMap<>();
         for (RequestPath<T> i : templates) {
-            ArrayList<RequestPath<T>> paths = aggregates.get(i.template.stem);
+            StemPaths<T> paths = aggregates.get(i.template.stem);
             if (paths == null) {
-                aggregates.put(i.template.stem, paths = new ArrayList<>());
+                aggregates.put(i.template.stem, paths = new StemPaths<>());
             }
             paths.add(i);
             max = Math.max(max, i.template.countPathParamNames());
         }
         aggregates.forEach(new BiConsumer<>() {
             @Override
-            public void accept(String stem, ArrayList<RequestPath<T>> list) {
+            public void accept(String stem, StemPaths<T> list) {
                 Collections.sort(list);
+                list.compile();
                 pathMatcherBuilder.addPrefixPath(stem, list);
             }
         });
@@ -113,97 +114,128 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
             int startIdx) {
         var value = initialMatches.getValue();
         if (value == null || startIdx < 0) {
             return null;
         }
-        int pathLength = path.length();
-        for (int index = startIdx; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
-                }
-            }
-            if (!matched) {
-                continue;
+        StemPaths<T> stemPaths = (StemPaths<T>) value;
+        int matchPos = initialMatches.getMatched().length();
+        // the trie finds the first template without a custom regex that matches,
+        // only the templates with a custom regex that are sorted before it need to be tried one by one
+        RequestPathTrie<T>.Match trieMatch = stemPaths.trie.match(path, matchPos, maxParams, startIdx, value.size());
+        int end = trieMatch == null ? value.size() : trieMatch.index;
+        for (int index : stemPaths.regexIndexes) {
+            if (index >= end) {
+                break;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            if (index >= startIdx) {
+                RequestMatch<T> match = mapRegexTemplate(path, value.get(index), matchPos);
+                if (match != null) {
+                    return match;
+                }
             }
-            boolean fullMatch = matchPos == pathLength;
-            boolean doPrefixMatch = false;
-            if (!fullMatch) {
-                //according to the spec every template ends with (/.*)?
-                if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
-                    doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
-                } else if (path.charAt(matchPos) == '/') {
-                    doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
+        }
+        if (trieMatch == null) {
+            return null;
+        }
+        RequestPath<T> potentialMatch = trieMatch.requestPath();
+        String[] params = (maxParams > 0) ? trieMatch.params(new String[maxParams]) : EMPTY_STRING_ARRAY;
+        return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params,
+                remaining(path, trieMatch.matchPos));
+    }
+
+    private RequestMatch<T> mapRegexTemplate(String path, RequestPath<T> potentialMatch, int matchPos) {
+        int pathLength = path.length();
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+        int paramCount = 0;
+        boolean prefixAllowed = potentialMatch.prefixTemplate;
+        for (int i = 1; i < potentialMatch.template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, path.length() - 1) : path);
+                if (!matcher.find(matchPos)) {
+                    return null;
+                }
+                if (matcher.start() != matchPos) {
+                    break;
+                }
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
+                }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                if (!path.startsWith(segment.literalText, matchPos)) {
+                    return null;
+                }
+                matchPos += segment.literalText.length();
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return null;
                 }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                params[paramCount++] = path.substring(start, matchPos);
+            }
+        }
+        boolean fullMatch = matchPos == pathLength;
+        boolean doPrefixMatch = false;
+        if (!fullMatch) {
+            //according to the spec every template ends with (/.*)?
+            if (matchPos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                doPrefixMatch = prefixAllowed || pathLength == 1; //if prefix is allowed, or we've matched the whole thing
+            } else if (path.charAt(matchPos) == '/') {
+                doPrefixMatch = prefixAllowed || matchPos == pathLength - 1; //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (fullMatch || doPrefixMatch) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+        }
+        if (fullMatch || doPrefixMatch) {
+            return new RequestMatch<>(potentialMatch.template, potentialMatch.value, params, remaining(path, matchPos));
+        }
+        return null;
+    }
+
+    private static String remaining(String path, int matchPos) {
+        if (matchPos == path.length()) {
+            return "";
+        } else if (matchPos == 1) {
+            return path;
+        } else {
+            return path.substring(matchPos);
+        }
+    }
+
+    /**
+     * The sorted templates of a stem, together with the trie for the templates that do not contain a custom regex
+     */
+    @SuppressWarnings("serial")
+    private static final class StemPaths<T> extends ArrayList<RequestPath<T>> {
+
+        private RequestPathTrie<T> trie;
+        private int[] regexIndexes;
+
+        void compile() {
+            trie = new RequestPathTrie<>(this);
+            int[] regex = new int[size()];
+            int regexCount = 0;
+            for (int i = 0; i < size(); i++) {
+                if (RequestPathTrie.isSupported(get(i).template)) {
+                    trie.add(i);
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
-                    }
+                    regex[regexCount++] = i;
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
+            regexIndexes = Arrays.copyOf(regex, regexCount);
         }
-        return null;
     }
 
     public static class RequestPath<T> implements Dumpable, Comparable<RequestPath<T>> {
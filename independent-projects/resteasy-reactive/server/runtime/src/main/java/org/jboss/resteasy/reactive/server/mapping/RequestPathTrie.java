@@ -0,0 +1,257 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A radix trie over the templates that share a stem and consist only of literals and default regex parameters.
+ * <p>
+ * Literal components are matched as edges of the trie and parameters are matched by a dedicated child that consumes
+ * the path up to the next {@code /}. The trie is walked once for all the templates and only the positions of the
+ * parameters are recorded, the parameter values are only created for the selected template.
+ * <p>
+ * Every template is identified by its index in the sorted list of the stem, and the template with the lowest index
+ * that matches the path is selected. This is the same template that would be selected by trying the templates one by
+ * one in the sorted order.
+ */
+final class RequestPathTrie<T> {
+
+    private final Node root = new Node();
+    private final List<RequestMapper.RequestPath<T>> paths;
+
+    RequestPathTrie(List<RequestMapper.RequestPath<T>> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * @return whether the template can be added to the trie, i.e. it has no custom regex
+     */
+    static boolean isSupported(URITemplate template) {
+        for (URITemplate.TemplateComponent component : template.components) {
+            if (component.type == URITemplate.Type.CUSTOM_REGEX) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the template at the given index of the sorted list. The templates must be added in ascending index order.
+     */
+    void add(int index) {
+        URITemplate.TemplateComponent[] components = paths.get(index).template.components;
+        Node node = root;
+        node.minIndex = Math.min(node.minIndex, index);
+        StringBuilder literal = new StringBuilder();
+        // the first component is the stem, which is matched by the PathMatcher
+        for (int i = 1; i < components.length; ++i) {
+            URITemplate.TemplateComponent component = components[i];
+            if (component.type == URITemplate.Type.LITERAL) {
+                literal.append(component.literalText);
+            } else {
+                if (literal.length() > 0) {
+                    node = node.addLiteral(literal.toString(), index);
+                    literal.setLength(0);
+                }
+                if (node.param == null) {
+                    node.param = new Node();
+                }
+                node = node.param;
+                node.minIndex = Math.min(node.minIndex, index);
+            }
+        }
+        if (literal.length() > 0) {
+            node = node.addLiteral(literal.toString(), index);
+        }
+        node.addTerminal(index);
+    }
+
+    /**
+     * Finds the template with the lowest index that is greater or equal to {@code startIdx} and lower than
+     * {@code endIdx}.
+     *
+     * @return the match or {@code null}
+     */
+    Match match(String path, int matchPos, int maxParams, int startIdx, int endIdx) {
+        Match match = new Match(path, maxParams, startIdx, endIdx);
+        match.walk(root, matchPos, 0);
+        return match.index < endIdx ? match : null;
+    }
+
+    final class Match {
+
+        final String path;
+        final int startIdx;
+        /**
+         * Upper bound for the index, initially the exclusive end index and then the best index found so far
+         */
+        int index;
+        int matchPos;
+        int paramCount;
+        /**
+         * Start and end positions of the parameters of the current candidate
+         */
+        private final int[] offsets;
+        /**
+         * Start and end positions of the parameters of the best candidate
+         */
+        private final int[] matchOffsets;
+
+        Match(String path, int maxParams, int startIdx, int endIdx) {
+            this.path = path;
+            this.startIdx = startIdx;
+            this.index = endIdx;
+            this.offsets = new int[maxParams * 2];
+            this.matchOffsets = new int[maxParams * 2];
+        }
+
+        private void walk(Node node, int pos, int params) {
+            if (node.minIndex >= index) {
+                // nothing in this subtree can beat the current candidate
+                return;
+            }
+            int pathLength = path.length();
+            if (node.terminals != null) {
+                for (int terminal : node.terminals) {
+                    if (terminal >= index) {
+                        break;
+                    }
+                    if (terminal >= startIdx && accepts(paths.get(terminal).prefixTemplate, pos, pathLength)) {
+                        index = terminal;
+                        matchPos = pos;
+                        paramCount = params;
+                        System.arraycopy(offsets, 0, matchOffsets, 0, params * 2);
+                        break;
+                    }
+                }
+            }
+            if (pos == pathLength) {
+                return;
+            }
+            Node[] children = node.children;
+            if (children != null) {
+                char c = path.charAt(pos);
+                for (Node child : children) {
+                    String label = child.label;
+                    if (label.charAt(0) == c) {
+                        if (path.regionMatches(pos + 1, label, 1, label.length() - 1)) {
+                            walk(child, pos + label.length(), params);
+                        }
+                        break;
+                    }
+                }
+            }
+            if (node.param != null) {
+                int end = path.indexOf('/', pos);
+                if (end == -1) {
+                    end = pathLength;
+                }
+                offsets[params * 2] = pos;
+                offsets[params * 2 + 1] = end;
+                walk(node.param, end, params + 1);
+            }
+        }
+
+        private boolean accepts(boolean prefixAllowed, int pos, int pathLength) {
+            if (pos == pathLength) {
+                return true;
+            }
+            //according to the spec every template ends with (/.*)?
+            if (pos == 1) { //matchPos == 1 corresponds to '/' as a root level match
+                return prefixAllowed || pathLength == 1;
+            } else if (path.charAt(pos) == '/') {
+                return prefixAllowed || pos == pathLength - 1;
+            }
+            return false;
+        }
+
+        RequestMapper.RequestPath<T> requestPath() {
+            return paths.get(index);
+        }
+
+        /**
+         * Creates the parameter values of the matched template, padded with {@code null} values
+         */
+        String[] params(String[] params) {
+            for (int i = 0; i < paramCount; ++i) {
+                params[i] = path.substring(matchOffsets[i * 2], matchOffsets[i * 2 + 1]);
+            }
+            return params;
+        }
+    }
+
+    private static final class Node {
+
+        /**
+         * The label of the edge that leads to this node
+         */
+        String label;
+        Node[] children;
+        Node param;
+        /**
+         * The indexes of the templates that end in this node, in ascending order
+         */
+        int[] terminals;
+        /**
+         * The lowest index of the templates in this subtree
+         */
+        int minIndex = Integer.MAX_VALUE;
+
+        Node addLiteral(String literal, int index) {
+            minIndex = Math.min(minIndex, index);
+            if (children != null) {
+                for (int i = 0; i < children.length; ++i) {
+                    Node child = children[i];
+                    if (child.label.charAt(0) != literal.charAt(0)) {
+                        continue;
+                    }
+                    int common = commonPrefix(child.label, literal);
+                    if (common < child.label.length()) {
+                        // split the edge
+                        Node split = new Node();
+                        split.label = child.label.substring(0, common);
+                        split.minIndex = child.minIndex;
+                        child.label = child.label.substring(common);
+                        split.children = new Node[] { child };
+                        children[i] = split;
+                        child = split;
+                    }
+                    if (common == literal.length()) {
+                        child.minIndex = Math.min(child.minIndex, index);
+                        return child;
+                    }
+                    return child.addLiteral(literal.substring(common), index);
+                }
+            }
+            Node child = new Node();
+            child.label = literal;
+            child.minIndex = index;
+            children = children == null ? new Node[] { child } : appendChild(children, child);
+            return child;
+        }
+
+        void addTerminal(int index) {
+            if (terminals == null) {
+                terminals = new int[] { index };
+            } else {
+                terminals = Arrays.copyOf(terminals, terminals.length + 1);
+                terminals[terminals.length - 1] = index;
+            }
+        }
+
+        private static Node[] appendChild(Node[] children, Node child) {
+            Node[] result = Arrays.copyOf(children, children.length + 1);
+            result[children.length] = child;
+            return result;
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package io.quarkus.virtual.scheduler;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.enterprise.event.Observes;
 import jakarta.ws.rs.GET;
@@ -10,6 +12,7 @@
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduler;
+import io.quarkus.scheduler.SkippedExecution;
 import io.quarkus.test.vertx.VirtualThreadsAssertions;
 import io.smallrye.common.annotation.RunOnVirtualThread;
 
@@ -18,6 +21,9 @@ public class ScheduledResource {
 
     Set<String> executions = new CopyOnWriteArraySet<>();
     Set<String> programmaticExecutions = new CopyOnWriteArraySet<>();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    AtomicInteger skipped = new AtomicInteger();
 
     public void init(@Observes StartupEvent ev, Scheduler scheduler) {
         scheduler.newJob("my-programmatic-job")
@@ -38,6 +44,25 @@ void run() {
         executions.add(Thread.currentThread().getName());
     }
 
+    // quarkus.scheduler.virtual-threads.jobs.slow.max-concurrent-executions=2 overrides the default limit of 4
+    @Scheduled(identity = "slow", every = "1s")
+    @RunOnVirtualThread
+    void slow() throws InterruptedException {
+        VirtualThreadsAssertions.assertEverything();
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(3000);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    void onSkipped(@Observes SkippedExecution event) {
+        if (event.getExecution().getTrigger().getId().equals("slow")) {
+            skipped.incrementAndGet();
+        }
+    }
+
     @GET
     public Set<String> getExecutions() {
         return executions;
@@ -48,4 +73,10 @@ public Set<String> getExecutions() {
     public Set<String> getProgrammaticExecutions() {
         return programmaticExecutions;
     }
+
+    @GET
+    @Path("/limited")
+    public Map<String, Integer> getLimitedExecutions() {
+        return Map.of("maxRunning", maxRunning.get(), "skipped", skipped.get());
+    }
 }
@@ -2,6 +2,7 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
@@ -44,4 +45,18 @@ void testScheduledMethodsUsingApi() {
                 });
     }
 
+    @Test
+    void testMaxConcurrentExecutions() {
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(15))
+                .untilAsserted(() -> {
+                    var limited = RestAssured.get("/limited").then()
+                            .assertThat().statusCode(200)
+                            .extract().as(new TypeRef<Map<String, Integer>>() {
+                            });
+                    Assertions.assertTrue(limited.get("skipped") > 0);
+                    Assertions.assertEquals(2, limited.get("maxRunning"));
+                });
+    }
+
 }